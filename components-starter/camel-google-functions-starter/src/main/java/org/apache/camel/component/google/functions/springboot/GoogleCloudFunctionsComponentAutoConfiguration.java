@@ -22,7 +22,6 @@ import org.apache.camel.component.google.functions.GoogleCloudFunctionsComponent
 import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
-import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -60,9 +59,10 @@ public class GoogleCloudFunctionsComponentAutoConfiguration {
     @Bean
     public ComponentCustomizer configureGoogleCloudFunctionsComponent() {
         return new ComponentCustomizer() {
+            private final GoogleCloudFunctionsComponentConfigurationCopier copier = new GoogleCloudFunctionsComponentConfigurationCopier();
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                copier.copyProperties(camelContext, configuration, target);
             }
             @Override
             public boolean isEnabled(String name, Component target) {
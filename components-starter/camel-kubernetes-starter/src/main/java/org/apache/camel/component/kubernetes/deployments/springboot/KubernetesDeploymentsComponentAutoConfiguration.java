@@ -22,7 +22,6 @@ import org.apache.camel.component.kubernetes.deployments.KubernetesDeploymentsCo
 import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
-import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -60,9 +59,10 @@ public class KubernetesDeploymentsComponentAutoConfiguration {
     @Bean
     public ComponentCustomizer configureKubernetesDeploymentsComponent() {
         return new ComponentCustomizer() {
+            private final KubernetesDeploymentsComponentConfigurationCopier copier = new KubernetesDeploymentsComponentConfigurationCopier();
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                copier.copyProperties(camelContext, configuration, target);
             }
             @Override
             public boolean isEnabled(String name, Component target) {
@@ -18,14 +18,13 @@ package org.apache.camel.component.micrometer.springboot;
 
 import io.micrometer.common.KeyValue;
 import io.micrometer.common.KeyValues;
-import jakarta.servlet.http.HttpServletRequest;
-import org.apache.camel.CamelContext;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.apache.camel.component.micrometer.springboot.metrics.CamelMetricsConfiguration;
 import org.apache.camel.http.common.CamelServlet;
-import org.apache.camel.http.common.HttpConsumer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
@@ -43,13 +42,30 @@ import java.util.Optional;
 @AutoConfigureAfter({CamelAutoConfiguration.class})
 public class MicrometerTagsAutoConfiguration {
 
+	/**
+	 * Maps requests to the uri tag values, with a bounded number of distinct values.
+	 */
+	@Bean
+	UriTagNormalizer uriTagNormalizer(
+			Optional<CamelServlet> servlet, CamelMetricsConfiguration configuration, Optional<MeterRegistry> meterRegistry) {
+		UriTagNormalizer normalizer = new UriTagNormalizer(servlet, configuration.isUriTagDynamic(), configuration.getUriTagMaxValues());
+		meterRegistry.ifPresent(registry -> {
+			FunctionCounter.builder("camel.http.uri.tags.dropped", normalizer, UriTagNormalizer::getDroppedCount)
+					.description("HTTP requests with their uri tag replaced as the maximum number of distinct uri tags was reached")
+					.register(registry);
+			Gauge.builder("camel.http.uri.tags", normalizer, UriTagNormalizer::getSize)
+					.description("Distinct uri tags of HTTP requests")
+					.register(registry);
+		});
+		return normalizer;
+	}
+
 	/**
 	 * To integrate with micrometer to include expanded uri in tags when for example using
 	 * camel rest-dsl with servlet.
 	 */
 	@Bean
-	ServerRequestObservationConvention serverRequestObservationConvention(
-			Optional<CamelServlet> servlet, CamelMetricsConfiguration configuration) {
+	ServerRequestObservationConvention serverRequestObservationConvention(UriTagNormalizer normalizer) {
 		return new DefaultServerRequestObservationConvention() {
 
 			@Override
@@ -59,67 +75,8 @@ public class MicrometerTagsAutoConfiguration {
 			}
 
 			protected KeyValue custom(ServerRequestObservationContext context) {
-				HttpServletRequest request = context.getCarrier();
-				String uri = null;
-				if (servlet.isPresent() && !configuration.isUriTagDynamic()) {
-					HttpConsumer consumer = servlet.get().getServletResolveConsumerStrategy().resolve(request, servlet.get().getConsumers());
-					if (consumer != null) {
-						uri = consumer.getPath();
-					}
-				}
-
-				// the request may not be for camel servlet, so we need to capture uri from request
-				if (uri == null || uri.isEmpty()) {
-					// dynamic uri with the actual value from the http request
-					uri = request.getServletPath();
-					if (uri == null || uri.isEmpty()) {
-						uri = request.getPathInfo();
-					} else {
-						String p = request.getPathInfo();
-						if (p != null) {
-							uri = uri + p;
-						}
-					}
-				}
-				if (uri == null) {
-					uri = "";
-				}
-
-				return KeyValue.of("uri", context.getCarrier().getMethod());
+				return KeyValue.of("uri", normalizer.normalize(context.getCarrier(), context.getResponse()));
 			}
-//            @Override
-//            public Iterable<Tag> getTags(HttpServletRequest request, HttpServletResponse response,
-//                                         Object handler, Throwable exception) {
-//
-//                String uri = null;
-//                if (servlet.isPresent() && !configuration.isUriTagDynamic()) {
-//                    HttpConsumer consumer = servlet.get().getServletResolveConsumerStrategy().resolve(request, servlet.get().getConsumers());
-//                    if (consumer != null) {
-//                        uri = consumer.getPath();
-//                    }
-//                }
-//
-//                // the request may not be for camel servlet, so we need to capture uri from request
-//                if (uri == null || uri.isEmpty()) {
-//                    // dynamic uri with the actual value from the http request
-//                    uri = request.getServletPath();
-//                    if (uri == null || uri.isEmpty()) {
-//                        uri = request.getPathInfo();
-//                    } else {
-//                        String p = request.getPathInfo();
-//                        if (p != null) {
-//                            uri = uri + p;
-//                        }
-//                    }
-//                }
-//                if (uri == null) {
-//                    uri = "";
-//                }
-//                return Tags.concat(
-//                        super.getTags(request, response, handler, exception),
-//                        Tags.of(Tag.of("uri", uri))
-//                );
-//            }
 		};
 	}
 }
@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.micrometer.springboot;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.camel.http.common.CamelServlet;
+import org.apache.camel.http.common.HttpConsumer;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Computes the value of the uri tag of HTTP server metrics, keeping the number of distinct values bounded.
+ * <p>
+ * Unless dynamic uri tags are enabled, requests are mapped to the path template of the consumer serving them,
+ * such as /users/{id}, from the Camel servlet consumers or the pattern matched by Spring MVC, which includes
+ * the platform-http consumers. Requests not matching any template are tagged as Spring MVC does, such as
+ * NOT_FOUND or UNKNOWN, which do not count toward the maximum number of distinct values. Once the maximum number
+ * of distinct values is reached, new values are replaced by {@link #OVERFLOW_VALUE}.
+ */
+public class UriTagNormalizer {
+
+    /**
+     * The uri tag value used once the maximum number of distinct values is reached.
+     */
+    public static final String OVERFLOW_VALUE = "OTHER";
+
+    private final Optional<CamelServlet> servlet;
+    private final boolean dynamic;
+    private final int maxValues;
+    private final Set<String> values = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger size = new AtomicInteger();
+    private final LongAdder dropped = new LongAdder();
+
+    public UriTagNormalizer(Optional<CamelServlet> servlet, boolean dynamic, int maxValues) {
+        this.servlet = servlet;
+        this.dynamic = dynamic;
+        this.maxValues = maxValues;
+    }
+
+    /**
+     * @param request  the request
+     * @param response the response, or <tt>null</tt> if not available
+     */
+    public String normalize(HttpServletRequest request, HttpServletResponse response) {
+        if (!dynamic) {
+            String template = resolveTemplate(request);
+            return template != null && !template.isEmpty() ? bounded(template) : unmatched(request, response);
+        }
+
+        // dynamic uri with the actual value from the http request
+        String uri = request.getServletPath();
+        if (uri == null || uri.isEmpty()) {
+            uri = request.getPathInfo();
+        } else {
+            String p = request.getPathInfo();
+            if (p != null) {
+                uri = uri + p;
+            }
+        }
+        if (uri == null) {
+            uri = "";
+        }
+
+        return bounded(uri);
+    }
+
+    /**
+     * Number of requests whose uri tag was replaced by {@link #OVERFLOW_VALUE}.
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Number of distinct uri tag values in use, not counting {@link #OVERFLOW_VALUE}.
+     */
+    public int getSize() {
+        return values.size();
+    }
+
+    private String resolveTemplate(HttpServletRequest request) {
+        if (servlet.isPresent()) {
+            HttpConsumer consumer = servlet.get().getServletResolveConsumerStrategy().resolve(request, servlet.get().getConsumers());
+            if (consumer != null) {
+                return consumer.getPath();
+            }
+        }
+        // platform-http and spring mvc requests have the pattern of the matching mapping
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern instanceof String ? (String) pattern : null;
+    }
+
+    /**
+     * The uri tag of a request not matching any template, which is not the path of the request as it could be
+     * anything, such as the paths probed by a scanner.
+     */
+    private static String unmatched(HttpServletRequest request, HttpServletResponse response) {
+        if (response != null) {
+            int status = response.getStatus();
+            if (status >= 300 && status < 400) {
+                return "REDIRECTION";
+            }
+            if (status == HttpServletResponse.SC_NOT_FOUND) {
+                return "NOT_FOUND";
+            }
+        }
+        String path = request.getPathInfo() != null ? request.getServletPath() + request.getPathInfo() : request.getServletPath();
+        if (path == null || path.isEmpty() || "/".equals(path)) {
+            return "root";
+        }
+        return "UNKNOWN";
+    }
+
+    private String bounded(String uri) {
+        if (values.contains(uri)) {
+            return uri;
+        }
+        // reserve a slot first so concurrent requests cannot go over the maximum
+        if (size.incrementAndGet() <= maxValues) {
+            if (!values.add(uri)) {
+                size.decrementAndGet();
+            }
+            return uri;
+        }
+        size.decrementAndGet();
+        dropped.increment();
+        return OVERFLOW_VALUE;
+    }
+}
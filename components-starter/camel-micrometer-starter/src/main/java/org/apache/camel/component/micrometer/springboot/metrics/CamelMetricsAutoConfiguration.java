@@ -16,18 +16,26 @@
  */
 package org.apache.camel.component.micrometer.springboot.metrics;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import org.apache.camel.CamelContext;
 import org.apache.camel.component.micrometer.eventnotifier.MicrometerExchangeEventNotifier;
 import org.apache.camel.component.micrometer.eventnotifier.MicrometerRouteEventNotifier;
-import org.apache.camel.component.micrometer.messagehistory.MicrometerMessageHistoryFactory;
 import org.apache.camel.component.micrometer.routepolicy.MicrometerRoutePolicyFactory;
+import org.apache.camel.component.properties.PropertiesParser;
 import org.apache.camel.spi.ManagementStrategy;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.apache.camel.spring.boot.SpringPropertiesParser;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Conditional;
+import org.springframework.util.StringUtils;
 
 @Conditional(ConditionalOnCamelContextAndAutoConfigurationBeans.class)
 @EnableConfigurationProperties({CamelMetricsConfiguration.class})
@@ -65,9 +73,69 @@ public class CamelMetricsAutoConfiguration {
             if (!camelContext.isMessageHistory()) {
                 camelContext.setMessageHistory(true);
             }
-            MicrometerMessageHistoryFactory factory = new MicrometerMessageHistoryFactory();
+            SampledMessageHistoryFactory factory = new SampledMessageHistoryFactory();
             factory.setMeterRegistry(meterRegistry);
+            factory.setSampleRate(configuration.getMessageHistorySampleRate());
+            factory.setSampleInterval(configuration.getMessageHistorySampleInterval());
+            if (configuration.getMessageHistoryNodeIds() != null) {
+                factory.setNodeIdPatterns(StringUtils.tokenizeToStringArray(configuration.getMessageHistoryNodeIds(), ","));
+            }
+            factory.setMaxNodes(configuration.getMessageHistoryMaxNodes());
             camelContext.setMessageHistoryFactory(factory);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Publishes the lookup counts and the cache efficiency of resolving property placeholders from the Spring
+     * environment.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "camel.metrics", name = "enablePlaceholderCacheMetrics", havingValue = "true", matchIfMissing = true)
+    MeterBinder placeholderCacheMetrics(ObjectProvider<PropertiesParser> parser) {
+        return registry -> {
+            PropertiesParser answer = parser.getIfAvailable();
+            if (answer instanceof SpringPropertiesParser) {
+                new PlaceholderCacheMetrics((SpringPropertiesParser) answer).bindTo(registry);
+            }
+        };
+    }
+
+    static final class PlaceholderCacheMetrics implements MeterBinder {
+
+        private final SpringPropertiesParser parser;
+
+        PlaceholderCacheMetrics(SpringPropertiesParser parser) {
+            this.parser = parser;
+        }
+
+        @Override
+        public void bindTo(MeterRegistry meterRegistry) {
+            // the lookups not served from the cache, as the key cannot be cached, the cache is full or off
+            FunctionCounter.builder("camel.spring.placeholders.lookups", parser,
+                            p -> p.getLookupCount() - p.getHitCount() - p.getMissCount())
+                    .description("Property placeholder lookups in the Spring environment")
+                    .tag("cache", "none")
+                    .register(meterRegistry);
+            if (!parser.isCacheEnabled()) {
+                return;
+            }
+            FunctionCounter.builder("camel.spring.placeholders.lookups", parser, SpringPropertiesParser::getHitCount)
+                    .description("Property placeholder lookups in the Spring environment")
+                    .tag("cache", "hit")
+                    .register(meterRegistry);
+            FunctionCounter.builder("camel.spring.placeholders.lookups", parser, SpringPropertiesParser::getMissCount)
+                    .description("Property placeholder lookups in the Spring environment")
+                    .tag("cache", "miss")
+                    .register(meterRegistry);
+            Gauge.builder("camel.spring.placeholders.cache.hit.ratio", parser, SpringPropertiesParser::getHitRatio)
+                    .description("Ratio of the property placeholder lookups served from the cache")
+                    .register(meterRegistry);
+            FunctionCounter.builder("camel.spring.placeholders.cache.invalidations", parser, SpringPropertiesParser::getInvalidationCount)
+                    .description("Invalidations of the property placeholder cache")
+                    .register(meterRegistry);
+            Gauge.builder("camel.spring.placeholders.cache.size", parser, SpringPropertiesParser::getCacheSize)
+                    .description("Property placeholders in the cache")
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -36,6 +36,15 @@ public class CamelMetricsConfiguration {
      */
     private boolean uriTagDynamic;
 
+    /**
+     * Maximum number of distinct values of the HTTP uri tag in captured metrics.
+     *
+     * Once reached, requests with a new uri are captured with the uri tag OTHER, which protects the
+     * meter registry when using dynamic tags. Requests not matching any path template are captured with
+     * the uri tag NOT_FOUND or UNKNOWN when not using dynamic tags, which do not count toward this maximum.
+     */
+    private int uriTagMaxValues = 100;
+
     /**
      * Set whether to enable the MicrometerRoutePolicyFactory for capturing metrics
      * on route processing times.
@@ -47,10 +56,33 @@ public class CamelMetricsConfiguration {
      * on individual route node processing times.
      *
      * Depending on the number of configured route nodes, there is the potential to create a large
-     * volume of metrics. Therefore, this option is disabled by default.
+     * volume of metrics. Therefore, this option is disabled by default. The volume can be limited
+     * with the message history sampling, node ids and max nodes options.
      */
     private boolean enableMessageHistory;
 
+    /**
+     * To only capture the message history metrics of 1 in N exchanges.
+     */
+    private int messageHistorySampleRate = 1;
+
+    /**
+     * To capture the message history metrics of each route node at most once per interval in millis,
+     * instead of sampling exchanges.
+     */
+    private long messageHistorySampleInterval;
+
+    /**
+     * To only capture the message history metrics of the route nodes with an id matching one of the patterns.
+     * Multiple patterns can be separated by comma.
+     */
+    private String messageHistoryNodeIds;
+
+    /**
+     * Maximum number of route nodes to capture message history metrics for.
+     */
+    private int messageHistoryMaxNodes = 1000;
+
     /**
      * Set whether to enable the MicrometerExchangeEventNotifier for capturing metrics
      * on exchange processing times.
@@ -63,6 +95,12 @@ public class CamelMetricsConfiguration {
      */
     private boolean enableRouteEventNotifier = true;
 
+    /**
+     * Set whether to capture metrics on resolving property placeholders from the Spring environment,
+     * such as the number of lookups served from the placeholder cache.
+     */
+    private boolean enablePlaceholderCacheMetrics = true;
+
     public boolean isUriTagEnabled() {
         return uriTagEnabled;
     }
@@ -79,6 +117,14 @@ public class CamelMetricsConfiguration {
         this.uriTagDynamic = uriTagDynamic;
     }
 
+    public int getUriTagMaxValues() {
+        return uriTagMaxValues;
+    }
+
+    public void setUriTagMaxValues(int uriTagMaxValues) {
+        this.uriTagMaxValues = uriTagMaxValues;
+    }
+
     public boolean isEnableRoutePolicy() {
         return enableRoutePolicy;
     }
@@ -95,6 +141,38 @@ public class CamelMetricsConfiguration {
         this.enableMessageHistory = enableMessageHistory;
     }
 
+    public int getMessageHistorySampleRate() {
+        return messageHistorySampleRate;
+    }
+
+    public void setMessageHistorySampleRate(int messageHistorySampleRate) {
+        this.messageHistorySampleRate = messageHistorySampleRate;
+    }
+
+    public long getMessageHistorySampleInterval() {
+        return messageHistorySampleInterval;
+    }
+
+    public void setMessageHistorySampleInterval(long messageHistorySampleInterval) {
+        this.messageHistorySampleInterval = messageHistorySampleInterval;
+    }
+
+    public String getMessageHistoryNodeIds() {
+        return messageHistoryNodeIds;
+    }
+
+    public void setMessageHistoryNodeIds(String messageHistoryNodeIds) {
+        this.messageHistoryNodeIds = messageHistoryNodeIds;
+    }
+
+    public int getMessageHistoryMaxNodes() {
+        return messageHistoryMaxNodes;
+    }
+
+    public void setMessageHistoryMaxNodes(int messageHistoryMaxNodes) {
+        this.messageHistoryMaxNodes = messageHistoryMaxNodes;
+    }
+
     public boolean isEnableExchangeEventNotifier() {
         return enableExchangeEventNotifier;
     }
@@ -110,4 +188,12 @@ public class CamelMetricsConfiguration {
     public void setEnableRouteEventNotifier(boolean enableRouteEventNotifier) {
         this.enableRouteEventNotifier = enableRouteEventNotifier;
     }
+
+    public boolean isEnablePlaceholderCacheMetrics() {
+        return enablePlaceholderCacheMetrics;
+    }
+
+    public void setEnablePlaceholderCacheMetrics(boolean enablePlaceholderCacheMetrics) {
+        this.enablePlaceholderCacheMetrics = enablePlaceholderCacheMetrics;
+    }
 }
@@ -0,0 +1,287 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.micrometer.springboot.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.micrometer.core.instrument.Timer;
+import org.apache.camel.Exchange;
+import org.apache.camel.Message;
+import org.apache.camel.MessageHistory;
+import org.apache.camel.NamedNode;
+import org.apache.camel.Route;
+import org.apache.camel.component.micrometer.messagehistory.MicrometerMessageHistoryFactory;
+import org.apache.camel.spi.CamelEvent;
+import org.apache.camel.support.DefaultMessageHistory;
+import org.apache.camel.support.EventNotifierSupport;
+import org.apache.camel.support.PatternHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link MicrometerMessageHistoryFactory} which only times a sample of the node invocations.
+ * <p>
+ * Exchanges are sampled 1 in N, based on a hash of the exchange id so every node of a sampled exchange is timed,
+ * or each node is timed at most once per interval. Node invocations which are not sampled do not create any
+ * message history. The timers are resolved once per node and shared by all exchanges, limited to the nodes
+ * matching the node id patterns and to a maximum number of nodes. The timers of a route are removed from the meter
+ * registry when the route is removed, so reloading routes does not exhaust the maximum number of nodes.
+ */
+public class SampledMessageHistoryFactory extends MicrometerMessageHistoryFactory {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SampledMessageHistoryFactory.class);
+
+    // nodes not timed as the maximum number of nodes was reached, which are retried when nodes are removed
+    private static final NodeTimer MAX_NODES_REACHED = new NodeTimer(null, null);
+
+    private final Map<String, NodeTimer> timers = new ConcurrentHashMap<>();
+    private final AtomicInteger timedNodes = new AtomicInteger();
+    private final RouteRemovedNotifier routeRemovedNotifier = new RouteRemovedNotifier();
+    private int sampleRate = 1;
+    private long sampleInterval;
+    private String[] nodeIdPatterns;
+    private int maxNodes = 1000;
+
+    public int getSampleRate() {
+        return sampleRate;
+    }
+
+    /**
+     * To only time 1 in N exchanges.
+     */
+    public void setSampleRate(int sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    public long getSampleInterval() {
+        return sampleInterval;
+    }
+
+    /**
+     * To time each node at most once per interval in millis, instead of sampling exchanges.
+     */
+    public void setSampleInterval(long sampleInterval) {
+        this.sampleInterval = sampleInterval;
+    }
+
+    public String[] getNodeIdPatterns() {
+        return nodeIdPatterns;
+    }
+
+    /**
+     * To only time the nodes with an id matching one of the patterns.
+     */
+    public void setNodeIdPatterns(String[] nodeIdPatterns) {
+        this.nodeIdPatterns = nodeIdPatterns;
+    }
+
+    public int getMaxNodes() {
+        return maxNodes;
+    }
+
+    /**
+     * Maximum number of nodes to time, which bounds the number of timers in the meter registry.
+     */
+    public void setMaxNodes(int maxNodes) {
+        this.maxNodes = maxNodes;
+    }
+
+    /**
+     * Number of nodes currently timed.
+     */
+    public int getTimedNodes() {
+        return timedNodes.get();
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+        getCamelContext().getManagementStrategy().addEventNotifier(routeRemovedNotifier);
+        routeRemovedNotifier.start();
+    }
+
+    @Override
+    protected void doStop() {
+        super.doStop();
+        getCamelContext().getManagementStrategy().removeEventNotifier(routeRemovedNotifier);
+        routeRemovedNotifier.stop();
+        timers.keySet().forEach(this::removeNodeTimer);
+    }
+
+    @Override
+    public MessageHistory newMessageHistory(String routeId, NamedNode namedNode, long timestamp, Exchange exchange) {
+        if (sampleInterval <= 0 && !isSampled(exchange)) {
+            return null;
+        }
+
+        NodeTimer timer = getNodeTimer(routeId, namedNode);
+        if (timer == null || timer.timer == null) {
+            return null;
+        }
+        if (sampleInterval > 0 && !timer.tryAcquire(sampleInterval)) {
+            return null;
+        }
+
+        Message msg = null;
+        if (isCopyMessage()) {
+            msg = exchange.getMessage().copy();
+        }
+        return new SampledMessageHistory(routeId, namedNode, timestamp, msg, timer.timer);
+    }
+
+    private boolean isSampled(Exchange exchange) {
+        if (sampleRate <= 1) {
+            return true;
+        }
+        // exchange ids are sequential, so spread the bits before picking 1 in N
+        int hash = exchange.getExchangeId().hashCode();
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        return Integer.remainderUnsigned(hash, sampleRate) == 0;
+    }
+
+    private NodeTimer getNodeTimer(String routeId, NamedNode node) {
+        if (node.getId() == null) {
+            return null;
+        }
+        String key = routeId + "/" + node.getId();
+        NodeTimer answer = timers.get(key);
+        if (answer != null) {
+            return answer;
+        }
+
+        Route route = getCamelContext().getRoute(routeId);
+        if (route == null) {
+            return null;
+        }
+        return timers.computeIfAbsent(key, k -> {
+            if (!isAllowed(node.getId())) {
+                return new NodeTimer(routeId, null);
+            }
+            if (!reserveNode()) {
+                LOG.warn("Not timing node {} of route {} as the maximum of {} timed nodes is reached", node.getId(), routeId,
+                        maxNodes);
+                return MAX_NODES_REACHED;
+            }
+            Timer timer = Timer.builder(getNamingStrategy().getName(route, node))
+                    .tags(getNamingStrategy().getTags(route, node))
+                    .description("Node performance metrics")
+                    .register(getMeterRegistry());
+            return new NodeTimer(routeId, timer);
+        });
+    }
+
+    private boolean reserveNode() {
+        int count;
+        do {
+            count = timedNodes.get();
+            if (count >= maxNodes) {
+                return false;
+            }
+        } while (!timedNodes.compareAndSet(count, count + 1));
+        return true;
+    }
+
+    private void removeRoute(String routeId) {
+        int removed = 0;
+        for (Map.Entry<String, NodeTimer> entry : timers.entrySet()) {
+            if (routeId.equals(entry.getValue().routeId) && removeNodeTimer(entry.getKey())) {
+                removed++;
+            }
+        }
+        if (removed > 0) {
+            timers.values().removeIf(timer -> timer == MAX_NODES_REACHED);
+        }
+    }
+
+    private boolean removeNodeTimer(String key) {
+        NodeTimer timer = timers.remove(key);
+        if (timer != null && timer.timer != null) {
+            getMeterRegistry().remove(timer.timer);
+            timedNodes.decrementAndGet();
+            return true;
+        }
+        return false;
+    }
+
+    private boolean isAllowed(String nodeId) {
+        return nodeIdPatterns == null || nodeIdPatterns.length == 0
+                || nodeId != null && PatternHelper.matchPatterns(nodeId, nodeIdPatterns);
+    }
+
+    private static final class NodeTimer {
+
+        private final String routeId;
+        private final Timer timer;
+        private final AtomicLong nextSample = new AtomicLong();
+
+        NodeTimer(String routeId, Timer timer) {
+            this.routeId = routeId;
+            this.timer = timer;
+        }
+
+        boolean tryAcquire(long interval) {
+            long now = System.currentTimeMillis();
+            long next = nextSample.get();
+            return now >= next && nextSample.compareAndSet(next, now + interval);
+        }
+    }
+
+    private final class RouteRemovedNotifier extends EventNotifierSupport {
+
+        RouteRemovedNotifier() {
+            setIgnoreCamelContextEvents(true);
+            setIgnoreExchangeEvents(true);
+            setIgnoreServiceEvents(true);
+            setIgnoreStepEvents(true);
+        }
+
+        @Override
+        public boolean isEnabled(CamelEvent event) {
+            return event instanceof CamelEvent.RouteRemovedEvent;
+        }
+
+        @Override
+        public void notify(CamelEvent event) {
+            removeRoute(((CamelEvent.RouteRemovedEvent) event).getRoute().getRouteId());
+        }
+    }
+
+    private static final class SampledMessageHistory extends DefaultMessageHistory {
+
+        private final Timer timer;
+        private final long start = System.nanoTime();
+
+        SampledMessageHistory(String routeId, NamedNode node, long timestamp, Message message, Timer timer) {
+            super(routeId, node, timestamp, message);
+            this.timer = timer;
+        }
+
+        @Override
+        public void nodeProcessingDone() {
+            super.nodeProcessingDone();
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
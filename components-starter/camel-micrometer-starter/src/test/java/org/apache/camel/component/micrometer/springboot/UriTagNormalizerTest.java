@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.micrometer.springboot;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class UriTagNormalizerTest {
+
+    @Test
+    public void testTemplate() {
+        UriTagNormalizer normalizer = new UriTagNormalizer(Optional.empty(), false, 10);
+
+        assertEquals("/users/{id}", normalizer.normalize(matched("/users/123", "/users/{id}"), response(200)));
+        assertEquals("/users/{id}", normalizer.normalize(matched("/users/456", "/users/{id}"), response(500)));
+        assertEquals(1, normalizer.getSize());
+    }
+
+    @Test
+    public void testUnmatched() {
+        UriTagNormalizer normalizer = new UriTagNormalizer(Optional.empty(), false, 1);
+
+        assertEquals("NOT_FOUND", normalizer.normalize(request("/wp-admin"), response(404)));
+        assertEquals("REDIRECTION", normalizer.normalize(request("/old"), response(302)));
+        assertEquals("root", normalizer.normalize(request("/"), response(200)));
+        assertEquals("UNKNOWN", normalizer.normalize(request("/.env"), response(401)));
+        assertEquals("UNKNOWN", normalizer.normalize(request("/.git"), null));
+
+        // the unmatched requests do not count toward the maximum number of values
+        assertEquals(0, normalizer.getSize());
+        assertEquals("/users/{id}", normalizer.normalize(matched("/users/123", "/users/{id}"), response(200)));
+        assertEquals(0, normalizer.getDroppedCount());
+    }
+
+    @Test
+    public void testMaxValues() {
+        UriTagNormalizer normalizer = new UriTagNormalizer(Optional.empty(), false, 2);
+
+        assertEquals("/a", normalizer.normalize(matched("/a", "/a"), response(200)));
+        assertEquals("/b/{id}", normalizer.normalize(matched("/b/1", "/b/{id}"), response(200)));
+        assertEquals(UriTagNormalizer.OVERFLOW_VALUE, normalizer.normalize(matched("/c", "/c"), response(200)));
+        // the values already in use are still used
+        assertEquals("/a", normalizer.normalize(matched("/a", "/a"), response(200)));
+        assertEquals(2, normalizer.getSize());
+        assertEquals(1, normalizer.getDroppedCount());
+    }
+
+    @Test
+    public void testDynamic() {
+        UriTagNormalizer normalizer = new UriTagNormalizer(Optional.empty(), true, 2);
+
+        assertEquals("/users/123", normalizer.normalize(matched("/users/123", "/users/{id}"), response(200)));
+        assertEquals("/wp-admin", normalizer.normalize(request("/wp-admin"), response(404)));
+        assertEquals(UriTagNormalizer.OVERFLOW_VALUE, normalizer.normalize(request("/users/456"), response(200)));
+        assertEquals(1, normalizer.getDroppedCount());
+    }
+
+    private static MockHttpServletRequest request(String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setServletPath(path);
+        return request;
+    }
+
+    private static MockHttpServletRequest matched(String path, String pattern) {
+        MockHttpServletRequest request = request(path);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+        return request;
+    }
+
+    private static MockHttpServletResponse response(int status) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setStatus(status);
+        return response;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.micrometer.springboot.metrics;
+
+import java.util.Map;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.camel.spring.boot.SpringPropertiesParser;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class PlaceholderCacheMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final StandardEnvironment environment = new StandardEnvironment();
+
+    @Test
+    public void testCacheMetrics() {
+        environment.getPropertySources().addFirst(new MapPropertySource("test", Map.of("foo", "bar")));
+        SpringPropertiesParser parser = new SpringPropertiesParser(environment, 10);
+        new CamelMetricsAutoConfiguration.PlaceholderCacheMetrics(parser).bindTo(meterRegistry);
+
+        parser.customLookup("foo");
+        parser.customLookup("foo");
+        parser.customLookup("foo");
+        parser.customLookup("random.int");
+
+        assertEquals(2, lookups("hit"));
+        assertEquals(1, lookups("miss"));
+        assertEquals(1, lookups("none"));
+        assertEquals(2.0 / 3, meterRegistry.get("camel.spring.placeholders.cache.hit.ratio").gauge().value(), 0.001);
+        assertEquals(1, meterRegistry.get("camel.spring.placeholders.cache.size").gauge().value());
+    }
+
+    @Test
+    public void testLookupMetricsWithoutCache() {
+        SpringPropertiesParser parser = new SpringPropertiesParser(environment);
+        new CamelMetricsAutoConfiguration.PlaceholderCacheMetrics(parser).bindTo(meterRegistry);
+
+        parser.customLookup("foo");
+
+        assertEquals(1, lookups("none"));
+        assertNull(meterRegistry.find("camel.spring.placeholders.cache.size").gauge());
+    }
+
+    private double lookups(String cache) {
+        return meterRegistry.get("camel.spring.placeholders.lookups").tag("cache", cache).functionCounter().count();
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.micrometer.springboot.metrics;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.camel.CamelContext;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SampledMessageHistoryFactoryTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SampledMessageHistoryFactory factory = new SampledMessageHistoryFactory();
+    private CamelContext context;
+
+    @BeforeEach
+    public void setUp() {
+        factory.setMeterRegistry(meterRegistry);
+        context = new DefaultCamelContext();
+        context.setMessageHistory(true);
+        context.setMessageHistoryFactory(factory);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        context.stop();
+    }
+
+    @Test
+    public void testSampleRate() throws Exception {
+        factory.setSampleRate(4);
+        start(routes("a"));
+
+        send("a", 200);
+
+        long count = timer("a", "a-log").count();
+        assertTrue(count > 0 && count < 200, "Expected a sample of the exchanges but got " + count);
+        // every node of a sampled exchange is timed
+        assertEquals(count, timer("a", "a-end").count());
+    }
+
+    @Test
+    public void testSampleInterval() throws Exception {
+        factory.setSampleInterval(60000);
+        start(routes("a"));
+
+        send("a", 10);
+
+        assertEquals(1, timer("a", "a-log").count());
+        assertEquals(1, timer("a", "a-end").count());
+    }
+
+    @Test
+    public void testNodeIdPatterns() throws Exception {
+        factory.setNodeIdPatterns(new String[] { "a-e*" });
+        start(routes("a"));
+
+        send("a", 3);
+
+        assertNull(timer("a", "a-log"));
+        assertEquals(3, timer("a", "a-end").count());
+        assertEquals(1, factory.getTimedNodes());
+    }
+
+    @Test
+    public void testMaxNodes() throws Exception {
+        factory.setMaxNodes(3);
+        start(routes("a", "b"));
+
+        send("a", 1);
+        send("b", 1);
+
+        assertEquals(3, factory.getTimedNodes());
+        assertEquals(3, meterRegistry.find("camel.message.history").timers().size());
+    }
+
+    @Test
+    public void testRouteRemoved() throws Exception {
+        factory.setMaxNodes(2);
+        start(routes("a", "b"));
+
+        send("a", 1);
+        send("b", 1);
+        assertEquals(2, factory.getTimedNodes());
+        assertNull(timer("b", "b-log"));
+
+        context.getRouteController().stopRoute("a");
+        context.removeRoute("a");
+
+        assertEquals(0, factory.getTimedNodes());
+        assertNull(timer("a", "a-log"));
+
+        // the freed nodes can be timed by other routes
+        send("b", 1);
+        assertEquals(2, factory.getTimedNodes());
+        assertNotNull(timer("b", "b-log"));
+        assertNotNull(timer("b", "b-end"));
+    }
+
+    private void start(RouteBuilder routes) throws Exception {
+        context.addRoutes(routes);
+        context.start();
+    }
+
+    private void send(String routeId, int count) {
+        ProducerTemplate template = context.createProducerTemplate();
+        for (int i = 0; i < count; i++) {
+            template.sendBody("direct:" + routeId, "Hello " + i);
+        }
+    }
+
+    private Timer timer(String routeId, String nodeId) {
+        return meterRegistry.find("camel.message.history").tag("routeId", routeId).tag("nodeId", nodeId).timer();
+    }
+
+    private static RouteBuilder routes(String... routeIds) {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                for (String routeId : routeIds) {
+                    from("direct:" + routeId).routeId(routeId)
+                            .log("${body}").id(routeId + "-log")
+                            .setBody(constant("Bye")).id(routeId + "-end");
+                }
+            }
+        };
+    }
+}
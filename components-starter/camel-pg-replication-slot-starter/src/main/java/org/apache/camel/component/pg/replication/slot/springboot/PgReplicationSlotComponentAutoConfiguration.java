@@ -22,7 +22,6 @@ import org.apache.camel.component.pg.replication.slot.PgReplicationSlotComponent
 import org.apache.camel.spi.ComponentCustomizer;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.ComponentConfigurationProperties;
-import org.apache.camel.spring.boot.util.CamelPropertiesHelper;
 import org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans;
 import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
 import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
@@ -60,9 +59,10 @@ public class PgReplicationSlotComponentAutoConfiguration {
     @Bean
     public ComponentCustomizer configurePgReplicationSlotComponent() {
         return new ComponentCustomizer() {
+            private final PgReplicationSlotComponentConfigurationCopier copier = new PgReplicationSlotComponentConfigurationCopier();
             @Override
             public void configure(String name, Component target) {
-                CamelPropertiesHelper.copyProperties(camelContext, configuration, target);
+                copier.copyProperties(camelContext, configuration, target);
             }
             @Override
             public boolean isEnabled(String name, Component target) {
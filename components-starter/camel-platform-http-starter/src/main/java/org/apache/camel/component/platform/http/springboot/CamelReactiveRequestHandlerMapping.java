@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.platform.http.springboot;
+
+import org.apache.camel.component.platform.http.HttpEndpointModel;
+import org.apache.camel.component.platform.http.PlatformHttpComponent;
+import org.apache.camel.component.platform.http.PlatformHttpEndpoint;
+import org.apache.camel.component.platform.http.PlatformHttpListener;
+import org.apache.camel.util.ReflectionHelper;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.reactive.result.method.RequestMappingInfo;
+import org.springframework.web.reactive.result.method.annotation.RequestMappingHandlerMapping;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Registers the platform-http endpoints as Spring WebFlux request mappings
+ */
+public class CamelReactiveRequestHandlerMapping extends RequestMappingHandlerMapping implements PlatformHttpListener {
+
+    private final PlatformHttpComponent component;
+
+    public CamelReactiveRequestHandlerMapping(PlatformHttpComponent component) {
+        this.component = component;
+        this.component.addPlatformHttpListener(this);
+    }
+
+    @Override
+    public int getOrder() {
+        return -1;
+    }
+
+    @Override
+    protected boolean isHandler(Class<?> beanType) {
+        // no candidates as we do not use class scanning but Camel platform-http component
+        return false;
+    }
+
+    @Override
+    protected RequestMappingInfo getMappingForMethod(Method method, Class<?> handlerType) {
+        // not in use as we do not use class scanning but Camel platform-http component
+        return null;
+    }
+
+    @Override
+    public void registerHttpEndpoint(HttpEndpointModel model) {
+        RequestMappingInfo info = asRequestMappingInfo(model);
+        Method m = ReflectionHelper.findMethod(SpringBootPlatformHttpReactiveConsumer.class, "handle", ServerWebExchange.class);
+        registerMapping(info, model.getConsumer(), m);
+    }
+
+    @Override
+    public void unregisterHttpEndpoint(HttpEndpointModel model) {
+        unregisterMapping(asRequestMappingInfo(model));
+    }
+
+    private RequestMappingInfo asRequestMappingInfo(HttpEndpointModel model) {
+        List<RequestMethod> methods = new ArrayList<>();
+        // allowed methods from model or endpoint
+        String verbs = model.getVerbs();
+        if (verbs == null && model.getConsumer() != null) {
+            PlatformHttpEndpoint endpoint = (PlatformHttpEndpoint) model.getConsumer().getEndpoint();
+            verbs = endpoint.getHttpMethodRestrict();
+        }
+        if (verbs != null) {
+            for (String v : verbs.split(",")) {
+                methods.add(RequestMethod.resolve(v));
+            }
+        }
+
+        RequestMappingInfo.BuilderConfiguration config = new RequestMappingInfo.BuilderConfiguration();
+        config.setPatternParser(getPathPatternParser());
+        config.setContentTypeResolver(getContentTypeResolver());
+        return RequestMappingInfo
+                .paths(model.getUri())
+                .methods(methods.toArray(new RequestMethod[0]))
+                .options(config).build();
+    }
+
+}
@@ -25,6 +25,7 @@ import org.apache.camel.component.platform.http.PlatformHttpListener;
 import org.apache.camel.component.platform.http.spi.PlatformHttpEngine;
 import org.apache.camel.util.ReflectionHelper;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.cors.CorsUtils;
 import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
 import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
@@ -36,8 +37,14 @@ import java.util.List;
 
 public class CamelRequestHandlerMapping extends RequestMappingHandlerMapping implements PlatformHttpListener {
 
+    /**
+     * Request attribute with the values of the path placeholders of the matched endpoint
+     */
+    public static final String PATH_VARIABLES_ATTRIBUTE = CamelRequestHandlerMapping.class.getName() + ".pathVariables";
+
     private final PlatformHttpComponent component;
     private final PlatformHttpEngine engine;
+    private final CamelRequestPathIndex pathIndex = new CamelRequestPathIndex();
 
     public CamelRequestHandlerMapping(PlatformHttpComponent component, PlatformHttpEngine engine) {
         this.component = component;
@@ -69,32 +76,63 @@ public class CamelRequestHandlerMapping extends RequestMappingHandlerMapping imp
 
     @Override
     protected HandlerMethod getHandlerInternal(HttpServletRequest request) throws Exception {
-        ServletRequestPathUtils.parseAndCache(request);
+        String lookupPath = ServletRequestPathUtils.parseAndCache(request).pathWithinApplication().value();
+        if (!CorsUtils.isPreFlightRequest(request)) {
+            CamelRequestPathIndex.Match match = pathIndex.match(lookupPath, request.getMethod());
+            if (match != null) {
+                HandlerMethod handlerMethod = match.getHandlerMethod();
+                request.setAttribute(BEST_MATCHING_HANDLER_ATTRIBUTE, handlerMethod);
+                request.setAttribute(PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE, lookupPath);
+                request.setAttribute(BEST_MATCHING_PATTERN_ATTRIBUTE, match.getPath());
+                request.setAttribute(PATH_VARIABLES_ATTRIBUTE, match.getVariables());
+                return handlerMethod;
+            }
+        }
+        // not an indexed endpoint (or method not allowed) so let spring resolve the mapping
         return super.getHandlerInternal(request);
     }
 
     @Override
     public void registerHttpEndpoint(HttpEndpointModel model) {
         RequestMappingInfo info = asRequestMappingInfo(model);
-        Method m = ReflectionHelper.findMethod(SpringBootPlatformHttpConsumer.class, "service", HttpServletRequest.class, HttpServletResponse.class);
+        Method m = serviceMethod(model);
         registerMapping(info, model.getConsumer(), m);
+        if (CamelRequestPathIndex.isSupported(model.getUri())) {
+            pathIndex.add(model.getUri(), getVerbs(model), createHandlerMethod(model.getConsumer(), m));
+        }
     }
 
     @Override
     public void unregisterHttpEndpoint(HttpEndpointModel model) {
-        // noop
+        if (model.getConsumer() != null) {
+            pathIndex.remove(model.getConsumer());
+        }
     }
 
-    private RequestMappingInfo asRequestMappingInfo(HttpEndpointModel model) {
+    private Method serviceMethod(HttpEndpointModel model) {
+        // in async mode the consumer returns a DeferredResult so Spring MVC can release the container thread
+        String name = "service";
+        if (model.getConsumer() instanceof SpringBootPlatformHttpConsumer consumer && consumer.getConfiguration().isAsync()) {
+            name = "serviceAsync";
+        }
+        return ReflectionHelper.findMethod(SpringBootPlatformHttpConsumer.class, name, HttpServletRequest.class, HttpServletResponse.class);
+    }
+
+    private static String getVerbs(HttpEndpointModel model) {
         // allowed methods from model or endpoint
-        List<RequestMethod> methods = new ArrayList<>();
         String verbs = model.getVerbs();
         if (verbs == null && model.getConsumer() != null) {
             PlatformHttpEndpoint endpoint = (PlatformHttpEndpoint) model.getConsumer().getEndpoint();
             verbs = endpoint.getHttpMethodRestrict();
         }
+        return verbs;
+    }
+
+    private RequestMappingInfo asRequestMappingInfo(HttpEndpointModel model) {
+        List<RequestMethod> methods = new ArrayList<>();
+        String verbs = getVerbs(model);
         if (verbs != null) {
-            for (String v : model.getVerbs().split(",")) {
+            for (String v : verbs.split(",")) {
                 RequestMethod rm = RequestMethod.resolve(v);
                 methods.add(rm);
             }
@@ -0,0 +1,242 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.platform.http.springboot;
+
+import org.springframework.web.method.HandlerMethod;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * A path index of the platform-http endpoints, used by {@link CamelRequestHandlerMapping} to dispatch requests
+ * without iterating over all registered request mappings.
+ * <p/>
+ * The index is a tree of path segments, where each node has children for literal segments and a single child for
+ * <tt>{placeholder}</tt> segments. The path templates are parsed once when the endpoint is registered, and the values
+ * of the placeholders are extracted while matching, so they can be set as headers without parsing the path again.
+ * <p/>
+ * Only paths made of literal and <tt>{placeholder}</tt> segments are indexed, any other path pattern is left to
+ * Spring MVC.
+ */
+public class CamelRequestPathIndex {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Node root = new Node();
+
+    /**
+     * Whether the path template can be indexed
+     */
+    public static boolean isSupported(String path) {
+        if (path == null || !path.startsWith("/")) {
+            return false;
+        }
+        for (String segment : segments(path)) {
+            if (isPlaceholder(segment)) {
+                String name = segment.substring(1, segment.length() - 1);
+                if (name.isEmpty() || name.indexOf(':') > -1 || name.indexOf('*') > -1) {
+                    return false;
+                }
+            } else if (segment.indexOf('{') > -1 || segment.indexOf('}') > -1 || segment.indexOf('*') > -1
+                    || segment.indexOf('?') > -1 || segment.indexOf(';') > -1) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Adds the handler for the given path template and HTTP methods
+     *
+     * @param path    the path template such as <tt>/users/{id}</tt>
+     * @param verbs   comma separated HTTP methods, or <tt>null</tt> for any method
+     * @param handler the handler
+     */
+    public void add(String path, String verbs, HandlerMethod handler) {
+        String[] segments = segments(path);
+        String[] names = new String[segments.length];
+        lock.writeLock().lock();
+        try {
+            Node node = root;
+            for (int i = 0; i < segments.length; i++) {
+                String segment = segments[i];
+                if (isPlaceholder(segment)) {
+                    names[i] = segment.substring(1, segment.length() - 1);
+                    if (node.placeholder == null) {
+                        node.placeholder = new Node();
+                    }
+                    node = node.placeholder;
+                } else {
+                    node = node.children.computeIfAbsent(segment, k -> new Node());
+                }
+            }
+            node.entries.add(new Entry(path, parseVerbs(verbs), names, handler));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes all the entries for the given handler bean
+     */
+    public void remove(Object bean) {
+        lock.writeLock().lock();
+        try {
+            remove(root, bean);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the handler for the given request path and HTTP method
+     *
+     * @return the match, or <tt>null</tt> if no indexed endpoint matches
+     */
+    public Match match(String path, String method) {
+        if (path == null || !path.startsWith("/") || path.indexOf(';') > -1) {
+            return null;
+        }
+        String[] segments = segments(path);
+        lock.readLock().lock();
+        try {
+            return match(root, segments, 0, method);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static Match match(Node node, String[] segments, int index, String method) {
+        if (index == segments.length) {
+            for (Entry entry : node.entries) {
+                if (entry.verbs == null || entry.verbs.contains(method)) {
+                    return new Match(entry, segments);
+                }
+            }
+            return null;
+        }
+        // literal segments take precedence over placeholders
+        Node child = node.children.get(segments[index]);
+        if (child != null) {
+            Match match = match(child, segments, index + 1, method);
+            if (match != null) {
+                return match;
+            }
+        }
+        if (node.placeholder != null && !segments[index].isEmpty()) {
+            return match(node.placeholder, segments, index + 1, method);
+        }
+        return null;
+    }
+
+    private static void remove(Node node, Object bean) {
+        node.entries.removeIf(e -> e.handler.getBean() == bean);
+        node.children.values().forEach(n -> remove(n, bean));
+        if (node.placeholder != null) {
+            remove(node.placeholder, bean);
+        }
+    }
+
+    private static String[] segments(String path) {
+        // skip leading slash, and keep trailing empty segment so /foo/ does not match /foo
+        return path.substring(1).split("/", -1);
+    }
+
+    private static boolean isPlaceholder(String segment) {
+        return segment.length() > 1 && segment.charAt(0) == '{' && segment.charAt(segment.length() - 1) == '}';
+    }
+
+    private static Set<String> parseVerbs(String verbs) {
+        if (verbs == null || verbs.isBlank()) {
+            return null;
+        }
+        Set<String> answer = new TreeSet<>();
+        for (String v : verbs.split(",")) {
+            answer.add(v.trim().toUpperCase(Locale.ENGLISH));
+        }
+        return answer;
+    }
+
+    private static final class Node {
+        private final Map<String, Node> children = new HashMap<>();
+        private final List<Entry> entries = new ArrayList<>(1);
+        private Node placeholder;
+    }
+
+    private static final class Entry {
+        private final String path;
+        private final Set<String> verbs;
+        // placeholder name by segment index, or null for literal segments
+        private final String[] names;
+        private final HandlerMethod handler;
+
+        private Entry(String path, Set<String> verbs, String[] names, HandlerMethod handler) {
+            this.path = path;
+            this.verbs = verbs;
+            this.names = names;
+            this.handler = handler;
+        }
+    }
+
+    /**
+     * A matched endpoint, with the values of the path placeholders
+     */
+    public static final class Match {
+        private final Entry entry;
+        private final String[] segments;
+
+        private Match(Entry entry, String[] segments) {
+            this.entry = entry;
+            this.segments = segments;
+        }
+
+        public HandlerMethod getHandlerMethod() {
+            return entry.handler;
+        }
+
+        /**
+         * The path template of the matched endpoint
+         */
+        public String getPath() {
+            return entry.path;
+        }
+
+        /**
+         * The values of the path placeholders (not URL decoded)
+         */
+        public Map<String, String> getVariables() {
+            Map<String, String> answer = null;
+            for (int i = 0; i < entry.names.length; i++) {
+                if (entry.names[i] != null) {
+                    if (answer == null) {
+                        answer = new HashMap<>();
+                    }
+                    answer.put(entry.names[i], segments[i]);
+                }
+            }
+            return answer != null ? answer : Collections.emptyMap();
+        }
+    }
+
+}
@@ -32,6 +32,7 @@ public class PlatformHttpMessage extends DefaultMessage {
     private HttpServletResponse response;
     private HttpBinding binding;
     private boolean requestRead;
+    private PlatformHttpMessageHeaders lazyHeaders;
 
     public PlatformHttpMessage(Exchange exchange, HttpBinding binding, HttpServletRequest request, HttpServletResponse response) {
         super(exchange);
@@ -52,6 +53,23 @@ public class PlatformHttpMessage extends DefaultMessage {
         this.binding = binding;
         this.request = request;
         this.response = response;
+        if (binding instanceof SpringBootPlatformHttpBinding platformBinding) {
+            // the headers are mapped from the request when first accessed, but a form body is read
+            // into the headers eagerly as the body may not be readable again later
+            if (this.lazyHeaders == null) {
+                this.lazyHeaders = new PlatformHttpMessageHeaders();
+            }
+            this.lazyHeaders.init(this, platformBinding);
+            this.setHeaders(this.lazyHeaders);
+            if (this.getHeaders() == this.lazyHeaders) {
+                platformBinding.readRequestBody(request, this);
+                if (SpringBootPlatformHttpBinding.isFormUrlEncoded(request)) {
+                    this.lazyHeaders.populate();
+                }
+                return;
+            }
+            // a custom headers map factory is in use, so map the headers eagerly
+        }
         this.setHeader("CamelHttpServletRequest", request);
         this.setHeader("CamelHttpServletResponse", response);
         Boolean flag = (Boolean)exchange.getProperty("CamelSkipWwwFormUrlEncoding", Boolean.class);
@@ -62,6 +80,17 @@ public class PlatformHttpMessage extends DefaultMessage {
         binding.readRequest(request, this);
     }
 
+    /**
+     * Reads the headers and the body from the request now, instead of when they are first accessed, for when the
+     * exchange may be routed after the request has been completed by the servlet container.
+     */
+    void readRequest() {
+        if (this.lazyHeaders != null && this.getHeaders() == this.lazyHeaders) {
+            this.lazyHeaders.populate();
+        }
+        this.getBody();
+    }
+
     public void reset() {
         super.reset();
         this.request = null;
@@ -0,0 +1,455 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.platform.http.springboot;
+
+import org.apache.camel.http.base.HttpHelper;
+import org.apache.camel.util.CaseInsensitiveMap;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * The headers of a {@link PlatformHttpMessage} which are mapped from the request when they are first accessed.
+ * <p>
+ * Looking up a single header only reads the header and the parameter with that name from the request and remembers
+ * the result, any other access, or looking up more than a few distinct headers, maps all the headers into this map,
+ * after which it behaves as a regular {@link CaseInsensitiveMap}.
+ */
+final class PlatformHttpMessageHeaders extends CaseInsensitiveMap {
+
+    // the number of distinct headers looked up before mapping all the headers at once is cheaper
+    private static final int MAX_LOOKUPS = 8;
+    private static final Object NO_HEADER = new Object();
+
+    private transient Map<String, Object> lookups;
+    private transient PlatformHttpMessage message;
+    private transient SpringBootPlatformHttpBinding binding;
+    private transient boolean populated = true;
+
+    void init(PlatformHttpMessage message, SpringBootPlatformHttpBinding binding) {
+        super.clear();
+        this.lookups = null;
+        this.message = message;
+        this.binding = binding;
+        this.populated = false;
+    }
+
+    boolean isPopulated() {
+        return populated;
+    }
+
+    /**
+     * Visits the headers without populating this map, or the entries of this map once it has been populated.
+     */
+    void visit(SpringBootPlatformHttpBinding.HeaderVisitor visitor) {
+        if (populated) {
+            super.forEach(visitor::put);
+        } else {
+            binding.visitRequestHeaders(message.getRequest(), message.getResponse(), message, visitor);
+        }
+    }
+
+    void populate() {
+        if (!populated) {
+            populated = true;
+            lookups = null;
+            binding.visitRequestHeaders(message.getRequest(), message.getResponse(), message,
+                    new SpringBootPlatformHttpBinding.HeaderVisitor() {
+                        @Override
+                        public boolean accept(String name) {
+                            return true;
+                        }
+
+                        @Override
+                        public void put(String name, Object value) {
+                            PlatformHttpMessageHeaders.super.put(name, value);
+                        }
+
+                        @Override
+                        public void append(String name, Object value) {
+                            HttpHelper.appendHeader(PlatformHttpMessageHeaders.this, name, value);
+                        }
+                    });
+        }
+    }
+
+    private boolean isLookup(Object key) {
+        return lookups == null || lookups.size() < MAX_LOOKUPS || lookups.containsKey(key);
+    }
+
+    /**
+     * Looks up a single header, or returns {@link #NO_HEADER} when the request does not have it.
+     */
+    private Object lookup(String key) {
+        if (lookups == null) {
+            lookups = new CaseInsensitiveMap();
+        }
+        Object answer = lookups.get(key);
+        if (answer == null && !lookups.containsKey(key)) {
+            Lookup lookup = new Lookup(key);
+            binding.visitRequestHeader(message.getRequest(), message.getResponse(), message, key, lookup);
+            answer = lookup.result.containsKey(key) ? lookup.result.get(key) : NO_HEADER;
+            lookups.put(key, answer);
+        }
+        return answer;
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (!populated && key instanceof String) {
+            if (isLookup(key)) {
+                Object answer = lookup((String) key);
+                return answer != NO_HEADER ? answer : null;
+            }
+            populate();
+        }
+        return super.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        if (!populated && key instanceof String) {
+            if (isLookup(key)) {
+                return lookup((String) key) != NO_HEADER;
+            }
+            populate();
+        }
+        return super.containsKey(key);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        // the headers mapped from a request always include the HTTP method
+        return populated && super.isEmpty();
+    }
+
+    @Override
+    public void clear() {
+        populated = true;
+        super.clear();
+    }
+
+    @Override
+    public int size() {
+        populate();
+        return super.size();
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        populate();
+        return super.containsValue(value);
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        populate();
+        return super.put(key, value);
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ?> map) {
+        populate();
+        super.putAll(map);
+    }
+
+    @Override
+    public Object remove(Object key) {
+        populate();
+        return super.remove(key);
+    }
+
+    @Override
+    public Object clone() {
+        populate();
+        return super.clone();
+    }
+
+    @Override
+    public Map.Entry<String, Object> firstEntry() {
+        populate();
+        return super.firstEntry();
+    }
+
+    @Override
+    public Map.Entry<String, Object> lastEntry() {
+        populate();
+        return super.lastEntry();
+    }
+
+    @Override
+    public Map.Entry<String, Object> pollFirstEntry() {
+        populate();
+        return super.pollFirstEntry();
+    }
+
+    @Override
+    public Map.Entry<String, Object> pollLastEntry() {
+        populate();
+        return super.pollLastEntry();
+    }
+
+    @Override
+    public Map.Entry<String, Object> lowerEntry(String key) {
+        populate();
+        return super.lowerEntry(key);
+    }
+
+    @Override
+    public String lowerKey(String key) {
+        populate();
+        return super.lowerKey(key);
+    }
+
+    @Override
+    public Map.Entry<String, Object> floorEntry(String key) {
+        populate();
+        return super.floorEntry(key);
+    }
+
+    @Override
+    public String floorKey(String key) {
+        populate();
+        return super.floorKey(key);
+    }
+
+    @Override
+    public Map.Entry<String, Object> ceilingEntry(String key) {
+        populate();
+        return super.ceilingEntry(key);
+    }
+
+    @Override
+    public String ceilingKey(String key) {
+        populate();
+        return super.ceilingKey(key);
+    }
+
+    @Override
+    public Map.Entry<String, Object> higherEntry(String key) {
+        populate();
+        return super.higherEntry(key);
+    }
+
+    @Override
+    public String higherKey(String key) {
+        populate();
+        return super.higherKey(key);
+    }
+
+    @Override
+    public String firstKey() {
+        populate();
+        return super.firstKey();
+    }
+
+    @Override
+    public String lastKey() {
+        populate();
+        return super.lastKey();
+    }
+
+    @Override
+    public Set<String> keySet() {
+        populate();
+        return super.keySet();
+    }
+
+    @Override
+    public NavigableSet<String> navigableKeySet() {
+        populate();
+        return super.navigableKeySet();
+    }
+
+    @Override
+    public NavigableSet<String> descendingKeySet() {
+        populate();
+        return super.descendingKeySet();
+    }
+
+    @Override
+    public Collection<Object> values() {
+        populate();
+        return super.values();
+    }
+
+    @Override
+    public Set<Map.Entry<String, Object>> entrySet() {
+        populate();
+        return super.entrySet();
+    }
+
+    @Override
+    public NavigableMap<String, Object> descendingMap() {
+        populate();
+        return super.descendingMap();
+    }
+
+    @Override
+    public NavigableMap<String, Object> subMap(String fromKey, boolean fromInclusive, String toKey, boolean toInclusive) {
+        populate();
+        return super.subMap(fromKey, fromInclusive, toKey, toInclusive);
+    }
+
+    @Override
+    public NavigableMap<String, Object> headMap(String toKey, boolean inclusive) {
+        populate();
+        return super.headMap(toKey, inclusive);
+    }
+
+    @Override
+    public NavigableMap<String, Object> tailMap(String fromKey, boolean inclusive) {
+        populate();
+        return super.tailMap(fromKey, inclusive);
+    }
+
+    @Override
+    public SortedMap<String, Object> subMap(String fromKey, String toKey) {
+        populate();
+        return super.subMap(fromKey, toKey);
+    }
+
+    @Override
+    public SortedMap<String, Object> headMap(String toKey) {
+        populate();
+        return super.headMap(toKey);
+    }
+
+    @Override
+    public SortedMap<String, Object> tailMap(String fromKey) {
+        populate();
+        return super.tailMap(fromKey);
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super String, ? super Object> action) {
+        populate();
+        super.forEach(action);
+    }
+
+    @Override
+    public void replaceAll(BiFunction<? super String, ? super Object, ?> function) {
+        populate();
+        super.replaceAll(function);
+    }
+
+    @Override
+    public Object putIfAbsent(String key, Object value) {
+        populate();
+        return super.putIfAbsent(key, value);
+    }
+
+    @Override
+    public boolean remove(Object key, Object value) {
+        populate();
+        return super.remove(key, value);
+    }
+
+    @Override
+    public boolean replace(String key, Object oldValue, Object newValue) {
+        populate();
+        return super.replace(key, oldValue, newValue);
+    }
+
+    @Override
+    public Object replace(String key, Object value) {
+        populate();
+        return super.replace(key, value);
+    }
+
+    @Override
+    public Object computeIfAbsent(String key, Function<? super String, ?> mappingFunction) {
+        populate();
+        return super.computeIfAbsent(key, mappingFunction);
+    }
+
+    @Override
+    public Object computeIfPresent(String key, BiFunction<? super String, ? super Object, ?> remappingFunction) {
+        populate();
+        return super.computeIfPresent(key, remappingFunction);
+    }
+
+    @Override
+    public Object compute(String key, BiFunction<? super String, ? super Object, ?> remappingFunction) {
+        populate();
+        return super.compute(key, remappingFunction);
+    }
+
+    @Override
+    public Object merge(String key, Object value, BiFunction<? super Object, ? super Object, ?> remappingFunction) {
+        populate();
+        return super.merge(key, value, remappingFunction);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        populate();
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        populate();
+        return super.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        populate();
+        return super.toString();
+    }
+
+    /**
+     * Extracts a single header from the request.
+     */
+    private static final class Lookup implements SpringBootPlatformHttpBinding.HeaderVisitor {
+
+        private final String key;
+        private final Map<String, Object> result = new HashMap<>(2);
+
+        private Lookup(String key) {
+            this.key = key;
+        }
+
+        @Override
+        public boolean accept(String name) {
+            return key.equalsIgnoreCase(name);
+        }
+
+        @Override
+        public void put(String name, Object value) {
+            if (accept(name)) {
+                result.put(key, value);
+            }
+        }
+
+        @Override
+        public void append(String name, Object value) {
+            if (accept(name)) {
+                HttpHelper.appendHeader(result, key, value);
+            }
+        }
+    }
+}
@@ -19,10 +19,17 @@ package org.apache.camel.component.platform.http.springboot;
 import org.apache.camel.CamelContext;
 import org.apache.camel.component.platform.http.PlatformHttpComponent;
 import org.apache.camel.component.platform.http.spi.PlatformHttpEngine;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.NoneNestedConditions;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.DependsOn;
 
@@ -30,23 +37,64 @@ import org.springframework.context.annotation.DependsOn;
 @AutoConfigureAfter(name = {
         "org.apache.camel.component.servlet.springboot.PlatformHttpComponentAutoConfiguration",
         "org.apache.camel.component.servlet.springboot.PlatformHttpComponentConverter"})
+@EnableConfigurationProperties(SpringBootPlatformHttpConfiguration.class)
 public class SpringBootPlatformHttpAutoConfiguration {
 
-    @Autowired
-    CamelContext camelContext;
+    @Configuration(proxyBeanMethods = false)
+    @Conditional(NotReactiveWebApplicationCondition.class)
+    static class ServletPlatformHttpConfiguration {
 
-    @Bean(name = "platform-http-engine")
-    @ConditionalOnMissingBean(PlatformHttpEngine.class)
-    public PlatformHttpEngine springBootPlatformHttpEngine() {
-        return new SpringBootPlatformHttpEngine();
+        @Autowired
+        CamelContext camelContext;
+
+        @Bean(name = "platform-http-engine")
+        @ConditionalOnMissingBean(PlatformHttpEngine.class)
+        public PlatformHttpEngine springBootPlatformHttpEngine(SpringBootPlatformHttpConfiguration configuration,
+                                                               ObjectProvider<ServerProperties> serverProperties) {
+            ServerProperties server = serverProperties.getIfAvailable();
+            return new SpringBootPlatformHttpEngine(configuration, server != null ? server.getCompression() : null);
+        }
+
+        @Bean
+        @DependsOn("configurePlatformHttpComponent")
+        public CamelRequestHandlerMapping platformHttpEngineRequestMapping(PlatformHttpEngine engine) {
+            PlatformHttpComponent component = camelContext.getComponent("platform-http", PlatformHttpComponent.class);
+            CamelRequestHandlerMapping answer = new CamelRequestHandlerMapping(component, engine);
+            return answer;
+        }
     }
 
-    @Bean
-	@DependsOn("configurePlatformHttpComponent")
-    public CamelRequestHandlerMapping platformHttpEngineRequestMapping(PlatformHttpEngine engine) {
-        PlatformHttpComponent component = camelContext.getComponent("platform-http", PlatformHttpComponent.class);
-        CamelRequestHandlerMapping answer = new CamelRequestHandlerMapping(component, engine);
-        return answer;
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    @ConditionalOnClass(name = "org.springframework.web.reactive.DispatcherHandler")
+    static class ReactivePlatformHttpConfiguration {
+
+        @Autowired
+        CamelContext camelContext;
+
+        @Bean(name = "platform-http-engine")
+        @ConditionalOnMissingBean(PlatformHttpEngine.class)
+        public PlatformHttpEngine springBootPlatformHttpReactiveEngine(SpringBootPlatformHttpConfiguration configuration) {
+            return new SpringBootPlatformHttpReactiveEngine(configuration);
+        }
+
+        @Bean
+        @DependsOn("configurePlatformHttpComponent")
+        public CamelReactiveRequestHandlerMapping platformHttpEngineReactiveRequestMapping() {
+            PlatformHttpComponent component = camelContext.getComponent("platform-http", PlatformHttpComponent.class);
+            return new CamelReactiveRequestHandlerMapping(component);
+        }
+    }
+
+    static class NotReactiveWebApplicationCondition extends NoneNestedConditions {
+
+        NotReactiveWebApplicationCondition() {
+            super(ConfigurationPhase.PARSE_CONFIGURATION);
+        }
+
+        @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+        static class ReactiveWebApplication {
+        }
     }
 
 }
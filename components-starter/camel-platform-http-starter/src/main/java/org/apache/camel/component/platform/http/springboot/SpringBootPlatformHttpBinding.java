@@ -17,15 +17,238 @@
 package org.apache.camel.component.platform.http.springboot;
 
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExchangePropertyKey;
+import org.apache.camel.InvalidPayloadException;
 import org.apache.camel.Message;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.StreamCache;
+import org.apache.camel.WrappedFile;
 import org.apache.camel.component.platform.http.PlatformHttpEndpoint;
 import org.apache.camel.http.base.HttpHelper;
 import org.apache.camel.http.common.DefaultHttpBinding;
+import org.apache.camel.spi.HeaderFilterStrategy;
+import org.apache.camel.support.GZIPHelper;
+import org.apache.camel.support.MessageHelper;
+import org.apache.camel.support.http.HttpUtil;
+import org.apache.camel.util.IOHelper;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URLDecoder;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 
 public class SpringBootPlatformHttpBinding extends DefaultHttpBinding {
 
-    protected void populateRequestParameters(HttpServletRequest request, Message message) {
-        super.populateRequestParameters(request, message);
+    private static final Logger LOG = LoggerFactory.getLogger(SpringBootPlatformHttpBinding.class);
+
+    // request attributes used by Tomcat to serve a file with sendfile
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private boolean streaming;
+    private SpringBootPlatformHttpCompression compression;
+
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
+
+    public SpringBootPlatformHttpCompression getCompression() {
+        return compression;
+    }
+
+    /**
+     * Sets the response compression, or <tt>null</tt> to not compress responses
+     */
+    public void setCompression(SpringBootPlatformHttpCompression compression) {
+        this.compression = compression;
+    }
+
+    /**
+     * Visits the headers of a message mapped from a request.
+     */
+    interface HeaderVisitor {
+
+        /**
+         * Whether the header with the given name is wanted, so the values of the other headers are not extracted
+         */
+        boolean accept(String name);
+
+        /**
+         * Sets the header, replacing any previous value
+         */
+        void put(String name, Object value);
+
+        /**
+         * Adds a value to the header, the values of a header with multiple values are kept in a list
+         */
+        void append(String name, Object value);
+    }
+
+    @Override
+    public void readRequest(HttpServletRequest request, Message message) {
+        readRequestBody(request, message);
+        Map<String, Object> headers = message.getHeaders();
+        visitRequestHeaders(request, message.getHeader(Exchange.HTTP_SERVLET_RESPONSE, HttpServletResponse.class), message,
+                new HeaderVisitor() {
+                    @Override
+                    public boolean accept(String name) {
+                        return true;
+                    }
+
+                    @Override
+                    public void put(String name, Object value) {
+                        headers.put(name, value);
+                    }
+
+                    @Override
+                    public void append(String name, Object value) {
+                        HttpHelper.appendHeader(headers, name, value);
+                    }
+                });
+    }
+
+    /**
+     * Reads the body of the request into the message. The headers are mapped when they are first accessed, see
+     * {@link PlatformHttpMessage}.
+     */
+    public void readRequestBody(HttpServletRequest request, Message message) {
+        if (isMapHttpMessageBody()) {
+            readBody(request, message);
+        }
+    }
+
+    /**
+     * Visits the headers mapped from the request, which are the same headers {@link DefaultHttpBinding} maps when
+     * reading the request, with the path of the consumer removed from the {@link Exchange#HTTP_PATH} header.
+     */
+    void visitRequestHeaders(HttpServletRequest request, HttpServletResponse response, Message message, HeaderVisitor visitor) {
+        visitRequestHeaders(request, response, message, null, visitor);
+    }
+
+    /**
+     * Visits a single header mapped from the request, the header and the parameter with the given name are read from
+     * the request directly instead of scanning all the headers and parameters of the request.
+     */
+    void visitRequestHeader(
+            HttpServletRequest request, HttpServletResponse response, Message message, String key, HeaderVisitor visitor) {
+        visitRequestHeaders(request, response, message, key, visitor);
+    }
+
+    private void visitRequestHeaders(
+            HttpServletRequest request, HttpServletResponse response, Message message, String key, HeaderVisitor visitor) {
+        Exchange exchange = message.getExchange();
+        HeaderFilterStrategy strategy = getHeaderFilterStrategy();
+        visitor.put(Exchange.HTTP_SERVLET_REQUEST, request);
+        visitor.put(Exchange.HTTP_SERVLET_RESPONSE, response);
+        boolean skipWwwFormUrlEncoding = exchange.getProperty(Exchange.SKIP_WWW_FORM_URLENCODED, false, Boolean.class);
+        if (skipWwwFormUrlEncoding) {
+            visitor.put(Exchange.SKIP_WWW_FORM_URLENCODED, Boolean.TRUE);
+        }
+
+        boolean contentType = false;
+        if (isMapHttpMessageHeaders()) {
+            Enumeration<String> names = key != null ? Collections.enumeration(List.of(key)) : request.getHeaderNames();
+            while (names.hasMoreElements()) {
+                String name = names.nextElement();
+                if (name.equalsIgnoreCase(Exchange.CONTENT_TYPE)) {
+                    name = Exchange.CONTENT_TYPE;
+                }
+                if (!visitor.accept(name) || name.equalsIgnoreCase(Exchange.HTTP_SERVLET_REQUEST)
+                        || name.equalsIgnoreCase(Exchange.HTTP_SERVLET_RESPONSE)
+                        || skipWwwFormUrlEncoding && name.equalsIgnoreCase(Exchange.SKIP_WWW_FORM_URLENCODED)) {
+                    continue;
+                }
+                Enumeration<String> values = request.getHeaders(name);
+                while (values != null && values.hasMoreElements()) {
+                    Object value = HttpHelper.extractHttpParameterValue(values.nextElement());
+                    if (strategy != null && !strategy.applyFilterToExternalHeaders(name, value, exchange)) {
+                        visitor.append(name, value);
+                        contentType |= Exchange.CONTENT_TYPE.equals(name);
+                    }
+                }
+            }
+            if (request.getCharacterEncoding() != null) {
+                visitor.put(Exchange.HTTP_CHARACTER_ENCODING, request.getCharacterEncoding());
+                exchange.setProperty(ExchangePropertyKey.CHARSET_NAME, request.getCharacterEncoding());
+            }
+            visitRequestParameters(request, message, key, visitor);
+        }
+        if (isMapHttpMessageFormUrlEncodedBody() && isMapHttpMessageBody() && isMapHttpMessageHeaders()
+                && !skipWwwFormUrlEncoding && isFormUrlEncoded(request)) {
+            visitFormUrlEncodedBody(request, message, visitor);
+        }
+
+        visitor.put(Exchange.HTTP_METHOD, request.getMethod());
+        visitor.put(Exchange.HTTP_QUERY, request.getQueryString());
+        if (visitor.accept(Exchange.HTTP_URL)) {
+            visitor.put(Exchange.HTTP_URL, request.getRequestURL().toString());
+        }
+        visitor.put(Exchange.HTTP_URI, request.getRequestURI());
+        if (!contentType && request.getContentType() != null) {
+            visitor.put(Exchange.CONTENT_TYPE, request.getContentType());
+        }
+        String consumerPath = ((PlatformHttpEndpoint) exchange.getFromEndpoint()).getPath();
+        visitor.put(SpringBootPlatformHttpConstants.CONTEXT_PATH, consumerPath);
+        if (visitor.accept(Exchange.HTTP_PATH)) {
+            String path = getRawPath(request);
+            // here we just remove the CamelServletContextPath part from the HTTP_PATH
+            if (consumerPath != null && path.startsWith(consumerPath)) {
+                path = path.substring(consumerPath.length());
+            }
+            visitor.put(Exchange.HTTP_PATH, path);
+        }
+    }
+
+    private void visitRequestParameters(HttpServletRequest request, Message message, String key, HeaderVisitor visitor) {
+        HeaderFilterStrategy strategy = getHeaderFilterStrategy();
+        Enumeration<String> names = key != null ? Collections.enumeration(List.of(key)) : request.getParameterNames();
+        while (names.hasMoreElements()) {
+            String name = names.nextElement();
+            String[] values = visitor.accept(name) ? request.getParameterValues(name) : null;
+            if (values != null) {
+                for (String value : values) {
+                    if (strategy != null && !strategy.applyFilterToExternalHeaders(name, value, message.getExchange())) {
+                        visitor.append(name, value);
+                    }
+                }
+            }
+        }
+
+        Object variables = request.getAttribute(CamelRequestHandlerMapping.PATH_VARIABLES_ATTRIBUTE);
+        if (variables instanceof Map<?, ?> map) {
+            // the placeholders have already been extracted when the request was matched
+            map.forEach((k, v) -> {
+                if (visitor.accept((String) k)) {
+                    visitor.put((String) k, v);
+                }
+            });
+            return;
+        }
         String path = request.getRequestURI();
         // skip leading slash
         if (path != null && path.startsWith("/")) {
@@ -38,13 +261,243 @@ public class SpringBootPlatformHttpBinding extends DefaultHttpBinding {
                 consumerPath = consumerPath.substring(1);
             }
             if (useRestMatching(consumerPath)) {
-                HttpHelper.evalPlaceholders(message.getHeaders(), path, consumerPath);
+                HttpHelper.evalPlaceholders((k, v) -> {
+                    if (visitor.accept(k)) {
+                        visitor.put(k, v);
+                    }
+                }, path, consumerPath);
             }
         }
     }
 
+    private void visitFormUrlEncodedBody(HttpServletRequest request, Message message, HeaderVisitor visitor) {
+        String charset = request.getCharacterEncoding() != null ? request.getCharacterEncoding() : "UTF-8";
+        Object body = message.getBody();
+        if (body instanceof StreamCache sc) {
+            sc.reset();
+        }
+        String text = message.getBody(String.class);
+        if (body instanceof StreamCache sc) {
+            sc.reset();
+        }
+        if (ObjectHelper.isEmpty(text)) {
+            return;
+        }
+        HeaderFilterStrategy strategy = getHeaderFilterStrategy();
+        for (String param : text.split("&")) {
+            String[] pair = param.split("=", 2);
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Invalid parameter, expected to be a pair but was " + param);
+            }
+            String name = URLDecoder.decode(pair[0], Charset.forName(charset));
+            if (visitor.accept(name)) {
+                String value = URLDecoder.decode(pair[1], Charset.forName(charset));
+                if (strategy != null && !strategy.applyFilterToExternalHeaders(name, value, message.getExchange())) {
+                    visitor.append(name, value);
+                }
+            }
+        }
+    }
+
+    static boolean isFormUrlEncoded(HttpServletRequest request) {
+        return "POST".equals(request.getMethod()) && request.getContentType() != null
+                && request.getContentType().startsWith("application/x-www-form-urlencoded");
+    }
+
+    private static String getRawPath(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        String contextPath = request.getContextPath() == null ? "" : request.getContextPath();
+        String servletPath = request.getServletPath() == null ? "" : request.getServletPath();
+        return uri.substring(contextPath.length() + servletPath.length());
+    }
+
     private boolean useRestMatching(String path) {
         return path.indexOf('{') > -1;
     }
 
+    @Override
+    public void doWriteResponse(Message message, HttpServletResponse response, Exchange exchange) throws IOException {
+        if (!(message.getHeaders() instanceof PlatformHttpMessageHeaders headers) || headers.isPopulated()) {
+            super.doWriteResponse(message, response, exchange);
+            return;
+        }
+
+        // the headers have not been accessed by the route, so write the headers mapped from the request
+        // without populating the headers of the message
+        response.setStatus(HttpUtil.determineResponseCode(exchange, exchange.getMessage().getBody()));
+        String contentType = MessageHelper.getContentType(message);
+        if (contentType != null) {
+            response.setContentType(contentType);
+        }
+        HeaderFilterStrategy strategy = getHeaderFilterStrategy();
+        HeaderVisitor visitor = new HeaderVisitor() {
+            @Override
+            public boolean accept(String name) {
+                return true;
+            }
+
+            @Override
+            public void put(String name, Object value) {
+                append(name, value);
+            }
+
+            @Override
+            public void append(String name, Object value) {
+                Iterator<?> it = org.apache.camel.support.ObjectHelper.createIterator(value, null, true);
+                while (it.hasNext()) {
+                    String headerValue = convertHeaderValueToString(exchange, it.next());
+                    if (headerValue != null && strategy != null
+                            && !strategy.applyFilterToCamelHeaders(name, headerValue, exchange)) {
+                        response.addHeader(name, headerValue);
+                    }
+                }
+            }
+        };
+        headers.visit(visitor);
+
+        if (message.getBody() != null) {
+            if (GZIPHelper.isGzip(message)) {
+                doWriteGZIPResponse(message, response, exchange);
+            } else {
+                doWriteDirectResponse(message, response, exchange);
+            }
+        }
+    }
+
+    @Override
+    protected void doWriteDirectResponse(Message message, HttpServletResponse response, Exchange exchange) throws IOException {
+        String encoding = null;
+        if (compression != null) {
+            HttpServletRequest request = message.getHeader(Exchange.HTTP_SERVLET_REQUEST, HttpServletRequest.class);
+            encoding = compression.negotiate(request, response, message);
+        }
+        if (encoding != null) {
+            LOG.debug("Writing response with content-encoding {}", encoding);
+            SpringBootPlatformHttpCompression.CompressingResponse compressed = compression.compress(response, encoding);
+            try {
+                writeDirectResponse(message, compressed, exchange);
+            } finally {
+                compressed.finish();
+            }
+        } else {
+            writeDirectResponse(message, response, exchange);
+        }
+    }
+
+    @Override
+    protected void doWriteGZIPResponse(Message message, HttpServletResponse response, Exchange exchange) throws IOException {
+        if (!streaming) {
+            super.doWriteGZIPResponse(message, response, exchange);
+            return;
+        }
+        // the route set the gzip content encoding, so compress stream and file bodies while they are written
+        SpringBootPlatformHttpCompression.CompressingResponse compressed
+                = new SpringBootPlatformHttpCompression.CompressingResponse(response, SpringBootPlatformHttpCompression.GZIP);
+        try {
+            if (!writeStreamingResponse(message, compressed)) {
+                compressed.getOutputStream().write(message.getMandatoryBody(byte[].class));
+            }
+        } catch (InvalidPayloadException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        } finally {
+            compressed.finish();
+        }
+    }
+
+    private void writeDirectResponse(Message message, HttpServletResponse response, Exchange exchange) throws IOException {
+        if (!streaming || !writeStreamingResponse(message, response)) {
+            super.doWriteDirectResponse(message, response, exchange);
+        }
+    }
+
+    /**
+     * Writes stream and file bodies directly to the servlet output stream without buffering them first.
+     *
+     * @return <tt>true</tt> if the body was written, <tt>false</tt> if the body is not a stream or file and should be
+     *         written the default way
+     */
+    protected boolean writeStreamingResponse(Message message, HttpServletResponse response) throws IOException {
+        if ("application/x-java-serialized-object".equals(message.getHeader(Exchange.CONTENT_TYPE, String.class))) {
+            return false;
+        }
+
+        Object body = message.getBody();
+        // a file consumed by a file consumer may be deleted or moved when the unit of work is done, which happens
+        // before the servlet container would transfer the file with sendfile
+        boolean sendfile = !(body instanceof WrappedFile) && message.getHeader(Exchange.FILE_NAME_CONSUMED) == null;
+        if (body instanceof WrappedFile<?> wf) {
+            body = wf.getFile();
+        }
+        if (body instanceof Path path && path.getFileSystem() == FileSystems.getDefault()) {
+            body = path.toFile();
+        }
+
+        if (body instanceof File file) {
+            HttpServletRequest request = sendfile ? message.getHeader(Exchange.HTTP_SERVLET_REQUEST, HttpServletRequest.class) : null;
+            writeFile(file, request, response);
+        } else if (body instanceof StreamCache sc) {
+            long length = sc.length();
+            if (length > 0) {
+                response.setContentLengthLong(length);
+            }
+            OutputStream os = response.getOutputStream();
+            sc.writeTo(os);
+            os.flush();
+        } else if (body instanceof InputStream is) {
+            LOG.debug("Streaming response in chunked mode with buffer size {}", response.getBufferSize());
+            try {
+                OutputStream os = response.getOutputStream();
+                is.transferTo(os);
+                os.flush();
+            } finally {
+                IOHelper.close(is);
+            }
+        } else if (body instanceof ReadableByteChannel channel) {
+            LOG.debug("Streaming response from channel in chunked mode with buffer size {}", response.getBufferSize());
+            try {
+                OutputStream os = response.getOutputStream();
+                copyChannel(channel, Channels.newChannel(os), response.getBufferSize());
+                os.flush();
+            } finally {
+                IOHelper.close(channel);
+            }
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    /*
+     * Writes the file with sendfile when a request is given and supports it, otherwise copies the file to the
+     * response before returning.
+     */
+    private void writeFile(File file, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        long length = file.length();
+        response.setContentLengthLong(length);
+        if (request != null && !request.isAsyncStarted() && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))
+                && !(response instanceof SpringBootPlatformHttpCompression.CompressingResponse)) {
+            // let the servlet container transfer the file from the file system to the socket
+            LOG.debug("Writing file response with sendfile: {}", file);
+            request.setAttribute(SENDFILE_FILENAME, file.getCanonicalPath());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, length);
+        } else {
+            LOG.debug("Streaming file response with content-length {}: {}", length, file);
+            OutputStream os = response.getOutputStream();
+            Files.copy(file.toPath(), os);
+            os.flush();
+        }
+    }
+
+    private static void copyChannel(ReadableByteChannel in, WritableByteChannel out, int bufferSize) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(bufferSize > 0 ? bufferSize : IOHelper.DEFAULT_BUFFER_SIZE);
+        while (in.read(buffer) != -1) {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                out.write(buffer);
+            }
+            buffer.clear();
+        }
+    }
+
 }
@@ -0,0 +1,414 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.platform.http.springboot;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.apache.camel.Message;
+import org.apache.camel.StreamCache;
+import org.apache.camel.WrappedFile;
+import org.apache.camel.support.ExchangeHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.web.server.Compression;
+import org.springframework.util.InvalidMimeTypeException;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compresses the responses of the platform-http consumers according to the mime types, minimum response size and
+ * excluded user agents of the <tt>server.compression</tt> settings of Spring Boot.
+ * <p/>
+ * This is only used when the compression of the servlet container (<tt>server.compression.enabled</tt>) is disabled,
+ * as the container compresses the responses of the platform-http consumers as well.
+ * <p/>
+ * The content encoding is negotiated from the <tt>Accept-Encoding</tt> header of the request, and the body is
+ * compressed while it is written to the servlet output stream, so stream and file bodies are never buffered in
+ * memory. Responses which already have a <tt>Content-Encoding</tt>, whose content type is not one of the compressible
+ * mime types, or whose length in bytes is known to be below the minimum response size are written as-is.
+ * <p/>
+ * The <tt>gzip</tt> and <tt>deflate</tt> encodings are supported, which are the encodings the JDK provides.
+ */
+public class SpringBootPlatformHttpCompression {
+
+    public static final String GZIP = "gzip";
+    public static final String DEFLATE = "deflate";
+
+    private static final Logger LOG = LoggerFactory.getLogger(SpringBootPlatformHttpCompression.class);
+
+    // in order of preference when the quality is the same
+    private static final String[] ENCODINGS = { GZIP, DEFLATE };
+
+    private final List<MimeType> mimeTypes = new ArrayList<>();
+    private final List<Pattern> excludedUserAgents = new ArrayList<>();
+    private final long minResponseSize;
+
+    public SpringBootPlatformHttpCompression(Compression compression) {
+        for (String mimeType : compression.getMimeTypes()) {
+            mimeTypes.add(MimeTypeUtils.parseMimeType(mimeType));
+        }
+        if (compression.getExcludedUserAgents() != null) {
+            for (String userAgent : compression.getExcludedUserAgents()) {
+                excludedUserAgents.add(Pattern.compile(userAgent));
+            }
+        }
+        this.minResponseSize = compression.getMinResponseSize() != null ? compression.getMinResponseSize().toBytes() : 0;
+    }
+
+    /**
+     * Creates the response compression for the given settings, or returns <tt>null</tt> if compression is disabled or
+     * done by the servlet container
+     *
+     * @param enabled     whether the platform-http consumers compress their responses
+     * @param compression the server.compression settings, or <tt>null</tt> to use the default settings
+     */
+    public static SpringBootPlatformHttpCompression create(boolean enabled, Compression compression) {
+        if (!enabled) {
+            return null;
+        }
+        if (compression != null && compression.getEnabled()) {
+            LOG.info("Not compressing platform-http responses as they are compressed by the servlet container"
+                     + " (server.compression.enabled=true)");
+            return null;
+        }
+        return new SpringBootPlatformHttpCompression(compression != null ? compression : new Compression());
+    }
+
+    /**
+     * Selects the content encoding of the response.
+     *
+     * @return the content encoding, or <tt>null</tt> if the response should not be compressed
+     */
+    public String negotiate(HttpServletRequest request, HttpServletResponse response, Message message) {
+        if (request == null || response.isCommitted() || response.containsHeader("Content-Encoding")) {
+            // already compressed
+            return null;
+        }
+        if (!isCompressible(response.getContentType())) {
+            return null;
+        }
+        // the response depends on the request headers, even when it is not compressed
+        addVary(response);
+        if (isExcluded(request.getHeader("User-Agent"))) {
+            return null;
+        }
+        long length = contentLength(message);
+        if (length >= 0 && length < minResponseSize) {
+            return null;
+        }
+        Enumeration<String> acceptEncodings = request.getHeaders("Accept-Encoding");
+        return acceptEncodings != null ? selectEncoding(Collections.list(acceptEncodings)) : null;
+    }
+
+    /**
+     * Wraps the response to compress the body with the given content encoding
+     */
+    public CompressingResponse compress(HttpServletResponse response, String encoding) {
+        response.setHeader("Content-Encoding", encoding);
+        // the length of the compressed body is not known
+        response.setContentLengthLong(-1);
+        return new CompressingResponse(response, encoding);
+    }
+
+    boolean isCompressible(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        MimeType mimeType;
+        try {
+            mimeType = MimeTypeUtils.parseMimeType(contentType);
+        } catch (InvalidMimeTypeException e) {
+            return false;
+        }
+        for (MimeType candidate : mimeTypes) {
+            if (candidate.isCompatibleWith(mimeType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void addVary(HttpServletResponse response) {
+        for (String vary : response.getHeaders("Vary")) {
+            for (String token : vary.split(",")) {
+                String name = token.trim();
+                if ("*".equals(name) || "Accept-Encoding".equalsIgnoreCase(name)) {
+                    return;
+                }
+            }
+        }
+        response.addHeader("Vary", "Accept-Encoding");
+    }
+
+    private boolean isExcluded(String userAgent) {
+        if (userAgent != null) {
+            for (Pattern pattern : excludedUserAgents) {
+                if (pattern.matcher(userAgent).matches()) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Selects the supported encoding with the highest quality value of the <tt>Accept-Encoding</tt> headers
+     */
+    static String selectEncoding(Iterable<String> acceptEncodings) {
+        String answer = null;
+        double best = 0;
+        for (String header : acceptEncodings) {
+            for (String token : header.split(",")) {
+                String[] parts = token.split(";");
+                String coding = parts[0].trim().toLowerCase(Locale.ENGLISH);
+                double quality = 1;
+                for (int i = 1; i < parts.length; i++) {
+                    String param = parts[i].trim();
+                    if (param.startsWith("q=")) {
+                        try {
+                            quality = Double.parseDouble(param.substring(2));
+                        } catch (NumberFormatException e) {
+                            quality = 0;
+                        }
+                    }
+                }
+                String encoding = null;
+                if ("*".equals(coding)) {
+                    encoding = ENCODINGS[0];
+                } else {
+                    for (String candidate : ENCODINGS) {
+                        if (candidate.equals(coding)) {
+                            encoding = candidate;
+                        }
+                    }
+                }
+                // prefer the first encoding when the quality is the same
+                if (encoding != null && quality > best) {
+                    answer = encoding;
+                    best = quality;
+                }
+            }
+        }
+        return answer;
+    }
+
+    /**
+     * The length in bytes of the body if known without reading it, or -1
+     */
+    private long contentLength(Message message) {
+        Object body = message.getBody();
+        if (body instanceof WrappedFile<?> wf) {
+            body = wf.getFile();
+        }
+        if (body instanceof byte[] bytes) {
+            return bytes.length;
+        } else if (body instanceof String str) {
+            // every char is encoded with at least one byte, so only short strings need to be encoded
+            if (str.length() >= minResponseSize) {
+                return str.length();
+            }
+            return str.getBytes(Charset.forName(ExchangeHelper.getCharsetName(message.getExchange()))).length;
+        } else if (body instanceof File file) {
+            return file.length();
+        } else if (body instanceof StreamCache sc) {
+            return sc.length();
+        }
+        return -1;
+    }
+
+    /**
+     * A response which compresses the body written to its output stream or writer
+     */
+    public static class CompressingResponse extends HttpServletResponseWrapper {
+
+        private final String encoding;
+        private CompressingOutputStream outputStream;
+        private PrintWriter writer;
+
+        CompressingResponse(HttpServletResponse response, String encoding) {
+            super(response);
+            this.encoding = encoding;
+        }
+
+        public String getEncoding() {
+            return encoding;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (writer != null) {
+                throw new IllegalStateException("getWriter() has already been called on this response");
+            }
+            return compressingOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                if (outputStream != null) {
+                    throw new IllegalStateException("getOutputStream() has already been called on this response");
+                }
+                writer = new PrintWriter(new OutputStreamWriter(compressingOutputStream(), getCharacterEncoding()));
+            }
+            return writer;
+        }
+
+        @Override
+        public void setContentLength(int len) {
+            // the length of the compressed body is not known
+        }
+
+        @Override
+        public void setContentLengthLong(long len) {
+            // the length of the compressed body is not known
+        }
+
+        @Override
+        public void setHeader(String name, String value) {
+            if (!"Content-Length".equalsIgnoreCase(name)) {
+                super.setHeader(name, value);
+            }
+        }
+
+        @Override
+        public void addHeader(String name, String value) {
+            if (!"Content-Length".equalsIgnoreCase(name)) {
+                super.addHeader(name, value);
+            }
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            } else if (outputStream != null) {
+                outputStream.flush();
+            }
+            super.flushBuffer();
+        }
+
+        /**
+         * Writes the remaining compressed data to the response
+         */
+        public void finish() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+            if (outputStream != null) {
+                outputStream.finish();
+            }
+        }
+
+        private CompressingOutputStream compressingOutputStream() throws IOException {
+            if (outputStream == null) {
+                ServletOutputStream os = getResponse().getOutputStream();
+                int bufferSize = getBufferSize() > 0 ? getBufferSize() : 8192;
+                // sync flush so the data written so far is sent when the stream is flushed
+                if (DEFLATE.equals(encoding)) {
+                    Deflater deflater = new Deflater();
+                    outputStream = new CompressingOutputStream(os, new DeflaterOutputStream(os, deflater, bufferSize, true), deflater);
+                } else {
+                    outputStream = new CompressingOutputStream(os, new GZIPOutputStream(os, bufferSize, true), null);
+                }
+            }
+            return outputStream;
+        }
+    }
+
+    private static class CompressingOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+        private final DeflaterOutputStream compressor;
+        private final Deflater deflater;
+        private boolean finished;
+
+        /**
+         * @param deflater the deflater of the compressor to release when finished, or <tt>null</tt> if released by
+         *                 the compressor
+         */
+        CompressingOutputStream(ServletOutputStream delegate, DeflaterOutputStream compressor, Deflater deflater) {
+            this.delegate = delegate;
+            this.compressor = compressor;
+            this.deflater = deflater;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            compressor.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            compressor.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (!finished) {
+                compressor.flush();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            finish();
+        }
+
+        void finish() throws IOException {
+            if (!finished) {
+                finished = true;
+                // writes the trailer and closes the servlet output stream
+                try {
+                    compressor.close();
+                } finally {
+                    if (deflater != null) {
+                        deflater.end();
+                    }
+                }
+            }
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+    }
+}
@@ -0,0 +1,301 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.platform.http.springboot;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Limits the number of requests a platform-http consumer processes concurrently.
+ * <p/>
+ * Requests are admitted while the number of inflight requests is below the limit, otherwise they wait in a bounded
+ * queue until a permit is released or the queue timeout elapses. Requests that cannot be admitted are rejected, which
+ * happens before an exchange is created for them. Waiting for a permit does not hold a thread with
+ * {@link #acquire()}, which is used in async mode.
+ * <p/>
+ * When adaptive, the limit is adjusted from the observed latency of the route (additive increase, multiplicative
+ * decrease): while the latency stays within the tolerance of the lowest latency observed recently and the limit is in
+ * use the limit is increased by one, and when the latency exceeds the tolerance or the request failed due to overload
+ * the limit is decreased by the backoff ratio. The limit is decreased at most once per window: requests which were
+ * already inflight when the limit was decreased do not decrease it again. The configured max inflight is the upper
+ * bound of the adaptive limit.
+ */
+public class SpringBootPlatformHttpConcurrencyLimiter {
+
+    private static final int MIN_LIMIT = 1;
+    private static final int DEFAULT_ADAPTIVE_MAX_LIMIT = 1000;
+    private static final double BACKOFF_RATIO = 0.9;
+    // the lowest observed latency is the lowest of the current and previous window, so it recovers when the route
+    // gets slower
+    private static final long MIN_LATENCY_WINDOW = TimeUnit.SECONDS.toNanos(10);
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Deque<CompletableFuture<Boolean>> waiters = new ArrayDeque<>();
+    private final int maxLimit;
+    private final boolean adaptive;
+    private final double latencyTolerance;
+    private final int maxQueueSize;
+    private final long queueTimeout;
+    private final LongAdder rejected = new LongAdder();
+
+    private volatile int limit;
+    private int inflight;
+    private long minLatency = Long.MAX_VALUE;
+    private long windowMinLatency = Long.MAX_VALUE;
+    private long windowStart = System.nanoTime();
+    private long lastDecrease = windowStart;
+
+    public SpringBootPlatformHttpConcurrencyLimiter(int maxInflight, boolean adaptive, double latencyTolerance,
+                                                    int maxQueueSize, long queueTimeout) {
+        this.maxLimit = maxInflight > 0 ? maxInflight : DEFAULT_ADAPTIVE_MAX_LIMIT;
+        this.adaptive = adaptive;
+        this.latencyTolerance = Math.max(1.0, latencyTolerance);
+        this.maxQueueSize = Math.max(0, maxQueueSize);
+        this.queueTimeout = Math.max(0, queueTimeout);
+        this.limit = maxLimit;
+    }
+
+    /**
+     * Creates the limiter of the consumer of the given route, or returns <tt>null</tt> if the configuration has no
+     * limit
+     *
+     * @param configuration the platform-http settings
+     * @param routeId       the id of the route, to apply the limit configured for the route if any
+     */
+    public static SpringBootPlatformHttpConcurrencyLimiter create(
+            SpringBootPlatformHttpConfiguration configuration, String routeId) {
+        SpringBootPlatformHttpConfiguration.RouteLimit route
+                = routeId != null ? configuration.getRoutes().get(routeId) : null;
+        if (route == null) {
+            route = new SpringBootPlatformHttpConfiguration.RouteLimit();
+        }
+        int maxInflight = route.getMaxInflight() != null ? route.getMaxInflight() : configuration.getMaxInflight();
+        boolean adaptive = route.getAdaptiveLimit() != null ? route.getAdaptiveLimit() : configuration.isAdaptiveLimit();
+        if (maxInflight <= 0 && !adaptive) {
+            return null;
+        }
+        return new SpringBootPlatformHttpConcurrencyLimiter(
+                maxInflight, adaptive,
+                route.getLatencyTolerance() != null ? route.getLatencyTolerance() : configuration.getLatencyTolerance(),
+                route.getMaxQueueSize() != null ? route.getMaxQueueSize() : configuration.getMaxQueueSize(),
+                route.getQueueTimeout() != null ? route.getQueueTimeout() : configuration.getQueueTimeout());
+    }
+
+    /**
+     * Acquires a permit, waiting in the queue if the limit is reached.
+     *
+     * @return <tt>true</tt> if the request is admitted, <tt>false</tt> if it must be rejected
+     */
+    public boolean tryAcquire() throws InterruptedException {
+        CompletableFuture<Boolean> permit = acquire();
+        try {
+            return permit.get();
+        } catch (InterruptedException e) {
+            if (!permit.cancel(false) && permit.getNow(false)) {
+                // the permit was granted in the meantime
+                cancel();
+            }
+            throw e;
+        } catch (ExecutionException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Acquires a permit without blocking. The returned future is completed right away if the request is admitted or
+     * rejected, otherwise it is completed when a permit is released to the request, or with <tt>false</tt> when the
+     * queue timeout elapses.
+     * <p/>
+     * Queued requests are admitted by the thread releasing a permit, and rejected by the default async executor of
+     * {@link CompletableFuture}, so dependent actions doing more than a little work should run on another executor.
+     * Cancelling the returned future before it is completed gives up the place in the queue.
+     */
+    public CompletableFuture<Boolean> acquire() {
+        CompletableFuture<Boolean> waiter;
+        lock.lock();
+        try {
+            if (inflight < limit && waiters.isEmpty()) {
+                inflight++;
+                return CompletableFuture.completedFuture(true);
+            }
+            if (waiters.size() >= maxQueueSize || queueTimeout == 0) {
+                rejected.increment();
+                return CompletableFuture.completedFuture(false);
+            }
+            waiter = new CompletableFuture<>();
+            waiters.add(waiter);
+        } finally {
+            lock.unlock();
+        }
+        CompletableFuture.delayedExecutor(queueTimeout, TimeUnit.MILLISECONDS).execute(() -> {
+            if (dequeue(waiter)) {
+                rejected.increment();
+                waiter.complete(false);
+            }
+        });
+        waiter.whenComplete((admitted, e) -> {
+            if (waiter.isCancelled()) {
+                dequeue(waiter);
+            }
+        });
+        return waiter;
+    }
+
+    /**
+     * Removes the waiter from the queue, or returns <tt>false</tt> if it has already been granted a permit.
+     */
+    private boolean dequeue(CompletableFuture<Boolean> waiter) {
+        lock.lock();
+        try {
+            return waiters.remove(waiter);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Releases a permit acquired by {@link #tryAcquire()}.
+     *
+     * @param latency    the time in nanos the request has been processed
+     * @param overloaded whether the request failed because the route is overloaded, such as a timeout
+     */
+    public void release(long latency, boolean overloaded) {
+        release(latency, overloaded, System.nanoTime());
+    }
+
+    void release(long latency, boolean overloaded, long now) {
+        List<CompletableFuture<Boolean>> admitted;
+        lock.lock();
+        try {
+            if (adaptive) {
+                adjustLimit(latency, overloaded, now);
+            }
+            inflight--;
+            admitted = admitWaiters();
+        } finally {
+            lock.unlock();
+        }
+        admit(admitted);
+    }
+
+    /**
+     * Releases a permit acquired by {@link #tryAcquire()} for a request that has not been processed, without
+     * adjusting the limit.
+     */
+    public void cancel() {
+        List<CompletableFuture<Boolean>> admitted;
+        lock.lock();
+        try {
+            inflight--;
+            admitted = admitWaiters();
+        } finally {
+            lock.unlock();
+        }
+        admit(admitted);
+    }
+
+    private void admit(List<CompletableFuture<Boolean>> admitted) {
+        for (CompletableFuture<Boolean> waiter : admitted) {
+            if (!waiter.complete(true)) {
+                // the waiter was cancelled after it was granted the permit
+                cancel();
+            }
+        }
+    }
+
+    /**
+     * Takes the permits for the waiters which can be admitted, which must be completed outside the lock.
+     */
+    private List<CompletableFuture<Boolean>> admitWaiters() {
+        List<CompletableFuture<Boolean>> answer = null;
+        while (inflight < limit && !waiters.isEmpty()) {
+            inflight++;
+            if (answer == null) {
+                answer = new ArrayList<>(1);
+            }
+            answer.add(waiters.poll());
+        }
+        return answer != null ? answer : List.of();
+    }
+
+    private void adjustLimit(long latency, boolean overloaded, long now) {
+        if (now - windowStart >= MIN_LATENCY_WINDOW) {
+            minLatency = windowMinLatency;
+            windowMinLatency = Long.MAX_VALUE;
+            windowStart = now;
+        }
+        windowMinLatency = Math.min(windowMinLatency, latency);
+        long lowest = Math.min(minLatency, windowMinLatency);
+
+        int current = limit;
+        if (overloaded || latency > lowest * latencyTolerance) {
+            // only decrease the limit once for the requests inflight when it was decreased
+            if (now - latency > lastDecrease) {
+                limit = Math.max(MIN_LIMIT, (int) (current * BACKOFF_RATIO));
+                lastDecrease = now;
+            }
+        } else if (inflight * 2 >= current) {
+            // only grow the limit when it is actually in use
+            limit = Math.min(maxLimit, current + 1);
+        }
+    }
+
+    /**
+     * The current limit of concurrent requests
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * The number of requests being processed
+     */
+    public int getInflight() {
+        lock.lock();
+        try {
+            return inflight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The number of requests waiting for a permit
+     */
+    public int getQueued() {
+        lock.lock();
+        try {
+            return waiters.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The number of requests rejected since the limiter was created
+     */
+    public long getRejected() {
+        return rejected.sum();
+    }
+}
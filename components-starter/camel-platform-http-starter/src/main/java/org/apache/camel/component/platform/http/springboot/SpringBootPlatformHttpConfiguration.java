@@ -0,0 +1,262 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.platform.http.springboot;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for the Spring Boot platform-http engine
+ */
+@ConfigurationProperties(prefix = "camel.platform-http")
+public class SpringBootPlatformHttpConfiguration {
+
+    /**
+     * Whether to process requests asynchronously. When enabled the exchange is routed with the Camel async routing
+     * engine and a DeferredResult is returned to Spring MVC, which releases the servlet container thread until the
+     * exchange completes. The timeout of the async request is controlled by spring.mvc.async.request-timeout. When the
+     * request times out then no response is written by the exchange when it completes.
+     */
+    private boolean async;
+
+    /**
+     * Whether to stream request and response bodies without buffering them in memory. When enabled the servlet input
+     * stream is used as the message body as-is (stream caching is disabled for the exchange, so the body can only be
+     * read once), and InputStream, ReadableByteChannel, StreamCache and File response bodies are copied directly to
+     * the servlet output stream. File bodies are served with sendfile when supported by the servlet container. With
+     * Spring WebFlux the request body is the Flux of DataBuffers of the request.
+     */
+    private boolean streaming;
+
+    /**
+     * Whether to compress the responses, negotiating the gzip or deflate content encoding from the Accept-Encoding
+     * header of the request, with the mime types, minimum response size and excluded user agents of the
+     * server.compression settings. Stream and file bodies are compressed while they are written. This is ignored when
+     * server.compression.enabled is set, as the servlet container then compresses the responses.
+     */
+    private boolean compression;
+
+    /**
+     * The maximum number of requests each platform-http consumer processes concurrently. Requests over the limit wait
+     * in the queue (see max-queue-size) or are rejected before an exchange is created. When the adaptive limit is
+     * enabled this is the upper bound of the limit (1000 if not set). Zero or negative means no limit.
+     */
+    private int maxInflight;
+
+    /**
+     * Whether to adjust the concurrency limit of each consumer from the observed latency of the route. The limit is
+     * increased by one while the latency is within the latency tolerance, and decreased by 10% when the latency
+     * exceeds it or the request failed due to overload (a timeout, a rejected task, or a 429, 503 or 504 response).
+     * The limit is decreased at most once for the requests inflight at the time.
+     */
+    private boolean adaptiveLimit;
+
+    /**
+     * The ratio to the lowest observed latency of the route above which the adaptive limit is decreased.
+     */
+    private double latencyTolerance = 2.0;
+
+    /**
+     * The maximum number of requests waiting for a permit when the concurrency limit is reached. Requests are rejected
+     * right away when the queue is full.
+     */
+    private int maxQueueSize;
+
+    /**
+     * The time in millis a queued request waits for a permit before it is rejected.
+     */
+    private long queueTimeout = 1000;
+
+    /**
+     * The HTTP status code of the response to rejected requests, such as 503 (Service Unavailable) or 429 (Too Many
+     * Requests).
+     */
+    private int rejectStatusCode = 503;
+
+    /**
+     * The value in seconds of the Retry-After header of the response to rejected requests. Zero or negative to not
+     * set the header.
+     */
+    private int retryAfter = 1;
+
+    /**
+     * The concurrency limits of the consumers of individual routes, by route id, which override the max-inflight,
+     * adaptive-limit, latency-tolerance, max-queue-size and queue-timeout settings for that route.
+     */
+    private Map<String, RouteLimit> routes = new HashMap<>();
+
+    public boolean isAsync() {
+        return async;
+    }
+
+    public void setAsync(boolean async) {
+        this.async = async;
+    }
+
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
+
+    public boolean isCompression() {
+        return compression;
+    }
+
+    public void setCompression(boolean compression) {
+        this.compression = compression;
+    }
+
+    public int getMaxInflight() {
+        return maxInflight;
+    }
+
+    public void setMaxInflight(int maxInflight) {
+        this.maxInflight = maxInflight;
+    }
+
+    public boolean isAdaptiveLimit() {
+        return adaptiveLimit;
+    }
+
+    public void setAdaptiveLimit(boolean adaptiveLimit) {
+        this.adaptiveLimit = adaptiveLimit;
+    }
+
+    public double getLatencyTolerance() {
+        return latencyTolerance;
+    }
+
+    public void setLatencyTolerance(double latencyTolerance) {
+        this.latencyTolerance = latencyTolerance;
+    }
+
+    public int getMaxQueueSize() {
+        return maxQueueSize;
+    }
+
+    public void setMaxQueueSize(int maxQueueSize) {
+        this.maxQueueSize = maxQueueSize;
+    }
+
+    public long getQueueTimeout() {
+        return queueTimeout;
+    }
+
+    public void setQueueTimeout(long queueTimeout) {
+        this.queueTimeout = queueTimeout;
+    }
+
+    public int getRejectStatusCode() {
+        return rejectStatusCode;
+    }
+
+    public void setRejectStatusCode(int rejectStatusCode) {
+        this.rejectStatusCode = rejectStatusCode;
+    }
+
+    public int getRetryAfter() {
+        return retryAfter;
+    }
+
+    public void setRetryAfter(int retryAfter) {
+        this.retryAfter = retryAfter;
+    }
+
+    public Map<String, RouteLimit> getRoutes() {
+        return routes;
+    }
+
+    public void setRoutes(Map<String, RouteLimit> routes) {
+        this.routes = routes;
+    }
+
+    /**
+     * The concurrency limit of the consumer of a route, the settings which are not set default to the global ones.
+     */
+    public static class RouteLimit {
+
+        /**
+         * The maximum number of requests the consumer of the route processes concurrently.
+         */
+        private Integer maxInflight;
+
+        /**
+         * Whether to adjust the concurrency limit of the consumer of the route from its observed latency.
+         */
+        private Boolean adaptiveLimit;
+
+        /**
+         * The ratio to the lowest observed latency of the route above which the adaptive limit is decreased.
+         */
+        private Double latencyTolerance;
+
+        /**
+         * The maximum number of requests waiting for a permit when the concurrency limit of the route is reached.
+         */
+        private Integer maxQueueSize;
+
+        /**
+         * The time in millis a queued request waits for a permit before it is rejected.
+         */
+        private Long queueTimeout;
+
+        public Integer getMaxInflight() {
+            return maxInflight;
+        }
+
+        public void setMaxInflight(Integer maxInflight) {
+            this.maxInflight = maxInflight;
+        }
+
+        public Boolean getAdaptiveLimit() {
+            return adaptiveLimit;
+        }
+
+        public void setAdaptiveLimit(Boolean adaptiveLimit) {
+            this.adaptiveLimit = adaptiveLimit;
+        }
+
+        public Double getLatencyTolerance() {
+            return latencyTolerance;
+        }
+
+        public void setLatencyTolerance(Double latencyTolerance) {
+            this.latencyTolerance = latencyTolerance;
+        }
+
+        public Integer getMaxQueueSize() {
+            return maxQueueSize;
+        }
+
+        public void setMaxQueueSize(Integer maxQueueSize) {
+            this.maxQueueSize = maxQueueSize;
+        }
+
+        public Long getQueueTimeout() {
+            return queueTimeout;
+        }
+
+        public void setQueueTimeout(Long queueTimeout) {
+            this.queueTimeout = queueTimeout;
+        }
+    }
+}
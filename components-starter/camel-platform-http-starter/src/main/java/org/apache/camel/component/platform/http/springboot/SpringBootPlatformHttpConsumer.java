@@ -21,27 +21,54 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExchangePattern;
+import org.apache.camel.ExchangeTimedOutException;
+import org.apache.camel.PooledExchange;
 import org.apache.camel.Processor;
+import org.apache.camel.Route;
 import org.apache.camel.Suspendable;
 import org.apache.camel.SuspendableService;
 import org.apache.camel.component.platform.http.PlatformHttpEndpoint;
-import org.apache.camel.http.common.DefaultHttpBinding;
 import org.apache.camel.http.common.HttpHelper;
 import org.apache.camel.support.DefaultConsumer;
+import org.apache.camel.util.ObjectHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.context.request.async.DeferredResult;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 public class SpringBootPlatformHttpConsumer extends DefaultConsumer implements Suspendable, SuspendableService {
 
     private static final Logger LOG = LoggerFactory.getLogger(SpringBootPlatformHttpConsumer.class);
 
-    private final DefaultHttpBinding binding;
+    private final SpringBootPlatformHttpBinding binding;
+    private final SpringBootPlatformHttpConfiguration configuration;
+    private SpringBootPlatformHttpConcurrencyLimiter limiter;
+    private ExecutorService admissionExecutor;
 
     public SpringBootPlatformHttpConsumer(PlatformHttpEndpoint endpoint, Processor processor) {
+        this(endpoint, processor, new SpringBootPlatformHttpConfiguration());
+    }
+
+    public SpringBootPlatformHttpConsumer(PlatformHttpEndpoint endpoint, Processor processor,
+                                          SpringBootPlatformHttpConfiguration configuration) {
+        this(endpoint, processor, configuration, null);
+    }
+
+    public SpringBootPlatformHttpConsumer(PlatformHttpEndpoint endpoint, Processor processor,
+                                          SpringBootPlatformHttpConfiguration configuration,
+                                          SpringBootPlatformHttpCompression compression) {
         super(endpoint, processor);
+        this.configuration = configuration;
         this.binding = new SpringBootPlatformHttpBinding();
+        this.binding.setStreaming(configuration.isStreaming());
+        this.binding.setCompression(compression);
         this.binding.setHeaderFilterStrategy(endpoint.getHeaderFilterStrategy());
         this.binding.setMuteException(endpoint.isMuteException());
         this.binding.setFileNameExtWhitelist(endpoint.getFileNameExtWhitelist());
@@ -52,6 +79,50 @@ public class SpringBootPlatformHttpConsumer extends DefaultConsumer implements S
         return (PlatformHttpEndpoint) super.getEndpoint();
     }
 
+    public SpringBootPlatformHttpConfiguration getConfiguration() {
+        return configuration;
+    }
+
+    /**
+     * The concurrency limiter of this consumer, or <tt>null</tt> if the number of concurrent requests is not limited
+     */
+    public SpringBootPlatformHttpConcurrencyLimiter getLimiter() {
+        return limiter;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+        limiter = SpringBootPlatformHttpConcurrencyLimiter.create(configuration, resolveRouteId());
+        if (limiter != null && configuration.isAsync()) {
+            // queued async requests are processed by this pool once admitted, as no servlet thread waits for them
+            admissionExecutor = getEndpoint().getCamelContext().getExecutorServiceManager()
+                    .newDefaultThreadPool(this, "PlatformHttpAdmission");
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+        if (admissionExecutor != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdown(admissionExecutor);
+            admissionExecutor = null;
+        }
+    }
+
+    /**
+     * The id of the route of this consumer, which is not set on the consumer as it is created by the consumer of the
+     * platform-http endpoint.
+     */
+    private String resolveRouteId() {
+        if (getRouteId() != null) {
+            return getRouteId();
+        }
+        return getEndpoint().getCamelContext().getRoutes().stream()
+                .filter(route -> route.getEndpoint() == getEndpoint())
+                .map(Route::getRouteId)
+                .findFirst().orElse(null);
+    }
 
     /**
      * This method is invoked by Spring Boot when invoking Camel via platform-http
@@ -61,58 +132,260 @@ public class SpringBootPlatformHttpConsumer extends DefaultConsumer implements S
         try {
             handleService(request, response);
         } catch (Exception e) {
-            // do not leak exception back to caller
-            LOG.warn("Error handling request due to: {}", e.getMessage(), e);
+            handleServiceError(response, e);
+        }
+    }
+
+    /**
+     * This method is invoked by Spring Boot when invoking Camel via platform-http in async mode.
+     * <p/>
+     * The returned result is set when the exchange is done and the response has been written, which allows Spring MVC
+     * to release the servlet container thread while the exchange is being routed. The method is annotated with
+     * {@link ResponseBody} so Spring MVC does not resolve a view when the async request is dispatched again with the
+     * (empty) result.
+     */
+    @ResponseBody
+    public DeferredResult<Void> serviceAsync(HttpServletRequest request, HttpServletResponse response) {
+        LOG.trace("Service async: {}", request);
+        DeferredResult<Void> result = new DeferredResult<>();
+        try {
+            handleServiceAsync(request, response, result);
+        } catch (Exception e) {
+            handleServiceError(response, e);
+            result.setResult(null);
+        }
+        return result;
+    }
+
+    protected void handleServiceError(HttpServletResponse response, Exception e) {
+        // do not leak exception back to caller
+        LOG.warn("Error handling request due to: {}", e.getMessage(), e);
+        try {
+            if (!response.isCommitted()) {
+                response.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+            }
+        } catch (Exception e1) {
+            // ignore
+        }
+    }
+
+    protected void handleService(HttpServletRequest request, HttpServletResponse response) throws Exception {
+        if (!acquirePermit(request, response)) {
+            return;
+        }
+        long start = System.nanoTime();
+        Exchange exchange;
+        try {
+            exchange = prepareExchange(request, response);
+        } catch (Exception e) {
+            releasePermit(start, null);
+            throw e;
+        }
+        if (exchange == null) {
+            releasePermit(start, null);
+            return;
+        }
+        try {
+            getProcessor().process(exchange);
+        } catch (Exception e) {
+            exchange.setException(e);
+        } finally {
+            boolean overloaded = isOverloaded(exchange);
+            try {
+                afterProcess(response, exchange, true);
+            } finally {
+                releasePermit(start, overloaded);
+            }
+        }
+    }
+
+    protected void handleServiceAsync(HttpServletRequest request, HttpServletResponse response, DeferredResult<Void> result)
+            throws Exception {
+        // either the exchange writes the response, or the async request times out (or fails) first and the container
+        // completes the request, after which the request and response must no longer be used as they may be recycled
+        AsyncRequest async = new AsyncRequest();
+        result.onTimeout(async::onContainerCompletion);
+        result.onError(e -> async.onContainerCompletion());
+
+        CompletableFuture<Boolean> permit = limiter != null ? limiter.acquire() : CompletableFuture.completedFuture(true);
+        if (permit.isDone()) {
+            admitAsync(request, response, result, async, permit.join());
+        } else {
+            // do not hold the servlet thread while the request is queued
+            result.onCompletion(() -> permit.cancel(false));
+            permit.thenAcceptAsync(admitted -> {
+                try {
+                    admitAsync(request, response, result, async, admitted);
+                } catch (Exception e) {
+                    if (async.claim()) {
+                        handleServiceError(response, e);
+                    }
+                    async.done();
+                    result.setResult(null);
+                }
+            }, admissionExecutor);
+        }
+    }
+
+    private void admitAsync(
+            HttpServletRequest request, HttpServletResponse response, DeferredResult<Void> result, AsyncRequest async,
+            boolean admitted)
+            throws Exception {
+        if (!admitted) {
+            if (async.claim()) {
+                reject(request, response);
+            }
+            async.done();
+            result.setResult(null);
+            return;
+        }
+        long start = System.nanoTime();
+        Exchange exchange;
+        synchronized (async) {
+            if (async.isCompleted()) {
+                LOG.debug("Async request completed by the container before it was admitted: {}", request);
+                releasePermit(start, null);
+                return;
+            }
             try {
-                if (!response.isCommitted()) {
-                    response.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+                exchange = prepareExchange(request, response);
+            } catch (Exception e) {
+                releasePermit(start, null);
+                throw e;
+            }
+            if (exchange == null) {
+                releasePermit(start, null);
+                result.setResult(null);
+                return;
+            }
+            if (exchange.getIn() instanceof PlatformHttpMessage message) {
+                // the request is recycled if the async request times out while the exchange is routed
+                message.readRequest();
+            }
+        }
+
+        getAsyncProcessor().process(exchange, doneSync -> {
+            boolean overloaded = isOverloaded(exchange);
+            try {
+                if (async.claim()) {
+                    afterProcess(response, exchange, false);
+                } else {
+                    LOG.debug("Async request already completed, not writing response for exchangeId: {}", exchange.getExchangeId());
+                    doneUoW(exchange);
+                    releaseExchange(exchange, false);
                 }
-            } catch (Exception e1) {
-                // ignore
+            } catch (Exception e) {
+                LOG.warn("Error writing response for exchangeId: {} due to: {}", exchange.getExchangeId(), e.getMessage(), e);
+            } finally {
+                releasePermit(start, overloaded);
+                async.done();
+                result.setResult(null);
             }
+        });
+    }
+
+    /**
+     * Acquires a permit from the concurrency limiter, or rejects the request if the limit is reached and the request
+     * could not be queued.
+     *
+     * @return <tt>true</tt> if the request can be serviced, <tt>false</tt> if a response has already been sent
+     */
+    protected boolean acquirePermit(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (limiter == null) {
+            return true;
         }
+        boolean admitted;
+        try {
+            admitted = limiter.tryAcquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            admitted = false;
+        }
+        if (!admitted) {
+            reject(request, response);
+        }
+        return admitted;
     }
 
-    protected void handleService(HttpServletRequest request, HttpServletResponse response) throws Exception {
+    private void reject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        LOG.debug("Concurrency limit of {} requests reached, cannot service request: {}", limiter.getLimit(), request);
+        if (configuration.getRetryAfter() > 0) {
+            response.setHeader("Retry-After", Integer.toString(configuration.getRetryAfter()));
+        }
+        response.sendError(configuration.getRejectStatusCode());
+    }
+
+    /**
+     * Whether the exchange failed because the route is overloaded, which decreases the adaptive concurrency limit,
+     * unlike other failures such as invalid requests.
+     */
+    protected boolean isOverloaded(Exchange exchange) {
+        Exception cause = exchange.getException();
+        if (cause != null) {
+            return ObjectHelper.getException(ExchangeTimedOutException.class, cause) != null
+                    || ObjectHelper.getException(TimeoutException.class, cause) != null
+                    || ObjectHelper.getException(RejectedExecutionException.class, cause) != null;
+        }
+        Integer code = exchange.getMessage().getHeader(Exchange.HTTP_RESPONSE_CODE, Integer.class);
+        return code != null && (code == 429 || code == HttpServletResponse.SC_SERVICE_UNAVAILABLE
+                || code == HttpServletResponse.SC_GATEWAY_TIMEOUT);
+    }
+
+    /**
+     * Releases the permit acquired by {@link #acquirePermit(HttpServletRequest, HttpServletResponse)}.
+     *
+     * @param start      the time in nanos the permit was acquired
+     * @param overloaded whether the exchange failed due to overload, or <tt>null</tt> if the request has not been
+     *                   processed
+     */
+    protected void releasePermit(long start, Boolean overloaded) {
+        if (limiter == null) {
+            return;
+        }
+        if (overloaded == null) {
+            limiter.cancel();
+        } else {
+            limiter.release(System.nanoTime() - start, overloaded);
+        }
+    }
+
+    /**
+     * Creates the exchange for the request, or returns <tt>null</tt> if the request cannot be serviced and a response
+     * has already been sent.
+     */
+    protected Exchange prepareExchange(HttpServletRequest request, HttpServletResponse response) throws Exception {
         if (isSuspended()) {
             LOG.debug("Consumer suspended, cannot service request: {}", request);
             response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
-            return;
+            return null;
         }
 
         Exchange exchange = createExchange(true);
         exchange.setPattern(ExchangePattern.InOut);
+        if (configuration.isStreaming()) {
+            // use the servlet input stream as the body without caching it first
+            exchange.setProperty(Exchange.DISABLE_HTTP_STREAM_CACHE, true);
+            exchange.getExchangeExtension().setStreamCacheDisabled(true);
+        }
         HttpHelper.setCharsetFromContentType(request.getContentType(), exchange);
-        exchange.setIn(new PlatformHttpMessage(exchange, binding, request, response));
-        String contextPath = getEndpoint().getPath();
-        exchange.getIn().setHeader(SpringBootPlatformHttpConstants.CONTEXT_PATH, contextPath);
-        // set context path as header
-        String httpPath = (String) exchange.getIn().getHeader(Exchange.HTTP_PATH);
-        // here we just remove the CamelServletContextPath part from the HTTP_PATH
-        if (contextPath != null
-            && httpPath.startsWith(contextPath)) {
-            exchange.getIn().setHeader(Exchange.HTTP_PATH,
-                    httpPath.substring(contextPath.length()));
+        if (exchange instanceof PooledExchange && exchange.getIn() instanceof PlatformHttpMessage message) {
+            // reuse the message of the pooled exchange
+            message.init(exchange, binding, request, response);
+        } else {
+            exchange.setIn(new PlatformHttpMessage(exchange, binding, request, response));
         }
 
-        // TODO: async with CompletionStage returned to spring boot?
-
         // we want to handle the UoW
         try {
             createUoW(exchange);
         } catch (Exception e) {
+            releaseExchange(exchange, false);
             throw new ServletException(e);
         }
         if (LOG.isTraceEnabled()) {
             LOG.trace("Processing request for exchangeId: {}", exchange.getExchangeId());
         }
-        try {
-            getProcessor().process(exchange);
-        } catch (Exception e) {
-            exchange.setException(e);
-        } finally {
-            afterProcess(response, exchange, true);
-        }
+        return exchange;
     }
 
     protected void afterProcess(HttpServletResponse response, Exchange exchange, boolean rethrow) throws IOException, ServletException {
@@ -142,4 +415,40 @@ public class SpringBootPlatformHttpConsumer extends DefaultConsumer implements S
         }
     }
 
+    /**
+     * The state of an async request, which is either completed by the container (when it times out or fails) or
+     * claimed by the consumer to write the response.
+     */
+    private static final class AsyncRequest {
+
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+        private volatile boolean completed;
+
+        /**
+         * Claims the request to write the response, or returns <tt>false</tt> if the container has completed it.
+         */
+        boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
+
+        boolean isCompleted() {
+            return completed;
+        }
+
+        void done() {
+            done.complete(null);
+        }
+
+        void onContainerCompletion() {
+            synchronized (this) {
+                // wait for the request to be read if the exchange is being prepared
+                completed = true;
+            }
+            if (!claim()) {
+                // the response is being written so wait for it before the container completes the request
+                done.join();
+            }
+        }
+    }
 }
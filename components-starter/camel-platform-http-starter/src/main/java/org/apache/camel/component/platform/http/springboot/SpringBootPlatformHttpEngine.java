@@ -20,12 +20,37 @@ import org.apache.camel.Consumer;
 import org.apache.camel.Processor;
 import org.apache.camel.component.platform.http.PlatformHttpEndpoint;
 import org.apache.camel.component.platform.http.spi.PlatformHttpEngine;
+import org.springframework.boot.web.server.Compression;
 
 public class SpringBootPlatformHttpEngine implements PlatformHttpEngine {
 
+    private final SpringBootPlatformHttpConfiguration configuration;
+    private final SpringBootPlatformHttpCompression compression;
+
+    public SpringBootPlatformHttpEngine() {
+        this(new SpringBootPlatformHttpConfiguration());
+    }
+
+    public SpringBootPlatformHttpEngine(SpringBootPlatformHttpConfiguration configuration) {
+        this(configuration, null);
+    }
+
+    /**
+     * @param configuration the platform-http settings
+     * @param compression   the server.compression settings, or <tt>null</tt> to use the default settings
+     */
+    public SpringBootPlatformHttpEngine(SpringBootPlatformHttpConfiguration configuration, Compression compression) {
+        this.configuration = configuration;
+        this.compression = SpringBootPlatformHttpCompression.create(configuration.isCompression(), compression);
+    }
+
+    public SpringBootPlatformHttpConfiguration getConfiguration() {
+        return configuration;
+    }
+
     @Override
     public Consumer createConsumer(PlatformHttpEndpoint endpoint, Processor processor) {
-        return new SpringBootPlatformHttpConsumer(endpoint, processor);
+        return new SpringBootPlatformHttpConsumer(endpoint, processor, configuration, compression);
     }
 
 }
@@ -0,0 +1,313 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.platform.http.springboot;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.ExchangePattern;
+import org.apache.camel.Message;
+import org.apache.camel.Processor;
+import org.apache.camel.Suspendable;
+import org.apache.camel.SuspendableService;
+import org.apache.camel.TypeConverter;
+import org.apache.camel.WrappedFile;
+import org.apache.camel.component.platform.http.PlatformHttpEndpoint;
+import org.apache.camel.spi.HeaderFilterStrategy;
+import org.apache.camel.support.DefaultConsumer;
+import org.apache.camel.support.ObjectHelper;
+import org.apache.camel.support.http.HttpUtil;
+import org.apache.camel.util.IOHelper;
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.File;
+import java.io.InputStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A platform-http consumer for Spring WebFlux, which services the requests without blocking the event loop.
+ * <p/>
+ * The exchange is routed with the Camel async routing engine, and the completion of the exchange is bridged to the
+ * {@link Mono} returned to WebFlux. The response body is written as a stream of {@link DataBuffer}s. In streaming mode
+ * the request body is the {@link Flux} of {@link DataBuffer}s of the request, otherwise the request body is aggregated
+ * into a byte array before the exchange is routed.
+ * <p/>
+ * As the exchange is routed on the event loop thread, routes doing blocking work should hand it off to another thread
+ * pool (for example with <tt>threads()</tt> or a <tt>seda</tt> endpoint).
+ */
+public class SpringBootPlatformHttpReactiveConsumer extends DefaultConsumer implements Suspendable, SuspendableService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SpringBootPlatformHttpReactiveConsumer.class);
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final SpringBootPlatformHttpConfiguration configuration;
+
+    public SpringBootPlatformHttpReactiveConsumer(PlatformHttpEndpoint endpoint, Processor processor,
+                                                  SpringBootPlatformHttpConfiguration configuration) {
+        super(endpoint, processor);
+        this.configuration = configuration;
+    }
+
+    @Override
+    public PlatformHttpEndpoint getEndpoint() {
+        return (PlatformHttpEndpoint) super.getEndpoint();
+    }
+
+    public SpringBootPlatformHttpConfiguration getConfiguration() {
+        return configuration;
+    }
+
+    /**
+     * This method is invoked by Spring WebFlux when invoking Camel via platform-http
+     */
+    public Mono<Void> handle(ServerWebExchange webExchange) {
+        LOG.trace("Service: {}", webExchange.getRequest());
+        if (isSuspended()) {
+            LOG.debug("Consumer suspended, cannot service request: {}", webExchange.getRequest());
+            webExchange.getResponse().setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+            return webExchange.getResponse().setComplete();
+        }
+
+        Mono<Object> body;
+        if (configuration.isStreaming()) {
+            body = Mono.just(webExchange.getRequest().getBody());
+        } else {
+            body = DataBufferUtils.join(webExchange.getRequest().getBody())
+                    .map(SpringBootPlatformHttpReactiveConsumer::toByteArray)
+                    .cast(Object.class)
+                    .defaultIfEmpty(new byte[0]);
+        }
+        return body.flatMap(b -> process(webExchange, b));
+    }
+
+    protected Mono<Void> process(ServerWebExchange webExchange, Object body) {
+        Exchange exchange = createExchange(true);
+        exchange.setPattern(ExchangePattern.InOut);
+        try {
+            populateRequest(webExchange, exchange, body);
+            createUoW(exchange);
+        } catch (Exception e) {
+            releaseExchange(exchange, false);
+            return Mono.error(e);
+        }
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("Processing request for exchangeId: {}", exchange.getExchangeId());
+        }
+
+        // the exchange is released when both the routing and the response are done, as when the request is
+        // cancelled (such as the client disconnecting) the exchange may still be routed
+        AtomicInteger pending = new AtomicInteger(2);
+        return Mono.<Void> create(sink -> getAsyncProcessor().process(exchange, doneSync -> {
+            sink.success();
+            done(exchange, pending);
+        }))
+                .then(Mono.defer(() -> writeResponse(webExchange, exchange)))
+                .onErrorResume(e -> {
+                    LOG.warn("Error writing response for exchangeId: {} due to: {}", exchange.getExchangeId(), e.getMessage(), e);
+                    return webExchange.getResponse().setComplete();
+                })
+                .doFinally(signal -> {
+                    if (signal == SignalType.CANCEL) {
+                        LOG.debug("Request cancelled for exchangeId: {}", exchange.getExchangeId());
+                    }
+                    done(exchange, pending);
+                });
+    }
+
+    private void done(Exchange exchange, AtomicInteger pending) {
+        if (pending.decrementAndGet() == 0) {
+            doneUoW(exchange);
+            releaseExchange(exchange, false);
+        }
+    }
+
+    protected void populateRequest(ServerWebExchange webExchange, Exchange exchange, Object body) {
+        ServerHttpRequest request = webExchange.getRequest();
+        Message message = exchange.getIn();
+        HeaderFilterStrategy headerFilterStrategy = getEndpoint().getHeaderFilterStrategy();
+
+        request.getHeaders().forEach((name, values) -> {
+            for (String value : values) {
+                if (headerFilterStrategy == null
+                        || !headerFilterStrategy.applyFilterToExternalHeaders(name, value, exchange)) {
+                    appendHeader(message, name, value);
+                }
+            }
+        });
+        request.getQueryParams().forEach((name, values) -> {
+            if (!message.getHeaders().containsKey(name)) {
+                for (String value : values) {
+                    if (headerFilterStrategy == null
+                            || !headerFilterStrategy.applyFilterToExternalHeaders(name, value, exchange)) {
+                        appendHeader(message, name, value);
+                    }
+                }
+            }
+        });
+        Map<String, String> variables = webExchange.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (variables != null) {
+            variables.forEach(message::setHeader);
+        }
+
+        String path = request.getPath().pathWithinApplication().value();
+        String contextPath = getEndpoint().getPath();
+        message.setHeader(SpringBootPlatformHttpConstants.CONTEXT_PATH, contextPath);
+        // here we just remove the CamelServletContextPath part from the HTTP_PATH
+        if (contextPath != null && path.startsWith(contextPath)) {
+            path = path.substring(contextPath.length());
+        }
+        message.setHeader(Exchange.HTTP_METHOD, request.getMethod().name());
+        message.setHeader(Exchange.HTTP_URI, request.getURI().getRawPath());
+        message.setHeader(Exchange.HTTP_PATH, path);
+        message.setHeader(Exchange.HTTP_QUERY, request.getURI().getQuery());
+        message.setHeader(Exchange.HTTP_RAW_QUERY, request.getURI().getRawQuery());
+        if (request.getHeaders().getContentType() != null) {
+            message.setHeader(Exchange.CONTENT_TYPE, request.getHeaders().getContentType().toString());
+            Charset charset = request.getHeaders().getContentType().getCharset();
+            if (charset != null) {
+                exchange.setProperty(Exchange.CHARSET_NAME, charset.name());
+            }
+        }
+        message.setBody(body);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void appendHeader(Message message, String name, Object value) {
+        Object existing = message.getHeader(name);
+        if (existing == null) {
+            message.setHeader(name, value);
+        } else if (existing instanceof List<?> list) {
+            ((List<Object>) list).add(value);
+        } else {
+            message.setHeader(name, new ArrayList<>(List.of(existing, value)));
+        }
+    }
+
+    protected Mono<Void> writeResponse(ServerWebExchange webExchange, Exchange exchange) {
+        ServerHttpResponse response = webExchange.getResponse();
+        Message message = exchange.getMessage();
+        Object body = message.getBody();
+
+        Exception exception = exchange.getException();
+        if (exception != null) {
+            response.setStatusCode(HttpStatus.INTERNAL_SERVER_ERROR);
+            if (getEndpoint().isMuteException()) {
+                return response.setComplete();
+            }
+            StringWriter sw = new StringWriter();
+            exception.printStackTrace(new PrintWriter(sw));
+            response.getHeaders().setContentType(MediaType.TEXT_PLAIN);
+            return response.writeWith(Mono.just(response.bufferFactory().wrap(sw.toString().getBytes(StandardCharsets.UTF_8))));
+        }
+
+        response.setStatusCode(HttpStatusCode.valueOf(HttpUtil.determineResponseCode(exchange, body)));
+        HeaderFilterStrategy headerFilterStrategy = getEndpoint().getHeaderFilterStrategy();
+        TypeConverter tc = exchange.getContext().getTypeConverter();
+        HttpHeaders headers = response.getHeaders();
+        for (Map.Entry<String, Object> entry : message.getHeaders().entrySet()) {
+            String key = entry.getKey();
+            Iterator<?> it = ObjectHelper.createIterator(entry.getValue(), null, true);
+            while (it.hasNext()) {
+                String value = tc.tryConvertTo(String.class, exchange, it.next());
+                if (value != null && (headerFilterStrategy == null
+                        || !headerFilterStrategy.applyFilterToCamelHeaders(key, value, exchange))) {
+                    headers.add(key, value);
+                }
+            }
+        }
+        String contentType = message.getHeader(Exchange.CONTENT_TYPE, String.class);
+        if (contentType != null) {
+            headers.set(HttpHeaders.CONTENT_TYPE, contentType);
+        }
+
+        if (body == null) {
+            return response.setComplete();
+        }
+        return response.writeWith(toDataBuffers(body, exchange, response.bufferFactory()));
+    }
+
+    @SuppressWarnings("unchecked")
+    protected Publisher<DataBuffer> toDataBuffers(Object body, Exchange exchange, DataBufferFactory factory) {
+        if (body instanceof WrappedFile<?> wf) {
+            body = wf.getFile();
+        }
+        if (body instanceof File file) {
+            body = file.toPath();
+        }
+
+        if (body instanceof Publisher<?> publisher) {
+            // assume the publisher emits data buffers, such as the request body in streaming mode
+            return (Publisher<DataBuffer>) publisher;
+        } else if (body instanceof Path path) {
+            return DataBufferUtils.read(path, factory, BUFFER_SIZE);
+        } else if (body instanceof byte[] bytes) {
+            return Mono.just(factory.wrap(bytes));
+        } else if (body instanceof ByteBuffer buffer) {
+            return Mono.just(factory.wrap(buffer));
+        } else if (body instanceof String str) {
+            return Mono.just(factory.wrap(str.getBytes(charset(exchange))));
+        } else if (body instanceof InputStream is) {
+            // reading the stream may block so do not read it on the event loop
+            return DataBufferUtils.readInputStream(() -> is, factory, BUFFER_SIZE)
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .doFinally(signal -> IOHelper.close(is));
+        }
+        byte[] bytes = exchange.getContext().getTypeConverter().tryConvertTo(byte[].class, exchange, body);
+        return bytes != null ? Mono.just(factory.wrap(bytes)) : Mono.empty();
+    }
+
+    private static Charset charset(Exchange exchange) {
+        String name = exchange.getProperty(Exchange.CHARSET_NAME, String.class);
+        return name != null ? Charset.forName(name) : StandardCharsets.UTF_8;
+    }
+
+    private static byte[] toByteArray(DataBuffer buffer) {
+        try {
+            byte[] bytes = new byte[buffer.readableByteCount()];
+            buffer.read(bytes);
+            return bytes;
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.platform.http.springboot;
+
+import org.apache.camel.Consumer;
+import org.apache.camel.Processor;
+import org.apache.camel.component.platform.http.PlatformHttpEndpoint;
+import org.apache.camel.component.platform.http.spi.PlatformHttpEngine;
+
+/**
+ * A platform-http engine for Spring WebFlux applications
+ */
+public class SpringBootPlatformHttpReactiveEngine implements PlatformHttpEngine {
+
+    private final SpringBootPlatformHttpConfiguration configuration;
+
+    public SpringBootPlatformHttpReactiveEngine() {
+        this(new SpringBootPlatformHttpConfiguration());
+    }
+
+    public SpringBootPlatformHttpReactiveEngine(SpringBootPlatformHttpConfiguration configuration) {
+        this.configuration = configuration;
+    }
+
+    public SpringBootPlatformHttpConfiguration getConfiguration() {
+        return configuration;
+    }
+
+    @Override
+    public Consumer createConsumer(PlatformHttpEndpoint endpoint, Processor processor) {
+        return new SpringBootPlatformHttpReactiveConsumer(endpoint, processor, configuration);
+    }
+
+}
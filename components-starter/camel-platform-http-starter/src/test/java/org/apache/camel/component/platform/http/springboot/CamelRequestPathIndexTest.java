@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.platform.http.springboot;
+
+import org.junit.jupiter.api.Test;
+
+import org.assertj.core.api.Assertions;
+import org.springframework.web.method.HandlerMethod;
+
+import java.util.Map;
+
+public class CamelRequestPathIndexTest {
+
+	private final CamelRequestPathIndex index = new CamelRequestPathIndex();
+
+	@Test
+	public void testIsSupported() {
+		Assertions.assertThat(CamelRequestPathIndex.isSupported("/users")).isTrue();
+		Assertions.assertThat(CamelRequestPathIndex.isSupported("/users/{id}/orders/{orderId}")).isTrue();
+		Assertions.assertThat(CamelRequestPathIndex.isSupported("/")).isTrue();
+		Assertions.assertThat(CamelRequestPathIndex.isSupported("/files/**")).isFalse();
+		Assertions.assertThat(CamelRequestPathIndex.isSupported("/users/{id:[0-9]+}")).isFalse();
+		Assertions.assertThat(CamelRequestPathIndex.isSupported("/users/prefix{id}")).isFalse();
+		Assertions.assertThat(CamelRequestPathIndex.isSupported("users")).isFalse();
+	}
+
+	@Test
+	public void testMatch() throws Exception {
+		HandlerMethod users = handler("users");
+		HandlerMethod user = handler("user");
+		HandlerMethod me = handler("me");
+		HandlerMethod orders = handler("orders");
+		index.add("/users", "GET,POST", users);
+		index.add("/users/{id}", null, user);
+		index.add("/users/me", "GET", me);
+		index.add("/users/{id}/orders/{orderId}", "GET", orders);
+
+		Assertions.assertThat(index.match("/users", "GET").getHandlerMethod()).isSameAs(users);
+		Assertions.assertThat(index.match("/users", "POST").getHandlerMethod()).isSameAs(users);
+		Assertions.assertThat(index.match("/users", "DELETE")).isNull();
+
+		CamelRequestPathIndex.Match match = index.match("/users/123", "DELETE");
+		Assertions.assertThat(match.getHandlerMethod()).isSameAs(user);
+		Assertions.assertThat(match.getPath()).isEqualTo("/users/{id}");
+		Assertions.assertThat(match.getVariables()).isEqualTo(Map.of("id", "123"));
+
+		// literal segments take precedence, and fall back to placeholders for other methods
+		Assertions.assertThat(index.match("/users/me", "GET").getHandlerMethod()).isSameAs(me);
+		Assertions.assertThat(index.match("/users/me", "GET").getVariables()).isEmpty();
+		Assertions.assertThat(index.match("/users/me", "PUT").getHandlerMethod()).isSameAs(user);
+
+		match = index.match("/users/123/orders/456", "GET");
+		Assertions.assertThat(match.getHandlerMethod()).isSameAs(orders);
+		Assertions.assertThat(match.getVariables()).isEqualTo(Map.of("id", "123", "orderId", "456"));
+
+		Assertions.assertThat(index.match("/users/", "GET")).isNull();
+		Assertions.assertThat(index.match("/users/123/orders", "GET")).isNull();
+		Assertions.assertThat(index.match("/users/123;jsessionid=1", "GET")).isNull();
+		Assertions.assertThat(index.match("/unknown", "GET")).isNull();
+	}
+
+	@Test
+	public void testRemove() throws Exception {
+		HandlerMethod user = handler("user");
+		index.add("/users/{id}", null, user);
+		Assertions.assertThat(index.match("/users/123", "GET")).isNotNull();
+
+		index.remove(user.getBean());
+		Assertions.assertThat(index.match("/users/123", "GET")).isNull();
+	}
+
+	private static HandlerMethod handler(String bean) throws Exception {
+		return new HandlerMethod(bean, String.class.getMethod("toString"));
+	}
+}
@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.platform.http.springboot;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.platform.http.PlatformHttpComponent;
+import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+@SpringBootApplication
+@DirtiesContext
+@CamelSpringBootTest
+@SpringBootTest(
+		webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+		classes = {
+				CamelAutoConfiguration.class,
+				SpringBootPlatformHttpAsyncLoadSheddingTest.class,
+				SpringBootPlatformHttpAsyncLoadSheddingTest.TestConfiguration.class,
+				PlatformHttpComponentAutoConfiguration.class,
+				SpringBootPlatformHttpAutoConfiguration.class
+		},
+		properties = {
+				"camel.platform-http.async=true",
+				"camel.platform-http.routes.queued.max-inflight=1",
+				"camel.platform-http.routes.queued.max-queue-size=1",
+				"camel.platform-http.routes.queued.queue-timeout=10000",
+				// a single container thread, which must not be held by the queued request
+				"server.tomcat.threads.max=1"
+		}
+)
+public class SpringBootPlatformHttpAsyncLoadSheddingTest {
+
+	private static final CountDownLatch STARTED = new CountDownLatch(1);
+	private static final CountDownLatch RELEASE = new CountDownLatch(1);
+
+	@Autowired
+	private TestRestTemplate restTemplate;
+
+	@Autowired
+	private CamelContext camelContext;
+
+	@Test
+	public void testQueueWithoutBlocking() throws Exception {
+		CompletableFuture<ResponseEntity<String>> first = CompletableFuture.supplyAsync(
+				() -> restTemplate.getForEntity("/myqueuedget", String.class));
+		Assertions.assertThat(STARTED.await(10, TimeUnit.SECONDS)).isTrue();
+
+		CompletableFuture<ResponseEntity<String>> queued = CompletableFuture.supplyAsync(
+				() -> restTemplate.getForEntity("/myqueuedget", String.class));
+		SpringBootPlatformHttpConsumer consumer = consumer("/myqueuedget");
+		while (consumer.getLimiter().getQueued() == 0) {
+			Thread.sleep(10);
+		}
+
+		// the queue is full
+		ResponseEntity<String> rejected = restTemplate.getForEntity("/myqueuedget", String.class);
+		Assertions.assertThat(rejected.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+
+		// the other routes are not limited, and are serviced by the container thread while requests are queued
+		ResponseEntity<String> other = restTemplate.getForEntity("/myunlimitedget", String.class);
+		Assertions.assertThat(other.getStatusCode()).isEqualTo(HttpStatus.OK);
+		Assertions.assertThat(other.getBody()).isEqualTo("unlimited");
+		Assertions.assertThat(consumer("/myunlimitedget").getLimiter()).isNull();
+
+		RELEASE.countDown();
+		Assertions.assertThat(first.get(10, TimeUnit.SECONDS).getBody()).isEqualTo("queued");
+		Assertions.assertThat(queued.get(10, TimeUnit.SECONDS).getBody()).isEqualTo("queued");
+		// the permit is released after the response is written
+		long deadline = System.currentTimeMillis() + 10000;
+		while (consumer.getLimiter().getInflight() > 0 && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+		Assertions.assertThat(consumer.getLimiter().getInflight()).isZero();
+	}
+
+	private SpringBootPlatformHttpConsumer consumer(String path) {
+		return (SpringBootPlatformHttpConsumer) camelContext
+				.getComponent("platform-http", PlatformHttpComponent.class).getHttpEndpoints().stream()
+				.filter(m -> path.equals(m.getUri())).findFirst().orElseThrow().getConsumer();
+	}
+
+	// *************************************
+	// Config
+	// *************************************
+	@Configuration
+	public static class TestConfiguration {
+
+		@Bean
+		public RouteBuilder servletPlatformHttpAsyncLoadSheddingRouteBuilder() {
+			return new RouteBuilder() {
+				@Override
+				public void configure() throws Exception {
+					from("platform-http:/myqueuedget").routeId("queued")
+							.threads(2)
+							.process(e -> {
+								STARTED.countDown();
+								RELEASE.await(10, TimeUnit.SECONDS);
+							})
+							.setBody().constant("queued");
+					from("platform-http:/myunlimitedget").routeId("unlimited")
+							.setBody().constant("unlimited");
+				}
+			};
+		}
+	}
+}
@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.platform.http.springboot;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.annotation.DirtiesContext;
+
+@SpringBootApplication
+@DirtiesContext
+@CamelSpringBootTest
+@SpringBootTest(
+		webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+		classes = {
+				CamelAutoConfiguration.class,
+				SpringBootPlatformHttpAsyncTest.class,
+				SpringBootPlatformHttpAsyncTest.TestConfiguration.class,
+				PlatformHttpComponentAutoConfiguration.class,
+				SpringBootPlatformHttpAutoConfiguration.class
+		},
+		properties = {
+				"camel.platform-http.async=true",
+				"spring.mvc.async.request-timeout=1000" }
+)
+public class SpringBootPlatformHttpAsyncTest {
+
+	private static final CountDownLatch SLOW_LATCH = new CountDownLatch(1);
+
+	@Autowired
+	private TestRestTemplate restTemplate;
+
+	@Autowired
+	private CamelContext camelContext;
+
+	@Test
+	public void testAsyncGet() {
+		Assertions.assertThat(
+						restTemplate.getForEntity("/myasyncget", String.class).getBody())
+				.isEqualTo("get");
+	}
+
+	@Test
+	public void testAsyncPost() {
+		Assertions.assertThat(
+						restTemplate.postForEntity("/myasyncpost", "test", String.class).getBody())
+				.isEqualTo("TEST");
+	}
+
+	@Test
+	public void testAsyncTimeout() throws Exception {
+		MockEndpoint done = camelContext.getEndpoint("mock:asyncslowdone", MockEndpoint.class);
+		done.expectedBodiesReceived("slow");
+
+		// the container completes the request when the async request times out
+		Assertions.assertThat(
+						restTemplate.getForEntity("/myasyncslow", String.class).getStatusCode())
+				.isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+
+		// and the exchange completes later on without writing the response
+		SLOW_LATCH.countDown();
+		done.assertIsSatisfied(5000);
+
+		Assertions.assertThat(
+						restTemplate.getForEntity("/myasyncget", String.class).getBody())
+				.isEqualTo("get");
+	}
+
+	// *************************************
+	// Config
+	// *************************************
+	@Configuration
+	public static class TestConfiguration {
+
+		@Bean
+		public RouteBuilder servletPlatformHttpAsyncRouteBuilder() {
+			return new RouteBuilder() {
+				@Override
+				public void configure() throws Exception {
+					from("platform-http:/myasyncget")
+							.setBody().constant("get");
+					from("platform-http:/myasyncpost")
+							.to("seda:asyncupper");
+					from("seda:asyncupper")
+							.transform().body(String.class, b -> b.toUpperCase());
+					from("platform-http:/myasyncslow")
+							.onCompletion().to("mock:asyncslowdone").end()
+							.threads(1)
+							.process(e -> SLOW_LATCH.await(10, TimeUnit.SECONDS))
+							.setBody().constant("slow");
+				}
+			};
+		}
+	}
+}
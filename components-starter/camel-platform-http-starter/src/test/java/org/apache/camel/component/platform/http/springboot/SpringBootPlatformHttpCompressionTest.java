@@ -0,0 +1,181 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.platform.http.springboot;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.web.server.Compression;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+@SpringBootApplication
+@DirtiesContext
+@CamelSpringBootTest
+@SpringBootTest(
+		webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+		classes = {
+				CamelAutoConfiguration.class,
+				SpringBootPlatformHttpCompressionTest.class,
+				SpringBootPlatformHttpCompressionTest.TestConfiguration.class,
+				PlatformHttpComponentAutoConfiguration.class,
+				SpringBootPlatformHttpAutoConfiguration.class
+		},
+		properties = {
+				"camel.platform-http.compression=true",
+				"server.compression.min-response-size=1KB"
+		}
+)
+public class SpringBootPlatformHttpCompressionTest {
+
+	private static final String JSON = "[" + "{\"name\":\"camel\"},".repeat(1000) + "{}]";
+	private static final String TEXT = "\u00e9".repeat(600);
+
+	@LocalServerPort
+	private int port;
+
+	private final HttpClient client = HttpClient.newHttpClient();
+
+	@Test
+	public void testCompressedResponse() throws Exception {
+		HttpResponse<InputStream> response = get("/mycompressedjson", "gzip, deflate;q=0.5");
+		Assertions.assertThat(response.headers().firstValue("Content-Encoding")).hasValue("gzip");
+		Assertions.assertThat(response.headers().firstValue("Vary")).hasValue("Accept-Encoding");
+		Assertions.assertThat(new String(new GZIPInputStream(response.body()).readAllBytes(), StandardCharsets.UTF_8))
+				.isEqualTo(JSON);
+
+		response = get("/mycompressedstream", "br, gzip;q=0.5");
+		Assertions.assertThat(response.headers().firstValue("Content-Encoding")).hasValue("gzip");
+		Assertions.assertThat(new String(new GZIPInputStream(response.body()).readAllBytes(), StandardCharsets.UTF_8))
+				.isEqualTo(JSON);
+
+		response = get("/mycompressedstream", "deflate, gzip;q=0.5");
+		Assertions.assertThat(response.headers().firstValue("Content-Encoding")).hasValue("deflate");
+		Assertions.assertThat(new String(new InflaterInputStream(response.body()).readAllBytes(), StandardCharsets.UTF_8))
+				.isEqualTo(JSON);
+
+		// less than 1KB chars but more than 1KB bytes
+		response = get("/mycompressedtext", "gzip");
+		Assertions.assertThat(response.headers().firstValue("Content-Encoding")).hasValue("gzip");
+		Assertions.assertThat(new String(new GZIPInputStream(response.body()).readAllBytes(), StandardCharsets.UTF_8))
+				.isEqualTo(TEXT);
+	}
+
+	@Test
+	public void testUncompressedResponse() throws Exception {
+		// the client does not accept a compressed response
+		HttpResponse<InputStream> response = get("/mycompressedjson", "identity");
+		Assertions.assertThat(response.headers().firstValue("Content-Encoding")).isEmpty();
+		Assertions.assertThat(response.headers().firstValue("Vary")).hasValue("Accept-Encoding");
+		Assertions.assertThat(new String(response.body().readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(JSON);
+
+		// below the minimum response size
+		response = get("/mycompressedsmall", "gzip");
+		Assertions.assertThat(response.headers().firstValue("Content-Encoding")).isEmpty();
+		Assertions.assertThat(response.headers().firstValue("Vary")).hasValue("Accept-Encoding");
+		Assertions.assertThat(new String(response.body().readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("{}");
+
+		// already encoded by the route
+		response = get("/mycompressedencoded", "gzip");
+		Assertions.assertThat(response.headers().firstValue("Content-Encoding")).hasValue("br");
+		Assertions.assertThat(new String(response.body().readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(JSON);
+	}
+
+	@Test
+	public void testSelectEncoding() {
+		Assertions.assertThat(SpringBootPlatformHttpCompression.selectEncoding(List.of("gzip, deflate"))).isEqualTo("gzip");
+		Assertions.assertThat(SpringBootPlatformHttpCompression.selectEncoding(List.of("br, deflate;q=0.8", "gzip;q=0.5")))
+				.isEqualTo("deflate");
+		Assertions.assertThat(SpringBootPlatformHttpCompression.selectEncoding(List.of("br, deflate;q=0.5", "gzip;q=0.8")))
+				.isEqualTo("gzip");
+		Assertions.assertThat(SpringBootPlatformHttpCompression.selectEncoding(List.of("*"))).isEqualTo("gzip");
+		Assertions.assertThat(SpringBootPlatformHttpCompression.selectEncoding(List.of("gzip;q=0, br"))).isNull();
+		Assertions.assertThat(SpringBootPlatformHttpCompression.selectEncoding(List.of())).isNull();
+		Assertions.assertThat(SpringBootPlatformHttpCompression.selectEncoding(List.of("br, deflate"))).isEqualTo("deflate");
+	}
+
+	@Test
+	public void testContainerCompression() {
+		Compression compression = new Compression();
+		Assertions.assertThat(SpringBootPlatformHttpCompression.create(false, compression)).isNull();
+		Assertions.assertThat(SpringBootPlatformHttpCompression.create(true, compression)).isNotNull();
+		Assertions.assertThat(SpringBootPlatformHttpCompression.create(true, null)).isNotNull();
+		// the servlet container compresses the responses
+		compression.setEnabled(true);
+		Assertions.assertThat(SpringBootPlatformHttpCompression.create(true, compression)).isNull();
+	}
+
+	private HttpResponse<InputStream> get(String path, String acceptEncoding) throws Exception {
+		HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+				.header("Accept-Encoding", acceptEncoding)
+				.build();
+		HttpResponse<InputStream> response = client.send(request, HttpResponse.BodyHandlers.ofInputStream());
+		Assertions.assertThat(response.statusCode()).isEqualTo(200);
+		return response;
+	}
+
+	// *************************************
+	// Config
+	// *************************************
+	@Configuration
+	public static class TestConfiguration {
+
+		@Bean
+		public RouteBuilder servletPlatformHttpCompressionRouteBuilder() {
+			return new RouteBuilder() {
+				@Override
+				public void configure() throws Exception {
+					from("platform-http:/mycompressedjson")
+							.setHeader(Exchange.CONTENT_TYPE, constant("application/json"))
+							.setBody().constant(JSON);
+					from("platform-http:/mycompressedstream")
+							.setHeader(Exchange.CONTENT_TYPE, constant("application/json"))
+							.setBody().exchange(e -> new ByteArrayInputStream(JSON.getBytes(StandardCharsets.UTF_8)));
+					from("platform-http:/mycompressedtext")
+							.setHeader(Exchange.CONTENT_TYPE, constant("text/plain; charset=UTF-8"))
+							.setBody().constant(TEXT);
+					from("platform-http:/mycompressedsmall")
+							.setHeader(Exchange.CONTENT_TYPE, constant("application/json"))
+							.setBody().constant("{}");
+					from("platform-http:/mycompressedencoded")
+							.setHeader(Exchange.CONTENT_TYPE, constant("application/json"))
+							.setHeader(Exchange.CONTENT_ENCODING, constant("br"))
+							.setBody().constant(JSON.getBytes(StandardCharsets.UTF_8));
+				}
+			};
+		}
+	}
+}
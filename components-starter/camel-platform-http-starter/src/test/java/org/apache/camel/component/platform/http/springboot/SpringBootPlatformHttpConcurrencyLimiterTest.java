@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.platform.http.springboot;
+
+import org.junit.jupiter.api.Test;
+
+import org.assertj.core.api.Assertions;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+public class SpringBootPlatformHttpConcurrencyLimiterTest {
+
+	@Test
+	public void testMaxInflight() throws Exception {
+		SpringBootPlatformHttpConcurrencyLimiter limiter = new SpringBootPlatformHttpConcurrencyLimiter(2, false, 2.0, 0, 0);
+
+		Assertions.assertThat(limiter.tryAcquire()).isTrue();
+		Assertions.assertThat(limiter.tryAcquire()).isTrue();
+		Assertions.assertThat(limiter.tryAcquire()).isFalse();
+		Assertions.assertThat(limiter.getInflight()).isEqualTo(2);
+		Assertions.assertThat(limiter.getRejected()).isEqualTo(1);
+
+		limiter.release(1000, false);
+		Assertions.assertThat(limiter.tryAcquire()).isTrue();
+		Assertions.assertThat(limiter.getLimit()).isEqualTo(2);
+	}
+
+	@Test
+	public void testQueue() throws Exception {
+		SpringBootPlatformHttpConcurrencyLimiter limiter = new SpringBootPlatformHttpConcurrencyLimiter(1, false, 2.0, 1, 5000);
+		Assertions.assertThat(limiter.tryAcquire()).isTrue();
+
+		CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> {
+			try {
+				return limiter.tryAcquire();
+			} catch (InterruptedException e) {
+				return false;
+			}
+		});
+		while (limiter.getQueued() == 0) {
+			Thread.sleep(10);
+		}
+		// the queue is full
+		Assertions.assertThat(limiter.tryAcquire()).isFalse();
+
+		limiter.release(1000, false);
+		Assertions.assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+		Assertions.assertThat(limiter.getInflight()).isEqualTo(1);
+		Assertions.assertThat(limiter.getQueued()).isZero();
+	}
+
+	@Test
+	public void testQueueTimeout() throws Exception {
+		SpringBootPlatformHttpConcurrencyLimiter limiter = new SpringBootPlatformHttpConcurrencyLimiter(1, false, 2.0, 1, 50);
+		Assertions.assertThat(limiter.tryAcquire()).isTrue();
+		Assertions.assertThat(limiter.tryAcquire()).isFalse();
+		Assertions.assertThat(limiter.getQueued()).isZero();
+		Assertions.assertThat(limiter.getRejected()).isEqualTo(1);
+	}
+
+	@Test
+	public void testAcquireDoesNotBlock() throws Exception {
+		SpringBootPlatformHttpConcurrencyLimiter limiter = new SpringBootPlatformHttpConcurrencyLimiter(1, false, 2.0, 2, 5000);
+		Assertions.assertThat(limiter.acquire().join()).isTrue();
+
+		CompletableFuture<Boolean> first = limiter.acquire();
+		CompletableFuture<Boolean> second = limiter.acquire();
+		Assertions.assertThat(first).isNotDone();
+		Assertions.assertThat(second).isNotDone();
+		Assertions.assertThat(limiter.getQueued()).isEqualTo(2);
+
+		// a cancelled request gives up its place in the queue
+		first.cancel(false);
+		Assertions.assertThat(limiter.getQueued()).isEqualTo(1);
+		Assertions.assertThat(limiter.getRejected()).isZero();
+
+		limiter.release(1000, false);
+		Assertions.assertThat(second.get(5, TimeUnit.SECONDS)).isTrue();
+		Assertions.assertThat(limiter.getInflight()).isEqualTo(1);
+		Assertions.assertThat(limiter.getQueued()).isZero();
+	}
+
+	@Test
+	public void testAdaptiveLimit() throws Exception {
+		SpringBootPlatformHttpConcurrencyLimiter limiter = new SpringBootPlatformHttpConcurrencyLimiter(10, true, 2.0, 0, 0);
+		Assertions.assertThat(limiter.getLimit()).isEqualTo(10);
+		long now = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+
+		// latency over the tolerance decreases the limit
+		acquireAndRelease(limiter, 1000, false, now);
+		acquireAndRelease(limiter, 5000, false, now + 10000);
+		Assertions.assertThat(limiter.getLimit()).isEqualTo(9);
+
+		// but only once for the requests which were inflight when it was decreased
+		acquireAndRelease(limiter, 5000, false, now + 11000);
+		acquireAndRelease(limiter, 5000, true, now + 12000);
+		Assertions.assertThat(limiter.getLimit()).isEqualTo(9);
+
+		// a request failed due to overload which started after the decrease decreases it again
+		acquireAndRelease(limiter, 1000, true, now + 20000);
+		Assertions.assertThat(limiter.getLimit()).isEqualTo(8);
+
+		// latency within the tolerance increases the limit when it is in use
+		for (int i = 0; i < 4; i++) {
+			limiter.tryAcquire();
+		}
+		acquireAndRelease(limiter, 1500, false, now + 30000);
+		Assertions.assertThat(limiter.getLimit()).isEqualTo(9);
+	}
+
+	@Test
+	public void testMinLatencyWindow() throws Exception {
+		SpringBootPlatformHttpConcurrencyLimiter limiter = new SpringBootPlatformHttpConcurrencyLimiter(10, true, 2.0, 0, 0);
+		long now = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+		long window = TimeUnit.SECONDS.toNanos(10);
+
+		// a single fast request is the lowest latency for the current and the next window
+		acquireAndRelease(limiter, 1000, false, now);
+		acquireAndRelease(limiter, 5000, false, now + window + 10000);
+		Assertions.assertThat(limiter.getLimit()).isEqualTo(9);
+
+		// after which the route is slower but steady
+		acquireAndRelease(limiter, 5000, false, now + 3 * window);
+		acquireAndRelease(limiter, 5000, false, now + 3 * window + 10000);
+		Assertions.assertThat(limiter.getLimit()).isEqualTo(9);
+	}
+
+	@Test
+	public void testRouteLimit() {
+		SpringBootPlatformHttpConfiguration configuration = new SpringBootPlatformHttpConfiguration();
+		SpringBootPlatformHttpConfiguration.RouteLimit route = new SpringBootPlatformHttpConfiguration.RouteLimit();
+		route.setMaxInflight(5);
+		configuration.getRoutes().put("limited", route);
+
+		Assertions.assertThat(SpringBootPlatformHttpConcurrencyLimiter.create(configuration, "other")).isNull();
+		Assertions.assertThat(SpringBootPlatformHttpConcurrencyLimiter.create(configuration, "limited").getLimit()).isEqualTo(5);
+
+		configuration.setMaxInflight(2);
+		Assertions.assertThat(SpringBootPlatformHttpConcurrencyLimiter.create(configuration, "other").getLimit()).isEqualTo(2);
+		Assertions.assertThat(SpringBootPlatformHttpConcurrencyLimiter.create(configuration, "limited").getLimit()).isEqualTo(5);
+	}
+
+	private static void acquireAndRelease(SpringBootPlatformHttpConcurrencyLimiter limiter, long latency, boolean overloaded,
+			long now) throws InterruptedException {
+		Assertions.assertThat(limiter.tryAcquire()).isTrue();
+		limiter.release(latency, overloaded, now);
+	}
+}
@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.platform.http.springboot;
+
+import java.util.List;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.annotation.DirtiesContext;
+
+@SpringBootApplication
+@DirtiesContext
+@CamelSpringBootTest
+@SpringBootTest(
+		webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+		classes = {
+				CamelAutoConfiguration.class,
+				SpringBootPlatformHttpLazyHeadersTest.class,
+				SpringBootPlatformHttpLazyHeadersTest.TestConfiguration.class,
+				PlatformHttpComponentAutoConfiguration.class,
+				SpringBootPlatformHttpAutoConfiguration.class
+		}
+)
+public class SpringBootPlatformHttpLazyHeadersTest {
+
+	@Autowired
+	private TestRestTemplate restTemplate;
+
+	@Test
+	public void testLookupDoesNotPopulateHeaders() {
+		HttpHeaders headers = new HttpHeaders();
+		headers.add("X-Lazy", "abc");
+		ResponseEntity<String> response = restTemplate.exchange("/mylazyget/42?q=1", HttpMethod.GET,
+				new HttpEntity<>(headers), String.class);
+
+		Assertions.assertThat(response.getBody()).isEqualTo("42,1,abc,GET,false");
+		// the request headers are still written to the response
+		Assertions.assertThat(response.getHeaders().getFirst("X-Lazy")).isEqualTo("abc");
+	}
+
+	@Test
+	public void testLookupMultipleValues() {
+		HttpHeaders headers = new HttpHeaders();
+		headers.add("X-Multi", "a");
+		headers.add("X-Multi", "b");
+		headers.setContentType(MediaType.TEXT_PLAIN);
+		ResponseEntity<String> response = restTemplate.exchange("/mylazymulti?p=1&p=2", HttpMethod.POST,
+				new HttpEntity<>("hello", headers), String.class);
+
+		Assertions.assertThat(response.getBody()).isEqualTo("[a, b],[1, 2],text/plain,false");
+	}
+
+	@Test
+	public void testManyLookupsPopulateHeaders() {
+		HttpHeaders headers = new HttpHeaders();
+		headers.add("X-Lazy", "abc");
+		ResponseEntity<String> response = restTemplate.exchange("/mylazymany", HttpMethod.GET,
+				new HttpEntity<>(headers), String.class);
+
+		// looking up the same header again is remembered, looking up many distinct headers maps them all
+		Assertions.assertThat(response.getBody()).isEqualTo("abc,abc,false,null,true");
+	}
+
+	@Test
+	public void testUpdatePopulatesHeaders() {
+		HttpHeaders headers = new HttpHeaders();
+		headers.add("X-Lazy", "abc");
+		ResponseEntity<String> response = restTemplate.exchange("/mylazyset", HttpMethod.GET,
+				new HttpEntity<>(headers), String.class);
+
+		Assertions.assertThat(response.getBody()).isEqualTo("true");
+		Assertions.assertThat(response.getHeaders().getFirst("X-Lazy")).isEqualTo("abc");
+		Assertions.assertThat(response.getHeaders().getFirst("X-Set")).isEqualTo("def");
+	}
+
+	@Test
+	public void testFormBody() {
+		HttpHeaders headers = new HttpHeaders();
+		headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
+		ResponseEntity<String> response = restTemplate.exchange("/mylazyform", HttpMethod.POST,
+				new HttpEntity<>("a=1&b=2&b=3", headers), String.class);
+
+		Assertions.assertThat(response.getBody()).isEqualTo("1,[2, 3]");
+	}
+
+	// *************************************
+	// Config
+	// *************************************
+	@Configuration
+	public static class TestConfiguration {
+
+		@Bean
+		public RouteBuilder servletPlatformHttpLazyHeadersRouteBuilder() {
+			return new RouteBuilder() {
+				@Override
+				public void configure() throws Exception {
+					from("platform-http:/mylazyget/{id}")
+							.process(e -> e.getMessage().setBody(e.getMessage().getHeader("id")
+									+ "," + e.getMessage().getHeader("q")
+									+ "," + e.getMessage().getHeader("x-lazy")
+									+ "," + e.getMessage().getHeader("CamelHttpMethod")
+									+ "," + ((PlatformHttpMessageHeaders) e.getMessage().getHeaders()).isPopulated()));
+					from("platform-http:/mylazymulti")
+							.process(e -> e.getMessage().setBody(e.getMessage().getHeader("x-multi", List.class)
+									+ "," + e.getMessage().getHeader("p", List.class)
+									+ "," + e.getMessage().getHeader("content-type")
+									+ "," + ((PlatformHttpMessageHeaders) e.getMessage().getHeaders()).isPopulated()));
+					from("platform-http:/mylazymany")
+							.process(e -> {
+								PlatformHttpMessageHeaders headers = (PlatformHttpMessageHeaders) e.getMessage().getHeaders();
+								Object first = headers.get("X-Lazy");
+								Object second = headers.get("x-lazy");
+								boolean populated = headers.isPopulated();
+								for (int i = 0; i < 10; i++) {
+									headers.get("X-Missing-" + i);
+								}
+								e.getMessage().setBody(first + "," + second + "," + populated + ","
+										+ headers.get("X-Missing-0") + "," + headers.isPopulated());
+							});
+					from("platform-http:/mylazyset")
+							.setHeader("X-Set").constant("def")
+							.process(e -> e.getMessage().setBody(
+									((PlatformHttpMessageHeaders) e.getMessage().getHeaders()).isPopulated()));
+					from("platform-http:/mylazyform")
+							.process(e -> e.getMessage().setBody(e.getMessage().getHeader("a")
+									+ "," + e.getMessage().getHeader("b", List.class)));
+				}
+			};
+		}
+	}
+}
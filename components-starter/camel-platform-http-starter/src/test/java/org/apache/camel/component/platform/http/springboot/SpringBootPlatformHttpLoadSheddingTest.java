@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.platform.http.springboot;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+@SpringBootApplication
+@DirtiesContext
+@CamelSpringBootTest
+@SpringBootTest(
+		webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+		classes = {
+				CamelAutoConfiguration.class,
+				SpringBootPlatformHttpLoadSheddingTest.class,
+				SpringBootPlatformHttpLoadSheddingTest.TestConfiguration.class,
+				PlatformHttpComponentAutoConfiguration.class,
+				SpringBootPlatformHttpAutoConfiguration.class
+		},
+		properties = {
+				"camel.platform-http.max-inflight=1",
+				"camel.platform-http.reject-status-code=429",
+				"camel.platform-http.retry-after=2"
+		}
+)
+public class SpringBootPlatformHttpLoadSheddingTest {
+
+	private static final CountDownLatch STARTED = new CountDownLatch(1);
+	private static final CountDownLatch RELEASE = new CountDownLatch(1);
+
+	@Autowired
+	private TestRestTemplate restTemplate;
+
+	@Test
+	public void testRejectOverLimit() throws Exception {
+		CompletableFuture<ResponseEntity<String>> first = CompletableFuture.supplyAsync(
+				() -> restTemplate.getForEntity("/myshedget", String.class));
+		Assertions.assertThat(STARTED.await(10, TimeUnit.SECONDS)).isTrue();
+
+		ResponseEntity<String> rejected = restTemplate.getForEntity("/myshedget", String.class);
+		Assertions.assertThat(rejected.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+		Assertions.assertThat(rejected.getHeaders().getFirst("Retry-After")).isEqualTo("2");
+
+		RELEASE.countDown();
+		ResponseEntity<String> response = first.get(10, TimeUnit.SECONDS);
+		Assertions.assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+		Assertions.assertThat(response.getBody()).isEqualTo("shed");
+	}
+
+	// *************************************
+	// Config
+	// *************************************
+	@Configuration
+	public static class TestConfiguration {
+
+		@Bean
+		public RouteBuilder servletPlatformHttpLoadSheddingRouteBuilder() {
+			return new RouteBuilder() {
+				@Override
+				public void configure() throws Exception {
+					from("platform-http:/myshedget")
+							.process(e -> {
+								STARTED.countDown();
+								RELEASE.await(10, TimeUnit.SECONDS);
+							})
+							.setBody().constant("shed");
+				}
+			};
+		}
+	}
+}
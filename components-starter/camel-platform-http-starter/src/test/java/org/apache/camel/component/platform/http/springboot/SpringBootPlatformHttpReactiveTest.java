@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.platform.http.springboot;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.component.platform.http.PlatformHttpComponent;
+import org.apache.camel.component.platform.http.spi.PlatformHttpEngine;
+import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.Disposable;
+
+@SpringBootApplication
+@DirtiesContext
+@CamelSpringBootTest
+@SpringBootTest(
+		webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+		classes = {
+				CamelAutoConfiguration.class,
+				SpringBootPlatformHttpReactiveTest.class,
+				SpringBootPlatformHttpReactiveTest.TestConfiguration.class,
+				PlatformHttpComponentAutoConfiguration.class,
+				SpringBootPlatformHttpAutoConfiguration.class
+		},
+		properties = "spring.main.web-application-type=reactive"
+)
+public class SpringBootPlatformHttpReactiveTest {
+
+	@Autowired
+	private WebTestClient webTestClient;
+
+	@Autowired
+	private PlatformHttpEngine engine;
+
+	@Autowired
+	private CamelContext camelContext;
+
+	private static final CountDownLatch SLOW_LATCH = new CountDownLatch(1);
+
+	@Test
+	public void testReactiveEngine() {
+		Assertions.assertThat(engine).isInstanceOf(SpringBootPlatformHttpReactiveEngine.class);
+	}
+
+	@Test
+	public void testReactiveGet() {
+		webTestClient.get().uri("/myreactiveget")
+				.exchange()
+				.expectStatus().isOk()
+				.expectBody(String.class).isEqualTo("get");
+	}
+
+	@Test
+	public void testReactivePost() {
+		webTestClient.post().uri("/myreactivepost")
+				.bodyValue("test")
+				.exchange()
+				.expectStatus().isOk()
+				.expectBody(String.class).isEqualTo("TEST");
+	}
+
+	@Test
+	public void testReactivePathVariable() {
+		webTestClient.get().uri("/myreactiveusers/123?name=camel")
+				.exchange()
+				.expectStatus().isOk()
+				.expectHeader().valueEquals("X-User", "123")
+				.expectBody(String.class).isEqualTo("user 123 camel");
+	}
+
+	@Test
+	public void testReactiveMethodNotAllowed() {
+		webTestClient.delete().uri("/myreactivepost")
+				.exchange()
+				.expectStatus().isEqualTo(405);
+	}
+
+	@Test
+	public void testReactiveFailure() {
+		webTestClient.get().uri("/myreactivefailure")
+				.exchange()
+				.expectStatus().isEqualTo(500);
+	}
+
+	@Test
+	public void testReactiveCancelledWhileRouting() throws Exception {
+		MockEndpoint done = camelContext.getEndpoint("mock:slowdone", MockEndpoint.class);
+		SpringBootPlatformHttpReactiveConsumer consumer = (SpringBootPlatformHttpReactiveConsumer) camelContext
+				.getComponent("platform-http", PlatformHttpComponent.class).getHttpEndpoints().stream()
+				.filter(m -> "/myreactiveslow".equals(m.getUri())).findFirst().orElseThrow().getConsumer();
+
+		// the client goes away while the exchange is still routed
+		Disposable request = consumer.process(
+				MockServerWebExchange.from(MockServerHttpRequest.get("/myreactiveslow")), new byte[0]).subscribe();
+		request.dispose();
+
+		// so the unit of work must not be done yet
+		done.setAssertPeriod(200);
+		done.expectedMessageCount(0);
+		done.assertIsSatisfied();
+
+		done.reset();
+		done.expectedBodiesReceived("slow");
+		SLOW_LATCH.countDown();
+		done.assertIsSatisfied(5000);
+	}
+
+	// *************************************
+	// Config
+	// *************************************
+	@Configuration
+	public static class TestConfiguration {
+
+		@Bean
+		public RouteBuilder springBootPlatformHttpReactiveRouteBuilder() {
+			return new RouteBuilder() {
+				@Override
+				public void configure() throws Exception {
+					from("platform-http:/myreactiveget")
+							.setBody().constant("get");
+					from("platform-http:/myreactivepost?httpMethodRestrict=POST")
+							.to("seda:reactiveupper");
+					from("seda:reactiveupper")
+							.transform().body(String.class, b -> b.toUpperCase());
+					from("platform-http:/myreactiveusers/{id}")
+							.setHeader("X-User", header("id"))
+							.setBody().simple("user ${header.id} ${header.name}");
+					from("platform-http:/myreactivefailure")
+							.throwException(new IllegalStateException("Forced"));
+					from("platform-http:/myreactiveslow")
+							.onCompletion().to("mock:slowdone").end()
+							.threads(1)
+							.process(e -> SLOW_LATCH.await(10, TimeUnit.SECONDS))
+							.setBody().constant("slow");
+				}
+			};
+		}
+	}
+}
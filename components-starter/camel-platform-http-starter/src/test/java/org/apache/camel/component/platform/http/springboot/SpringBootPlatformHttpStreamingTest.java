@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.platform.http.springboot;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+
+@SpringBootApplication
+@DirtiesContext
+@CamelSpringBootTest
+@SpringBootTest(
+		webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+		classes = {
+				CamelAutoConfiguration.class,
+				SpringBootPlatformHttpStreamingTest.class,
+				SpringBootPlatformHttpStreamingTest.TestConfiguration.class,
+				PlatformHttpComponentAutoConfiguration.class,
+				SpringBootPlatformHttpAutoConfiguration.class
+		},
+		properties = "camel.platform-http.streaming=true"
+)
+public class SpringBootPlatformHttpStreamingTest {
+
+	private static final Path CONSUMED = createTempDirectory();
+
+	@Autowired
+	private TestRestTemplate restTemplate;
+
+	@Test
+	public void testStreamingRequest() {
+		ResponseEntity<String> response = restTemplate.postForEntity("/mystreamingpost", "streamed body", String.class);
+		Assertions.assertThat(response.getBody()).isEqualTo("streamed body");
+		Assertions.assertThat(response.getHeaders().getFirst("bodyType")).isEqualTo("true");
+	}
+
+	@Test
+	public void testStreamingFileResponse() {
+		ResponseEntity<String> response = restTemplate.getForEntity("/mystreamingfile", String.class);
+		Assertions.assertThat(response.getBody()).isEqualTo("file content");
+		Assertions.assertThat(response.getHeaders().getContentLength()).isEqualTo(12);
+	}
+
+	@Test
+	public void testStreamingGzipResponse() throws Exception {
+		ResponseEntity<byte[]> response = restTemplate.getForEntity("/mystreaminggzip", byte[].class);
+		Assertions.assertThat(response.getHeaders().getFirst("Content-Encoding")).isEqualTo("gzip");
+		Assertions.assertThat(new String(new GZIPInputStream(new ByteArrayInputStream(response.getBody())).readAllBytes(),
+				StandardCharsets.UTF_8)).isEqualTo("streamed content");
+	}
+
+	@Test
+	public void testStreamingConsumedFileResponse() throws Exception {
+		Path file = CONSUMED.resolve("consumed.txt");
+		Files.writeString(file, "consumed content", StandardCharsets.UTF_8);
+
+		// the file is deleted when the exchange is done, so it must be written before
+		ResponseEntity<String> response = restTemplate.getForEntity("/mystreamingconsumed", String.class);
+		Assertions.assertThat(response.getBody()).isEqualTo("consumed content");
+		// the exchange may complete after the response is received
+		long deadline = System.currentTimeMillis() + 5000;
+		while (Files.exists(file) && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+		Assertions.assertThat(file).doesNotExist();
+	}
+
+	// *************************************
+	// Config
+	// *************************************
+	private static Path createTempDirectory() {
+		try {
+			Path dir = Files.createTempDirectory("platform-http");
+			dir.toFile().deleteOnExit();
+			return dir;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	@Configuration
+	public static class TestConfiguration {
+
+		@Bean
+		public RouteBuilder servletPlatformHttpStreamingRouteBuilder() {
+			return new RouteBuilder() {
+				@Override
+				public void configure() throws Exception {
+					Path file = Files.createTempFile("platform-http", ".txt");
+					Files.writeString(file, "file content", StandardCharsets.UTF_8);
+					file.toFile().deleteOnExit();
+
+					from("platform-http:/mystreamingpost")
+							.process(e -> e.getMessage().setHeader("bodyType", e.getMessage().getBody() instanceof InputStream));
+					from("platform-http:/mystreamingfile")
+							.setBody().constant(file.toFile());
+					from("platform-http:/mystreaminggzip")
+							.setHeader(Exchange.CONTENT_ENCODING, constant("gzip"))
+							.process(e -> e.getMessage().setBody(
+									new ByteArrayInputStream("streamed content".getBytes(StandardCharsets.UTF_8))));
+					from("platform-http:/mystreamingconsumed")
+							.pollEnrich("file:" + CONSUMED + "?fileName=consumed.txt&delete=true", 5000, (original, resource) -> {
+								// keep the headers of the request
+								original.getMessage().setBody(resource.getMessage().getBody());
+								return original;
+							}, false);
+				}
+			};
+		}
+	}
+}
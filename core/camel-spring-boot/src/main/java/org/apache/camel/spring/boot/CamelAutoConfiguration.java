@@ -51,8 +51,10 @@ import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
@@ -63,6 +65,7 @@ import org.springframework.core.OrderComparator;
 import org.springframework.core.env.ConfigurableEnvironment;
 import org.springframework.core.env.Environment;
 import org.springframework.core.env.MutablePropertySources;
+import org.springframework.core.metrics.ApplicationStartup;
 
 @ImportRuntimeHints(CamelRuntimeHints.class)
 @Configuration(proxyBeanMethods = false)
@@ -102,7 +105,7 @@ public class CamelAutoConfiguration {
                                                 CamelConfigurationProperties config) throws Exception {
 
         // setup startup recorder before building context
-        configureStartupRecorder(camelContext, config);
+        configureStartupRecorder(applicationContext, camelContext, config);
 
         camelContext.build();
 
@@ -111,6 +114,12 @@ public class CamelAutoConfiguration {
         if (pc != null) {
             pc.setCamelContext(camelContext);
             camelContext.setPropertiesComponent(pc);
+            if (pc.getPropertiesParser() instanceof SpringPropertiesParser
+                    && ((SpringPropertiesParser) pc.getPropertiesParser()).isCacheEnabled()) {
+                // discard the cached placeholders when camel is reloaded, such as when a vault secret is refreshed
+                SpringPropertiesParser parser = (SpringPropertiesParser) pc.getPropertiesParser();
+                camelContext.getManagementStrategy().addEventNotifier(parser.createReloadEventNotifier());
+            }
         }
 
         final Map<String, BeanRepository> repositories = applicationContext.getBeansOfType(BeanRepository.class);
@@ -175,11 +184,20 @@ public class CamelAutoConfiguration {
         }
     }
 
-    static void configureStartupRecorder(CamelContext camelContext, CamelConfigurationProperties config) {
+    static void configureStartupRecorder(ApplicationContext applicationContext, CamelContext camelContext,
+                                         CamelConfigurationProperties config) throws Exception {
         if ("false".equals(config.getStartupRecorder())) {
             camelContext.getCamelContextExtension().getStartupStepRecorder().setEnabled(false);
         } else if ("logging".equals(config.getStartupRecorder())) {
             camelContext.getCamelContextExtension().setStartupStepRecorder(new LoggingStartupStepRecorder());
+        } else if ("backlog".equals(config.getStartupRecorder())) {
+            // keep the steps in memory (for the camelstartup actuator endpoint) and report them to spring boot as well
+            ApplicationStartup applicationStartup = applicationContext instanceof ConfigurableApplicationContext
+                    ? ((ConfigurableApplicationContext) applicationContext).getApplicationStartup() : ApplicationStartup.DEFAULT;
+            SpringBootStartupStepRecorder recorder = new SpringBootStartupStepRecorder(applicationStartup);
+            camelContext.getCamelContextExtension().setStartupStepRecorder(recorder);
+            // only record the startup, so the steps do not keep growing at runtime
+            camelContext.addStartupListener(recorder);
         } else if ("java-flight-recorder".equals(config.getStartupRecorder())
                 || config.getStartupRecorder() == null) {
             // try to auto discover camel-jfr to use
@@ -201,6 +219,18 @@ public class CamelAutoConfiguration {
         return new CamelSpringBootApplicationController(applicationContext, camelContext);
     }
 
+    @Bean
+    @ConditionalOnProperty(value = "camel.springboot.checkpoint-restore-enabled")
+    CamelCheckpointRestoreLifecycle checkpointRestoreLifecycle(ApplicationContext applicationContext, CamelContext camelContext) {
+        return new CamelCheckpointRestoreLifecycle(applicationContext, camelContext);
+    }
+
+    @Bean
+    @ConditionalOnProperty("camel.springboot.lazy-component-starters")
+    static LazyComponentStartersPostProcessor lazyComponentStartersPostProcessor() {
+        return new LazyComponentStartersPostProcessor();
+    }
+
     @Bean
     @ConditionalOnMissingBean(RoutesCollector.class)
     @ConditionalOnMissingClass("org.apache.camel.spring.boot.endpointdsl.EndpointDslRouteCollector")
@@ -281,8 +311,8 @@ public class CamelAutoConfiguration {
 
     @Bean
     @ConditionalOnMissingBean(PropertiesParser.class)
-    PropertiesParser propertiesParser(Environment env) {
-        return new SpringPropertiesParser(env);
+    PropertiesParser propertiesParser(Environment env, CamelConfigurationProperties config) {
+        return new SpringPropertiesParser(env, config.getPlaceholderCacheSize());
     }
 
     // We explicitly declare the destroyMethod to be "" as the Spring @Bean
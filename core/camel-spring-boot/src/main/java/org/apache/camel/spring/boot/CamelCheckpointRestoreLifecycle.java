@@ -0,0 +1,284 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Component;
+import org.apache.camel.Route;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.spi.ExecutorServiceManager;
+import org.apache.camel.spi.ThreadPoolFactory;
+import org.apache.camel.spi.ThreadPoolProfile;
+import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
+import org.apache.camel.support.service.ServiceHelper;
+import org.apache.camel.util.concurrent.SizedScheduledExecutorService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.ContextClosedEvent;
+
+/**
+ * Pauses Camel before a JVM checkpoint and resumes Camel after restore, when using Coordinated Restore at Checkpoint
+ * (CRaC).
+ * <p/>
+ * Spring stops all its running lifecycle beans before a checkpoint, and starts them again after restore. Stopping the
+ * {@link SpringBootCamelContext} would shut down Camel (and the main run controller), so instead this lifecycle, which
+ * is stopped before the CamelContext, stops the routes, endpoints and components to close their connections, and marks
+ * the CamelContext as not running so Spring leaves it alone. The idle threads of the thread pools created by Camel are
+ * let go, so no pool threads are carried over into the checkpoint. After restore the components and endpoints are
+ * started, and the routes that were running before the checkpoint are started again. The routes are not created again,
+ * so routes created from route templates and kamelets are kept, and the thread pools create new threads on demand.
+ * <p/>
+ * This is opt-in with <tt>camel.springboot.checkpoint-restore-enabled=true</tt>, as the same applies when the Spring
+ * application context is stopped and started again, and while paused the CamelContext reports as not running to
+ * Spring. When the application context is closed then Camel is shut down as usual.
+ */
+public class CamelCheckpointRestoreLifecycle
+        implements SmartLifecycle, SmartInitializingSingleton, ApplicationListener<ContextClosedEvent> {
+
+    /**
+     * One phase above {@link org.apache.camel.spring.SpringCamelContext}, so it is stopped before and started after
+     * the CamelContext.
+     */
+    public static final int PHASE = Integer.MAX_VALUE - 2048;
+
+    private static final Logger LOG = LoggerFactory.getLogger(CamelCheckpointRestoreLifecycle.class);
+
+    private final ApplicationContext applicationContext;
+    private final CamelContext camelContext;
+    private volatile boolean running;
+    private volatile boolean closing;
+    private volatile boolean paused;
+    private final List<String> pausedRoutes = new ArrayList<>();
+    private CheckpointThreadPoolFactory threadPoolFactory;
+
+    public CamelCheckpointRestoreLifecycle(ApplicationContext applicationContext, CamelContext camelContext) {
+        this.applicationContext = applicationContext;
+        this.camelContext = camelContext;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        // after the thread pool auto configuration, which may have set a thread pool factory for virtual threads
+        ExecutorServiceManager manager = camelContext.getExecutorServiceManager();
+        threadPoolFactory = new CheckpointThreadPoolFactory(manager.getThreadPoolFactory());
+        manager.setThreadPoolFactory(threadPoolFactory);
+    }
+
+    @Override
+    public void onApplicationEvent(ContextClosedEvent event) {
+        if (event.getApplicationContext() == applicationContext) {
+            closing = true;
+            if (paused) {
+                // let spring shut down Camel as usual
+                ((SpringBootCamelContext) camelContext).setPaused(false);
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        if (paused) {
+            try {
+                resume();
+            } catch (Exception e) {
+                throw RuntimeCamelException.wrapRuntimeCamelException(e);
+            }
+        }
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (!closing && camelContext instanceof SpringBootCamelContext && camelContext.isStarted()) {
+            try {
+                pause();
+            } catch (Exception e) {
+                throw RuntimeCamelException.wrapRuntimeCamelException(e);
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    /**
+     * Whether Camel is paused (such as for a JVM checkpoint).
+     */
+    public boolean isPaused() {
+        return paused;
+    }
+
+    protected void pause() throws Exception {
+        LOG.info("Pausing CamelContext ({}) before checkpoint", camelContext.getName());
+        ((SpringBootCamelContext) camelContext).setPaused(true);
+        paused = true;
+
+        // remember which routes to start again, as some may not be auto started or have been stopped on purpose
+        pausedRoutes.clear();
+        for (Route route : camelContext.getRoutes()) {
+            if (camelContext.getRouteController().getRouteStatus(route.getRouteId()).isStarted()) {
+                pausedRoutes.add(route.getRouteId());
+            }
+        }
+
+        camelContext.getRouteController().stopAllRoutes();
+        // stop the endpoints and components so they close their connections
+        ServiceHelper.stopService(camelContext.getEndpoints());
+        ServiceHelper.stopService(components());
+        if (threadPoolFactory != null) {
+            threadPoolFactory.pause();
+        }
+    }
+
+    protected void resume() throws Exception {
+        LOG.info("Resuming CamelContext ({}) after restore", camelContext.getName());
+        // the environment may have changed while paused
+        HierarchicalPropertiesEvaluator.invalidate(applicationContext.getEnvironment());
+        applicationContext.getBeanProvider(SpringPropertiesParser.class).ifAvailable(SpringPropertiesParser::invalidate);
+
+        if (threadPoolFactory != null) {
+            threadPoolFactory.resume();
+        }
+        ServiceHelper.startService(components());
+        ServiceHelper.startService(camelContext.getEndpoints());
+        // start the routes as they were, instead of creating them again, which would lose routes from templates
+        for (String routeId : pausedRoutes) {
+            if (camelContext.getRoute(routeId) != null) {
+                camelContext.getRouteController().startRoute(routeId);
+            }
+        }
+        pausedRoutes.clear();
+
+        paused = false;
+        ((SpringBootCamelContext) camelContext).setPaused(false);
+    }
+
+    private List<Component> components() {
+        List<Component> answer = new ArrayList<>();
+        for (String name : camelContext.getComponentNames()) {
+            Component component = camelContext.hasComponent(name);
+            if (component != null) {
+                answer.add(component);
+            }
+        }
+        return answer;
+    }
+
+    /**
+     * Keeps track of the thread pools Camel creates, so their idle threads can be let go before a checkpoint. The
+     * pools themselves are kept as the processors of the routes hold on to them, and they create new threads on demand
+     * after restore.
+     */
+    static final class CheckpointThreadPoolFactory implements ThreadPoolFactory {
+
+        private final ThreadPoolFactory delegate;
+        private final Set<ThreadPoolExecutor> executors = Collections.newSetFromMap(new WeakHashMap<>());
+        private final Map<ThreadPoolExecutor, long[]> pausedSettings = new WeakHashMap<>();
+
+        CheckpointThreadPoolFactory(ThreadPoolFactory delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public ExecutorService newCachedThreadPool(ThreadFactory threadFactory) {
+            return track(delegate.newCachedThreadPool(threadFactory));
+        }
+
+        @Override
+        public ExecutorService newThreadPool(ThreadPoolProfile profile, ThreadFactory threadFactory) {
+            return track(delegate.newThreadPool(profile, threadFactory));
+        }
+
+        @Override
+        public ScheduledExecutorService newScheduledThreadPool(ThreadPoolProfile profile, ThreadFactory threadFactory) {
+            return track(delegate.newScheduledThreadPool(profile, threadFactory));
+        }
+
+        private <T extends ExecutorService> T track(T answer) {
+            ThreadPoolExecutor executor = null;
+            if (answer instanceof ThreadPoolExecutor) {
+                executor = (ThreadPoolExecutor) answer;
+            } else if (answer instanceof SizedScheduledExecutorService) {
+                executor = ((SizedScheduledExecutorService) answer).getScheduledThreadPoolExecutor();
+            }
+            // virtual threads are not pooled so there is nothing to track
+            if (executor != null) {
+                synchronized (this) {
+                    executors.add(executor);
+                }
+            }
+            return answer;
+        }
+
+        synchronized void pause() {
+            for (ThreadPoolExecutor executor : executors) {
+                if (executor.isShutdown() || pausedSettings.containsKey(executor)) {
+                    continue;
+                }
+                pausedSettings.put(executor, new long[] {
+                        executor.getKeepAliveTime(TimeUnit.NANOSECONDS), executor.allowsCoreThreadTimeOut() ? 1 : 0 });
+                // idle threads time out right away, including the core threads
+                executor.setKeepAliveTime(1, TimeUnit.NANOSECONDS);
+                executor.allowCoreThreadTimeOut(true);
+            }
+        }
+
+        synchronized void resume() {
+            for (Map.Entry<ThreadPoolExecutor, long[]> entry : pausedSettings.entrySet()) {
+                ThreadPoolExecutor executor = entry.getKey();
+                long[] settings = entry.getValue();
+                if (!executor.isShutdown()) {
+                    executor.allowCoreThreadTimeOut(settings[1] == 1);
+                    executor.setKeepAliveTime(settings[0], TimeUnit.NANOSECONDS);
+                }
+            }
+            pausedSettings.clear();
+        }
+
+        synchronized int getPoolSize() {
+            int answer = 0;
+            for (ThreadPoolExecutor executor : executors) {
+                answer += executor.getPoolSize();
+            }
+            return answer;
+        }
+    }
+}
@@ -51,6 +51,55 @@ public class CamelConfigurationProperties extends DefaultConfigurationProperties
      */
     private boolean warnOnEarlyShutdown = true;
 
+    /**
+     * Whether to load the routes from resources and build the route models concurrently when Spring Boot starts.
+     * This can speed up starting applications with many route resources, or route builders that are slow to
+     * configure. The route builders must then not depend on each other while being configured. The routes are still
+     * added to Camel in the same order, and routes from route templates are still created one at a time when they are
+     * added.
+     */
+    private boolean routesParallelLoading;
+
+    /**
+     * The number of threads used when loading routes in parallel. Use 0 (default) to use the number of processors.
+     */
+    private int routesParallelLoadingThreads;
+
+    /**
+     * Whether to parse the XML and YAML routes that are loaded from the classpath with the routes include pattern when
+     * the application is processed ahead-of-time, and generate code that creates their route models at runtime. This avoids parsing
+     * these routes when the application starts. Routes that use features which cannot be generated, such as route
+     * configurations, rests, route templates or beans, are parsed at runtime as usual.
+     */
+    private boolean routesAotEnabled = true;
+
+    /**
+     * Whether to defer the auto-configuration of the Camel component starters until Camel first uses their component.
+     * The configuration of a component is then only bound, and its customizer only created, when a component with
+     * its scheme is added to Camel, so startup time and memory depend on the components in use rather than on the
+     * starters in the classpath. Component starters that define other beans than the component customizer are
+     * configured eagerly as usual.
+     */
+    private boolean lazyComponentStarters;
+
+    /**
+     * Whether to pause Camel when Spring stops its lifecycle beans before a JVM checkpoint (CRaC), and resume Camel
+     * when they are started again after restore. Before the checkpoint the routes are stopped, the endpoints and
+     * components are stopped to close their connections, and the idle threads of Camel thread pools are let go. After
+     * restore the routes that were running are started again. This also applies when the Spring application context
+     * is stopped and started again, so it is off by default.
+     */
+    private boolean checkpointRestoreEnabled;
+
+    /**
+     * The maximum number of property placeholders to cache when resolving them from the Spring environment, which
+     * includes the placeholders that cannot be resolved. The cache is invalidated when the property sources of the
+     * environment change, when Spring Cloud refreshes the environment, and when Camel is reloaded. Values changed in
+     * place in a property source, such as system properties, are not noticed until then, so the cache is off by
+     * default (0).
+     */
+    private int placeholderCacheSize;
+
     // Default Properties via camel-main
     // ---------------------------------
 
@@ -924,7 +973,10 @@ public class CamelConfigurationProperties extends DefaultConfigurationProperties
 
     /**
      * To use startup recorder for capturing execution time during starting Camel. The recorder can be one of: false (or
-     * off), logging, java-flight-recorder (or jfr).
+     * off), logging, backlog, java-flight-recorder (or jfr).
+     *
+     * The backlog recorder keeps the steps of starting Camel in memory, which are then available from the camelstartup
+     * actuator endpoint, and are also reported to the Spring Boot ApplicationStartup.
      */
     private String startupRecorder;
 
@@ -997,4 +1049,52 @@ public class CamelConfigurationProperties extends DefaultConfigurationProperties
         this.warnOnEarlyShutdown = warnOnEarlyShutdown;
     }
 
+    public boolean isRoutesParallelLoading() {
+        return routesParallelLoading;
+    }
+
+    public void setRoutesParallelLoading(boolean routesParallelLoading) {
+        this.routesParallelLoading = routesParallelLoading;
+    }
+
+    public int getRoutesParallelLoadingThreads() {
+        return routesParallelLoadingThreads;
+    }
+
+    public void setRoutesParallelLoadingThreads(int routesParallelLoadingThreads) {
+        this.routesParallelLoadingThreads = routesParallelLoadingThreads;
+    }
+
+    public boolean isRoutesAotEnabled() {
+        return routesAotEnabled;
+    }
+
+    public void setRoutesAotEnabled(boolean routesAotEnabled) {
+        this.routesAotEnabled = routesAotEnabled;
+    }
+
+    public boolean isLazyComponentStarters() {
+        return lazyComponentStarters;
+    }
+
+    public void setLazyComponentStarters(boolean lazyComponentStarters) {
+        this.lazyComponentStarters = lazyComponentStarters;
+    }
+
+    public boolean isCheckpointRestoreEnabled() {
+        return checkpointRestoreEnabled;
+    }
+
+    public void setCheckpointRestoreEnabled(boolean checkpointRestoreEnabled) {
+        this.checkpointRestoreEnabled = checkpointRestoreEnabled;
+    }
+
+    public int getPlaceholderCacheSize() {
+        return placeholderCacheSize;
+    }
+
+    public void setPlaceholderCacheSize(int placeholderCacheSize) {
+        this.placeholderCacheSize = placeholderCacheSize;
+    }
+
 }
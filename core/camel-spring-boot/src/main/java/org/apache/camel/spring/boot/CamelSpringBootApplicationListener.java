@@ -28,6 +28,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import org.apache.camel.CamelContext;
 import org.apache.camel.ExtendedCamelContext;
 import org.apache.camel.StartupListener;
+import org.apache.camel.StartupSummaryLevel;
 import org.apache.camel.main.MainDurationEventNotifier;
 import org.apache.camel.main.MainShutdownStrategy;
 import org.apache.camel.main.RoutesCollector;
@@ -36,6 +37,8 @@ import org.apache.camel.main.SimpleMainShutdownStrategy;
 import org.apache.camel.spi.CamelEvent;
 import org.apache.camel.spi.CamelEvent.Type;
 import org.apache.camel.spi.EventNotifier;
+import org.apache.camel.spring.boot.aot.PrecompiledRoutes;
+import org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator;
 import org.apache.camel.support.EventNotifierSupport;
 import org.apache.camel.support.LifecycleStrategySupport;
 import org.apache.camel.support.PluginHelper;
@@ -92,19 +95,29 @@ public class CamelSpringBootApplicationListener implements ApplicationListener<C
             LOG.debug("Post-processing CamelContext bean: {}", camelContext.getName());
 
             try {
-                // we can use the default routes configurer
-                RoutesConfigurer configurer = new RoutesConfigurer();
+                // we can use the default routes configurer, unless routes should be loaded in parallel
+                RoutesConfigurer configurer;
+                if (configurationProperties.isRoutesParallelLoading()) {
+                    configurer = new ParallelRoutesConfigurer(configurationProperties.getRoutesParallelLoadingThreads());
+                } else {
+                    configurer = new RoutesConfigurer();
+                }
 
                 if (configurationProperties.isRoutesCollectorEnabled()) {
+                    springBootRoutesCollector.setIgnoreLoadingError(configurationProperties.isRoutesCollectorIgnoreLoadingError());
                     configurer.setRoutesCollector(springBootRoutesCollector);
                 }
+                configurer.setIgnoreLoadingError(configurationProperties.isRoutesCollectorIgnoreLoadingError());
 
                 configurer.setBeanPostProcessor(PluginHelper.getBeanPostProcessor(camelContext));
                 configurer.setJavaRoutesExcludePattern(configurationProperties.getJavaRoutesExcludePattern());
                 configurer.setJavaRoutesIncludePattern(configurationProperties.getJavaRoutesIncludePattern());
-                configurer.setRoutesExcludePattern(configurationProperties.getRoutesExcludePattern());
+                configurer.setRoutesExcludePattern(getRoutesExcludePattern());
                 configurer.setRoutesIncludePattern(configurationProperties.getRoutesIncludePattern());
                 configurer.configureRoutes(camelContext);
+                if (configurationProperties.isRoutesCollectorEnabled()) {
+                    addPrecompiledRoutes(camelContext);
+                }
 
                 for (CamelContextConfiguration camelContextConfiguration : camelContextConfigurations) {
                     LOG.debug("CamelContextConfiguration found. Invoking beforeApplicationStart: {}", camelContextConfiguration);
@@ -187,6 +200,23 @@ public class CamelSpringBootApplicationListener implements ApplicationListener<C
                     }
                 }
 
+                camelContext.addStartupListener(new StartupListener() {
+                    @Override
+                    public void onCamelContextStarted(CamelContext context, boolean alreadyStarted) {
+                        // noop
+                    }
+
+                    @Override
+                    public void onCamelContextFullyStarted(CamelContext context, boolean alreadyStarted) {
+                        // components and data formats have been created and customized by now
+                        if (configurationProperties.getStartupSummaryLevel() == StartupSummaryLevel.Verbose) {
+                            LOG.info(HierarchicalPropertiesEvaluator.getStartupReport(applicationContext.getEnvironment()));
+                        } else {
+                            LOG.debug(HierarchicalPropertiesEvaluator.getStartupReport(applicationContext.getEnvironment()));
+                        }
+                    }
+                });
+
                 if (!camelContextConfigurations.isEmpty()) {
                     // we want to call these notifications just after CamelContext has been fully started
                     // so use an event notifier to trigger when this happens
@@ -236,6 +266,33 @@ public class CamelSpringBootApplicationListener implements ApplicationListener<C
 
     // Helpers
 
+    /**
+     * The routes exclude pattern, which also excludes the resources of the routes that have been generated
+     * ahead-of-time, as their routes are added from their {@link PrecompiledRoutes} bean instead.
+     */
+    private String getRoutesExcludePattern() {
+        String pattern = configurationProperties.getRoutesExcludePattern();
+        if (!configurationProperties.isRoutesCollectorEnabled()) {
+            return pattern;
+        }
+        for (PrecompiledRoutes routes : applicationContext.getBeansOfType(PrecompiledRoutes.class).values()) {
+            String exclude = routes.getExcludePattern(applicationContext.getClassLoader());
+            pattern = pattern == null || pattern.isBlank() ? exclude : pattern + "," + exclude;
+        }
+        return pattern;
+    }
+
+    /**
+     * Adds the routes that have been generated ahead-of-time directly, as they replace routes resources which are not
+     * subject to the Java routes include and exclude patterns of the routes collector.
+     */
+    private void addPrecompiledRoutes(CamelContext camelContext) throws Exception {
+        for (PrecompiledRoutes routes : applicationContext.getBeansOfType(PrecompiledRoutes.class).values()) {
+            LOG.debug("Adding routes generated ahead-of-time: {}", routes);
+            camelContext.addRoutes(routes.createRoutesBuilder());
+        }
+    }
+
     private void terminateMainControllerAfter(final CamelContext camelContext, int seconds,
                                               final MainShutdownStrategy shutdownStrategy, final Runnable mainCompletedTask) {
         ScheduledExecutorService executorService = camelContext.getExecutorServiceManager().newSingleThreadScheduledExecutor(this, "CamelSpringBootTerminateTask");
@@ -0,0 +1,224 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+
+/**
+ * Lists the entries of a jar, and of the jars nested in it, by only reading the central directories of the jars.
+ * <p>
+ * Spring Boot stores nested jars uncompressed, so their central directory is read at the offset of the nested jar in
+ * the fat jar without inflating anything.
+ */
+final class FatJarCentralDirectory {
+
+    private static final int END_OF_CENTRAL_DIRECTORY = 0x06054b50;
+    private static final int END_OF_CENTRAL_DIRECTORY_SIZE = 22;
+    private static final int ZIP64_END_OF_CENTRAL_DIRECTORY = 0x06064b50;
+    private static final int ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR = 0x07064b50;
+    private static final int ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIZE = 20;
+    private static final int CENTRAL_DIRECTORY_HEADER = 0x02014b50;
+    private static final int CENTRAL_DIRECTORY_HEADER_SIZE = 46;
+    private static final int LOCAL_FILE_HEADER = 0x04034b50;
+    private static final int LOCAL_FILE_HEADER_SIZE = 30;
+    private static final int ZIP64_EXTRA_FIELD = 0x0001;
+    private static final int MAX_COMMENT_SIZE = 0xFFFF;
+
+    private final FileChannel channel;
+
+    private FatJarCentralDirectory(FileChannel channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * Lists the names of the entries of the jar which are not directories. The entries of the nested jars matching
+     * the given predicate are listed instead of the nested jars themselves.
+     *
+     * @throws ZipException if the jar, or a nested jar, cannot be read from its central directory, for example because
+     *                      a nested jar is compressed
+     */
+    static List<String> listEntries(File jar, Predicate<String> nestedJar) throws IOException {
+        try (FileChannel channel = FileChannel.open(jar.toPath(), StandardOpenOption.READ)) {
+            FatJarCentralDirectory directory = new FatJarCentralDirectory(channel);
+            List<String> names = new ArrayList<>();
+            for (Entry entry : directory.readEntries(0, channel.size())) {
+                if (entry.isDirectory()) {
+                    continue;
+                }
+                if (nestedJar.test(entry.name)) {
+                    if (entry.method != ZipEntry.STORED) {
+                        throw new ZipException("Nested jar " + entry.name + " is compressed");
+                    }
+                    long start = directory.dataOffset(entry);
+                    for (Entry nested : directory.readEntries(start, entry.size)) {
+                        if (!nested.isDirectory()) {
+                            names.add(nested.name);
+                        }
+                    }
+                } else {
+                    names.add(entry.name);
+                }
+            }
+            return names;
+        }
+    }
+
+    /**
+     * Reads the entries of the central directory of the zip archive at the given position of the file
+     */
+    private List<Entry> readEntries(long start, long length) throws IOException {
+        // the end of central directory record is at the end of the archive, followed by an optional comment
+        int tailSize = (int) Math.min(length, END_OF_CENTRAL_DIRECTORY_SIZE + MAX_COMMENT_SIZE);
+        long tailStart = start + length - tailSize;
+        ByteBuffer tail = read(tailStart, tailSize);
+        int eocd = -1;
+        for (int i = tailSize - END_OF_CENTRAL_DIRECTORY_SIZE; i >= 0; i--) {
+            if (tail.getInt(i) == END_OF_CENTRAL_DIRECTORY) {
+                eocd = i;
+                break;
+            }
+        }
+        if (eocd < 0) {
+            throw new ZipException("End of central directory not found");
+        }
+
+        long count = Short.toUnsignedLong(tail.getShort(eocd + 10));
+        long size = Integer.toUnsignedLong(tail.getInt(eocd + 12));
+        long offset = Integer.toUnsignedLong(tail.getInt(eocd + 16));
+        long end = tailStart + eocd;
+        int locator = eocd - ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIZE;
+        if (locator >= 0 && tail.getInt(locator) == ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR) {
+            // the central directory ends where the zip64 end of central directory record starts
+            end = start + tail.getLong(locator + 8);
+            ByteBuffer zip64 = read(end, 56);
+            if (zip64.getInt(0) != ZIP64_END_OF_CENTRAL_DIRECTORY) {
+                throw new ZipException("Zip64 end of central directory not found");
+            }
+            count = zip64.getLong(32);
+            size = zip64.getLong(40);
+            offset = zip64.getLong(48);
+        }
+        if (size > Integer.MAX_VALUE) {
+            throw new ZipException("Central directory too large");
+        }
+        // data may precede the archive, such as the launch script of a fully executable jar,
+        // in which case the offsets in the archive are relative to the start of the archive
+        long cdStart = end - size;
+        long shift = cdStart - (start + offset);
+        if (shift < 0) {
+            shift = 0;
+            cdStart = start + offset;
+        }
+
+        ByteBuffer cd = read(cdStart, (int) size);
+        List<Entry> entries = new ArrayList<>((int) Math.min(count, 0xFFFF));
+        int pos = 0;
+        while (pos + CENTRAL_DIRECTORY_HEADER_SIZE <= size && cd.getInt(pos) == CENTRAL_DIRECTORY_HEADER) {
+            int method = Short.toUnsignedInt(cd.getShort(pos + 10));
+            long compressedSize = Integer.toUnsignedLong(cd.getInt(pos + 20));
+            long uncompressedSize = Integer.toUnsignedLong(cd.getInt(pos + 24));
+            int nameLength = Short.toUnsignedInt(cd.getShort(pos + 28));
+            int extraLength = Short.toUnsignedInt(cd.getShort(pos + 30));
+            int commentLength = Short.toUnsignedInt(cd.getShort(pos + 32));
+            long localHeaderOffset = Integer.toUnsignedLong(cd.getInt(pos + 42));
+
+            byte[] name = new byte[nameLength];
+            cd.get(pos + CENTRAL_DIRECTORY_HEADER_SIZE, name);
+
+            // zip64 extra field holds the values which do not fit in the header
+            int extra = pos + CENTRAL_DIRECTORY_HEADER_SIZE + nameLength;
+            int extraEnd = extra + extraLength;
+            while (extra + 4 <= extraEnd) {
+                int id = Short.toUnsignedInt(cd.getShort(extra));
+                int dataSize = Short.toUnsignedInt(cd.getShort(extra + 2));
+                if (id == ZIP64_EXTRA_FIELD) {
+                    int field = extra + 4;
+                    if (uncompressedSize == 0xFFFFFFFFL) {
+                        uncompressedSize = cd.getLong(field);
+                        field += 8;
+                    }
+                    if (compressedSize == 0xFFFFFFFFL) {
+                        compressedSize = cd.getLong(field);
+                        field += 8;
+                    }
+                    if (localHeaderOffset == 0xFFFFFFFFL) {
+                        localHeaderOffset = cd.getLong(field);
+                    }
+                    break;
+                }
+                extra += 4 + dataSize;
+            }
+
+            entries.add(new Entry(new String(name, StandardCharsets.UTF_8), method, compressedSize,
+                    start + shift + localHeaderOffset));
+            pos += CENTRAL_DIRECTORY_HEADER_SIZE + nameLength + extraLength + commentLength;
+        }
+        return entries;
+    }
+
+    /**
+     * The position in the file of the data of the entry, which follows its local file header
+     */
+    private long dataOffset(Entry entry) throws IOException {
+        ByteBuffer header = read(entry.localHeaderOffset, LOCAL_FILE_HEADER_SIZE);
+        if (header.getInt(0) != LOCAL_FILE_HEADER) {
+            throw new ZipException("Local file header of " + entry.name + " not found");
+        }
+        int nameLength = Short.toUnsignedInt(header.getShort(26));
+        int extraLength = Short.toUnsignedInt(header.getShort(28));
+        return entry.localHeaderOffset + LOCAL_FILE_HEADER_SIZE + nameLength + extraLength;
+    }
+
+    private ByteBuffer read(long position, int size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(size).order(ByteOrder.LITTLE_ENDIAN);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new ZipException("Unexpected end of file");
+            }
+        }
+        return buffer;
+    }
+
+    private static final class Entry {
+        private final String name;
+        private final int method;
+        private final long size;
+        private final long localHeaderOffset;
+
+        private Entry(String name, int method, long size, long localHeaderOffset) {
+            this.name = name;
+            this.method = method;
+            this.size = size;
+            this.localHeaderOffset = localHeaderOffset;
+        }
+
+        private boolean isDirectory() {
+            return name.endsWith("/");
+        }
+    }
+}
@@ -16,14 +16,32 @@
  */
 package org.apache.camel.spring.boot;
 
+import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.annotation.Annotation;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.jar.JarEntry;
 import java.util.jar.JarInputStream;
+import java.util.stream.Collectors;
 
 import org.apache.camel.impl.engine.DefaultPackageScanClassResolver;
+import org.apache.camel.impl.scan.AnnotatedWithAnyPackageScanFilter;
+import org.apache.camel.impl.scan.AnnotatedWithPackageScanFilter;
+import org.apache.camel.impl.scan.CompositePackageScanFilter;
+import org.apache.camel.spi.PackageScanFilter;
 import org.apache.camel.util.IOHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -31,6 +49,11 @@ import org.slf4j.LoggerFactory;
 /**
  * An implementation of the {@code org.apache.camel.spi.PackageScanClassResolver} that is able to
  * scan spring-boot fat jars to find classes contained also in nested jars.
+ * <p>
+ * When the fat jar contains an index of its classes, generated with the {@code generate-package-scan-index} goal of the
+ * {@code camel-spring-boot-generator-maven-plugin}, the index is used instead of scanning the fat jar for the packages
+ * it covers, and the annotations in the index are used to skip loading classes which cannot match when searching for
+ * annotated classes.
  */
 public class FatJarPackageScanClassResolver extends DefaultPackageScanClassResolver {
     private static final Logger LOG = LoggerFactory.getLogger(FatJarPackageScanClassResolver.class);
@@ -41,11 +64,118 @@ public class FatJarPackageScanClassResolver extends DefaultPackageScanClassResol
     private static final String SPRING_BOOT_WEB_INF_LIB_ROOT = "WEB-INF/lib/";
     private static final String SPRING_BOOT_WEB_INF_CLASSES_ROOT = "WEB-INF/classes/";
 
+    /**
+     * The location of the index of the classes in the fat jar, relative to the classes root of the fat jar, which
+     * must match the location the {@code generate-package-scan-index} goal writes the index to
+     */
+    public static final String INDEX_LOCATION = "META-INF/camel/package-scan.idx";
+    // the annotations of a class which cannot be determined
+    static final String UNKNOWN_ANNOTATIONS = "?";
+    // the line with the packages which the index is limited to
+    static final String INDEX_PACKAGES = "packages";
+
+    // the indexes by their url
+    private final Map<String, PackageScanIndex> indexes = new ConcurrentHashMap<>();
+    private final Set<PackageScanFilter> scanFilters = new LinkedHashSet<>();
+
+    @Override
+    public void addFilter(PackageScanFilter filter) {
+        super.addFilter(filter);
+        scanFilters.add(filter);
+    }
+
+    @Override
+    public void removeFilter(PackageScanFilter filter) {
+        super.removeFilter(filter);
+        scanFilters.remove(filter);
+    }
+
+    @Override
+    public Set<Class<?>> findAnnotated(Class<? extends Annotation> annotation, String... packageNames) {
+        if (packageNames == null) {
+            return Collections.emptySet();
+        }
+        return findIndexed(new AnnotatedWithPackageScanFilter(annotation, true), Set.of(annotation.getName()),
+                packageNames);
+    }
+
+    @Override
+    public Set<Class<?>> findAnnotated(Set<Class<? extends Annotation>> annotations, String... packageNames) {
+        if (packageNames == null) {
+            return Collections.emptySet();
+        }
+        return findIndexed(new AnnotatedWithAnyPackageScanFilter(annotations, true),
+                annotations.stream().map(Class::getName).collect(Collectors.toSet()), packageNames);
+    }
+
+    private Set<Class<?>> findIndexed(PackageScanFilter filter, Set<String> annotations, String... packageNames) {
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Searching for annotations of {} in packages: {}", annotations, Arrays.asList(packageNames));
+        }
+        PackageScanFilter test = filter;
+        if (!scanFilters.isEmpty()) {
+            CompositePackageScanFilter composite = new CompositePackageScanFilter(scanFilters);
+            composite.addFilter(filter);
+            test = composite;
+        }
+        test = new IndexedAnnotationsFilter(test, annotations);
+
+        Set<Class<?>> classes = new LinkedHashSet<>();
+        for (String pkg : packageNames) {
+            find(test, pkg, classes);
+        }
+        LOG.debug("Found: {}", classes);
+        return classes;
+    }
+
+    @Override
+    protected void find(PackageScanFilter test, String packageName, ClassLoader loader, Set<Class<?>> classes) {
+        PackageScanIndex index = getIndex(loader);
+        Map<String, Set<String>> entries = index != null ? index.getEntries(packageName) : null;
+        if (entries == null) {
+            super.find(test, packageName, loader, classes);
+            return;
+        }
+
+        for (Map.Entry<String, Set<String>> entry : entries.entrySet()) {
+            if (test instanceof IndexedAnnotationsFilter filter) {
+                Set<String> annotations = entry.getValue();
+                if (!annotations.contains(UNKNOWN_ANNOTATIONS) && Collections.disjoint(annotations, filter.annotations)) {
+                    // the class cannot match so avoid loading it
+                    LOG.trace("Skipping class {} which is not annotated with any of {}", entry.getKey(), filter.annotations);
+                    continue;
+                }
+            }
+            addIfMatching(test, entry.getKey(), classes);
+        }
+    }
+
     @Override
     protected List<String> doLoadJarClassEntries(InputStream stream, String urlPath) {
         return doLoadJarClassEntries(stream, urlPath, true, true);
     }
 
+    /**
+     * Gets the index in the classes of the fat jar of the class loader, or <tt>null</tt> if there is no index.
+     */
+    protected PackageScanIndex getIndex(ClassLoader loader) {
+        try {
+            Enumeration<URL> urls = loader.getResources(INDEX_LOCATION);
+            while (urls.hasMoreElements()) {
+                URL url = urls.nextElement();
+                String path = url.toString();
+                // an index in the classes of a directory may be stale, as it is only generated by the maven build
+                if (path.startsWith("jar:") && (path.contains(SPRING_BOOT_BOOT_INF_CLASSES_ROOT)
+                        || path.contains(SPRING_BOOT_WEB_INF_CLASSES_ROOT))) {
+                    return indexes.computeIfAbsent(path, key -> new PackageScanIndex(url));
+                }
+            }
+        } catch (IOException e) {
+            LOG.debug("Cannot look up package scan index in classloader: {} due to {}", loader, e.getMessage(), e);
+        }
+        return null;
+    }
+
     protected List<String> doLoadJarClassEntries(InputStream stream, String urlPath, boolean inspectNestedJars, boolean closeStream) {
         List<String> entries = new ArrayList<>();
 
@@ -96,4 +226,107 @@ public class FatJarPackageScanClassResolver extends DefaultPackageScanClassResol
         return name;
     }
 
+    @Override
+    public void clearCache() {
+        super.clearCache();
+        indexes.clear();
+    }
+
+    /**
+     * The index of the classes in a fat jar, which is read for each package that is scanned, so only the entries of
+     * the scanned packages are kept in memory.
+     * <p>
+     * When the index starts with a <tt>packages</tt> line, only the classes in the listed packages and their sub
+     * packages are indexed, and the other packages are scanned.
+     */
+    protected static final class PackageScanIndex {
+
+        private final URL url;
+        // the entries with their annotations by package, only a few packages are scanned
+        private final Map<String, Map<String, Set<String>>> packages = new ConcurrentHashMap<>();
+
+        PackageScanIndex(URL url) {
+            this.url = url;
+        }
+
+        /**
+         * Gets the class entries of the package and its sub packages with their annotations, or <tt>null</tt> if the
+         * package is not indexed.
+         */
+        Map<String, Set<String>> getEntries(String packageName) {
+            Map<String, Set<String>> answer = packages.get(packageName);
+            if (answer == null) {
+                answer = load(packageName);
+                if (answer != null) {
+                    packages.put(packageName, answer);
+                }
+            }
+            return answer;
+        }
+
+        private Map<String, Set<String>> load(String packageName) {
+            String prefix = packageName.isEmpty() ? "" : packageName + "/";
+            Map<String, Set<String>> answer = new LinkedHashMap<>();
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.isBlank() || line.startsWith("#")) {
+                        continue;
+                    }
+                    String[] parts = line.trim().split(" ");
+                    if (INDEX_PACKAGES.equals(parts[0])) {
+                        if (!isIndexed(prefix, parts)) {
+                            LOG.debug("Package {} is not in the package scan index: {}. Scanning the package instead.",
+                                    packageName, url);
+                            return null;
+                        }
+                    } else if (parts[0].startsWith(prefix)) {
+                        answer.put(parts[0], parts.length == 1
+                                ? Collections.emptySet() : Set.copyOf(Arrays.asList(parts).subList(1, parts.length)));
+                    }
+                }
+            } catch (IOException e) {
+                LOG.debug("Cannot read package scan index: {} due to {}. Scanning the package instead.", url,
+                        e.getMessage(), e);
+                return null;
+            }
+            LOG.debug("Loaded {} class entries of package {} from the package scan index: {}", answer.size(), packageName,
+                    url);
+            return answer;
+        }
+
+        private static boolean isIndexed(String prefix, String[] packages) {
+            for (int i = 1; i < packages.length; i++) {
+                if (prefix.startsWith(packages[i])) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * A filter for annotated classes, which makes the annotations searched for known when the classes of an index
+     * are matched.
+     */
+    private static final class IndexedAnnotationsFilter implements PackageScanFilter {
+
+        private final PackageScanFilter delegate;
+        private final Set<String> annotations;
+
+        private IndexedAnnotationsFilter(PackageScanFilter delegate, Set<String> annotations) {
+            this.delegate = delegate;
+            this.annotations = annotations;
+        }
+
+        @Override
+        public boolean matches(Class<?> type) {
+            return delegate.matches(type);
+        }
+
+        @Override
+        public String toString() {
+            return delegate.toString();
+        }
+    }
 }
@@ -22,6 +22,8 @@ import org.apache.camel.util.StringHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
@@ -30,13 +32,20 @@ import java.net.URL;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
 import java.util.jar.JarInputStream;
 
 /**
  * An implementation of the {@code org.apache.camel.spi.PackageScanResourceResolver} that is able to
  * scan spring-boot fat jars to find resources contained also in nested jars.
+ * <p>
+ * The resources of a jar are listed from the central directories of the jar and its nested jars, and cached for the
+ * lifetime of the resolver, so looking up several packages or patterns reads a jar only once.
  */
 public class FatJarPackageScanResourceResolver extends DefaultPackageScanResourceResolver {
     private static final Logger LOG = LoggerFactory.getLogger(FatJarPackageScanResourceResolver.class);
@@ -47,9 +56,69 @@ public class FatJarPackageScanResourceResolver extends DefaultPackageScanResourc
     private static final String SPRING_BOOT_WEB_INF_LIB_ROOT = "WEB-INF/lib/";
     private static final String SPRING_BOOT_WEB_INF_CLASSES_ROOT = "WEB-INF/classes/";
 
+    // the resources of the jars by url, which are listed once for all the lookups
+    private final Map<String, List<String>> jarResources = new ConcurrentHashMap<>();
+
     @Override
     protected List<String> doLoadImplementationsInJar(String packageName, InputStream stream, String urlPath) {
-        return doLoadImplementationsInJar(packageName,  stream, urlPath, true, true);
+        List<String> resources = jarResources.get(urlPath);
+        if (resources == null) {
+            resources = loadJarResources(stream, urlPath);
+            jarResources.put(urlPath, resources);
+        } else {
+            LOG.trace("Using cached resources of jar: {}", urlPath);
+            IOHelper.close(stream, urlPath, LOG);
+        }
+
+        List<String> entries = new ArrayList<>();
+        for (String name : resources) {
+            // name is FQN so it must start with package name
+            if (name.startsWith(packageName)) {
+                entries.add(name);
+            }
+        }
+        return entries;
+    }
+
+    private List<String> loadJarResources(InputStream stream, String urlPath) {
+        File file = new File(urlPath);
+        if (file.isFile()) {
+            // the stream is not needed as only the central directories are read
+            IOHelper.close(stream, urlPath, LOG);
+            try {
+                List<String> resources = new ArrayList<>();
+                for (String name : FatJarCentralDirectory.listEntries(file, this::isSpringBootNestedJar)) {
+                    if (!name.endsWith(".class") && !JarFile.MANIFEST_NAME.equals(name)) {
+                        resources.add(cleanupSpringBootClassName(name));
+                    }
+                }
+                LOG.debug("Listed {} resources from the central directory of jar: {}", resources.size(), urlPath);
+                return resources;
+            } catch (IOException e) {
+                LOG.debug("Cannot read central directory of jar: {} due to {}. Scanning the jar instead.", urlPath,
+                        e.getMessage(), e);
+            }
+            try {
+                stream = new FileInputStream(file);
+            } catch (IOException e) {
+                LOG.warn("Cannot search jar file '" + urlPath + " due to an IOException: " + e.getMessage() + ". This exception is ignored.", e);
+                return Collections.emptyList();
+            }
+        }
+        return doLoadImplementationsInJar("", stream, urlPath, true, true);
+    }
+
+    /**
+     * Clears the cached resources of the jars
+     */
+    public void clearCache() {
+        jarResources.clear();
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+        clearCache();
     }
 
     protected List<String> doLoadImplementationsInJar(String packageName, InputStream stream, String urlPath,
@@ -0,0 +1,191 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.camel.Component;
+import org.apache.camel.spi.ComponentCustomizer;
+import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.core.type.MethodMetadata;
+
+/**
+ * A {@link BeanFactoryPostProcessor} that defers the auto-configuration of the component starters until Camel adds a
+ * component they configure, so the configuration of the components that are not used is never bound.
+ * <p>
+ * The auto-configurations of the components, recognized by their {@link ConditionalOnHierarchicalProperties}
+ * condition on {@code camel.component.<scheme>}, and their configuration properties are made lazy. Their
+ * {@link ComponentCustomizer} bean definitions are removed from the bean factory and indexed by scheme in a single
+ * {@link LazyComponentCustomizer}, which registers them again and applies them the first time a component with that
+ * scheme is added to Camel. From then on, Camel applies them as any other customizer.
+ * <p>
+ * The auto-configurations that define other beans than customizers are left as is.
+ */
+final class LazyComponentStartersPostProcessor implements BeanFactoryPostProcessor {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LazyComponentStartersPostProcessor.class);
+    private static final String COMPONENT_PREFIX = "camel.component.";
+
+    @Override
+    public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) throws BeansException {
+        if (!(beanFactory instanceof BeanDefinitionRegistry)) {
+            return;
+        }
+        BeanDefinitionRegistry registry = (BeanDefinitionRegistry) beanFactory;
+        Map<String, List<String>> factoryBeans = new LinkedHashMap<>();
+        for (String name : registry.getBeanDefinitionNames()) {
+            String factoryBeanName = registry.getBeanDefinition(name).getFactoryBeanName();
+            if (factoryBeanName != null) {
+                factoryBeans.computeIfAbsent(factoryBeanName, key -> new ArrayList<>()).add(name);
+            }
+        }
+        Map<String, Map<String, BeanDefinition>> customizers = new LinkedHashMap<>();
+        for (String name : registry.getBeanDefinitionNames()) {
+            if (!registry.containsBeanDefinition(name)) {
+                // a customizer removed by a previous auto-configuration
+                continue;
+            }
+            String scheme = getComponentScheme(registry.getBeanDefinition(name));
+            List<String> beans = factoryBeans.getOrDefault(name, List.of());
+            if (scheme == null || beans.isEmpty()
+                || !beans.stream().allMatch(bean -> isComponentCustomizer(registry.getBeanDefinition(bean)))) {
+                continue;
+            }
+            registry.getBeanDefinition(name).setLazyInit(true);
+            for (String bean : registry.getBeanDefinitionNames()) {
+                // the configuration properties are registered as <prefix>-<class name>
+                if (bean.startsWith(COMPONENT_PREFIX + scheme + "-")) {
+                    registry.getBeanDefinition(bean).setLazyInit(true);
+                }
+            }
+            for (String bean : beans) {
+                customizers.computeIfAbsent(scheme, key -> new LinkedHashMap<>()).put(bean, registry.getBeanDefinition(bean));
+                registry.removeBeanDefinition(bean);
+            }
+        }
+        if (!customizers.isEmpty()) {
+            LOG.info("Deferring the auto-configuration of {} component starters until their components are used", customizers.size());
+            beanFactory.registerSingleton("lazyComponentCustomizer", new LazyComponentCustomizer(registry, beanFactory, customizers));
+        }
+    }
+
+    /**
+     * @return the scheme of the component configured by the given auto-configuration, or {@code null} if it is not the
+     *         auto-configuration of a component.
+     */
+    private static String getComponentScheme(BeanDefinition definition) {
+        if (!(definition instanceof AnnotatedBeanDefinition)) {
+            return null;
+        }
+        Map<String, Object> attributes = ((AnnotatedBeanDefinition) definition).getMetadata()
+            .getAnnotationAttributes(ConditionalOnHierarchicalProperties.class.getName());
+        String[] names = attributes == null ? null : (String[]) attributes.get("value");
+        if (names == null || names.length != 2 || !names[1].startsWith(COMPONENT_PREFIX)) {
+            return null;
+        }
+        return names[1].substring(COMPONENT_PREFIX.length());
+    }
+
+    private static boolean isComponentCustomizer(BeanDefinition definition) {
+        if (!(definition instanceof AnnotatedBeanDefinition)) {
+            return false;
+        }
+        MethodMetadata metadata = ((AnnotatedBeanDefinition) definition).getFactoryMethodMetadata();
+        return metadata != null && ComponentCustomizer.class.getName().equals(metadata.getReturnTypeName());
+    }
+
+    /**
+     * The {@link ComponentCustomizer} that activates the customizers of the lazy component starters.
+     */
+    static final class LazyComponentCustomizer implements ComponentCustomizer {
+
+        private final BeanDefinitionRegistry registry;
+        private final BeanFactory beanFactory;
+        /**
+         * The bean definitions of the customizers that have not been activated yet, by component scheme.
+         */
+        private final Map<String, Map<String, BeanDefinition>> customizers;
+
+        LazyComponentCustomizer(BeanDefinitionRegistry registry, BeanFactory beanFactory,
+                                Map<String, Map<String, BeanDefinition>> customizers) {
+            this.registry = registry;
+            this.beanFactory = beanFactory;
+            this.customizers = customizers;
+        }
+
+        @Override
+        public boolean isEnabled(String name, Component target) {
+            synchronized (customizers) {
+                return getSchemes(name, target).stream().anyMatch(customizers::containsKey);
+            }
+        }
+
+        @Override
+        public void configure(String name, Component target) {
+            List<String> beans = new ArrayList<>();
+            synchronized (customizers) {
+                for (String scheme : getSchemes(name, target)) {
+                    Map<String, BeanDefinition> definitions = customizers.remove(scheme);
+                    if (definitions != null) {
+                        LOG.debug("Activating the auto-configuration of the component: {}", scheme);
+                        definitions.forEach(registry::registerBeanDefinition);
+                        beans.addAll(definitions.keySet());
+                    }
+                }
+            }
+            // the customizers are now in the registry, so Camel applies them to the next components on its own
+            for (String bean : beans) {
+                ComponentCustomizer customizer = beanFactory.getBean(bean, ComponentCustomizer.class);
+                if (customizer.isEnabled(name, target)) {
+                    customizer.configure(name, target);
+                }
+            }
+        }
+
+        /**
+         * @return the schemes of the given component, that is the name it is added with and the schemes declared by
+         *         its class.
+         */
+        private static Set<String> getSchemes(String name, Component target) {
+            Set<String> answer = new LinkedHashSet<>();
+            answer.add(name);
+            org.apache.camel.spi.annotations.Component annotation
+                = ObjectHelper.getAnnotation(target, org.apache.camel.spi.annotations.Component.class);
+            if (annotation != null) {
+                for (String scheme : annotation.value().split(",")) {
+                    answer.add(scheme.trim());
+                }
+            }
+            return answer;
+        }
+    }
+}
@@ -0,0 +1,322 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.RouteConfigurationsBuilder;
+import org.apache.camel.RoutesBuilder;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.main.RoutesCollector;
+import org.apache.camel.main.RoutesConfigurer;
+import org.apache.camel.spi.ExtendedRoutesBuilderLoader;
+import org.apache.camel.spi.ModelineFactory;
+import org.apache.camel.spi.Resource;
+import org.apache.camel.spi.RoutesBuilderLoader;
+import org.apache.camel.spi.RoutesLoader;
+import org.apache.camel.support.OrderedComparator;
+import org.apache.camel.support.PluginHelper;
+import org.apache.camel.util.FileUtil;
+import org.apache.camel.util.ObjectHelper;
+import org.apache.camel.util.StopWatch;
+import org.apache.camel.util.TimeUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link RoutesConfigurer} that loads the route resources and builds the route models of the collected
+ * {@link RoutesBuilder}s concurrently on a fork-join pool.
+ * <p>
+ * The routes are still added to the {@link CamelContext} one by one, in the same order as {@link RoutesConfigurer}
+ * does, so the outcome does not depend on which task finished first. This includes creating the routes from route
+ * templates, as the model of the {@link CamelContext} is not thread-safe. If several tasks fail, then the failure of the
+ * first resource (or builder) in that order is thrown, with the others added as suppressed exceptions.
+ */
+class ParallelRoutesConfigurer extends RoutesConfigurer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ParallelRoutesConfigurer.class);
+
+    private final int parallelism;
+
+    ParallelRoutesConfigurer(int parallelism) {
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+
+    @Override
+    public void configureRoutes(CamelContext camelContext) throws Exception {
+        StopWatch watch = new StopWatch();
+        ForkJoinPool pool = new ForkJoinPool(parallelism, new RoutesThreadFactory(camelContext), null, false);
+        try {
+            List<RoutesBuilder> routes = new ArrayList<>();
+            if (getRoutesBuilders() != null) {
+                routes.addAll(getRoutesBuilders());
+            }
+            if (getRoutesCollector() != null) {
+                try {
+                    routes.addAll(getRoutesCollector().collectRoutesFromRegistry(camelContext, getJavaRoutesExcludePattern(),
+                            getJavaRoutesIncludePattern()));
+                    routes.addAll(collectRoutesFromDirectory(camelContext, pool));
+                } catch (Exception e) {
+                    throw RuntimeCamelException.wrapRuntimeException(e);
+                }
+            }
+
+            if (getBeanPostProcessor() != null) {
+                // the bean post processor is not thread-safe, and is quick anyway
+                for (RoutesBuilder routeBuilder : routes) {
+                    getBeanPostProcessor().postProcessBeforeInitialization(routeBuilder, routeBuilder.getClass().getName());
+                    getBeanPostProcessor().postProcessAfterInitialization(routeBuilder, routeBuilder.getClass().getName());
+                }
+            }
+
+            // build the route models, which are only added to the context afterwards
+            List<Callable<Object>> tasks = new ArrayList<>();
+            List<Object> sources = new ArrayList<>();
+            for (RoutesBuilder builder : routes) {
+                if (builder instanceof RouteBuilder && !(builder instanceof RouteConfigurationsBuilder)) {
+                    RouteBuilder routeBuilder = (RouteBuilder) builder;
+                    tasks.add(() -> routeBuilder.configureRoutes(camelContext));
+                    sources.add(builder);
+                }
+            }
+            invokeAll(pool, tasks, sources);
+
+            addRoutes(camelContext, routes);
+            LOG.debug("Configured {} RoutesBuilder using {} threads (took {})", routes.size(), parallelism,
+                    TimeUtils.printDuration(watch.taken(), true));
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private Collection<RoutesBuilder> collectRoutesFromDirectory(CamelContext camelContext, ForkJoinPool pool) throws Exception {
+        List<RoutesBuilder> answer = new ArrayList<>();
+
+        // optional patterns must not fail if there is no loader for the resource (same as DefaultRoutesCollector)
+        String pattern = getRoutesIncludePattern();
+        String optionalPattern = null;
+        if (pattern != null && pattern.contains("?optional=true")) {
+            StringJoiner sj1 = new StringJoiner(",");
+            StringJoiner sj2 = new StringJoiner(",");
+            for (String p : pattern.split(",")) {
+                if (p.endsWith("?optional=true")) {
+                    sj2.add(p.substring(0, p.length() - 14));
+                } else {
+                    sj1.add(p);
+                }
+            }
+            pattern = sj1.length() > 0 ? sj1.toString() : null;
+            optionalPattern = sj2.length() > 0 ? sj2.toString() : null;
+        }
+
+        RoutesCollector collector = getRoutesCollector();
+        if (optionalPattern != null) {
+            answer.addAll(loadRoutes(camelContext, pool,
+                    collector.findRouteResourcesFromDirectory(camelContext, getRoutesExcludePattern(), optionalPattern), true));
+        }
+        if (pattern != null) {
+            answer.addAll(loadRoutes(camelContext, pool,
+                    collector.findRouteResourcesFromDirectory(camelContext, getRoutesExcludePattern(), pattern), false));
+        }
+        return answer;
+    }
+
+    private List<RoutesBuilder> loadRoutes(CamelContext camelContext, ForkJoinPool pool, Collection<Resource> resources, boolean optional)
+            throws Exception {
+        RoutesLoader loader = PluginHelper.getRoutesLoader(camelContext);
+
+        // java routes must be loaded first
+        List<Resource> sort = new ArrayList<>(resources);
+        sort.sort((o1, o2) -> {
+            String ext1 = FileUtil.onlyExt(o1.getLocation(), false);
+            String ext2 = FileUtil.onlyExt(o2.getLocation(), false);
+            if ("java".equals(ext1)) {
+                return -1;
+            } else if ("java".equals(ext2)) {
+                return 1;
+            }
+            return 0;
+        });
+
+        // the loaders are resolved (and started) from this thread, so the tasks only parse
+        Map<RoutesBuilderLoader, List<Resource>> groups = new LinkedHashMap<>();
+        for (Resource resource : sort) {
+            String extension = FileUtil.onlyExt(resource.getLocation(), false);
+            if (ObjectHelper.isEmpty(extension)) {
+                throw new IllegalArgumentException("Unable to determine file extension for resource: " + resource.getLocation());
+            }
+            RoutesBuilderLoader routesBuilderLoader = loader.getRoutesLoader(extension);
+            if (routesBuilderLoader == null) {
+                if (!optional) {
+                    throw new IllegalArgumentException("Cannot find RoutesBuilderLoader in classpath supporting file extension: " + extension);
+                }
+                continue;
+            }
+            groups.computeIfAbsent(routesBuilderLoader, k -> new ArrayList<>()).add(resource);
+        }
+
+        if (camelContext.isModeline()) {
+            ModelineFactory factory = PluginHelper.getModelineFactory(camelContext);
+            for (List<Resource> list : groups.values()) {
+                for (Resource resource : list) {
+                    factory.parseModeline(resource);
+                }
+            }
+        }
+
+        List<Callable<Collection<RoutesBuilder>>> tasks = new ArrayList<>();
+        List<Object> sources = new ArrayList<>();
+        for (Map.Entry<RoutesBuilderLoader, List<Resource>> entry : groups.entrySet()) {
+            RoutesBuilderLoader routesBuilderLoader = entry.getKey();
+            if (routesBuilderLoader instanceof ExtendedRoutesBuilderLoader) {
+                // these loaders (such as java source) compile all their resources together
+                ExtendedRoutesBuilderLoader extLoader = (ExtendedRoutesBuilderLoader) routesBuilderLoader;
+                List<Resource> files = entry.getValue();
+                tasks.add(() -> {
+                    extLoader.preParseRoutes(files);
+                    return extLoader.loadRoutesBuilders(files);
+                });
+                sources.add(files);
+            } else {
+                for (Resource resource : entry.getValue()) {
+                    tasks.add(() -> {
+                        routesBuilderLoader.preParseRoute(resource);
+                        RoutesBuilder builder = routesBuilderLoader.loadRoutesBuilder(resource);
+                        return builder != null ? List.of(builder) : null;
+                    });
+                    sources.add(resource);
+                }
+            }
+        }
+
+        List<RoutesBuilder> answer = new ArrayList<>();
+        if (getRoutesCollector().isIgnoreLoadingError()) {
+            List<Future<Collection<RoutesBuilder>>> futures = submitAll(pool, tasks);
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    addIfNotNull(answer, futures.get(i).get());
+                } catch (ExecutionException e) {
+                    LOG.warn("Loading resources error: {} due to: {}. This exception is ignored.", sources.get(i),
+                            e.getCause().getMessage());
+                }
+            }
+        } else {
+            for (Collection<RoutesBuilder> builders : invokeAll(pool, tasks, sources)) {
+                addIfNotNull(answer, builders);
+            }
+        }
+        LOG.debug("Loaded {} RoutesBuilder from {} resources", answer.size(), sort.size());
+        return answer;
+    }
+
+    private static void addIfNotNull(List<RoutesBuilder> answer, Collection<RoutesBuilder> builders) {
+        if (builders != null) {
+            answer.addAll(builders);
+        }
+    }
+
+    private static void addRoutes(CamelContext camelContext, List<RoutesBuilder> routes) throws Exception {
+        // same order as RoutesConfigurer
+        routes.sort(OrderedComparator.get());
+        for (RoutesBuilder builder : routes) {
+            if (builder instanceof RouteConfigurationsBuilder) {
+                LOG.debug("Adding routes configurations into CamelContext from RouteConfigurationsBuilder: {}", builder);
+                camelContext.addRoutesConfigurations((RouteConfigurationsBuilder) builder);
+            }
+        }
+        for (RoutesBuilder builder : routes) {
+            LOG.debug("Adding routes into CamelContext from RoutesBuilder: {}", builder);
+            camelContext.addRoutes(builder);
+        }
+        for (RoutesBuilder builder : routes) {
+            LOG.debug("Adding templated routes into CamelContext from RoutesBuilder: {}", builder);
+            camelContext.addTemplatedRoutes(builder);
+        }
+    }
+
+    private static <T> List<Future<T>> submitAll(ForkJoinPool pool, List<Callable<T>> tasks) {
+        List<Future<T>> futures = new ArrayList<>(tasks.size());
+        for (Callable<T> task : tasks) {
+            // not using ForkJoinTask as it may rethrow a copy of the exception from another thread
+            FutureTask<T> future = new FutureTask<>(task);
+            pool.execute(future);
+            futures.add(future);
+        }
+        return futures;
+    }
+
+    /**
+     * Runs the tasks and waits for all of them to complete, so a failure is never reported while other tasks are
+     * still changing state. The results are returned in the order of the tasks.
+     */
+    private static <T> List<T> invokeAll(ForkJoinPool pool, List<Callable<T>> tasks, List<Object> sources) throws Exception {
+        List<Future<T>> futures = submitAll(pool, tasks);
+        List<T> answer = new ArrayList<>(futures.size());
+        Exception failure = null;
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                answer.add(futures.get(i).get());
+            } catch (ExecutionException e) {
+                Exception cause = e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+                LOG.debug("Error configuring routes from: {}", sources.get(i), cause);
+                if (failure == null) {
+                    failure = cause;
+                } else {
+                    failure.addSuppressed(cause);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return answer;
+    }
+
+    private static final class RoutesThreadFactory implements ForkJoinPool.ForkJoinWorkerThreadFactory {
+
+        private final CamelContext camelContext;
+        private final ClassLoader classLoader;
+
+        RoutesThreadFactory(CamelContext camelContext) {
+            this.camelContext = camelContext;
+            // the routes are loaded using the same classloader as when done from the caller
+            ClassLoader cl = camelContext.getApplicationContextClassLoader();
+            this.classLoader = cl != null ? cl : Thread.currentThread().getContextClassLoader();
+        }
+
+        @Override
+        public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName(camelContext.getExecutorServiceManager().resolveThreadName("RoutesLoader"));
+            thread.setContextClassLoader(classLoader);
+            return thread;
+        }
+    }
+}
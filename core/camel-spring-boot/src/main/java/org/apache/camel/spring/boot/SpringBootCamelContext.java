@@ -31,12 +31,34 @@ public class SpringBootCamelContext extends SpringCamelContext {
 
     private final StopWatch stopWatch = new StopWatch();
     private final boolean warnOnEarlyShutdown;
+    private volatile boolean paused;
 
     public SpringBootCamelContext(ApplicationContext applicationContext, boolean warnOnEarlyShutdown) {
         super(applicationContext);
         this.warnOnEarlyShutdown = warnOnEarlyShutdown;
     }
 
+    /**
+     * Marks this context as paused by {@link CamelCheckpointRestoreLifecycle}, such as for a JVM checkpoint.
+     */
+    void setPaused(boolean paused) {
+        this.paused = paused;
+    }
+
+    @Override
+    public void start() {
+        // when paused then Camel is resumed by CamelCheckpointRestoreLifecycle
+        if (!paused) {
+            super.start();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        // when paused then spring should not stop this context, as that would shut down Camel
+        return !paused && super.isRunning();
+    }
+
     @Override
     protected void doStart() throws Exception {
         stopWatch.restart();
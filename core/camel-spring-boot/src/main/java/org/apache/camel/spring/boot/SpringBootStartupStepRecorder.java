@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.StartupListener;
+import org.apache.camel.StartupStep;
+import org.apache.camel.support.startup.BacklogStartupStepRecorder;
+import org.springframework.core.metrics.ApplicationStartup;
+
+/**
+ * A {@link BacklogStartupStepRecorder} that keeps the recorded steps in memory, so they can be inspected at runtime,
+ * such as from the <tt>camelstartup</tt> actuator endpoint.
+ * <p/>
+ * The steps are also reported to the Spring Boot {@link ApplicationStartup}, so when the application uses
+ * <tt>BufferingApplicationStartup</tt> then the Camel steps are included in the Spring Boot startup actuator endpoint,
+ * nested under the Spring Boot step that was active at the time.
+ * <p/>
+ * When added as a {@link StartupListener} then the recording stops once Camel is fully started.
+ */
+public class SpringBootStartupStepRecorder extends BacklogStartupStepRecorder implements StartupListener {
+
+    private final ApplicationStartup applicationStartup;
+    private final Map<Integer, org.springframework.core.metrics.StartupStep> springSteps = new ConcurrentHashMap<>();
+
+    public SpringBootStartupStepRecorder() {
+        this(ApplicationStartup.DEFAULT);
+    }
+
+    public SpringBootStartupStepRecorder(ApplicationStartup applicationStartup) {
+        this.applicationStartup = applicationStartup;
+    }
+
+    @Override
+    protected void onBeginStep(StartupStep step) {
+        if (applicationStartup != ApplicationStartup.DEFAULT) {
+            org.springframework.core.metrics.StartupStep springStep = applicationStartup.start("camel." + step.getType());
+            if (step.getName() != null) {
+                springStep.tag("name", step.getName());
+            }
+            if (step.getDescription() != null) {
+                springStep.tag("description", step.getDescription());
+            }
+            springSteps.put(step.getId(), springStep);
+        }
+    }
+
+    @Override
+    protected void onEndStep(StartupStep step) {
+        super.onEndStep(step);
+        org.springframework.core.metrics.StartupStep springStep = springSteps.remove(step.getId());
+        if (springStep != null) {
+            springStep.end();
+        }
+    }
+
+    @Override
+    public void onCamelContextStarted(CamelContext context, boolean alreadyStarted) throws Exception {
+        // noop
+    }
+
+    @Override
+    public void onCamelContextFullyStarted(CamelContext context, boolean alreadyStarted) throws Exception {
+        setEnabled(false);
+    }
+}
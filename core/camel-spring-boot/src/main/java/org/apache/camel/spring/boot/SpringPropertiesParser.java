@@ -16,25 +16,251 @@
  */
 package org.apache.camel.spring.boot;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
 import org.apache.camel.component.properties.DefaultPropertiesParser;
+import org.apache.camel.spi.CamelEvent;
+import org.apache.camel.spi.CamelEvent.Type;
+import org.apache.camel.spi.EventNotifier;
+import org.apache.camel.support.EventNotifierSupport;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.env.ConfigurableEnvironment;
 import org.springframework.core.env.Environment;
+import org.springframework.core.env.MutablePropertySources;
+import org.springframework.core.env.PropertySource;
 
 /**
  * Extension to {@link DefaultPropertiesParser} that will lookup
  * in Spring via {@link Environment#getProperty(String)}.
+ * <p/>
+ * When a cache size is set, the resolved values, including the keys which cannot be resolved, are cached, as looking
+ * up a property walks all the property sources of the environment. The cache is invalidated when property sources are
+ * added to or removed from the environment, when they are replaced (which is checked at most once per second), when
+ * Spring Cloud signals the environment has changed or the refresh scope has been refreshed, and when Camel is reloaded
+ * (such as when a vault secret has been refreshed), see {@link #invalidate()}. Values changed in place in a property
+ * source, such as system properties, are not noticed until the cache is invalidated, so the cache is off by default.
  */
-public class SpringPropertiesParser extends DefaultPropertiesParser {
+public class SpringPropertiesParser extends DefaultPropertiesParser implements ApplicationListener<ApplicationEvent> {
+
+    // spring cloud is an optional dependency so its events are matched by name
+    private static final Set<String> INVALIDATING_EVENTS = Set.of(
+            "org.springframework.cloud.context.environment.EnvironmentChangeEvent",
+            "org.springframework.cloud.context.scope.refresh.RefreshScopeRefreshedEvent");
+
+    // the random property source returns a new value on each lookup
+    private static final String RANDOM_PREFIX = "random.";
+
+    // how often to check the property sources have not been replaced
+    private static final long VALIDATE_INTERVAL = TimeUnit.SECONDS.toNanos(1);
 
     // Members
     private final Environment env;
+    private final int cacheSize;
+    private final Map<String, Optional<String>> cache = new ConcurrentHashMap<>();
+    // incremented before the cache is cleared, so a value looked up before it is not cached after it
+    private final AtomicLong generation = new AtomicLong();
+    private volatile List<PropertySource<?>> propertySources;
+    private volatile long nextValidation;
+    private long validateInterval = VALIDATE_INTERVAL;
+
+    // statistics
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
 
     public SpringPropertiesParser(Environment env) {
+        this(env, 0);
+    }
+
+    /**
+     * @param env       the environment
+     * @param cacheSize the maximum number of keys to cache, use 0 to not cache
+     */
+    public SpringPropertiesParser(Environment env, int cacheSize) {
         this.env = env;
+        this.cacheSize = cacheSize;
     }
 
     @Override
     public String customLookup(String key) {
-        return env.getProperty(key);
+        lookups.increment();
+        if (cacheSize <= 0 || key.startsWith(RANDOM_PREFIX)) {
+            return env.getProperty(key);
+        }
+
+        if (!isCurrent()) {
+            invalidate();
+        }
+        Optional<String> answer = cache.get(key);
+        if (answer != null) {
+            hits.increment();
+            return answer.orElse(null);
+        }
+
+        long current = generation.get();
+        answer = Optional.ofNullable(env.getProperty(key));
+        // stop caching when full, as keys are then likely to be dynamic
+        if (cache.size() < cacheSize) {
+            misses.increment();
+            cache.put(key, answer);
+            if (generation.get() != current) {
+                // invalidated while looking up, so the value may be stale
+                cache.remove(key, answer);
+            }
+        }
+        return answer.orElse(null);
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationEvent event) {
+        if (INVALIDATING_EVENTS.contains(event.getClass().getName())) {
+            invalidate();
+        }
+    }
+
+    /**
+     * Discards the cached values, so they are looked up in the environment again
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+        propertySources = currentPropertySources();
+        nextValidation = System.nanoTime() + validateInterval;
+        cache.clear();
+        invalidations.increment();
+    }
+
+    /**
+     * Creates an {@link EventNotifier} which invalidates the cached values when Camel is reloaded
+     */
+    public EventNotifier createReloadEventNotifier() {
+        return new EventNotifierSupport() {
+            @Override
+            public void notify(CamelEvent event) throws Exception {
+                invalidate();
+            }
+
+            @Override
+            public boolean isEnabled(CamelEvent event) {
+                return event.getType() == Type.CamelContextReloading;
+            }
+        };
+    }
+
+    /**
+     * Whether the resolved values are cached
+     */
+    public boolean isCacheEnabled() {
+        return cacheSize > 0;
+    }
+
+    /**
+     * The number of lookups of keys in the environment, including the lookups served from the cache
+     */
+    public long getLookupCount() {
+        return lookups.sum();
+    }
+
+    /**
+     * The number of lookups served from the cache
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * The number of lookups of keys which are cached but were not in the cache
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * The ratio of lookups of keys which are cached served from the cache
+     */
+    public double getHitRatio() {
+        long hit = hits.sum();
+        long total = hit + misses.sum();
+        return total > 0 ? (double) hit / total : 0;
+    }
+
+    /**
+     * The number of times the cache has been invalidated
+     */
+    public long getInvalidationCount() {
+        return invalidations.sum();
+    }
+
+    /**
+     * The number of keys in the cache
+     */
+    public int getCacheSize() {
+        return cache.size();
+    }
+
+    /**
+     * Resets the statistics
+     */
+    public void resetStatistics() {
+        lookups.reset();
+        hits.reset();
+        misses.reset();
+        invalidations.reset();
+    }
+
+    /**
+     * To change how often to check the property sources have not been replaced, in nanos
+     */
+    void setValidateInterval(long validateInterval) {
+        this.validateInterval = validateInterval;
+    }
+
+    /**
+     * Whether the property sources of the environment are still the ones the cached values were looked up from. Only
+     * the number of property sources is checked on each lookup, whether they have been replaced is checked
+     * periodically.
+     */
+    private boolean isCurrent() {
+        List<PropertySource<?>> sources = propertySources;
+        if (sources == null) {
+            return false;
+        }
+        if (!(env instanceof ConfigurableEnvironment)) {
+            return true;
+        }
+        MutablePropertySources current = ((ConfigurableEnvironment) env).getPropertySources();
+        if (current.size() != sources.size()) {
+            return false;
+        }
+        long now = System.nanoTime();
+        if (now - nextValidation < 0) {
+            return true;
+        }
+        nextValidation = now + validateInterval;
+        int i = 0;
+        for (PropertySource<?> source : current) {
+            if (i >= sources.size() || sources.get(i++) != source) {
+                return false;
+            }
+        }
+        return i == sources.size();
+    }
+
+    private List<PropertySource<?>> currentPropertySources() {
+        List<PropertySource<?>> answer = new ArrayList<>();
+        if (env instanceof ConfigurableEnvironment) {
+            ((ConfigurableEnvironment) env).getPropertySources().forEach(answer::add);
+        }
+        return answer;
     }
 
 }
@@ -19,67 +19,212 @@ package org.apache.camel.spring.boot;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.TypeConversionException;
+import org.apache.camel.spi.TypeConvertible;
+import org.apache.camel.support.LRUCacheFactory;
 import org.apache.camel.support.TypeConverterSupport;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
 import org.springframework.core.convert.ConversionFailedException;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.ConverterNotFoundException;
 import org.springframework.core.convert.TypeDescriptor;
 
-public class SpringTypeConverter extends TypeConverterSupport {
+/**
+ * A fallback {@link org.apache.camel.TypeConverter} which delegates to the Spring {@link ConversionService}s.
+ * <p>
+ * The conversion service which can convert between a pair of types is resolved once and cached, as well as whether
+ * none of them can, so repeated conversions do not query every conversion service again. The cache is bounded, and
+ * is cleared when the application context is refreshed or a conversion service is added, as converters are
+ * registered while the context is refreshed. Converters registered later on require {@link #clearCache()}.
+ */
+public class SpringTypeConverter extends TypeConverterSupport implements ApplicationListener<ContextRefreshedEvent> {
+
+    /**
+     * The default maximum number of pairs of types for which the conversion is cached
+     */
+    public static final int DEFAULT_CACHE_SIZE = 1000;
+
+    // marks a pair of types which none of the conversion services can convert
+    private static final int NO_CONVERSION = -1;
 
     private final List<ConversionService> conversionServices;
-    private final ConcurrentHashMap<Class<?>, TypeDescriptor> types;
+    private final Map<Class<?>, TypeDescriptor> types;
+    private final Map<TypeConvertible<?, ?>, Integer> resolved;
+    private final Statistics statistics = new Statistics();
 
     @Autowired
     public SpringTypeConverter(List<ConversionService> conversionServices) {
-        this.conversionServices = conversionServices;
-        this.types = new ConcurrentHashMap<>();
+        this(conversionServices, DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * @param conversionServices the conversion services to delegate to, in order of precedence
+     * @param maxCacheSize       the maximum number of pairs of types for which the conversion is cached
+     */
+    public SpringTypeConverter(List<ConversionService> conversionServices, int maxCacheSize) {
+        this.conversionServices = new CopyOnWriteArrayList<>(conversionServices);
+        this.types = LRUCacheFactory.newLRUCache(maxCacheSize);
+        this.resolved = LRUCacheFactory.newLRUCache(maxCacheSize);
+    }
+
+    /**
+     * Adds a conversion service, with a lower precedence than the existing ones
+     */
+    public void addConversionService(ConversionService conversionService) {
+        conversionServices.add(conversionService);
+        clearCache();
+    }
+
+    @Override
+    public void onApplicationEvent(ContextRefreshedEvent event) {
+        // converters may have been registered while the application context was refreshed
+        clearCache();
     }
 
     @Override
     public <T> T convertTo(Class<T> type, Exchange exchange, Object value) throws TypeConversionException {
-        // do not attempt to convert Camel types
-        if (type.getCanonicalName().startsWith("org.apache")) {
+        TypeConvertible<?, T> key = new TypeConvertible<>(value.getClass(), type);
+        Integer index = resolved.get(key);
+        if (index != null) {
+            statistics.hit();
+        } else {
+            statistics.miss();
+            index = resolved.computeIfAbsent(key, k -> resolve(type, value));
+        }
+        if (index == NO_CONVERSION) {
             return null;
         }
-        
+
+        TypeDescriptor sourceType = types.computeIfAbsent(value.getClass(), TypeDescriptor::valueOf);
+        TypeDescriptor targetType = types.computeIfAbsent(type, TypeDescriptor::valueOf);
+        try {
+            return (T)conversionServices.get(index).convert(value, sourceType, targetType);
+        } catch (ConversionFailedException e) {
+            // if value is a collection or an array the check ConversionService::canConvert
+            // may return true but then the conversion of specific objects may fail
+            //
+            // https://issues.apache.org/jira/browse/CAMEL-10548
+            // https://jira.spring.io/browse/SPR-14971
+            //
+            if (e.getCause() instanceof ConverterNotFoundException && isArrayOrCollection(value)) {
+                return null;
+            } else {
+                throw new TypeConversionException(value, type, e);
+            }
+        }
+    }
+
+    /**
+     * Resolves the index of the first conversion service which can convert the value to the type, which only depends
+     * on the class of the value, or {@link #NO_CONVERSION}.
+     */
+    private int resolve(Class<?> type, Object value) {
+        // do not attempt to convert Camel types
+        if (type.getName().startsWith("org.apache")) {
+            return NO_CONVERSION;
+        }
+
         // do not attempt to convert List -> Map. Ognl expression may use this converter as a fallback expecting null
         if (type.isAssignableFrom(Map.class) && isArrayOrCollection(value)) {
-            return null;
+            return NO_CONVERSION;
         }
 
         TypeDescriptor sourceType = types.computeIfAbsent(value.getClass(), TypeDescriptor::valueOf);
         TypeDescriptor targetType = types.computeIfAbsent(type, TypeDescriptor::valueOf);
 
-        for (ConversionService conversionService : conversionServices) {
-            if (conversionService.canConvert(sourceType, targetType)) {
-                try {
-                    return (T)conversionService.convert(value, sourceType, targetType);
-                } catch (ConversionFailedException e) {
-                    // if value is a collection or an array the check ConversionService::canConvert
-                    // may return true but then the conversion of specific objects may fail
-                    //
-                    // https://issues.apache.org/jira/browse/CAMEL-10548
-                    // https://jira.spring.io/browse/SPR-14971
-                    //
-                    if (e.getCause() instanceof ConverterNotFoundException && isArrayOrCollection(value)) {
-                        return null;
-                    } else {
-                        throw new TypeConversionException(value, type, e);
-                    }
-                }
+        for (int i = 0; i < conversionServices.size(); i++) {
+            if (conversionServices.get(i).canConvert(sourceType, targetType)) {
+                return i;
             }
         }
 
-        return null;
+        return NO_CONVERSION;
     }
 
     private boolean isArrayOrCollection(Object value) {
         return value instanceof Collection || value.getClass().isArray();
     }
+
+    /**
+     * Gets the statistics of the cache of resolved conversions
+     */
+    public Statistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Gets the number of pairs of types for which the conversion has been resolved
+     */
+    public int getCacheSize() {
+        return resolved.size();
+    }
+
+    /**
+     * Clears the cache of resolved conversions, which must be called when converters are added to a conversion service
+     * after the application context is refreshed
+     */
+    public void clearCache() {
+        resolved.clear();
+    }
+
+    /**
+     * Statistics of the cache of resolved conversions, which are only gathered when enabled, see
+     * {@link CamelConfigurationProperties#isTypeConverterStatisticsEnabled()}.
+     */
+    public static final class Statistics {
+
+        private final LongAdder hitCounter = new LongAdder();
+        private final LongAdder missCounter = new LongAdder();
+        private volatile boolean statisticsEnabled;
+
+        void hit() {
+            if (statisticsEnabled) {
+                hitCounter.increment();
+            }
+        }
+
+        void miss() {
+            if (statisticsEnabled) {
+                missCounter.increment();
+            }
+        }
+
+        /**
+         * Number of conversions where the conversion service to use was found in the cache
+         */
+        public long getHitCounter() {
+            return hitCounter.sum();
+        }
+
+        /**
+         * Number of conversions where the conversion service to use had to be resolved
+         */
+        public long getMissCounter() {
+            return missCounter.sum();
+        }
+
+        public void reset() {
+            hitCounter.reset();
+            missCounter.reset();
+        }
+
+        public boolean isStatisticsEnabled() {
+            return statisticsEnabled;
+        }
+
+        public void setStatisticsEnabled(boolean statisticsEnabled) {
+            this.statisticsEnabled = statisticsEnabled;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("SpringTypeConverter utilization[hit=%s, miss=%s]", getHitCounter(), getMissCounter());
+        }
+    }
 }
@@ -47,6 +47,8 @@ public class TypeConversionConfiguration {
     @Bean
     SpringTypeConverter springTypeConverter(CamelContext camelContext, ConversionService[] conversionServices) {
         SpringTypeConverter springTypeConverter = new SpringTypeConverter(asList(conversionServices));
+        springTypeConverter.getStatistics().setStatisticsEnabled(
+                Boolean.TRUE.equals(camelContext.isTypeConverterStatisticsEnabled()));
         camelContext.getTypeConverterRegistry().addFallbackTypeConverter(springTypeConverter, true);
         return springTypeConverter;
     }
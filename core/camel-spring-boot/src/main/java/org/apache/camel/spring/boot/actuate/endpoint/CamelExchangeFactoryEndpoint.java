@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.endpoint;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Consumer;
+import org.apache.camel.spi.ExchangeFactory;
+import org.apache.camel.spi.ExchangeFactoryManager;
+import org.apache.camel.spi.PooledObjectFactory;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+/*
+ * Spring Boot Management Endpoint to expose Camel exchange factory (exchange pooling) statistics.
+ */
+@Endpoint(id = "camelexchangefactory")
+public class CamelExchangeFactoryEndpoint {
+
+    private CamelContext camelContext;
+
+    public CamelExchangeFactoryEndpoint(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    @ReadOperation
+    public ExchangeFactoryEndpointInfo getExchangeFactory() {
+        return new ExchangeFactoryEndpointInfo(camelContext);
+    }
+
+    /*
+     * Container for exposing the {@link ExchangeFactoryManager} information as JSON.
+     */
+    @JsonPropertyOrder({"pooled", "statisticsEnabled", "capacity", "size", "consumers"})
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class ExchangeFactoryEndpointInfo {
+
+        private final boolean pooled;
+        private final boolean statisticsEnabled;
+        private final int capacity;
+        private final int size;
+        private final int consumers;
+        private final StatisticsInfo statistics;
+        private final List<ConsumerExchangeFactoryInfo> exchangeFactories;
+
+        public ExchangeFactoryEndpointInfo(CamelContext camelContext) {
+            ExchangeFactoryManager manager = camelContext.getCamelContextExtension().getExchangeFactoryManager();
+            this.pooled = camelContext.getCamelContextExtension().getExchangeFactory().isPooled();
+            this.statisticsEnabled = manager.isStatisticsEnabled();
+            this.capacity = manager.getCapacity();
+            this.size = manager.getPooledCounter();
+            this.consumers = manager.getConsumerCounter();
+            this.statistics = statisticsEnabled ? new StatisticsInfo(manager.getStatistics()) : null;
+            this.exchangeFactories = manager.getExchangeFactories().stream()
+                    .map(ConsumerExchangeFactoryInfo::new)
+                    .collect(Collectors.toList());
+        }
+
+        public boolean isPooled() {
+            return pooled;
+        }
+
+        public boolean isStatisticsEnabled() {
+            return statisticsEnabled;
+        }
+
+        public int getCapacity() {
+            return capacity;
+        }
+
+        public int getSize() {
+            return size;
+        }
+
+        public int getConsumers() {
+            return consumers;
+        }
+
+        public StatisticsInfo getStatistics() {
+            return statistics;
+        }
+
+        public List<ConsumerExchangeFactoryInfo> getExchangeFactories() {
+            return exchangeFactories;
+        }
+    }
+
+    /*
+     * Container for exposing the exchange factory of a consumer as JSON.
+     */
+    @JsonPropertyOrder({"routeId", "endpointUri", "pooled", "capacity", "size"})
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class ConsumerExchangeFactoryInfo {
+
+        private final String routeId;
+        private final String endpointUri;
+        private final boolean pooled;
+        private final int capacity;
+        private final int size;
+        private final StatisticsInfo statistics;
+
+        public ConsumerExchangeFactoryInfo(ExchangeFactory factory) {
+            Consumer consumer = factory.getConsumer();
+            this.routeId = factory.getRouteId();
+            this.endpointUri = consumer != null ? consumer.getEndpoint().getEndpointUri() : null;
+            this.pooled = factory.isPooled();
+            this.capacity = factory.getCapacity();
+            this.size = factory.getSize();
+            this.statistics = factory.isStatisticsEnabled() ? new StatisticsInfo(factory.getStatistics()) : null;
+        }
+
+        public String getRouteId() {
+            return routeId;
+        }
+
+        public String getEndpointUri() {
+            return endpointUri;
+        }
+
+        public boolean isPooled() {
+            return pooled;
+        }
+
+        public int getCapacity() {
+            return capacity;
+        }
+
+        public int getSize() {
+            return size;
+        }
+
+        public StatisticsInfo getStatistics() {
+            return statistics;
+        }
+    }
+
+    /*
+     * Container for exposing pool statistics as JSON. An exchange acquired from the pool is a hit,
+     * and a newly created exchange is a miss.
+     */
+    @JsonPropertyOrder({"hits", "misses", "released", "discarded"})
+    public static class StatisticsInfo {
+
+        private final long hits;
+        private final long misses;
+        private final long released;
+        private final long discarded;
+
+        public StatisticsInfo(PooledObjectFactory.Statistics statistics) {
+            this.hits = statistics.getAcquiredCounter();
+            this.misses = statistics.getCreatedCounter();
+            this.released = statistics.getReleasedCounter();
+            this.discarded = statistics.getDiscardedCounter();
+        }
+
+        public long getHits() {
+            return hits;
+        }
+
+        public long getMisses() {
+            return misses;
+        }
+
+        public long getReleased() {
+            return released;
+        }
+
+        public long getDiscarded() {
+            return discarded;
+        }
+    }
+
+}
@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.endpoint;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.NamedNode;
+import org.apache.camel.Processor;
+import org.apache.camel.Route;
+import org.apache.camel.spi.InterceptStrategy;
+import org.apache.camel.spi.RoutePolicy;
+import org.apache.camel.spi.RoutePolicyFactory;
+import org.apache.camel.support.CamelContextHelper;
+import org.apache.camel.support.ExchangeHelper;
+import org.apache.camel.support.RoutePolicySupport;
+import org.apache.camel.support.processor.DelegateAsyncProcessor;
+
+/*
+ * In-process route and processor statistics for the {@link CamelRoutesEndpoint}, so route
+ * details are available without JMX.
+ *
+ * Routes are measured by a {@link RoutePolicy} and processors by an {@link InterceptStrategy},
+ * both are picked up from the registry when the CamelContext is configured.
+ */
+public class CamelRouteStatistics implements RoutePolicyFactory, InterceptStrategy {
+
+    private final ConcurrentMap<String, RouteStatistics> routes = new ConcurrentHashMap<>();
+    private final boolean processorStatisticsEnabled;
+    private final boolean processorPercentilesEnabled;
+
+    public CamelRouteStatistics(boolean processorStatisticsEnabled) {
+        this(processorStatisticsEnabled, false);
+    }
+
+    /*
+     * @param processorStatisticsEnabled  whether to collect statistics for every processor
+     * @param processorPercentilesEnabled whether to also keep the processing time percentiles for every processor
+     */
+    public CamelRouteStatistics(boolean processorStatisticsEnabled, boolean processorPercentilesEnabled) {
+        this.processorStatisticsEnabled = processorStatisticsEnabled;
+        this.processorPercentilesEnabled = processorPercentilesEnabled;
+    }
+
+    @Override
+    public RoutePolicy createRoutePolicy(CamelContext camelContext, String routeId, NamedNode route) {
+        return new StatisticsRoutePolicy(getOrCreate(routeId).route);
+    }
+
+    @Override
+    public Processor wrapProcessorInInterceptors(CamelContext context, NamedNode definition, Processor target, Processor nextTarget) {
+        String routeId = CamelContextHelper.getRouteId(definition);
+        if (!processorStatisticsEnabled || routeId == null || definition.getId() == null) {
+            return target;
+        }
+        return new StatisticsProcessor(target, getOrCreate(routeId).getOrCreateProcessor(definition.getId()));
+    }
+
+    ProcessingStatistics getRouteStatistics(String routeId) {
+        RouteStatistics statistics = routes.get(routeId);
+        return statistics != null ? statistics.route : null;
+    }
+
+    List<ProcessingStatistics> getProcessorStatistics(String routeId) {
+        RouteStatistics statistics = routes.get(routeId);
+        return statistics != null ? statistics.getProcessors() : List.of();
+    }
+
+    /*
+     * Resets the counters of the route and of its processors, exchanges in flight are kept.
+     */
+    public void reset(String routeId) {
+        RouteStatistics statistics = routes.get(routeId);
+        if (statistics != null) {
+            statistics.route.reset();
+            statistics.getProcessors().forEach(ProcessingStatistics::reset);
+        }
+    }
+
+    private RouteStatistics getOrCreate(String routeId) {
+        return routes.computeIfAbsent(routeId, id -> new RouteStatistics(id, processorPercentilesEnabled));
+    }
+
+    private static final class RouteStatistics {
+
+        private final ProcessingStatistics route;
+        private final boolean processorPercentiles;
+        // only updated while routes are created, the hot path holds on to the statistics directly
+        private final Map<String, ProcessingStatistics> processors = new LinkedHashMap<>();
+
+        RouteStatistics(String routeId, boolean processorPercentiles) {
+            this.route = new ProcessingStatistics(routeId);
+            this.processorPercentiles = processorPercentiles;
+        }
+
+        synchronized ProcessingStatistics getOrCreateProcessor(String id) {
+            return processors.computeIfAbsent(id, key -> new ProcessingStatistics(key, processorPercentiles));
+        }
+
+        synchronized List<ProcessingStatistics> getProcessors() {
+            return new ArrayList<>(processors.values());
+        }
+    }
+
+    private final class StatisticsRoutePolicy extends RoutePolicySupport {
+
+        private final ProcessingStatistics statistics;
+        private final String startProperty;
+
+        StatisticsRoutePolicy(ProcessingStatistics statistics) {
+            this.statistics = statistics;
+            this.startProperty = "CamelRouteStatisticsStart-" + statistics.getId();
+        }
+
+        @Override
+        public void onExchangeBegin(Route route, Exchange exchange) {
+            exchange.setProperty(startProperty, System.nanoTime());
+            statistics.begin();
+        }
+
+        @Override
+        public void onExchangeDone(Route route, Exchange exchange) {
+            Object start = exchange.removeProperty(startProperty);
+            if (start instanceof Long) {
+                statistics.done(System.nanoTime() - (Long) start, exchange.isFailed(), ExchangeHelper.isFailureHandled(exchange));
+            }
+        }
+
+        @Override
+        public void onRemove(Route route) {
+            routes.remove(route.getRouteId());
+        }
+    }
+
+    private static final class StatisticsProcessor extends DelegateAsyncProcessor {
+
+        private final ProcessingStatistics statistics;
+
+        StatisticsProcessor(Processor processor, ProcessingStatistics statistics) {
+            super(processor);
+            this.statistics = statistics;
+        }
+
+        @Override
+        public boolean process(Exchange exchange, AsyncCallback callback) {
+            long start = System.nanoTime();
+            statistics.begin();
+            return processor.process(exchange, doneSync -> {
+                statistics.done(System.nanoTime() - start, exchange.isFailed(), false);
+                callback.done(doneSync);
+            });
+        }
+
+        @Override
+        public String toString() {
+            return "StatisticsProcessor[" + processor + "]";
+        }
+    }
+}
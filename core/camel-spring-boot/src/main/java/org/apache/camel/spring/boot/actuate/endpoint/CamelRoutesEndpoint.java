@@ -16,14 +16,17 @@
  */
 package org.apache.camel.spring.boot.actuate.endpoint;
 
+import java.util.AbstractMap;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Date;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.Route;
@@ -31,6 +34,7 @@ import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.StatefulService;
 import org.apache.camel.api.management.ManagedCamelContext;
 import org.apache.camel.api.management.mbean.ManagedRouteMBean;
+import org.apache.camel.support.PatternHelper;
 import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
 import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
 import org.springframework.boot.actuate.endpoint.annotation.Selector;
@@ -50,18 +54,61 @@ public class CamelRoutesEndpoint {
     private CamelContext camelContext;
     private ManagedCamelContext managedCamelContext;
     private CamelRoutesEndpointProperties properties;
+    private CamelRouteStatistics statistics;
 
     public CamelRoutesEndpoint(CamelContext camelContext, CamelRoutesEndpointProperties properties) {
+        this(camelContext, properties, null);
+    }
+
+    public CamelRoutesEndpoint(CamelContext camelContext, CamelRoutesEndpointProperties properties, CamelRouteStatistics statistics) {
         this.camelContext = camelContext;
         this.managedCamelContext = camelContext.getCamelContextExtension().getContextPlugin(ManagedCamelContext.class);
         this.properties = properties;
+        this.statistics = statistics;
     }
 
-    @ReadOperation
+    /*
+     * Lists all the routes.
+     *
+     * This is no longer the read operation of the endpoint, as an endpoint can only have one read
+     * operation without selector: the read operation is the listing with optional filters below,
+     * which lists all the routes like before when no parameter is given.
+     */
     public List<RouteEndpointInfo> readRoutes() {
         return getRoutesInfo();
     }
 
+    /*
+     * Lists the routes matching the optional filters, sorted and paginated on the server side.
+     */
+    @ReadOperation
+    public List<RouteEndpointInfo> readRoutes(@Nullable String group, @Nullable String status, @Nullable String id,
+                                                  @Nullable SortBy sort, @Nullable SortOrder order,
+                                                  @Nullable Integer offset, @Nullable Integer limit) {
+        Stream<Route> routes = camelContext.getRoutes().stream();
+        if (group != null) {
+            routes = routes.filter(route -> group.equals(route.getGroup()));
+        }
+        if (status != null) {
+            routes = routes.filter(route -> status.equalsIgnoreCase(getRouteStatus(route)));
+        }
+        if (id != null) {
+            routes = routes.filter(route -> PatternHelper.matchPattern(route.getId(), id));
+        }
+        if (sort != null) {
+            routes = sortRoutes(routes, sort, order == SortOrder.DESC);
+        }
+        if (offset != null && offset > 0) {
+            routes = routes.skip(offset);
+        }
+        if (limit != null && limit >= 0) {
+            routes = routes.limit(limit);
+        }
+
+        // the result is materialized, as it may be cached by the endpoint and serialized again
+        return routes.map(RouteEndpointInfo::new).collect(Collectors.toList());
+    }
+
     @ReadOperation
     public Object doReadAction(@Selector String id, @Selector ReadAction action) {
         switch (action) {
@@ -122,10 +169,58 @@ public class CamelRoutesEndpoint {
                 .collect(Collectors.toList());
     }
 
+    private Stream<Route> sortRoutes(Stream<Route> routes, SortBy sort, boolean descending) {
+        ToLongFunction<Route> key;
+        switch (sort) {
+            case UPTIME:
+                key = Route::getUptimeMillis;
+                break;
+            case EXCHANGES:
+                key = route -> getRouteStatistic(route, ProcessingStatistics::getExchangesTotal, ManagedRouteMBean::getExchangesTotal);
+                break;
+            case FAILURES:
+                key = route -> getRouteStatistic(route, ProcessingStatistics::getExchangesFailed, ManagedRouteMBean::getExchangesFailed);
+                break;
+            case MEAN_TIME:
+                key = route -> getRouteStatistic(route, ProcessingStatistics::getMeanProcessingTime, ManagedRouteMBean::getMeanProcessingTime);
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported sort " + sort);
+        }
+
+        // compute the sort key once per route as statistics lookups are not free
+        Comparator<Map.Entry<Route, Long>> comparator = Map.Entry.comparingByValue();
+        return routes
+                .map(route -> new AbstractMap.SimpleImmutableEntry<>(route, key.applyAsLong(route)))
+                .sorted(descending ? comparator.reversed() : comparator)
+                .map(Map.Entry::getKey);
+    }
+
+    private long getRouteStatistic(Route route, ToLongFunction<ProcessingStatistics> statistic, ToLongFunction<ManagedRouteMBean> managed) {
+        ProcessingStatistics routeStatistics = statistics != null ? statistics.getRouteStatistics(route.getId()) : null;
+        if (routeStatistics != null) {
+            return statistic.applyAsLong(routeStatistics);
+        }
+        if (managedCamelContext != null) {
+            ManagedRouteMBean managedRoute = managedCamelContext.getManagedRoute(route.getId(), ManagedRouteMBean.class);
+            if (managedRoute != null) {
+                return managed.applyAsLong(managedRoute);
+            }
+        }
+        return 0;
+    }
+
+    private static String getRouteStatus(Route route) {
+        if (route instanceof StatefulService) {
+            return ((StatefulService) route).getStatus().name();
+        }
+        return null;
+    }
+
     private RouteDetailsEndpointInfo getRouteDetailsInfo(String id) {
         Route route = camelContext.getRoute(id);
         if (route != null) {
-            return new RouteDetailsEndpointInfo(camelContext, route);
+            return new RouteDetailsEndpointInfo(camelContext, route, statistics);
         }
 
         return null;
@@ -140,6 +235,12 @@ public class CamelRoutesEndpoint {
     }
 
     private void resetRoute(String id) {
+        if (statistics != null) {
+            statistics.reset(id);
+        }
+        if (managedCamelContext == null) {
+            return;
+        }
         try {
             ManagedRouteMBean managedRouteMBean = managedCamelContext.getManagedRoute(id, ManagedRouteMBean.class);
             if (managedRouteMBean != null) {
@@ -184,71 +285,57 @@ public class CamelRoutesEndpoint {
 
     /*
      * Container for exposing {@link org.apache.camel.Route} information as JSON.
+     *
+     * The information is read from the route when serialized, so only the fields
+     * actually written are computed.
      */
     @JsonPropertyOrder({"id", "group", "description", "uptime", "uptimeMillis"})
     @JsonInclude(JsonInclude.Include.NON_EMPTY)
     public static class RouteEndpointInfo {
 
-        private final String id;
-        private final String group;
-        private final Map<String, Object> properties;
-        private final String description;
-        private final String uptime;
-        private final long uptimeMillis;
-        private final String status;
+        private final Route route;
 
         public RouteEndpointInfo(Route route) {
-            this.id = route.getId();
-            this.group = route.getGroup();
-            this.description = route.getDescription();
-            this.uptime = route.getUptime();
-            this.uptimeMillis = route.getUptimeMillis();
-
-            if (route.getProperties() != null) {
-                this.properties = new HashMap<>(route.getProperties());
-            } else {
-                this.properties = Collections.emptyMap();
-            }
-
-            if (route instanceof StatefulService) {
-                this.status = ((StatefulService) route).getStatus().name();
-            } else {
-                this.status = null;
-            }
+            this.route = route;
         }
 
         public String getId() {
-            return id;
+            return route.getId();
         }
 
         public String getGroup() {
-            return group;
+            return route.getGroup();
         }
 
         public Map<String, Object> getProperties() {
-            return properties;
+            if (route.getProperties() != null) {
+                return Collections.unmodifiableMap(route.getProperties());
+            } else {
+                return Collections.emptyMap();
+            }
         }
 
         public String getDescription() {
-            return description;
+            return route.getDescription();
         }
 
         public String getUptime() {
-            return uptime;
+            return route.getUptime();
         }
 
         public long getUptimeMillis() {
-            return uptimeMillis;
+            return route.getUptimeMillis();
         }
 
         public String getStatus() {
-            return status;
+            return getRouteStatus(route);
         }
     }
 
     /*
      * Container for exposing {@link org.apache.camel.Route} information
-     * with route details as JSON. Route details are retrieved from JMX.
+     * with route details as JSON. Route details are retrieved from the in-process
+     * {@link CamelRouteStatistics} when enabled, otherwise from JMX.
      */
     public static class RouteDetailsEndpointInfo extends RouteEndpointInfo {
 
@@ -256,8 +343,15 @@ public class CamelRoutesEndpoint {
         private RouteDetails routeDetails;
 
         public RouteDetailsEndpointInfo(final CamelContext camelContext, final Route route) {
+            this(camelContext, route, null);
+        }
+
+        public RouteDetailsEndpointInfo(final CamelContext camelContext, final Route route, final CamelRouteStatistics statistics) {
             super(route);
-            if (camelContext.getManagementStrategy().getManagementAgent() != null) {
+            ProcessingStatistics routeStatistics = statistics != null ? statistics.getRouteStatistics(route.getId()) : null;
+            if (routeStatistics != null) {
+                this.routeDetails = new RouteDetails(routeStatistics, statistics.getProcessorStatistics(route.getId()));
+            } else if (camelContext.getManagementStrategy().getManagementAgent() != null) {
                 ManagedCamelContext mcc = camelContext.getCamelContextExtension().getContextPlugin(ManagedCamelContext.class);
                 this.routeDetails = new RouteDetails(mcc.getManagedRoute(route.getId(), ManagedRouteMBean.class));
             }
@@ -291,6 +385,11 @@ public class CamelRoutesEndpoint {
             private long redeliveries;
             private long totalProcessingTime;
             private boolean hasRouteController;
+            private long exchangesFailed;
+            private Double p50ProcessingTime;
+            private Double p99ProcessingTime;
+            private Double p999ProcessingTime;
+            private List<ProcessorDetails> processors;
 
             RouteDetails(ManagedRouteMBean managedRoute) {
                 try {
@@ -324,6 +423,24 @@ public class CamelRoutesEndpoint {
                 }
             }
 
+            RouteDetails(ProcessingStatistics statistics, List<ProcessingStatistics> processors) {
+                this.exchangesInflight = statistics.getExchangesInflight();
+                this.exchangesTotal = statistics.getExchangesTotal();
+                this.exchangesFailed = statistics.getExchangesFailed();
+                this.failuresHandled = statistics.getFailuresHandled();
+                this.lastProcessingTime = statistics.getLastProcessingTime();
+                this.maxProcessingTime = statistics.getMaxProcessingTime();
+                this.meanProcessingTime = statistics.getMeanProcessingTime();
+                this.minProcessingTime = statistics.getMinProcessingTime();
+                this.totalProcessingTime = statistics.getTotalProcessingTime();
+                this.p50ProcessingTime = statistics.getProcessingTimeAtPercentile(50);
+                this.p99ProcessingTime = statistics.getProcessingTimeAtPercentile(99);
+                this.p999ProcessingTime = statistics.getProcessingTimeAtPercentile(99.9);
+                this.processors = processors.stream()
+                        .map(ProcessorDetails::new)
+                        .collect(Collectors.toList());
+            }
+
             public long getDeltaProcessingTime() {
                 return deltaProcessingTime;
             }
@@ -423,6 +540,106 @@ public class CamelRoutesEndpoint {
             public boolean getHasRouteController() {
                 return hasRouteController;
             }
+
+            public long getExchangesFailed() {
+                return exchangesFailed;
+            }
+
+            public Double getP50ProcessingTime() {
+                return p50ProcessingTime;
+            }
+
+            public Double getP99ProcessingTime() {
+                return p99ProcessingTime;
+            }
+
+            public Double getP999ProcessingTime() {
+                return p999ProcessingTime;
+            }
+
+            public List<ProcessorDetails> getProcessors() {
+                return processors;
+            }
+        }
+
+        /*
+         * Statistics of a single processor of the route, only available from {@link CamelRouteStatistics}.
+         */
+        @JsonPropertyOrder({"id", "exchangesTotal", "exchangesFailed", "exchangesInflight"})
+        static class ProcessorDetails {
+
+            private final String id;
+            private final long exchangesTotal;
+            private final long exchangesFailed;
+            private final long exchangesInflight;
+            private final long meanProcessingTime;
+            private final long minProcessingTime;
+            private final long maxProcessingTime;
+            private final long totalProcessingTime;
+            private final Double p50ProcessingTime;
+            private final Double p99ProcessingTime;
+            private final Double p999ProcessingTime;
+
+            ProcessorDetails(ProcessingStatistics statistics) {
+                this.id = statistics.getId();
+                this.exchangesTotal = statistics.getExchangesTotal();
+                this.exchangesFailed = statistics.getExchangesFailed();
+                this.exchangesInflight = statistics.getExchangesInflight();
+                this.meanProcessingTime = statistics.getMeanProcessingTime();
+                this.minProcessingTime = statistics.getMinProcessingTime();
+                this.maxProcessingTime = statistics.getMaxProcessingTime();
+                this.totalProcessingTime = statistics.getTotalProcessingTime();
+                this.p50ProcessingTime = statistics.getProcessingTimeAtPercentile(50);
+                this.p99ProcessingTime = statistics.getProcessingTimeAtPercentile(99);
+                this.p999ProcessingTime = statistics.getProcessingTimeAtPercentile(99.9);
+            }
+
+            public String getId() {
+                return id;
+            }
+
+            public long getExchangesTotal() {
+                return exchangesTotal;
+            }
+
+            public long getExchangesFailed() {
+                return exchangesFailed;
+            }
+
+            public long getExchangesInflight() {
+                return exchangesInflight;
+            }
+
+            public long getMeanProcessingTime() {
+                return meanProcessingTime;
+            }
+
+            public long getMinProcessingTime() {
+                return minProcessingTime;
+            }
+
+            public long getMaxProcessingTime() {
+                return maxProcessingTime;
+            }
+
+            public long getTotalProcessingTime() {
+                return totalProcessingTime;
+            }
+
+            @JsonInclude(JsonInclude.Include.NON_NULL)
+            public Double getP50ProcessingTime() {
+                return p50ProcessingTime;
+            }
+
+            @JsonInclude(JsonInclude.Include.NON_NULL)
+            public Double getP99ProcessingTime() {
+                return p99ProcessingTime;
+            }
+
+            @JsonInclude(JsonInclude.Include.NON_NULL)
+            public Double getP999ProcessingTime() {
+                return p999ProcessingTime;
+            }
         }
     }
 
@@ -437,6 +654,24 @@ public class CamelRoutesEndpoint {
         RESUME
     }
 
+    /*
+     * List of sort criteria available when listing routes
+     */
+    public enum SortBy {
+        UPTIME,
+        EXCHANGES,
+        FAILURES,
+        MEAN_TIME
+    }
+
+    /*
+     * Sort order when listing routes
+     */
+    public enum SortOrder {
+        ASC,
+        DESC
+    }
+
     /*
      * List of read actions available for the endpoint
      */
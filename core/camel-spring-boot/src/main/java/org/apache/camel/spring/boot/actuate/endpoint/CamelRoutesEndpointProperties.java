@@ -27,6 +27,23 @@ public class CamelRoutesEndpointProperties {
      */
     private boolean readOnly = true;
 
+    /**
+     * Whether to collect route statistics in-process, so route details are available without JMX.
+     * The statistics include exchange counters and processing time percentiles.
+     */
+    private boolean statisticsEnabled;
+
+    /**
+     * Whether the in-process route statistics should also be collected for every processor in the routes.
+     */
+    private boolean processorStatisticsEnabled = true;
+
+    /**
+     * Whether the in-process processor statistics should also include processing time percentiles,
+     * which keeps a latency histogram for every processor in the routes.
+     */
+    private boolean processorPercentilesEnabled;
+
     public boolean isReadOnly() {
         return readOnly;
     }
@@ -34,5 +51,29 @@ public class CamelRoutesEndpointProperties {
     public void setReadOnly(boolean readOnly) {
         this.readOnly = readOnly;
     }
+
+    public boolean isStatisticsEnabled() {
+        return statisticsEnabled;
+    }
+
+    public void setStatisticsEnabled(boolean statisticsEnabled) {
+        this.statisticsEnabled = statisticsEnabled;
+    }
+
+    public boolean isProcessorStatisticsEnabled() {
+        return processorStatisticsEnabled;
+    }
+
+    public void setProcessorStatisticsEnabled(boolean processorStatisticsEnabled) {
+        this.processorStatisticsEnabled = processorStatisticsEnabled;
+    }
+
+    public boolean isProcessorPercentilesEnabled() {
+        return processorPercentilesEnabled;
+    }
+
+    public void setProcessorPercentilesEnabled(boolean processorPercentilesEnabled) {
+        this.processorPercentilesEnabled = processorPercentilesEnabled;
+    }
     
 }
@@ -0,0 +1,297 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.endpoint;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.StartupStep;
+import org.apache.camel.spi.StartupStepRecorder;
+import org.apache.camel.support.startup.BacklogStartupStepRecorder;
+import org.apache.camel.util.StringHelper;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+/*
+ * Spring Boot Management Endpoint to expose the steps recorded while starting Camel,
+ * when using the backlog startup recorder (camel.springboot.startup-recorder=backlog).
+ */
+@Endpoint(id = "camelstartup")
+public class CamelStartupEndpoint {
+
+    private static final int DEFAULT_TOP = 10;
+
+    private final CamelContext camelContext;
+
+    public CamelStartupEndpoint(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    @ReadOperation
+    public StartupEndpointInfo getStartup(@Nullable Integer top) {
+        StartupStepRecorder recorder = camelContext.getCamelContextExtension().getStartupStepRecorder();
+        List<StartupStep> steps = recorder instanceof BacklogStartupStepRecorder
+                ? ((BacklogStartupStepRecorder) recorder).steps().collect(Collectors.toList()) : Collections.emptyList();
+        return new StartupEndpointInfo(recorder.toString(), steps, top != null ? top : DEFAULT_TOP);
+    }
+
+    /*
+     * Container for exposing the recorded startup steps as JSON.
+     */
+    @JsonPropertyOrder({"recorder", "steps", "duration", "tree", "slowest", "components"})
+    public static class StartupEndpointInfo {
+
+        private final String recorder;
+        private final int steps;
+        private final long duration;
+        private final List<StepInfo> tree;
+        private final List<StepInfo> slowest;
+        private final List<ComponentInfo> components;
+
+        public StartupEndpointInfo(String recorder, List<StartupStep> steps, int top) {
+            this.recorder = recorder;
+            this.steps = steps.size();
+
+            // the steps are recorded when they end, so sort them by id to have them in the order they began
+            Map<Integer, StepInfo> infos = new LinkedHashMap<>();
+            steps.stream()
+                    .sorted(Comparator.comparingInt(StartupStep::getId))
+                    .forEach(s -> infos.put(s.getId(), new StepInfo(s)));
+
+            List<StepInfo> roots = new ArrayList<>();
+            for (StepInfo info : infos.values()) {
+                StepInfo parent = infos.get(info.parentId);
+                if (parent != null) {
+                    parent.addChild(info);
+                } else {
+                    roots.add(info);
+                }
+            }
+            this.tree = roots;
+            this.duration = roots.stream().mapToLong(StepInfo::getDuration).sum();
+
+            // the slowest steps are by the time spent in the step itself, as parent steps include their children
+            this.slowest = infos.values().stream()
+                    .sorted(Comparator.comparingLong(StepInfo::getSelfDuration).reversed()
+                            .thenComparing(Comparator.comparingLong(StepInfo::getDuration).reversed()))
+                    .limit(Math.max(0, top))
+                    .map(StepInfo::withoutChildren)
+                    .collect(Collectors.toList());
+
+            this.components = componentBreakdown(infos);
+        }
+
+        private static List<ComponentInfo> componentBreakdown(Map<Integer, StepInfo> infos) {
+            Map<String, ComponentInfo> answer = new HashMap<>();
+            for (StepInfo info : infos.values()) {
+                String component = componentOf(info);
+                if (component == null || hasAncestorOf(infos, info, component)) {
+                    // only count the outermost step of a component, as nested steps are included in its duration
+                    continue;
+                }
+                answer.computeIfAbsent(component, ComponentInfo::new).add(info);
+            }
+            return answer.values().stream()
+                    .sorted(Comparator.comparingLong(ComponentInfo::getDuration).reversed()
+                            .thenComparing(ComponentInfo::getName))
+                    .collect(Collectors.toList());
+        }
+
+        private static boolean hasAncestorOf(Map<Integer, StepInfo> infos, StepInfo info, String component) {
+            StepInfo parent = infos.get(info.parentId);
+            while (parent != null) {
+                if (component.equals(componentOf(parent))) {
+                    return true;
+                }
+                parent = infos.get(parent.parentId);
+            }
+            return false;
+        }
+
+        private static String componentOf(StepInfo info) {
+            if (info.name == null) {
+                return null;
+            }
+            if ("Component".equals(info.type)) {
+                return info.name;
+            } else if ("Endpoint".equals(info.type)) {
+                // the name is the endpoint uri
+                return StringHelper.before(info.name, ":");
+            }
+            return null;
+        }
+
+        public String getRecorder() {
+            return recorder;
+        }
+
+        public int getSteps() {
+            return steps;
+        }
+
+        public long getDuration() {
+            return duration;
+        }
+
+        public List<StepInfo> getTree() {
+            return tree;
+        }
+
+        public List<StepInfo> getSlowest() {
+            return slowest;
+        }
+
+        public List<ComponentInfo> getComponents() {
+            return components;
+        }
+    }
+
+    /*
+     * Container for exposing a startup step as JSON. The durations are in millis.
+     */
+    @JsonPropertyOrder({"id", "type", "name", "description", "level", "beginTime", "duration", "selfDuration", "children"})
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class StepInfo {
+
+        private final int id;
+        private final int parentId;
+        private final String type;
+        private final String name;
+        private final String description;
+        private final int level;
+        private final long beginTime;
+        private final long duration;
+        private long selfDuration;
+        private List<StepInfo> children;
+
+        public StepInfo(StartupStep step) {
+            this.id = step.getId();
+            this.parentId = step.getParentId();
+            this.type = step.getType();
+            this.name = step.getName();
+            this.description = step.getDescription();
+            this.level = step.getLevel();
+            this.beginTime = step.getBeginTime();
+            this.duration = step.getDuration();
+            this.selfDuration = duration;
+        }
+
+        private StepInfo(StepInfo info) {
+            this.id = info.id;
+            this.parentId = info.parentId;
+            this.type = info.type;
+            this.name = info.name;
+            this.description = info.description;
+            this.level = info.level;
+            this.beginTime = info.beginTime;
+            this.duration = info.duration;
+            this.selfDuration = info.selfDuration;
+        }
+
+        void addChild(StepInfo child) {
+            if (children == null) {
+                children = new ArrayList<>();
+            }
+            children.add(child);
+            selfDuration = Math.max(0, selfDuration - child.duration);
+        }
+
+        StepInfo withoutChildren() {
+            return new StepInfo(this);
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public String getType() {
+            return type;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+
+        public int getLevel() {
+            return level;
+        }
+
+        public long getBeginTime() {
+            return beginTime;
+        }
+
+        public long getDuration() {
+            return duration;
+        }
+
+        public long getSelfDuration() {
+            return selfDuration;
+        }
+
+        public List<StepInfo> getChildren() {
+            return children;
+        }
+    }
+
+    /*
+     * Container for exposing the time spent starting a component, including creating its endpoints, as JSON.
+     */
+    @JsonPropertyOrder({"name", "steps", "duration"})
+    public static class ComponentInfo {
+
+        private final String name;
+        private int steps;
+        private long duration;
+
+        public ComponentInfo(String name) {
+            this.name = name;
+        }
+
+        void add(StepInfo step) {
+            steps++;
+            duration += step.getDuration();
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getSteps() {
+            return steps;
+        }
+
+        public long getDuration() {
+            return duration;
+        }
+    }
+
+}
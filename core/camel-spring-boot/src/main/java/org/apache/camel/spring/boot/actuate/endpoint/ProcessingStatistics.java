@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.endpoint;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+ * Exchange counters and processing times of a route or a processor, kept in striped
+ * counters so concurrent exchanges do not contend on a single memory location.
+ *
+ * The histogram of the processing time percentiles is optional, and only allocated
+ * when the first exchange is done.
+ */
+final class ProcessingStatistics {
+
+    private final String id;
+    private final LongAdder exchangesTotal = new LongAdder();
+    private final LongAdder exchangesFailed = new LongAdder();
+    private final LongAdder failuresHandled = new LongAdder();
+    private final LongAdder exchangesInflight = new LongAdder();
+    private final LongAdder totalProcessingTime = new LongAdder();
+    private final LongAccumulator minProcessingTime = new LongAccumulator(Math::min, Long.MAX_VALUE);
+    private final LongAccumulator maxProcessingTime = new LongAccumulator(Math::max, 0);
+    private final boolean percentiles;
+    private volatile LatencyHistogram histogram;
+    private volatile long lastProcessingTime;
+
+    ProcessingStatistics(String id) {
+        this(id, true);
+    }
+
+    /*
+     * @param percentiles whether to keep a histogram of the processing times for the percentiles
+     */
+    ProcessingStatistics(String id, boolean percentiles) {
+        this.id = id;
+        this.percentiles = percentiles;
+    }
+
+    String getId() {
+        return id;
+    }
+
+    void begin() {
+        exchangesInflight.increment();
+    }
+
+    /*
+     * Records a processed exchange, the processing time is in nanoseconds.
+     */
+    void done(long processingTime, boolean failed, boolean failureHandled) {
+        exchangesInflight.decrement();
+        exchangesTotal.increment();
+        if (failed) {
+            exchangesFailed.increment();
+        } else if (failureHandled) {
+            failuresHandled.increment();
+        }
+        totalProcessingTime.add(processingTime);
+        minProcessingTime.accumulate(processingTime);
+        maxProcessingTime.accumulate(processingTime);
+        if (percentiles) {
+            getOrCreateHistogram().record(processingTime);
+        }
+        lastProcessingTime = processingTime;
+    }
+
+    void reset() {
+        exchangesTotal.reset();
+        exchangesFailed.reset();
+        failuresHandled.reset();
+        totalProcessingTime.reset();
+        minProcessingTime.reset();
+        maxProcessingTime.reset();
+        LatencyHistogram current = histogram;
+        if (current != null) {
+            current.reset();
+        }
+        lastProcessingTime = 0;
+    }
+
+    long getExchangesTotal() {
+        return exchangesTotal.sum();
+    }
+
+    long getExchangesFailed() {
+        return exchangesFailed.sum();
+    }
+
+    long getFailuresHandled() {
+        return failuresHandled.sum();
+    }
+
+    long getExchangesInflight() {
+        return exchangesInflight.sum();
+    }
+
+    long getTotalProcessingTime() {
+        return toMillis(totalProcessingTime.sum());
+    }
+
+    long getMinProcessingTime() {
+        long min = minProcessingTime.get();
+        return min == Long.MAX_VALUE ? 0 : toMillis(min);
+    }
+
+    long getMaxProcessingTime() {
+        return toMillis(maxProcessingTime.get());
+    }
+
+    long getMeanProcessingTime() {
+        long total = exchangesTotal.sum();
+        return total == 0 ? 0 : toMillis(totalProcessingTime.sum() / total);
+    }
+
+    long getLastProcessingTime() {
+        return toMillis(lastProcessingTime);
+    }
+
+    /*
+     * Returns the processing time at the given percentile in milliseconds, with microsecond precision,
+     * or null if the percentiles are not kept.
+     */
+    Double getProcessingTimeAtPercentile(double percentile) {
+        if (!percentiles) {
+            return null;
+        }
+        LatencyHistogram current = histogram;
+        long value = current != null ? current.getValueAtPercentile(percentile) : 0;
+        return TimeUnit.NANOSECONDS.toMicros(value) / 1000d;
+    }
+
+    private LatencyHistogram getOrCreateHistogram() {
+        LatencyHistogram answer = histogram;
+        if (answer == null) {
+            synchronized (this) {
+                answer = histogram;
+                if (answer == null) {
+                    answer = new LatencyHistogram();
+                    histogram = answer;
+                }
+            }
+        }
+        return answer;
+    }
+
+    private static long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+}
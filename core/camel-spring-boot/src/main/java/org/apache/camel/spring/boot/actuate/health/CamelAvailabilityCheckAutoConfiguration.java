@@ -20,6 +20,7 @@ import org.apache.camel.CamelContext;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.apache.camel.spring.boot.actuate.health.liveness.CamelLivenessStateHealthIndicator;
 import org.apache.camel.spring.boot.actuate.health.readiness.CamelReadinessStateHealthIndicator;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.availability.ApplicationAvailabilityAutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
@@ -35,14 +36,16 @@ public class CamelAvailabilityCheckAutoConfiguration {
 	@Bean
 	public CamelLivenessStateHealthIndicator camelLivenessStateHealthIndicator(
 			ApplicationAvailability applicationAvailability,
-			CamelContext camelContext) {
-		return new CamelLivenessStateHealthIndicator(applicationAvailability, camelContext);
+			CamelContext camelContext,
+			ObjectProvider<CamelHealthCheckCache> cache) {
+		return new CamelLivenessStateHealthIndicator(applicationAvailability, camelContext, cache.getIfAvailable());
 	}
 
 	@Bean
 	public CamelReadinessStateHealthIndicator camelReadinessStateHealthIndicator(
 			ApplicationAvailability applicationAvailability,
-			CamelContext camelContext) {
-		return new CamelReadinessStateHealthIndicator(applicationAvailability, camelContext);
+			CamelContext camelContext,
+			ObjectProvider<CamelHealthCheckCache> cache) {
+		return new CamelReadinessStateHealthIndicator(applicationAvailability, camelContext, cache.getIfAvailable());
 	}
 }
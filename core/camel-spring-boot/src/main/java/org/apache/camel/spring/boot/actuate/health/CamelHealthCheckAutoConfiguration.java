@@ -23,12 +23,15 @@ import org.apache.camel.health.HealthCheckRepository;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
 import org.springframework.boot.actuate.health.HealthIndicator;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
@@ -44,6 +47,27 @@ public class CamelHealthCheckAutoConfiguration {
 
     private static final Logger LOG = LoggerFactory.getLogger(CamelHealthCheckAutoConfiguration.class);
 
+    @Bean
+    @ConditionalOnClass({CamelContext.class})
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "camel.health", name = "async-enabled")
+    public CamelHealthCheckCache camelHealthCheckCache(CamelContext camelContext, CamelHealthCheckConfigurationProperties config)
+            throws Exception {
+        CamelHealthCheckCache cache = new CamelHealthCheckCache(camelContext, config.getAsyncRefreshInterval(),
+                config.getAsyncTimeout(), config.getAsyncMaxStaleness(), config.getAsyncPoolSize());
+        // started and stopped together with Camel
+        camelContext.addService(cache);
+        return cache;
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "camel.health", name = "async-enabled")
+    @ConditionalOnAvailableEndpoint(endpoint = CamelHealthCheckCacheEndpoint.class)
+    public CamelHealthCheckCacheEndpoint camelHealthCheckCacheEndpoint(CamelHealthCheckCache cache) {
+        return new CamelHealthCheckCacheEndpoint(cache);
+    }
+
     @Scope(ConfigurableBeanFactory.SCOPE_SINGLETON)
     @ConditionalOnClass({CamelContext.class})
     @ConditionalOnMissingBean(CamelHealthCheckIndicator.class)
@@ -51,7 +75,8 @@ public class CamelHealthCheckAutoConfiguration {
 
         @Bean(name = "camelHealth")
         public HealthIndicator camelHealthCheckIndicator(ApplicationContext applicationContext,
-                                                         CamelContext camelContext, CamelHealthCheckConfigurationProperties config) {
+                                                         CamelContext camelContext, CamelHealthCheckConfigurationProperties config,
+                                                         ObjectProvider<CamelHealthCheckCache> cache) {
             if (config != null && config.getEnabled() != null && !config.getEnabled()) {
                 // health check is disabled
                 return null;
@@ -135,7 +160,7 @@ public class CamelHealthCheckAutoConfiguration {
                 }
             }
 
-            return new CamelHealthCheckIndicator(applicationContext, camelContext, config.getExposureLevel());
+            return new CamelHealthCheckIndicator(applicationContext, camelContext, config.getExposureLevel(), cache.getIfAvailable());
         }
     }
 
@@ -0,0 +1,416 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.health;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.health.HealthCheck;
+import org.apache.camel.health.HealthCheckHelper;
+import org.apache.camel.health.HealthCheckRegistry;
+import org.apache.camel.health.HealthCheckResultBuilder;
+import org.apache.camel.support.service.ServiceSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Caches the results of the Camel health checks, so the health indicators and the liveness and readiness probes
+ * are served without invoking the checks.
+ * <p>
+ * The checks which have been asked for are refreshed in the background, the checks of a refresh are invoked in
+ * parallel and each check is reported DOWN when it does not complete within the timeout. Results older than the
+ * maximum staleness are still returned, and refreshed in the background. A check which is still running is not
+ * invoked again, so a check which hangs holds a single thread until it completes.
+ */
+public class CamelHealthCheckCache extends ServiceSupport {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CamelHealthCheckCache.class);
+
+    private final CamelContext camelContext;
+    private final long refreshInterval;
+    private final long timeout;
+    private final long maxStaleness;
+    private final int poolSize;
+    private final Map<HealthCheck.Kind, CachedResults> cache = new EnumMap<>(HealthCheck.Kind.class);
+    private final AtomicInteger hungChecks = new AtomicInteger();
+    private ScheduledExecutorService scheduler;
+    private ExecutorService executor;
+
+    public CamelHealthCheckCache(CamelContext camelContext, long refreshInterval, long timeout, long maxStaleness, int poolSize) {
+        this.camelContext = camelContext;
+        this.refreshInterval = refreshInterval;
+        this.timeout = timeout;
+        this.maxStaleness = maxStaleness;
+        this.poolSize = poolSize;
+        for (HealthCheck.Kind kind : HealthCheck.Kind.values()) {
+            cache.put(kind, new CachedResults(kind));
+        }
+    }
+
+    /**
+     * Returns the cached results of the health checks of the given kind, filtered by the exposure level of the
+     * health check registry.
+     * <p>
+     * The checks are invoked directly until Camel is started, and the first time the results of a kind are asked
+     * for. Results older than the maximum staleness are returned while they are refreshed in the background.
+     */
+    public Collection<HealthCheck.Result> getResults(HealthCheck.Kind kind) {
+        if (!isStarted()) {
+            return invokeDirectly(kind);
+        }
+
+        CachedResults results = cache.get(kind);
+        results.requested = true;
+        Snapshot snapshot = results.snapshot;
+        if (snapshot == null) {
+            return results.refresh().results;
+        }
+        if (System.currentTimeMillis() - snapshot.timestamp > maxStaleness) {
+            results.refreshAsync();
+        }
+        return snapshot.results;
+    }
+
+    /**
+     * Forces a refresh of all the health checks which have been asked for, and waits for it to complete.
+     */
+    public void refresh() {
+        for (CachedResults results : cache.values()) {
+            if (results.requested) {
+                results.refresh();
+            }
+        }
+    }
+
+    /**
+     * Number of health checks which did not complete within the timeout and are still running.
+     */
+    public int getHungChecks() {
+        return hungChecks.get();
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        executor = camelContext.getExecutorServiceManager().newFixedThreadPool(this, "HealthCheck", poolSize);
+        scheduler = camelContext.getExecutorServiceManager().newSingleThreadScheduledExecutor(this, "HealthCheckRefresh");
+        scheduler.scheduleWithFixedDelay(this::backgroundRefresh, refreshInterval, refreshInterval, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (scheduler != null) {
+            camelContext.getExecutorServiceManager().shutdownNow(scheduler);
+            scheduler = null;
+        }
+        if (executor != null) {
+            camelContext.getExecutorServiceManager().shutdownNow(executor);
+            executor = null;
+        }
+        for (CachedResults results : cache.values()) {
+            results.snapshot = null;
+            results.running.clear();
+        }
+        hungChecks.set(0);
+    }
+
+    private void backgroundRefresh() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            LOG.warn("Error refreshing health checks due to {}. This exception is ignored.", e.getMessage(), e);
+        }
+    }
+
+    private Collection<HealthCheck.Result> invokeDirectly(HealthCheck.Kind kind) {
+        return HealthCheckHelper.invoke(camelContext, check -> Map.of(HealthCheck.CHECK_KIND, kind), filter(kind).negate(), null);
+    }
+
+    private Collection<HealthCheck.Result> invoke(HealthCheck.Kind kind, Map<HealthCheck, RunningCheck> running) {
+        ExecutorService executor = this.executor;
+        if (executor == null) {
+            // stopped while refreshing
+            return invokeDirectly(kind);
+        }
+        HealthCheckRegistry registry = HealthCheckRegistry.get(camelContext);
+        if (registry == null) {
+            return Collections.emptyList();
+        }
+
+        Predicate<HealthCheck> filter = filter(kind);
+        List<HealthCheck> checks = registry.stream()
+                .filter(check -> !registry.isExcluded(check) && filter.test(check))
+                .sorted(Comparator.comparingInt(HealthCheck::getOrder))
+                .distinct()
+                .collect(Collectors.toList());
+        Map<String, Object> options = Map.of(HealthCheck.CHECK_KIND, kind);
+
+        // a check still running since a previous refresh is waited for instead of invoked again
+        List<RunningCheck> calls = new ArrayList<>(checks.size());
+        for (HealthCheck check : checks) {
+            calls.add(running.computeIfAbsent(check, key -> submit(executor, key, options, running)));
+        }
+
+        // the checks run in parallel, so they all share the same deadline
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+        List<HealthCheck.Result> results = new ArrayList<>(checks.size());
+        for (int i = 0; i < checks.size(); i++) {
+            HealthCheck check = checks.get(i);
+            RunningCheck call = calls.get(i);
+            try {
+                results.add(call.result.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+            } catch (TimeoutException e) {
+                call.timeout();
+                results.add(timedOut(check));
+            } catch (ExecutionException e) {
+                results.add(HealthCheckResultBuilder.on(check).down().error(e.getCause()).build());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                results.add(HealthCheckResultBuilder.on(check).down().error(e).build());
+            }
+        }
+
+        return applyExposureLevel(results, registry.getExposureLevel());
+    }
+
+    private RunningCheck submit(
+            ExecutorService executor, HealthCheck check, Map<String, Object> options, Map<HealthCheck, RunningCheck> running) {
+        RunningCheck call = new RunningCheck(check, executor, running);
+        try {
+            call.task = executor.submit(() -> call.run(options));
+        } catch (RejectedExecutionException e) {
+            call.result.completeExceptionally(e);
+        }
+        return call;
+    }
+
+    private HealthCheck.Result timedOut(HealthCheck check) {
+        return HealthCheckResultBuilder.on(check).down()
+                .message("Health check did not complete within " + timeout + " millis").build();
+    }
+
+    /*
+     * Adds a thread to the pool for every hung check, so the checks which hang do not starve the other checks. An
+     * executor which is not a pool, such as with virtual threads, starts a thread per check and is left as is.
+     */
+    private synchronized void resizePool(ExecutorService pool, int delta) {
+        if (!(pool instanceof ThreadPoolExecutor)) {
+            return;
+        }
+        ThreadPoolExecutor executor = (ThreadPoolExecutor) pool;
+        int size = Math.max(poolSize, executor.getCorePoolSize() + delta);
+        if (size > executor.getMaximumPoolSize()) {
+            executor.setMaximumPoolSize(size);
+            executor.setCorePoolSize(size);
+        } else {
+            executor.setCorePoolSize(size);
+            executor.setMaximumPoolSize(size);
+        }
+    }
+
+    /*
+     * Same filtering as done by HealthCheckHelper when invoking the checks.
+     */
+    private static Collection<HealthCheck.Result> applyExposureLevel(List<HealthCheck.Result> results, String exposureLevel) {
+        if (results.isEmpty()) {
+            return Collections.emptyList();
+        }
+        if ("full".equals(exposureLevel)) {
+            return Collections.unmodifiableList(results);
+        }
+
+        List<HealthCheck.Result> downs = results.stream()
+                .filter(result -> result.getState() == HealthCheck.State.DOWN)
+                .collect(Collectors.toList());
+        if (downs.isEmpty()) {
+            return Collections.singletonList(results.get(0));
+        } else if ("oneline".equals(exposureLevel)) {
+            return Collections.singletonList(downs.get(0));
+        } else {
+            return Collections.unmodifiableList(downs);
+        }
+    }
+
+    private static Predicate<HealthCheck> filter(HealthCheck.Kind kind) {
+        switch (kind) {
+            case LIVENESS:
+                return HealthCheck::isLiveness;
+            case READINESS:
+                return HealthCheck::isReadiness;
+            default:
+                return check -> true;
+        }
+    }
+
+    private final class CachedResults {
+
+        private final HealthCheck.Kind kind;
+        private final AtomicReference<CompletableFuture<Snapshot>> inflight = new AtomicReference<>();
+        // the checks which have not completed yet, which are not invoked again until they do
+        private final Map<HealthCheck, RunningCheck> running = new ConcurrentHashMap<>();
+        private final AtomicBoolean refreshScheduled = new AtomicBoolean();
+        private volatile Snapshot snapshot;
+        private volatile boolean requested;
+
+        CachedResults(HealthCheck.Kind kind) {
+            this.kind = kind;
+        }
+
+        /*
+         * Refreshes the results on the background thread, unless a refresh is already scheduled.
+         */
+        void refreshAsync() {
+            ScheduledExecutorService scheduler = CamelHealthCheckCache.this.scheduler;
+            if (scheduler == null || !refreshScheduled.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                scheduler.execute(() -> {
+                    try {
+                        refresh();
+                    } catch (Exception e) {
+                        LOG.warn("Error refreshing health checks due to {}. This exception is ignored.", e.getMessage(), e);
+                    } finally {
+                        refreshScheduled.set(false);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                refreshScheduled.set(false);
+            }
+        }
+
+        /*
+         * Invokes the checks, concurrent callers wait for the refresh in progress instead of invoking the checks again.
+         */
+        Snapshot refresh() {
+            CompletableFuture<Snapshot> future = new CompletableFuture<>();
+            CompletableFuture<Snapshot> existing = inflight.compareAndExchange(null, future);
+            if (existing != null) {
+                return existing.join();
+            }
+
+            try {
+                Snapshot answer = new Snapshot(invoke(kind, running));
+                snapshot = answer;
+                future.complete(answer);
+                return answer;
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+                throw e;
+            } finally {
+                inflight.set(null);
+            }
+        }
+    }
+
+    /*
+     * A check invoked on the pool, which stays registered as running until it completes, even after it timed out.
+     */
+    private final class RunningCheck {
+
+        private static final int QUEUED = 0;
+        private static final int RUNNING = 1;
+        private static final int HUNG = 2;
+        private static final int DONE = 3;
+
+        private final HealthCheck check;
+        private final ExecutorService executor;
+        private final Map<HealthCheck, RunningCheck> running;
+        private final CompletableFuture<HealthCheck.Result> result = new CompletableFuture<>();
+        private final AtomicInteger state = new AtomicInteger(QUEUED);
+        private volatile Future<?> task;
+
+        RunningCheck(HealthCheck check, ExecutorService executor, Map<HealthCheck, RunningCheck> running) {
+            this.check = check;
+            this.executor = executor;
+            this.running = running;
+        }
+
+        void run(Map<String, Object> options) {
+            if (!state.compareAndSet(QUEUED, RUNNING)) {
+                // timed out before it started
+                return;
+            }
+            try {
+                result.complete(check.call(options));
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            } finally {
+                running.remove(check, this);
+                if (state.getAndSet(DONE) == HUNG && executor == CamelHealthCheckCache.this.executor) {
+                    hungChecks.decrementAndGet();
+                    resizePool(executor, -1);
+                    LOG.info("Health check {} completed after timing out", check.getId());
+                }
+            }
+        }
+
+        /*
+         * Interrupts the check, which is then reported as hung until it completes. A check which did not start yet
+         * is removed instead, as it holds no thread.
+         */
+        void timeout() {
+            Future<?> task = this.task;
+            if (task == null) {
+                return;
+            }
+            if (state.compareAndSet(QUEUED, DONE)) {
+                if (executor instanceof ThreadPoolExecutor) {
+                    ((ThreadPoolExecutor) executor).remove((Runnable) task);
+                }
+                running.remove(check, this);
+                result.complete(timedOut(check));
+            } else if (state.compareAndSet(RUNNING, HUNG)) {
+                hungChecks.incrementAndGet();
+                resizePool(executor, 1);
+                task.cancel(true);
+                LOG.warn("Health check {} did not complete within {} millis and is not invoked again until it completes",
+                        check.getId(), timeout);
+            }
+        }
+    }
+
+    private static final class Snapshot {
+
+        private final Collection<HealthCheck.Result> results;
+        private final long timestamp = System.currentTimeMillis();
+
+        Snapshot(Collection<HealthCheck.Result> results) {
+            this.results = results;
+        }
+    }
+}
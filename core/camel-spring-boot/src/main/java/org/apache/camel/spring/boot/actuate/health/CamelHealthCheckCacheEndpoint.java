@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.health;
+
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+
+/*
+ * Spring Boot Management Endpoint to force a refresh of the cached Camel health check results
+ * (camel.health.async-enabled=true), such as after fixing a failing dependency.
+ */
+@Endpoint(id = "camelhealthcache")
+public class CamelHealthCheckCacheEndpoint {
+
+    private final CamelHealthCheckCache cache;
+
+    public CamelHealthCheckCacheEndpoint(CamelHealthCheckCache cache) {
+        this.cache = cache;
+    }
+
+    @ReadOperation
+    public Map<String, Object> getCache() {
+        return Map.of("hungChecks", cache.getHungChecks());
+    }
+
+    @WriteOperation
+    public void refresh() {
+        cache.refresh();
+    }
+}
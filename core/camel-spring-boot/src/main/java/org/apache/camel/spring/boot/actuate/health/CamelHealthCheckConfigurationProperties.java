@@ -95,6 +95,35 @@ public class CamelHealthCheckConfigurationProperties {
     @Metadata(enums = "up,down,unknown", defaultValue = "down")
     private String initialState = "down";
 
+    /**
+     * Whether the health indicator and the liveness and readiness probes are served from cached health check
+     * results, refreshed in the background. Otherwise the health checks are invoked on every request.
+     */
+    private boolean asyncEnabled;
+
+    /**
+     * Interval in millis between the background refreshes of the cached health check results.
+     */
+    private long asyncRefreshInterval = 10000;
+
+    /**
+     * Timeout in millis for the health checks invoked in the background, a health check which does not complete
+     * in time is reported as DOWN, and is not invoked again until it completes.
+     */
+    private long asyncTimeout = 5000;
+
+    /**
+     * Maximum age in millis of the cached health check results, older results are refreshed in the background when
+     * they are asked for, and returned as-is meanwhile.
+     */
+    private long asyncMaxStaleness = 30000;
+
+    /**
+     * Number of threads used to invoke the health checks in parallel. A thread is added for every health check
+     * which did not complete within the timeout and is still running.
+     */
+    private int asyncPoolSize = 4;
+
     public Boolean getEnabled() {
         return enabled;
     }
@@ -158,7 +187,44 @@ public class CamelHealthCheckConfigurationProperties {
     public void setInitialState(String initialState) {
         this.initialState = initialState;
     }
-}
 
+    public boolean isAsyncEnabled() {
+        return asyncEnabled;
+    }
+
+    public void setAsyncEnabled(boolean asyncEnabled) {
+        this.asyncEnabled = asyncEnabled;
+    }
 
+    public long getAsyncRefreshInterval() {
+        return asyncRefreshInterval;
+    }
+
+    public void setAsyncRefreshInterval(long asyncRefreshInterval) {
+        this.asyncRefreshInterval = asyncRefreshInterval;
+    }
+
+    public long getAsyncTimeout() {
+        return asyncTimeout;
+    }
+
+    public void setAsyncTimeout(long asyncTimeout) {
+        this.asyncTimeout = asyncTimeout;
+    }
 
+    public long getAsyncMaxStaleness() {
+        return asyncMaxStaleness;
+    }
+
+    public void setAsyncMaxStaleness(long asyncMaxStaleness) {
+        this.asyncMaxStaleness = asyncMaxStaleness;
+    }
+
+    public int getAsyncPoolSize() {
+        return asyncPoolSize;
+    }
+
+    public void setAsyncPoolSize(int asyncPoolSize) {
+        this.asyncPoolSize = asyncPoolSize;
+    }
+}
@@ -37,11 +37,18 @@ public class CamelHealthCheckIndicator extends AbstractHealthIndicator {
     private final CamelContext camelContext;
 
     private final String exposureLevel;
+    private final CamelHealthCheckCache cache;
 
     public CamelHealthCheckIndicator(ApplicationContext applicationContext, CamelContext camelContext, String exposureLevel) {
+        this(applicationContext, camelContext, exposureLevel, null);
+    }
+
+    public CamelHealthCheckIndicator(ApplicationContext applicationContext, CamelContext camelContext, String exposureLevel,
+                                     CamelHealthCheckCache cache) {
         this.applicationContext = applicationContext;
         this.camelContext = camelContext;
         this.exposureLevel = exposureLevel;
+        this.cache = cache;
     }
 
     @Override
@@ -49,7 +56,8 @@ public class CamelHealthCheckIndicator extends AbstractHealthIndicator {
         builder.withDetail("name", "camel-health-check");
         builder.up();
 
-        Collection<HealthCheck.Result> results = HealthCheckHelper.invoke(camelContext);
+        Collection<HealthCheck.Result> results = cache != null
+                ? cache.getResults(HealthCheck.Kind.ALL) : HealthCheckHelper.invoke(camelContext);
 
         for (HealthCheck.Result result : results) {
             Map<String, Object> details = result.getDetails();
@@ -19,6 +19,7 @@ package org.apache.camel.spring.boot.actuate.health.liveness;
 import org.apache.camel.CamelContext;
 import org.apache.camel.health.HealthCheck;
 import org.apache.camel.health.HealthCheckHelper;
+import org.apache.camel.spring.boot.actuate.health.CamelHealthCheckCache;
 import org.apache.camel.spring.boot.actuate.health.CamelProbesHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -35,17 +36,28 @@ public class CamelLivenessStateHealthIndicator extends LivenessStateHealthIndica
 
 	private final CamelContext camelContext;
 
+	private final CamelHealthCheckCache cache;
+
 	public CamelLivenessStateHealthIndicator(
 			ApplicationAvailability availability,
 			CamelContext camelContext) {
+		this(availability, camelContext, null);
+	}
+
+	public CamelLivenessStateHealthIndicator(
+			ApplicationAvailability availability,
+			CamelContext camelContext,
+			CamelHealthCheckCache cache) {
 		super(availability);
 
 		this.camelContext = camelContext;
+		this.cache = cache;
 	}
 
 	@Override
 	protected AvailabilityState getState(ApplicationAvailability applicationAvailability) {
-		Collection<HealthCheck.Result> results = HealthCheckHelper.invokeLiveness(camelContext);
+		Collection<HealthCheck.Result> results = cache != null ?
+				cache.getResults(HealthCheck.Kind.LIVENESS) : HealthCheckHelper.invokeLiveness(camelContext);
 
 		boolean isLive = CamelProbesHelper.checkProbeState(results, LOG);
 
@@ -19,6 +19,7 @@ package org.apache.camel.spring.boot.actuate.health.readiness;
 import org.apache.camel.CamelContext;
 import org.apache.camel.health.HealthCheck;
 import org.apache.camel.health.HealthCheckHelper;
+import org.apache.camel.spring.boot.actuate.health.CamelHealthCheckCache;
 import org.apache.camel.spring.boot.actuate.health.CamelProbesHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -35,17 +36,28 @@ public class CamelReadinessStateHealthIndicator extends ReadinessStateHealthIndi
 
 	private final CamelContext camelContext;
 
+	private final CamelHealthCheckCache cache;
+
 	public CamelReadinessStateHealthIndicator(
 			ApplicationAvailability availability,
 			CamelContext camelContext) {
+		this(availability, camelContext, null);
+	}
+
+	public CamelReadinessStateHealthIndicator(
+			ApplicationAvailability availability,
+			CamelContext camelContext,
+			CamelHealthCheckCache cache) {
 		super(availability);
 
 		this.camelContext = camelContext;
+		this.cache = cache;
 	}
 
 	@Override
 	protected AvailabilityState getState(ApplicationAvailability applicationAvailability) {
-		Collection<HealthCheck.Result> results = HealthCheckHelper.invokeReadiness(camelContext);
+		Collection<HealthCheck.Result> results = cache != null ?
+				cache.getResults(HealthCheck.Kind.READINESS) : HealthCheckHelper.invokeReadiness(camelContext);
 
 		boolean isReady = CamelProbesHelper.checkProbeState(results, LOG);
 
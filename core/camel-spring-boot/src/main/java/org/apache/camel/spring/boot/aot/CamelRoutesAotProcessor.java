@@ -0,0 +1,535 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.aot;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import javax.lang.model.element.Modifier;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.RoutesBuilder;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.builder.RouteConfigurationBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.main.DefaultRoutesCollector;
+import org.apache.camel.model.OptionalIdentifiedDefinition;
+import org.apache.camel.model.RouteDefinition;
+import org.apache.camel.model.RoutesDefinition;
+import org.apache.camel.spi.Resource;
+import org.apache.camel.spi.RoutesLoader;
+import org.apache.camel.spring.boot.CamelConfigurationProperties;
+import org.apache.camel.support.PluginHelper;
+import org.apache.camel.util.StringHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aot.generate.GeneratedClass;
+import org.springframework.aot.generate.GeneratedMethod;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.javapoet.CodeBlock;
+import org.springframework.javapoet.ParameterizedTypeName;
+import org.springframework.javapoet.TypeName;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * {@code CamelRoutesAotProcessor} parses the XML and YAML routes that Camel would load from the routes include pattern
+ * when the application is processed ahead-of-time, and generates the code that creates their route models. The
+ * generated routes are registered as {@link PrecompiledRoutes} beans, and their resources are then excluded
+ * from the routes that are loaded at runtime, so the parsers are not needed anymore when the application starts.
+ * <p>
+ * Only the resources that contain nothing but routes made of model objects and simple values can be generated. The
+ * other resources, for example with route configurations, rests, route templates or beans, are loaded at runtime as
+ * usual.
+ */
+public final class CamelRoutesAotProcessor implements BeanFactoryInitializationAotProcessor {
+
+    /**
+     * The logger.
+     */
+    private static final Logger LOG = LoggerFactory.getLogger(CamelRoutesAotProcessor.class);
+    /**
+     * The name of the property to disable the generation of the routes.
+     */
+    private static final String ENABLED_PROPERTY = "camel.springboot.routes-aot-enabled";
+    /**
+     * The prefix of the locations in the classpath.
+     */
+    private static final String CLASSPATH_PREFIX = "classpath:";
+    /**
+     * The properties of the model that are set by Camel itself when the routes are added.
+     */
+    private static final Set<String> IGNORED_PROPERTIES = Set.of("camelContext", "customId", "errorHandlerFactory",
+        "lineNumber", "location", "parent", "resource", "routeConfiguration");
+
+    @Override
+    public BeanFactoryInitializationAotContribution processAheadOfTime(ConfigurableListableBeanFactory beanFactory) {
+        Environment environment = beanFactory.containsBean("environment")
+            ? beanFactory.getBean("environment", Environment.class) : new StandardEnvironment();
+        if (!environment.getProperty(ENABLED_PROPERTY, Boolean.class, true)
+            || !environment.getProperty("camel.springboot.routes-collector-enabled", Boolean.class, true)) {
+            return null;
+        }
+        CamelConfigurationProperties defaults = new CamelConfigurationProperties();
+        String includePattern = environment.getProperty("camel.springboot.routes-include-pattern",
+            defaults.getRoutesIncludePattern());
+        String excludePattern = environment.getProperty("camel.springboot.routes-exclude-pattern",
+            defaults.getRoutesExcludePattern());
+        List<RoutesModel> models = parseRoutes(beanFactory.getBeanClassLoader(), includePattern, excludePattern);
+        if (models.isEmpty()) {
+            return null;
+        }
+        LOG.info("Generating the route models of {} resources ahead-of-time", models.size());
+        return (generationContext, code) -> {
+            GeneratedClass generatedClass = generationContext.getGeneratedClasses()
+                .addForFeature("CamelRoutes", type -> type.addModifiers(Modifier.PUBLIC));
+            List<String> routesMethods = new ArrayList<>(models.size());
+            for (RoutesModel model : models) {
+                routesMethods.add(generateRoutes(generatedClass, model).getName());
+            }
+            GeneratedMethod registerMethod = code.getMethods().add("registerCamelRoutes", method -> {
+                method.addJavadoc("Register the routes that have been generated ahead-of-time.");
+                method.addModifiers(Modifier.PUBLIC);
+                method.addParameter(DefaultListableBeanFactory.class, "beanFactory");
+                for (int i = 0; i < models.size(); i++) {
+                    String location = models.get(i).location;
+                    method.addStatement("beanFactory.registerBeanDefinition($S, new $T($T.class, () -> new $T($S, $T::$N)))",
+                        "camelPrecompiledRoutes:" + location, RootBeanDefinition.class, PrecompiledRoutes.class,
+                        PrecompiledRoutes.class, location, generatedClass.getName(), routesMethods.get(i));
+                }
+            });
+            code.addInitializer(registerMethod.toMethodReference());
+        };
+    }
+
+    /**
+     * Parse the routes of the resources matching the given patterns, and keep only the resources whose routes can be
+     * generated.
+     */
+    private static List<RoutesModel> parseRoutes(ClassLoader classLoader, String includePattern, String excludePattern) {
+        List<RoutesModel> answer = new ArrayList<>();
+        try (DefaultCamelContext camelContext = new DefaultCamelContext(false)) {
+            camelContext.setApplicationContextClassLoader(classLoader);
+            camelContext.build();
+            // the resources are identified by their location in the classpath, as their URL differs at runtime
+            Map<String, Resource> resources = new LinkedHashMap<>();
+            Set<String> duplicates = new HashSet<>();
+            for (Resource resource : new DefaultRoutesCollector().findRouteResourcesFromDirectory(camelContext,
+                excludePattern, includePattern)) {
+                String location = toClasspathLocation(classLoader, includePattern, resource.getLocation());
+                if (location == null) {
+                    LOG.debug("The routes of {} will be loaded at runtime as they are not in the classpath",
+                        resource.getLocation());
+                } else if (resources.putIfAbsent(location, resource) != null) {
+                    duplicates.add(location);
+                }
+            }
+            resources.keySet().removeAll(duplicates);
+            RoutesLoader loader = PluginHelper.getRoutesLoader(camelContext);
+            for (Map.Entry<String, Resource> entry : resources.entrySet()) {
+                try {
+                    List<ModelNode> routes = parseRoutes(camelContext, loader, entry.getValue());
+                    if (!routes.isEmpty()) {
+                        answer.add(new RoutesModel(entry.getKey(), routes));
+                    }
+                } catch (Exception e) {
+                    LOG.debug("The routes of {} will be loaded at runtime: {}", entry.getKey(), e.getMessage());
+                }
+            }
+        } catch (Exception e) {
+            LOG.warn("Could not parse the routes ahead-of-time, they will be loaded at runtime: {}", e.getMessage(), e);
+            return List.of();
+        }
+        return answer;
+    }
+
+    /**
+     * Find the location in the classpath of the given resource found with one of the {@code classpath:} include
+     * patterns.
+     *
+     * @return the location starting with {@code classpath:} or {@code null} if it could not be found.
+     */
+    private static String toClasspathLocation(ClassLoader classLoader, String includePattern, String location) {
+        for (String include : includePattern.split(",")) {
+            if (!include.startsWith(CLASSPATH_PREFIX)) {
+                continue;
+            }
+            String path = StringHelper.before(include, "?optional=true", include)
+                .substring(CLASSPATH_PREFIX.length());
+            int wildcard = path.indexOf('*');
+            String directory = path.substring(0, path.lastIndexOf('/', wildcard < 0 ? path.length() : wildcard) + 1);
+            int index = location.lastIndexOf("/" + directory);
+            if (directory.isEmpty() || index < 0) {
+                continue;
+            }
+            String name = location.substring(index + 1);
+            ClassLoader loader = classLoader == null ? ClassUtils.getDefaultClassLoader() : classLoader;
+            if (loader != null && loader.getResource(name) != null) {
+                return CLASSPATH_PREFIX + name;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Parse the routes of the given resource without preparing them, as the route configurations and the error
+     * handler of the application are only applied at runtime.
+     */
+    private static List<ModelNode> parseRoutes(CamelContext camelContext, RoutesLoader loader, Resource resource)
+        throws Exception {
+        int beans = camelContext.getRegistry().findByType(Object.class).size();
+        List<ModelNode> answer = new ArrayList<>();
+        for (RoutesBuilder builder : loader.findRoutesBuilders(resource)) {
+            if (!(builder instanceof RouteBuilder)) {
+                throw new IllegalStateException("Unsupported routes builder " + builder.getClass().getName());
+            }
+            RouteBuilder routeBuilder = (RouteBuilder) builder;
+            routeBuilder.setCamelContext(camelContext);
+            routeBuilder.setResource(resource);
+            routeBuilder.configure();
+            if (routeBuilder instanceof RouteConfigurationBuilder) {
+                RouteConfigurationBuilder configurationBuilder = (RouteConfigurationBuilder) routeBuilder;
+                configurationBuilder.configuration();
+                checkEmpty(configurationBuilder.getRouteConfigurationCollection().getRouteConfigurations(),
+                    "route configurations");
+            }
+            checkEmpty(routeBuilder.getRestCollection().getRests(), "rests");
+            checkEmpty(routeBuilder.getRouteTemplateCollection().getRouteTemplates(), "route templates");
+            checkEmpty(routeBuilder.getTemplatedRouteCollection().getTemplatedRoutes(), "templated routes");
+            checkEmpty(routeBuilder.getBeans(), "beans");
+            RoutesDefinition routes = routeBuilder.getRouteCollection();
+            checkEmpty(routes.getOnExceptions(), "global exception clauses");
+            checkEmpty(routes.getOnCompletions(), "global on completions");
+            checkEmpty(routes.getIntercepts(), "global interceptors");
+            checkEmpty(routes.getInterceptFroms(), "global interceptors");
+            checkEmpty(routes.getInterceptSendTos(), "global interceptors");
+            if (routes.getErrorHandlerFactory() != null) {
+                throw new IllegalStateException("It has an error handler");
+            }
+            for (RouteDefinition route : routes.getRoutes()) {
+                answer.add(toNode(route, Collections.newSetFromMap(new IdentityHashMap<>())));
+            }
+        }
+        if (camelContext.getRegistry().findByType(Object.class).size() != beans) {
+            throw new IllegalStateException("It binds beans");
+        }
+        return answer;
+    }
+
+    private static void checkEmpty(Collection<?> collection, String name) {
+        if (collection != null && !collection.isEmpty()) {
+            throw new IllegalStateException("It has " + name);
+        }
+    }
+
+    /**
+     * Convert the given model object into the properties to set, that is the properties that differ from a new
+     * instance of the same type.
+     */
+    private static ModelNode toNode(Object model, Set<Object> visiting) throws Exception {
+        Class<?> type = model.getClass();
+        if (!type.getName().startsWith("org.apache.camel.model.") || !isAccessible(type)
+            || ClassUtils.getConstructorIfAvailable(type) == null) {
+            throw new IllegalStateException("Unsupported model type " + type.getName());
+        }
+        if (!visiting.add(model)) {
+            throw new IllegalStateException("Cyclic model " + type.getName());
+        }
+        Object defaults = BeanUtils.instantiateClass(type);
+        ModelNode node = new ModelNode(type);
+        if (model instanceof OptionalIdentifiedDefinition) {
+            // the id is set first as some definitions pass it on to their last output once they have some
+            OptionalIdentifiedDefinition<?> definition = (OptionalIdentifiedDefinition<?>) model;
+            if (definition.hasCustomIdAssigned()) {
+                node.properties.add(new ModelProperty(type.getMethod("setId", String.class), definition.getId()));
+            }
+        }
+        // some properties are aliases of others, such as the expression type of an expression node
+        Set<Object> values = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (PropertyDescriptor descriptor : BeanUtils.getPropertyDescriptors(type)) {
+            String name = descriptor.getName();
+            Method writeMethod = descriptor.getWriteMethod();
+            if (IGNORED_PROPERTIES.contains(name) || writeMethod == null
+                || "id".equals(name) && model instanceof OptionalIdentifiedDefinition) {
+                continue;
+            }
+            Method readMethod = descriptor.getReadMethod();
+            if (readMethod == null) {
+                // the boolean flags of the model are objects that are read with an is method
+                readMethod = ClassUtils.getMethodIfAvailable(type, "is" + StringUtils.capitalize(name));
+                if (readMethod == null || readMethod.getReturnType() != writeMethod.getParameterTypes()[0]) {
+                    continue;
+                }
+            }
+            ReflectionUtils.makeAccessible(readMethod);
+            Object value = readMethod.invoke(model);
+            if (value == null || isEmpty(value) || Objects.equals(value, readMethod.invoke(defaults))
+                || !isSimple(value) && !values.add(value)) {
+                continue;
+            }
+            Type valueType = writeMethod.getGenericParameterTypes()[0];
+            node.properties.add(new ModelProperty(writeMethod, toValue(value, valueType, visiting)));
+        }
+        visiting.remove(model);
+        return node;
+    }
+
+    private static Object toValue(Object value, Type type, Set<Object> visiting) throws Exception {
+        if (value instanceof Collection) {
+            checkGenerics(type);
+            List<Object> answer = new ArrayList<>();
+            for (Object element : (Collection<?>) value) {
+                answer.add(toElement(element, visiting));
+            }
+            return new ModelList(type, answer);
+        } else if (value instanceof Map) {
+            checkGenerics(type);
+            Map<String, Object> answer = new LinkedHashMap<>();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                if (!(entry.getKey() instanceof String)) {
+                    throw new IllegalStateException("Unsupported map key " + entry.getKey());
+                }
+                answer.put((String) entry.getKey(), toElement(entry.getValue(), visiting));
+            }
+            return new ModelMap(type, answer);
+        }
+        return toElement(value, visiting);
+    }
+
+    private static Object toElement(Object value, Set<Object> visiting) throws Exception {
+        if (value instanceof Enum) {
+            Class<?> type = ((Enum<?>) value).getDeclaringClass();
+            if (!isAccessible(type)) {
+                throw new IllegalStateException("Unsupported enum " + type.getName());
+            }
+            return value;
+        } else if (isSimple(value)) {
+            return value;
+        } else if (value == null || value instanceof Collection || value instanceof Map) {
+            throw new IllegalStateException("Unsupported value " + value);
+        }
+        return toNode(value, visiting);
+    }
+
+    private static boolean isSimple(Object value) {
+        return value instanceof String || value instanceof Boolean || value instanceof Integer || value instanceof Long
+            || value instanceof Enum;
+    }
+
+    private static boolean isEmpty(Object value) {
+        return value instanceof Collection && ((Collection<?>) value).isEmpty()
+            || value instanceof Map && ((Map<?, ?>) value).isEmpty();
+    }
+
+    private static boolean isAccessible(Class<?> type) {
+        for (Class<?> current = type; current != null; current = current.getEnclosingClass()) {
+            if (!java.lang.reflect.Modifier.isPublic(current.getModifiers())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Ensure that the given type can be declared in the generated code.
+     */
+    private static void checkGenerics(Type type) {
+        if (type instanceof TypeVariable || type instanceof GenericArrayType) {
+            throw new IllegalStateException("Unsupported type " + type);
+        } else if (type instanceof ParameterizedType) {
+            Arrays.stream(((ParameterizedType) type).getActualTypeArguments())
+                .forEach(CamelRoutesAotProcessor::checkGenerics);
+        } else if (type instanceof WildcardType) {
+            Arrays.stream(((WildcardType) type).getUpperBounds()).forEach(CamelRoutesAotProcessor::checkGenerics);
+            Arrays.stream(((WildcardType) type).getLowerBounds()).forEach(CamelRoutesAotProcessor::checkGenerics);
+        } else if (type instanceof Class && !isAccessible((Class<?>) type)) {
+            throw new IllegalStateException("Unsupported type " + type);
+        }
+    }
+
+    /**
+     * Generate the method that creates the routes of the given resource.
+     */
+    private static GeneratedMethod generateRoutes(GeneratedClass generatedClass, RoutesModel model) {
+        CodeBlock.Builder routes = CodeBlock.builder();
+        for (ModelNode route : model.routes) {
+            routes.add(routes.isEmpty() ? "$N()" : ", $N()", generateNode(generatedClass, route).getName());
+        }
+        return generatedClass.getMethods().add("routes", method -> {
+            method.addJavadoc("Create the routes of {@code $L}.", model.location);
+            method.addModifiers(Modifier.PUBLIC, Modifier.STATIC);
+            method.returns(ParameterizedTypeName.get(List.class, RouteDefinition.class));
+            method.addStatement("return $T.of($L)", List.class, routes.build());
+        });
+    }
+
+    /**
+     * Generate the method that creates the given model object.
+     */
+    private static GeneratedMethod generateNode(GeneratedClass generatedClass, ModelNode node) {
+        CodeBlock.Builder code = CodeBlock.builder();
+        code.addStatement("$T definition = new $T()", node.type, node.type);
+        int variables = 0;
+        for (ModelProperty property : node.properties) {
+            Method writeMethod = property.writeMethod;
+            CodeBlock value;
+            if (property.value instanceof ModelList) {
+                ModelList list = (ModelList) property.value;
+                String variable = "list" + variables++;
+                code.addStatement("$T $L = new $T<>()", list.type, variable, ArrayList.class);
+                for (Object element : list.elements) {
+                    code.addStatement("$L.add($L)", variable, generateElement(generatedClass, element));
+                }
+                value = CodeBlock.of("$L", variable);
+            } else if (property.value instanceof ModelMap) {
+                ModelMap map = (ModelMap) property.value;
+                String variable = "map" + variables++;
+                code.addStatement("$T $L = new $T<>()", map.type, variable, LinkedHashMap.class);
+                for (Map.Entry<String, Object> entry : map.entries.entrySet()) {
+                    code.addStatement("$L.put($S, $L)", variable, entry.getKey(),
+                        generateElement(generatedClass, entry.getValue()));
+                }
+                value = CodeBlock.of("$L", variable);
+            } else {
+                value = generateElement(generatedClass, property.value);
+            }
+            if (isOverloaded(node.type, writeMethod)) {
+                value = CodeBlock.of("($T) $L", writeMethod.getParameterTypes()[0], value);
+            }
+            code.addStatement("definition.$N($L)", writeMethod.getName(), value);
+        }
+        code.addStatement("return definition");
+        return generatedClass.getMethods().add(StringUtils.uncapitalize(node.type.getSimpleName()), method -> {
+            method.addModifiers(Modifier.PRIVATE, Modifier.STATIC);
+            method.returns(node.type);
+            method.addCode(code.build());
+        });
+    }
+
+    private static CodeBlock generateElement(GeneratedClass generatedClass, Object value) {
+        if (value instanceof String) {
+            return CodeBlock.of("$S", value);
+        } else if (value instanceof Long) {
+            return CodeBlock.of("$LL", value);
+        } else if (value instanceof Enum) {
+            return CodeBlock.of("$T.$N", ((Enum<?>) value).getDeclaringClass(), ((Enum<?>) value).name());
+        } else if (value instanceof ModelNode) {
+            return CodeBlock.of("$N()", generateNode(generatedClass, (ModelNode) value).getName());
+        }
+        return CodeBlock.of("$L", value);
+    }
+
+    private static boolean isOverloaded(Class<?> type, Method writeMethod) {
+        return Arrays.stream(type.getMethods())
+            .filter(method -> method.getName().equals(writeMethod.getName()) && method.getParameterCount() == 1)
+            .count() > 1;
+    }
+
+    /**
+     * The routes of a resource.
+     */
+    private static final class RoutesModel {
+
+        private final String location;
+        private final List<ModelNode> routes;
+
+        RoutesModel(String location, List<ModelNode> routes) {
+            this.location = location;
+            this.routes = routes;
+        }
+    }
+
+    /**
+     * A model object to create with the properties to set.
+     */
+    private static final class ModelNode {
+
+        private final Class<?> type;
+        private final List<ModelProperty> properties = new ArrayList<>();
+
+        ModelNode(Class<?> type) {
+            this.type = type;
+        }
+    }
+
+    /**
+     * A property to set with its value, which is a simple value, a {@link ModelNode}, a {@link ModelList} or a
+     * {@link ModelMap}.
+     */
+    private static final class ModelProperty {
+
+        private final Method writeMethod;
+        private final Object value;
+
+        ModelProperty(Method writeMethod, Object value) {
+            this.writeMethod = writeMethod;
+            this.value = value;
+        }
+    }
+
+    /**
+     * A list of simple values or of {@link ModelNode}.
+     */
+    private static final class ModelList {
+
+        private final TypeName type;
+        private final List<Object> elements;
+
+        ModelList(Type type, List<Object> elements) {
+            this.type = TypeName.get(type);
+            this.elements = elements;
+        }
+    }
+
+    /**
+     * A map of simple values or of {@link ModelNode} by name.
+     */
+    private static final class ModelMap {
+
+        private final TypeName type;
+        private final Map<String, Object> entries;
+
+        ModelMap(Type type, Map<String, Object> entries) {
+            this.type = TypeName.get(type);
+            this.entries = entries;
+        }
+    }
+}
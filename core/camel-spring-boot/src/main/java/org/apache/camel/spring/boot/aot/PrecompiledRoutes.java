@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.aot;
+
+import java.io.File;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.apache.camel.RoutesBuilder;
+import org.apache.camel.model.RouteDefinition;
+import org.apache.camel.util.StringHelper;
+
+/**
+ * {@code PrecompiledRoutes} holds the routes of a routes resource, such as an XML or YAML file, whose route models
+ * have been generated ahead-of-time by {@link CamelRoutesAotProcessor}.
+ * <p>
+ * It is registered as a bean which is not a {@link RoutesBuilder}, so the routes are not filtered out by the Java
+ * routes include and exclude patterns of the routes collector, as they replace the resource which is matched by the
+ * routes include pattern instead.
+ */
+public final class PrecompiledRoutes {
+
+    /**
+     * The location in the classpath of the resource from which the routes were generated.
+     */
+    private final String location;
+    /**
+     * The supplier of the generated route models.
+     */
+    private final Supplier<List<RouteDefinition>> routes;
+
+    public PrecompiledRoutes(String location, Supplier<List<RouteDefinition>> routes) {
+        this.location = location;
+        this.routes = routes;
+    }
+
+    /**
+     * @return the location in the classpath of the resource from which the routes were generated, starting with
+     *         {@code classpath:}.
+     */
+    public String getLocation() {
+        return location;
+    }
+
+    /**
+     * @param  classLoader the class loader from which the resource is loaded at runtime.
+     * @return             the comma separated locations of the resource from which the routes were generated, as found
+     *                     by the routes collector: the location in the classpath when the resource is in a jar, and the
+     *                     location of the file when the resource is in a directory of the classpath.
+     */
+    public String getExcludePattern(ClassLoader classLoader) {
+        String answer = location;
+        URL url = classLoader.getResource(StringHelper.after(location, ":", location));
+        if (url != null && "file".equals(url.getProtocol())) {
+            try {
+                answer += ",file:" + new File(url.toURI()).getPath();
+            } catch (URISyntaxException | IllegalArgumentException e) {
+                // not a file so the resource is found by its location in the classpath
+            }
+        }
+        return answer;
+    }
+
+    /**
+     * @return a new builder of the routes.
+     */
+    public RoutesBuilder createRoutesBuilder() {
+        return new PrecompiledRoutesBuilder(location, routes);
+    }
+
+    @Override
+    public String toString() {
+        return "PrecompiledRoutes[" + location + "]";
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.aot;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.model.RouteDefinition;
+import org.apache.camel.support.ResourceHelper;
+
+/**
+ * {@code PrecompiledRoutesBuilder} adds the routes of a routes resource, such as an XML or YAML file, whose route
+ * models have been generated ahead-of-time by {@link CamelRoutesAotProcessor}, so the resource does not need to be
+ * parsed when the application starts.
+ */
+final class PrecompiledRoutesBuilder extends RouteBuilder {
+
+    /**
+     * The location in the classpath of the resource from which the routes were generated.
+     */
+    private final String location;
+    /**
+     * The supplier of the generated route models.
+     */
+    private final Supplier<List<RouteDefinition>> routes;
+
+    PrecompiledRoutesBuilder(String location, Supplier<List<RouteDefinition>> routes) {
+        this.location = location;
+        this.routes = routes;
+    }
+
+    @Override
+    public void configure() throws Exception {
+        setResource(ResourceHelper.resolveResource(getCamelContext(), location));
+        for (RouteDefinition route : routes.get()) {
+            route.setCamelContext(getCamelContext());
+            getRouteCollection().route(route);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "PrecompiledRoutesBuilder[" + location + "]";
+    }
+}
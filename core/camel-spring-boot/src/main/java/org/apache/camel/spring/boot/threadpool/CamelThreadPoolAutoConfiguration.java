@@ -18,13 +18,24 @@ package org.apache.camel.spring.boot.threadpool;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.builder.ThreadPoolProfileBuilder;
+import org.apache.camel.spi.ThreadPoolFactory;
 import org.apache.camel.spi.ThreadPoolProfile;
 import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionMessage;
+import org.springframework.boot.autoconfigure.condition.ConditionOutcome;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.SpringBootCondition;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.type.AnnotatedTypeMetadata;
 
 @Configuration(proxyBeanMethods = false)
 @ConditionalOnBean(CamelAutoConfiguration.class)
@@ -32,6 +43,19 @@ import org.springframework.context.annotation.Configuration;
 @AutoConfigureAfter(CamelAutoConfiguration.class)
 public class CamelThreadPoolAutoConfiguration {
 
+    private static final Logger LOG = LoggerFactory.getLogger(CamelThreadPoolAutoConfiguration.class);
+
+    /**
+     * The thread pool factory for virtual threads, which Camel picks up from the registry when it is configured
+     */
+    @Bean
+    @ConditionalOnMissingBean(ThreadPoolFactory.class)
+    @Conditional(CamelThreadPoolAutoConfiguration.VirtualThreadsCondition.class)
+    public ThreadPoolFactory virtualThreadPoolFactory() {
+        LOG.info("Camel thread pools use virtual threads");
+        return new VirtualThreadPoolFactory();
+    }
+
     @Bean
     public ThreadPoolProfile threadPool(CamelContext camelContext, CamelThreadPoolConfigurationProperties tp) {
         if (tp.isEmpty()) {
@@ -70,4 +94,29 @@ public class CamelThreadPoolAutoConfiguration {
         return dp;
     }
 
+    /**
+     * Matches when camel.threadpool.virtual-threads is enabled, or when it is not set and
+     * spring.threads.virtual.enabled is enabled, and virtual threads are supported by the JVM.
+     */
+    public static class VirtualThreadsCondition extends SpringBootCondition {
+        @Override
+        public ConditionOutcome getMatchOutcome(ConditionContext context, AnnotatedTypeMetadata annotatedTypeMetadata) {
+            ConditionMessage.Builder message = ConditionMessage.forCondition("Virtual threads");
+            Environment environment = context.getEnvironment();
+            Boolean virtualThreads = environment.getProperty("camel.threadpool.virtual-threads", Boolean.class);
+            if (virtualThreads == null) {
+                // honour the spring boot virtual threads flag
+                virtualThreads = environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+            }
+            if (!virtualThreads) {
+                return ConditionOutcome.noMatch(message.because("not enabled"));
+            }
+            if (!VirtualThreadPoolFactory.isSupported()) {
+                LOG.warn("Virtual threads are enabled but not supported on Java {}. Camel thread pools will use platform threads.",
+                        Runtime.version());
+                return ConditionOutcome.noMatch(message.because("not supported on Java " + Runtime.version().feature()));
+            }
+            return ConditionOutcome.match(message.because("enabled"));
+        }
+    }
 }
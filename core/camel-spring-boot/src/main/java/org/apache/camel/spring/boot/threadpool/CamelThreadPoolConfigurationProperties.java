@@ -68,6 +68,15 @@ public class CamelThreadPoolConfigurationProperties {
      */
     private Map<String, ThreadPoolProfileConfigurationProperties> config = new HashMap<>();
 
+    /**
+     * Whether Camel thread pools should run tasks on virtual threads (requires Java 21). When enabled the pool and
+     * queue sizes of thread pool profiles do not apply, as each task runs on its own virtual thread. Scheduled thread
+     * pools keep using platform threads.
+     *
+     * If not set, then Camel uses virtual threads when spring.threads.virtual.enabled is enabled.
+     */
+    private Boolean virtualThreads;
+
     public Integer getPoolSize() {
         return poolSize;
     }
@@ -132,6 +141,14 @@ public class CamelThreadPoolConfigurationProperties {
         this.config = config;
     }
 
+    public Boolean getVirtualThreads() {
+        return virtualThreads;
+    }
+
+    public void setVirtualThreads(Boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
     public boolean isEmpty() {
         return poolSize == null && maxPoolSize == null && keepAliveTime == null && timeUnit == null
                 && maxQueueSize == null && allowCoreThreadTimeOut == null && rejectedPolicy == null
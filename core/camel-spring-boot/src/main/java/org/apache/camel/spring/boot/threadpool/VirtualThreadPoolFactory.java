@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.threadpool;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.spi.ThreadPoolProfile;
+import org.apache.camel.support.DefaultThreadPoolFactory;
+
+/**
+ * A {@link org.apache.camel.spi.ThreadPoolFactory} that runs the tasks of Camel thread pools on virtual threads.
+ * <p/>
+ * Thread pools created from a {@link ThreadPoolProfile} (used by EIPs such as split, multicast and wire-tap, and by
+ * consumers such as seda) and cached thread pools use a new virtual thread per task, which means the pool and queue
+ * sizes of the profile do not apply. Scheduled thread pools keep using platform threads.
+ * <p/>
+ * The virtual threads are named by the thread factory Camel provides for the pool, so they follow the thread name
+ * pattern of the {@link org.apache.camel.spi.ExecutorServiceManager}. Virtual threads are always daemon threads.
+ * <p/>
+ * Virtual threads require Java 21 or newer, use {@link #isSupported()} before creating this factory.
+ */
+public class VirtualThreadPoolFactory extends DefaultThreadPoolFactory {
+
+    private static final String THREAD_NAME_PREFIX = "Camel virtual thread #";
+
+    private final ThreadFactory threadFactory;
+    private final Method newThreadPerTaskExecutor;
+
+    public VirtualThreadPoolFactory() {
+        try {
+            // use reflection as the virtual thread API is not available on the Java version we compile with
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, THREAD_NAME_PREFIX, 1L);
+            this.threadFactory = (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+            this.newThreadPerTaskExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+        } catch (Exception e) {
+            throw new IllegalStateException("Virtual threads are not supported on Java " + Runtime.version(), e);
+        }
+    }
+
+    /**
+     * Whether virtual threads are supported by the running JVM (Java 21 or newer)
+     */
+    public static boolean isSupported() {
+        return Runtime.version().feature() >= 21;
+    }
+
+    @Override
+    public ExecutorService newCachedThreadPool(ThreadFactory threadFactory) {
+        return newVirtualThreadPerTaskExecutor(threadFactory);
+    }
+
+    @Override
+    public ExecutorService newThreadPool(ThreadPoolProfile profile, ThreadFactory threadFactory) {
+        return newVirtualThreadPerTaskExecutor(threadFactory);
+    }
+
+    private ExecutorService newVirtualThreadPerTaskExecutor(ThreadFactory threadFactory) {
+        ThreadFactory factory = threadFactory != null ? new NamedVirtualThreadFactory(threadFactory) : this.threadFactory;
+        try {
+            return (ExecutorService) newThreadPerTaskExecutor.invoke(null, factory);
+        } catch (Exception e) {
+            throw RuntimeCamelException.wrapRuntimeException(e);
+        }
+    }
+
+    /**
+     * Creates virtual threads with the names of the threads of the given thread factory
+     */
+    private final class NamedVirtualThreadFactory implements ThreadFactory {
+
+        private final ThreadFactory namingThreadFactory;
+
+        private NamedVirtualThreadFactory(ThreadFactory namingThreadFactory) {
+            this.namingThreadFactory = namingThreadFactory;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            // the platform thread is never started, so it only costs the allocation of the thread object
+            String name = namingThreadFactory.newThread(runnable).getName();
+            Thread answer = threadFactory.newThread(runnable);
+            answer.setName(name);
+            return answer;
+        }
+
+        @Override
+        public String toString() {
+            return "NamedVirtualThreadFactory[" + namingThreadFactory + "]";
+        }
+    }
+
+}
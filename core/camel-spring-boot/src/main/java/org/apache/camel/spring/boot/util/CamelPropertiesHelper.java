@@ -24,6 +24,7 @@ import org.apache.camel.CamelContext;
 import org.apache.camel.Component;
 import org.apache.camel.PropertyBindingException;
 import org.apache.camel.spi.BeanIntrospection;
+import org.apache.camel.spi.PropertiesComponent;
 import org.apache.camel.spi.PropertyConfigurer;
 import org.apache.camel.support.PluginHelper;
 import org.apache.camel.support.PropertyBindingSupport;
@@ -51,6 +52,47 @@ public final class CamelPropertiesHelper {
             false);
     }
 
+    /**
+     * Sets a single typed property on the target using the given (generated) property configurer.
+     * <p/>
+     * This is used by the copiers generated for the starter configuration classes, which already hold the values in
+     * the type the option expects, so they can be set directly without bean introspection. Values that need the
+     * capabilities of {@link PropertyBindingSupport} (property placeholders or bean references), or which the configurer
+     * cannot set, are bound using {@link #setCamelProperties(CamelContext, Object, Map, boolean)} instead.
+     *
+     * @param context    the CamelContext
+     * @param configurer the property configurer for the target
+     * @param target     the target bean
+     * @param name       the name of the option
+     * @param value      the value, is ignored if <tt>null</tt>
+     */
+    public static void copyProperty(CamelContext context, PropertyConfigurer configurer, Object target, String name, Object value) {
+        if (value == null) {
+            return;
+        }
+        if (!isBindingValue(value)) {
+            try {
+                if (configurer.configure(context, target, name, value, true)) {
+                    return;
+                }
+            } catch (RuntimeException e) {
+                // let property binding deal with it below, as it can fallback to lookup the value in the registry
+            }
+        }
+
+        Map<String, Object> properties = new HashMap<>(1);
+        properties.put(name, value);
+        setCamelProperties(context, target, properties, false);
+    }
+
+    private static boolean isBindingValue(Object value) {
+        if (value instanceof String) {
+            String text = (String) value;
+            return text.startsWith("#") || text.contains(PropertiesComponent.PREFIX_TOKEN);
+        }
+        return false;
+    }
+
     /**
      * Sets the properties on the target bean.
      * <p/>
@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertyName;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySource;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.context.properties.source.IterableConfigurationPropertySource;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.MutablePropertySources;
+import org.springframework.core.env.PropertySource;
+
+/**
+ * An immutable snapshot of all the {@code enabled} flags of an environment, such as
+ * {@code camel.component.kafka.customizer.enabled}, keyed by the prefix of the flag.
+ * <p>
+ * The flags are looked up by prefix, and the outcome is kept per prefix so repeated lookups are a single map lookup,
+ * see {@link #lookup(String)}. The snapshot is bound to the property sources of the environment at the time it was
+ * taken, see {@link #isCurrent(ConfigurableEnvironment)}.
+ */
+final class EnabledPropertiesSnapshot {
+
+    private static final String ENABLED = "enabled";
+
+    /**
+     * The outcome of looking up a flag in the snapshot
+     */
+    enum Flag {
+        ENABLED,
+        DISABLED,
+        NOT_SET,
+        // held by a property source which cannot list its properties, so the flag must be bound
+        UNLISTED
+    }
+
+    private final int propertySourcesCount;
+    private final PropertySource<?> firstPropertySource;
+    // keyed by name so the names of environment variables, which have no dashes, match the dashed names
+    private final Map<ConfigurationPropertyName, Boolean> flags;
+    private final List<ConfigurationPropertySource> unlisted;
+    private final Map<String, Flag> lookups = new ConcurrentHashMap<>();
+    private final long bindNanos;
+
+    private EnabledPropertiesSnapshot(MutablePropertySources propertySources, Map<ConfigurationPropertyName, Boolean> flags,
+                                      List<ConfigurationPropertySource> unlisted, long bindNanos) {
+        this.propertySourcesCount = propertySources.size();
+        this.firstPropertySource = first(propertySources);
+        this.flags = flags;
+        this.unlisted = unlisted;
+        this.bindNanos = bindNanos;
+    }
+
+    /**
+     * Takes a snapshot of the enabled flags of the environment
+     */
+    static EnabledPropertiesSnapshot of(ConfigurableEnvironment environment) {
+        List<ConfigurationPropertyName> names = new ArrayList<>();
+        List<ConfigurationPropertySource> unlisted = new ArrayList<>();
+        for (ConfigurationPropertySource source : ConfigurationPropertySources.get(environment)) {
+            if (source instanceof IterableConfigurationPropertySource iterable) {
+                iterable.stream()
+                        .filter(name -> !name.isEmpty() && ENABLED.equals(name.getLastElement(ConfigurationPropertyName.Form.UNIFORM)))
+                        .forEach(names::add);
+            } else {
+                // such as the random values, which is asked for the flag on lookup instead
+                unlisted.add(source);
+            }
+        }
+
+        // bind the flags once so the values are converted and resolved as when binding them one by one
+        long start = System.nanoTime();
+        Binder binder = Binder.get(environment);
+        Map<ConfigurationPropertyName, Boolean> flags = new HashMap<>();
+        for (ConfigurationPropertyName name : names) {
+            ConfigurationPropertyName prefix = name.getParent();
+            if (!flags.containsKey(prefix)) {
+                binder.bind(name, Bindable.of(Boolean.class)).ifBound(value -> flags.put(prefix, value));
+            }
+        }
+        return new EnabledPropertiesSnapshot(environment.getPropertySources(), Map.copyOf(flags), List.copyOf(unlisted),
+                System.nanoTime() - start);
+    }
+
+    /**
+     * Whether the property sources of the environment are still the ones the snapshot was taken from, which is checked
+     * from the number of property sources and the first one, as property sources are added first to override the
+     * others. Property sources which are replaced, or whose values are changed in place, are not detected and require
+     * the snapshot to be invalidated, see {@link HierarchicalPropertiesEvaluator#invalidate(Environment)}.
+     */
+    boolean isCurrent(ConfigurableEnvironment environment) {
+        MutablePropertySources propertySources = environment.getPropertySources();
+        return propertySources.size() == propertySourcesCount
+                && first(propertySources) == firstPropertySource;
+    }
+
+    /**
+     * Looks up the enabled flag for the prefix
+     */
+    Flag lookup(String prefix) {
+        Flag answer = lookups.get(prefix);
+        if (answer == null) {
+            answer = doLookup(prefix);
+            lookups.put(prefix, answer);
+        }
+        return answer;
+    }
+
+    private Flag doLookup(String prefix) {
+        ConfigurationPropertyName name = ConfigurationPropertyName.of(prefix.endsWith(".") ? prefix + ENABLED : prefix + "." + ENABLED);
+        for (ConfigurationPropertySource source : unlisted) {
+            if (source.getConfigurationProperty(name) != null) {
+                return Flag.UNLISTED;
+            }
+        }
+        Boolean answer = flags.get(name.getParent());
+        if (answer == null) {
+            return Flag.NOT_SET;
+        }
+        return answer ? Flag.ENABLED : Flag.DISABLED;
+    }
+
+    int size() {
+        return flags.size();
+    }
+
+    /**
+     * The time in nanos it took to bind the flags of the snapshot
+     */
+    long getBindNanos() {
+        return bindNanos;
+    }
+
+    private static PropertySource<?> first(MutablePropertySources propertySources) {
+        Iterator<PropertySource<?>> it = propertySources.iterator();
+        return it.hasNext() ? it.next() : null;
+    }
+}
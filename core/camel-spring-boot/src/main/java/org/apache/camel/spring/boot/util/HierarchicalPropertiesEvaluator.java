@@ -16,15 +16,37 @@
  */
 package org.apache.camel.spring.boot.util;
 
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.springframework.boot.context.properties.bind.Bindable;
 import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.context.ApplicationContext;
+import org.springframework.core.env.ConfigurableEnvironment;
 import org.springframework.core.env.Environment;
 
+/**
+ * Evaluates hierarchies of {@code enabled} flags, such as the flags used by the component customizers of the
+ * starters.
+ * <p>
+ * The flags of an environment are looked up in a snapshot of all the enabled flags, which is taken when first needed
+ * and taken again when the property sources of the environment change, rather than binding each flag on every
+ * evaluation. The snapshot and the statistics of the startup report are kept per environment, so application
+ * contexts do not share them.
+ * <p>
+ * Only property sources which are added or removed are detected. Values changed in place in a property source, or a
+ * property source replaced by another one, are not seen until the snapshot is discarded with
+ * {@link #invalidate(Environment)}.
+ */
 public final class HierarchicalPropertiesEvaluator {
 
+    private static final Map<Environment, EnvironmentFlags> ENVIRONMENTS = Collections.synchronizedMap(new WeakHashMap<>());
+
     private HierarchicalPropertiesEvaluator() {
     }
 
@@ -47,18 +69,7 @@ public final class HierarchicalPropertiesEvaluator {
      * @return the value of the key `enabled` for most restrictive prefix
      */
     public static boolean evaluate(Environment environment, String... prefixes) {
-        boolean answer = true;
-
-        // Loop over all the prefixes to find out the value of the key `enabled`
-        // for the most restrictive prefix.
-        for (String prefix : prefixes) {
-            // evaluate the value of the current prefix using the parent one
-            // as default value so if the enabled property is not set, the parent
-            // one is used.
-            answer = isEnabled(environment, prefix, answer);
-        }
-
-        return answer;
+        return evaluate(environment, Arrays.asList(prefixes));
     }
 
     /**
@@ -69,6 +80,10 @@ public final class HierarchicalPropertiesEvaluator {
      * @return the value of the key `enabled` for most restrictive prefix
      */
     public static boolean evaluate(Environment environment, Collection<String> prefixes) {
+        if (environment instanceof ConfigurableEnvironment configurable) {
+            return ENVIRONMENTS.computeIfAbsent(environment, e -> new EnvironmentFlags()).evaluate(configurable, prefixes);
+        }
+
         boolean answer = true;
 
         // Loop over all the prefixes to find out the value of the key `enabled`
@@ -88,4 +103,123 @@ public final class HierarchicalPropertiesEvaluator {
         Binder binder = Binder.get(environment);
         return binder.bind(property, Bindable.of(Boolean.class)).orElse(defaultValue);
     }
+
+    /**
+     * Discards the snapshot of the enabled flags of the environment, so the flags are bound again on the next
+     * evaluation, for example after the values of a property source have been changed.
+     *
+     * @param environment the environment
+     */
+    public static void invalidate(Environment environment) {
+        EnvironmentFlags flags = ENVIRONMENTS.get(environment);
+        if (flags != null) {
+            flags.snapshot = null;
+        }
+    }
+
+    /**
+     * Summarizes the cost of evaluating the enabled flags of the environment, and the time saved by using snapshots
+     * of the flags, which is estimated from the cost of binding the flags of the snapshots.
+     *
+     * @param environment the environment
+     */
+    public static String getStartupReport(Environment environment) {
+        EnvironmentFlags flags = ENVIRONMENTS.get(environment);
+        return flags != null ? flags.getStartupReport() : "Evaluated 0 enabled flags";
+    }
+
+    /**
+     * Resets the statistics of the startup report of the environment
+     *
+     * @param environment the environment
+     */
+    public static void resetStatistics(Environment environment) {
+        EnvironmentFlags flags = ENVIRONMENTS.get(environment);
+        if (flags != null) {
+            flags.resetStatistics();
+        }
+    }
+
+    /**
+     * The snapshot of the enabled flags of an environment, and the statistics of evaluating them, which does not refer
+     * to the environment so it can be garbage collected.
+     */
+    private static final class EnvironmentFlags {
+
+        private volatile EnabledPropertiesSnapshot snapshot;
+
+        // startup cost statistics
+        private final LongAdder snapshotLookups = new LongAdder();
+        private final LongAdder binderLookups = new LongAdder();
+        private final LongAdder snapshotsTaken = new LongAdder();
+        private final LongAdder snapshotNanos = new LongAdder();
+        private final LongAdder snapshotBindNanos = new LongAdder();
+        private final LongAdder snapshotFlags = new LongAdder();
+        private final LongAdder binderLookupNanos = new LongAdder();
+
+        boolean evaluate(ConfigurableEnvironment environment, Collection<String> prefixes) {
+            EnabledPropertiesSnapshot current = snapshot(environment);
+            boolean answer = true;
+            for (String prefix : prefixes) {
+                EnabledPropertiesSnapshot.Flag flag = current.lookup(prefix);
+                if (flag == EnabledPropertiesSnapshot.Flag.UNLISTED) {
+                    long start = System.nanoTime();
+                    answer = isEnabled(environment, prefix, answer);
+                    binderLookupNanos.add(System.nanoTime() - start);
+                    binderLookups.increment();
+                } else {
+                    // the parent value applies when the flag is not set
+                    if (flag != EnabledPropertiesSnapshot.Flag.NOT_SET) {
+                        answer = flag == EnabledPropertiesSnapshot.Flag.ENABLED;
+                    }
+                    snapshotLookups.increment();
+                }
+            }
+            return answer;
+        }
+
+        private EnabledPropertiesSnapshot snapshot(ConfigurableEnvironment environment) {
+            EnabledPropertiesSnapshot answer = snapshot;
+            if (answer == null || !answer.isCurrent(environment)) {
+                long start = System.nanoTime();
+                answer = EnabledPropertiesSnapshot.of(environment);
+                snapshotNanos.add(System.nanoTime() - start);
+                snapshotBindNanos.add(answer.getBindNanos());
+                snapshotFlags.add(answer.size());
+                snapshotsTaken.increment();
+                snapshot = answer;
+            }
+            return answer;
+        }
+
+        String getStartupReport() {
+            long lookups = snapshotLookups.sum();
+            long bound = binderLookups.sum();
+            long nanos = snapshotNanos.sum();
+
+            StringBuilder sb = new StringBuilder();
+            sb.append("Evaluated ").append(lookups + bound).append(" enabled flags: ")
+                .append(lookups).append(" from ").append(snapshotsTaken.sum()).append(" snapshots taken in ")
+                .append(TimeUnit.NANOSECONDS.toMillis(nanos)).append(" ms, ")
+                .append(bound).append(" bound in ")
+                .append(TimeUnit.NANOSECONDS.toMillis(binderLookupNanos.sum())).append(" ms");
+            long flags = snapshotFlags.sum();
+            if (lookups > 0 && flags > 0) {
+                long saved = lookups * (snapshotBindNanos.sum() / flags) - nanos;
+                sb.append(" (estimated ").append(TimeUnit.NANOSECONDS.toMillis(Math.max(saved, 0)))
+                    .append(" ms saved by snapshots)");
+            }
+            return sb.toString();
+        }
+
+        void resetStatistics() {
+            snapshotLookups.reset();
+            binderLookups.reset();
+            snapshotsTaken.reset();
+            snapshotNanos.reset();
+            snapshotBindNanos.reset();
+            snapshotFlags.reset();
+            binderLookupNanos.reset();
+        }
+    }
 }
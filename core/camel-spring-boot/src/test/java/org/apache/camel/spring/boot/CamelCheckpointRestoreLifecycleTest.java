@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.RoutesBuilder;
+import org.apache.camel.ServiceStatus;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.annotation.DirtiesContext;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+
+import static org.awaitility.Awaitility.await;
+
+@DirtiesContext
+@CamelSpringBootTest
+@EnableAutoConfiguration
+@SpringBootTest(
+    classes = {
+        CamelCheckpointRestoreLifecycleTest.class,
+        CamelCheckpointRestoreLifecycleTest.TestConfiguration.class },
+    properties = {
+        "camel.springboot.checkpoint-restore-enabled=true"}
+)
+public class CamelCheckpointRestoreLifecycleTest {
+
+    @Autowired
+    ConfigurableApplicationContext applicationContext;
+
+    @Autowired
+    CamelContext camelContext;
+
+    @Autowired
+    CamelCheckpointRestoreLifecycle lifecycle;
+
+    @Autowired
+    ProducerTemplate producerTemplate;
+
+    @Configuration
+    static class TestConfiguration {
+
+        @Bean
+        RoutesBuilder route() {
+            return new RouteBuilder() {
+                @Override
+                public void configure() {
+                    routeTemplate("greeting").templateParameter("target")
+                            .from("direct:{{target}}").to("mock:{{target}}");
+                    templatedRoute("greeting").routeId("templated").parameter("target", "templated");
+
+                    from("direct:start").routeId("checkpoint").threads(2).to("mock:result");
+                    from("direct:manual").routeId("manual").autoStartup(false).to("mock:manual");
+                }
+            };
+        }
+    }
+
+    @Test
+    public void shouldPauseAndResume() throws Exception {
+        MockEndpoint result = camelContext.getEndpoint("mock:result", MockEndpoint.class);
+        result.expectedBodiesReceived("Hello");
+        producerTemplate.sendBody("direct:start", "Hello");
+        result.assertIsSatisfied();
+
+        CamelCheckpointRestoreLifecycle.CheckpointThreadPoolFactory threadPoolFactory
+                = (CamelCheckpointRestoreLifecycle.CheckpointThreadPoolFactory) camelContext.getExecutorServiceManager()
+                        .getThreadPoolFactory();
+        Assertions.assertTrue(threadPoolFactory.getPoolSize() > 0);
+
+        // spring stops the lifecycle beans before a checkpoint
+        applicationContext.stop();
+
+        Assertions.assertTrue(lifecycle.isPaused());
+        Assertions.assertTrue(camelContext.isStarted());
+        Assertions.assertEquals(ServiceStatus.Stopped, camelContext.getRouteController().getRouteStatus("checkpoint"));
+        Assertions.assertEquals(ServiceStatus.Stopped, camelContext.getRouteController().getRouteStatus("templated"));
+        // the idle pool threads are let go before the checkpoint
+        await().atMost(5, TimeUnit.SECONDS).until(() -> threadPoolFactory.getPoolSize() == 0);
+
+        // and spring starts the lifecycle beans again after restore
+        applicationContext.start();
+
+        Assertions.assertFalse(lifecycle.isPaused());
+        Assertions.assertTrue(camelContext.isStarted());
+        Assertions.assertEquals(ServiceStatus.Started, camelContext.getRouteController().getRouteStatus("checkpoint"));
+        // the route from the template is still there
+        Assertions.assertEquals(ServiceStatus.Started, camelContext.getRouteController().getRouteStatus("templated"));
+        // and the route that was not started is left alone
+        Assertions.assertEquals(ServiceStatus.Stopped, camelContext.getRouteController().getRouteStatus("manual"));
+
+        result.reset();
+        result.expectedBodiesReceived("World");
+        producerTemplate.sendBody("direct:start", "World");
+        result.assertIsSatisfied();
+
+        MockEndpoint templated = camelContext.getEndpoint("mock:templated", MockEndpoint.class);
+        templated.expectedBodiesReceived("Bye");
+        producerTemplate.sendBody("direct:templated", "Bye");
+        templated.assertIsSatisfied();
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.RoutesBuilder;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.annotation.DirtiesContext;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+
+@DirtiesContext
+@CamelSpringBootTest
+@EnableAutoConfiguration
+@SpringBootTest(
+    classes = {
+        CamelParallelRoutesLoadingTest.class,
+        CamelParallelRoutesLoadingTest.TestConfiguration.class },
+    properties = {
+        "camel.springboot.routes-parallel-loading=true",
+        "camel.springboot.routes-parallel-loading-threads=4",
+        "camel.springboot.routes-include-pattern=file:src/test/resources/routes/foo.xml,file:src/test/resources/routes/bar.xml"}
+)
+public class CamelParallelRoutesLoadingTest {
+
+    @Autowired
+    CamelContext camelContext;
+
+    @Autowired
+    ProducerTemplate producerTemplate;
+
+    @Configuration
+    static class TestConfiguration {
+
+        @Bean
+        RoutesBuilder templateRoute() {
+            return new RouteBuilder() {
+                @Override
+                public void configure() {
+                    routeTemplate("greeting")
+                        .templateParameter("name")
+                        .from("direct:{{name}}")
+                            .setBody(simple("Hello {{name}}"))
+                            .to("mock:greeting");
+                }
+            };
+        }
+
+        @Bean
+        RoutesBuilder templatedRoutes() {
+            return new RouteBuilder() {
+                @Override
+                public void configure() {
+                    for (int i = 0; i < 50; i++) {
+                        templatedRoute("greeting").routeId("greeting" + i).parameter("name", "n" + i);
+                    }
+                }
+            };
+        }
+
+        @Bean
+        RoutesBuilder javaRoute() {
+            return new RouteBuilder() {
+                @Override
+                public void configure() {
+                    from("direct:java").routeId("java").to("mock:java");
+                }
+            };
+        }
+    }
+
+    @Test
+    public void shouldLoadAllRoutes() throws Exception {
+        Assertions.assertNotNull(camelContext.getRoute("foo"));
+        Assertions.assertNotNull(camelContext.getRoute("bar"));
+        Assertions.assertNotNull(camelContext.getRoute("java"));
+        for (int i = 0; i < 50; i++) {
+            Assertions.assertNotNull(camelContext.getRoute("greeting" + i));
+        }
+
+        MockEndpoint mock = camelContext.getEndpoint("mock:greeting", MockEndpoint.class);
+        mock.expectedBodiesReceived("Hello n7");
+        producerTemplate.sendBody("direct:n7", null);
+        mock.assertIsSatisfied();
+    }
+
+    @Test
+    public void shouldConfigureBuildersConcurrently() throws Exception {
+        // each builder waits for the other one, so they can only be configured concurrently
+        CountDownLatch latch = new CountDownLatch(2);
+        try (CamelContext context = new DefaultCamelContext()) {
+            ParallelRoutesConfigurer configurer = new ParallelRoutesConfigurer(2);
+            configurer.setRoutesBuilders(List.of(awaitingRoute("a", latch), awaitingRoute("b", latch)));
+            configurer.configureRoutes(context);
+            context.start();
+
+            Assertions.assertNotNull(context.getRoute("a"));
+            Assertions.assertNotNull(context.getRoute("b"));
+        }
+    }
+
+    @Test
+    public void shouldReportFirstFailure() throws Exception {
+        try (CamelContext context = new DefaultCamelContext()) {
+            ParallelRoutesConfigurer configurer = new ParallelRoutesConfigurer(4);
+            configurer.setRoutesBuilders(List.of(
+                failingRoute("first", 200),
+                failingRoute("second", 0),
+                new RouteBuilder() {
+                    @Override
+                    public void configure() {
+                        from("direct:ok").to("mock:ok");
+                    }
+                },
+                failingRoute("third", 0)));
+
+            Exception e = Assertions.assertThrows(IllegalStateException.class, () -> configurer.configureRoutes(context));
+            // the first builder fails last, but is the one to be reported
+            Assertions.assertEquals("first", e.getMessage());
+            Assertions.assertEquals(2, e.getSuppressed().length);
+            Assertions.assertEquals("second", e.getSuppressed()[0].getMessage());
+            Assertions.assertEquals("third", e.getSuppressed()[1].getMessage());
+        }
+    }
+
+    private static RoutesBuilder awaitingRoute(String id, CountDownLatch latch) {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                latch.countDown();
+                if (!latch.await(10, TimeUnit.SECONDS)) {
+                    throw new IllegalStateException("The route builders are not configured concurrently");
+                }
+                from("direct:" + id).routeId(id).to("mock:" + id);
+            }
+        };
+    }
+
+    private static RoutesBuilder failingRoute(String message, long delay) {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                Thread.sleep(delay);
+                throw new IllegalStateException(message);
+            }
+        };
+    }
+}
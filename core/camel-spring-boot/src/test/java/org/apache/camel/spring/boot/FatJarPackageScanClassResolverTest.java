@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.apache.camel.springboot.maven.PackageScanIndex;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class FatJarPackageScanClassResolverTest {
+
+    private static final String CLASSES = "BOOT-INF/classes/";
+    private static final String PACKAGE = "org/apache/camel/spring/boot/";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testIndexUsedInsteadOfScanning() throws Exception {
+        // the index claims the second function is not annotated, and does not list the third
+        Path jar = createFatJar("app.jar", "# test index\n"
+                                           + entryName(IndexedFunction.class) + " java.lang.FunctionalInterface\n"
+                                           + entryName(UnannotatedInIndexFunction.class) + "\n"
+                                           + "org/apache/camel/spring/boot/other/Other.class\n");
+
+        try (URLClassLoader loader = newFatJarClassLoader(jar)) {
+            FatJarPackageScanClassResolver resolver = newResolver(loader);
+
+            Set<Class<?>> annotated = resolver.findAnnotated(FunctionalInterface.class, "org.apache.camel.spring.boot");
+            Assertions.assertEquals(1, annotated.size());
+            Assertions.assertEquals(IndexedFunction.class.getName(), annotated.iterator().next().getName());
+
+            Set<Class<?>> all = resolver.findByFilter(type -> true, "org.apache.camel.spring.boot");
+            Assertions.assertEquals(2, all.size());
+
+            // only the entries of the scanned packages are loaded from the index
+            FatJarPackageScanClassResolver.PackageScanIndex index = resolver.getIndex(loader);
+            Assertions.assertEquals(3, index.getEntries("org/apache/camel/spring/boot").size());
+            Assertions.assertEquals(1, index.getEntries("org/apache/camel/spring/boot/other").size());
+            Assertions.assertTrue(index.getEntries("org/apache/camel/spring/boot/none").isEmpty());
+        }
+    }
+
+    @Test
+    public void testPackagesNotInIndexAreScanned() throws Exception {
+        Path jar = createFatJar("limited.jar", FatJarPackageScanClassResolver.INDEX_PACKAGES
+                                               + " org/apache/camel/spring/boot/other/ org/apache/camel/spring/boot/util/\n"
+                                               + entryName(IndexedFunction.class) + " java.lang.FunctionalInterface\n");
+
+        try (URLClassLoader loader = newFatJarClassLoader(jar)) {
+            FatJarPackageScanClassResolver resolver = newResolver(loader);
+
+            Assertions.assertNull(resolver.getIndex(loader).getEntries("org/apache/camel/spring/boot"));
+            Assertions.assertNull(resolver.getIndex(loader).getEntries("org/apache/camel/spring"));
+            Assertions.assertNotNull(resolver.getIndex(loader).getEntries("org/apache/camel/spring/boot/other/sub"));
+
+            Set<Class<?>> annotated = resolver.findAnnotated(FunctionalInterface.class, "org.apache.camel.spring.boot");
+            Assertions.assertEquals(3, annotated.size());
+        }
+    }
+
+    @Test
+    public void testIndexFormatMatchesGenerator() {
+        Assertions.assertEquals(PackageScanIndex.INDEX_LOCATION, FatJarPackageScanClassResolver.INDEX_LOCATION);
+        Assertions.assertEquals(PackageScanIndex.PACKAGES, FatJarPackageScanClassResolver.INDEX_PACKAGES);
+        Assertions.assertEquals(PackageScanIndex.UNKNOWN, FatJarPackageScanClassResolver.UNKNOWN_ANNOTATIONS);
+    }
+
+    @Test
+    public void testScanWithoutIndex() throws Exception {
+        Path jar = tempDir.resolve("plain.jar");
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+            addClass(out, "", IndexedFunction.class);
+            addClass(out, "", UnindexedFunction.class);
+        }
+
+        FatJarPackageScanClassResolver resolver = new FatJarPackageScanClassResolver();
+        try (InputStream is = Files.newInputStream(jar)) {
+            Assertions.assertEquals(2, resolver.doLoadJarClassEntries(is, jar.toString()).size());
+        }
+    }
+
+    private Path createFatJar(String name, String index) throws IOException {
+        Path jar = tempDir.resolve(name);
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+            addEntry(out, CLASSES, null);
+            addEntry(out, CLASSES + "org/", null);
+            addEntry(out, CLASSES + "org/apache/", null);
+            addEntry(out, CLASSES + "org/apache/camel/", null);
+            addEntry(out, CLASSES + "org/apache/camel/spring/", null);
+            addEntry(out, CLASSES + PACKAGE, null);
+            addClass(out, CLASSES, IndexedFunction.class);
+            addClass(out, CLASSES, UnannotatedInIndexFunction.class);
+            addClass(out, CLASSES, UnindexedFunction.class);
+            addEntry(out, CLASSES + FatJarPackageScanClassResolver.INDEX_LOCATION, index.getBytes(StandardCharsets.UTF_8));
+        }
+        return jar;
+    }
+
+    private static URLClassLoader newFatJarClassLoader(Path jar) throws IOException {
+        // the classes of the fat jar are in the root of the class loader as with the spring boot launcher
+        return new URLClassLoader(new URL[] { new URL("jar:" + jar.toUri() + "!/" + CLASSES) }, null);
+    }
+
+    private static FatJarPackageScanClassResolver newResolver(ClassLoader loader) {
+        // only scan the fat jar
+        return new FatJarPackageScanClassResolver() {
+            @Override
+            public Set<ClassLoader> getClassLoaders() {
+                return Set.of(loader);
+            }
+        };
+    }
+
+    private static String entryName(Class<?> type) {
+        return type.getName().replace('.', '/') + ".class";
+    }
+
+    private static void addClass(JarOutputStream out, String root, Class<?> type) throws IOException {
+        try (InputStream is = type.getClassLoader().getResourceAsStream(entryName(type))) {
+            addEntry(out, root + entryName(type), is.readAllBytes());
+        }
+    }
+
+    private static void addEntry(JarOutputStream out, String name, byte[] data) throws IOException {
+        out.putNextEntry(new JarEntry(name));
+        if (data != null) {
+            out.write(data);
+        }
+        out.closeEntry();
+    }
+
+    @FunctionalInterface
+    public interface IndexedFunction {
+        void apply();
+    }
+
+    @FunctionalInterface
+    public interface UnannotatedInIndexFunction {
+        void apply();
+    }
+
+    @FunctionalInterface
+    public interface UnindexedFunction {
+        void apply();
+    }
+}
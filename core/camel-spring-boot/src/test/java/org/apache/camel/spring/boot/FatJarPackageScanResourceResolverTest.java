@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class FatJarPackageScanResourceResolverTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testListResourcesFromCentralDirectory() throws Exception {
+        Path jar = tempDir.resolve("app.jar");
+        Files.write(jar, createFatJar());
+
+        FatJarPackageScanResourceResolver resolver = new FatJarPackageScanResourceResolver();
+        Assertions.assertEquals(List.of("routes/a.yaml", "routes/b.yaml"), find(resolver, "routes", jar));
+        Assertions.assertEquals(List.of("other/c.xml"), find(resolver, "other", jar));
+
+        // the resources are cached so the jar is not read again
+        Files.write(jar, new byte[0]);
+        Assertions.assertEquals(List.of("routes/a.yaml", "routes/b.yaml"), find(resolver, "routes", jar));
+
+        resolver.clearCache();
+        Assertions.assertEquals(List.of(), find(resolver, "routes", jar));
+    }
+
+    @Test
+    public void testListResourcesWithLaunchScript() throws Exception {
+        Path jar = tempDir.resolve("launch.jar");
+        try (OutputStream out = Files.newOutputStream(jar)) {
+            out.write("#!/bin/bash\necho launch script\nexit 0\n".getBytes(StandardCharsets.UTF_8));
+            out.write(createFatJar());
+        }
+
+        FatJarPackageScanResourceResolver resolver = new FatJarPackageScanResourceResolver();
+        Assertions.assertEquals(List.of("routes/a.yaml", "routes/b.yaml"), find(resolver, "routes", jar));
+    }
+
+    private static List<String> find(FatJarPackageScanResourceResolver resolver, String packageName, Path jar)
+            throws IOException {
+        InputStream stream = Files.newInputStream(jar);
+        return resolver.doLoadImplementationsInJar(packageName, stream, jar.toString());
+    }
+
+    private static byte[] createFatJar() throws IOException {
+        ByteArrayOutputStream nested = new ByteArrayOutputStream();
+        try (JarOutputStream out = new JarOutputStream(nested)) {
+            addEntry(out, "routes/", null);
+            addEntry(out, "routes/b.yaml", "- from: direct:b");
+            addEntry(out, "routes/B.class", "");
+        }
+
+        ByteArrayOutputStream fat = new ByteArrayOutputStream();
+        try (JarOutputStream out = new JarOutputStream(fat)) {
+            addEntry(out, "BOOT-INF/classes/routes/", null);
+            addEntry(out, "BOOT-INF/classes/routes/a.yaml", "- from: direct:a");
+            addEntry(out, "BOOT-INF/classes/routes/A.class", "");
+            addEntry(out, "BOOT-INF/classes/other/c.xml", "<routes/>");
+
+            // nested jars are stored uncompressed
+            byte[] data = nested.toByteArray();
+            JarEntry entry = new JarEntry("BOOT-INF/lib/nested.jar");
+            entry.setMethod(ZipEntry.STORED);
+            entry.setSize(data.length);
+            CRC32 crc = new CRC32();
+            crc.update(data);
+            entry.setCrc(crc.getValue());
+            out.putNextEntry(entry);
+            out.write(data);
+            out.closeEntry();
+        }
+        return fat.toByteArray();
+    }
+
+    private static void addEntry(JarOutputStream out, String name, String data) throws IOException {
+        out.putNextEntry(new JarEntry(name));
+        if (data != null) {
+            out.write(data.getBytes(StandardCharsets.UTF_8));
+        }
+        out.closeEntry();
+    }
+}
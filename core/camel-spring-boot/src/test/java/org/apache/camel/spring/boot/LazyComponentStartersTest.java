@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Component;
+import org.apache.camel.component.timer.TimerComponent;
+import org.apache.camel.spi.ComponentCustomizer;
+import org.apache.camel.spring.boot.util.ConditionalOnHierarchicalProperties;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.test.annotation.DirtiesContext;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+
+@DirtiesContext
+@CamelSpringBootTest
+@EnableAutoConfiguration
+@SpringBootTest(
+    classes = {
+        LazyComponentStartersTest.class,
+        LazyComponentStartersTest.TimerComponentAutoConfiguration.class },
+    properties = {
+        "camel.springboot.lazy-component-starters=true",
+        "camel.component.timer.include-metadata=true"}
+)
+public class LazyComponentStartersTest {
+
+    private static final String CONFIGURATION_BEAN = "camel.component.timer-" + TimerComponentConfiguration.class.getName();
+
+    @Autowired
+    ConfigurableApplicationContext applicationContext;
+
+    @Autowired
+    CamelContext camelContext;
+
+    /**
+     * An auto-configuration shaped like the ones generated for the component starters.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @EnableConfigurationProperties(TimerComponentConfiguration.class)
+    @ConditionalOnHierarchicalProperties({"camel.component", "camel.component.timer"})
+    static class TimerComponentAutoConfiguration {
+
+        private final TimerComponentConfiguration configuration;
+
+        TimerComponentAutoConfiguration(TimerComponentConfiguration configuration) {
+            this.configuration = configuration;
+        }
+
+        @Lazy
+        @Bean
+        public ComponentCustomizer configureTimerComponent() {
+            return new ComponentCustomizer() {
+                @Override
+                public void configure(String name, Component target) {
+                    ((TimerComponent) target).setIncludeMetadata(configuration.isIncludeMetadata());
+                }
+                @Override
+                public boolean isEnabled(String name, Component target) {
+                    return target instanceof TimerComponent;
+                }
+            };
+        }
+    }
+
+    @ConfigurationProperties(prefix = "camel.component.timer")
+    static class TimerComponentConfiguration {
+
+        private boolean includeMetadata;
+
+        public boolean isIncludeMetadata() {
+            return includeMetadata;
+        }
+
+        public void setIncludeMetadata(boolean includeMetadata) {
+            this.includeMetadata = includeMetadata;
+        }
+    }
+
+    @Test
+    public void shouldConfigureComponentWhenUsed() {
+        Assertions.assertFalse(applicationContext.getBeanFactory().containsSingleton(CONFIGURATION_BEAN));
+        Assertions.assertFalse(applicationContext.containsBeanDefinition("configureTimerComponent"));
+
+        TimerComponent timer = camelContext.getComponent("timer", TimerComponent.class);
+
+        Assertions.assertTrue(timer.isIncludeMetadata());
+        Assertions.assertTrue(applicationContext.getBeanFactory().containsSingleton(CONFIGURATION_BEAN));
+        Assertions.assertTrue(applicationContext.containsBeanDefinition("configureTimerComponent"));
+    }
+
+    @Test
+    public void shouldConfigureComponentsAddedWithOtherNames() throws Exception {
+        TimerComponent timer = new TimerComponent();
+        camelContext.addComponent("ticker", timer);
+
+        Assertions.assertTrue(timer.isIncludeMetadata());
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.impl.event.CamelContextReloadingEvent;
+import org.apache.camel.spi.EventNotifier;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.env.RandomValuePropertySource;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+public class SpringPropertiesParserTest {
+
+    private final Map<String, Object> properties = new HashMap<>();
+    private StandardEnvironment environment;
+    private SpringPropertiesParser parser;
+
+    @BeforeEach
+    public void setUp() {
+        properties.put("foo", "bar");
+        environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new MapPropertySource("test", properties));
+        parser = new SpringPropertiesParser(environment, 10);
+    }
+
+    @Test
+    public void testCache() {
+        Assertions.assertEquals("bar", parser.customLookup("foo"));
+        Assertions.assertEquals("bar", parser.customLookup("foo"));
+        // keys which cannot be resolved are cached as well
+        Assertions.assertNull(parser.customLookup("unknown"));
+        Assertions.assertNull(parser.customLookup("unknown"));
+
+        Assertions.assertEquals(4, parser.getLookupCount());
+        Assertions.assertEquals(2, parser.getHitCount());
+        Assertions.assertEquals(2, parser.getMissCount());
+        Assertions.assertEquals(0.5, parser.getHitRatio());
+        Assertions.assertEquals(2, parser.getCacheSize());
+
+        // the cached value is used until invalidated
+        properties.put("foo", "baz");
+        Assertions.assertEquals("bar", parser.customLookup("foo"));
+        parser.invalidate();
+        Assertions.assertEquals("baz", parser.customLookup("foo"));
+    }
+
+    @Test
+    public void testInvalidateWhenPropertySourcesChange() {
+        Assertions.assertNull(parser.customLookup("unknown"));
+        long invalidations = parser.getInvalidationCount();
+
+        environment.getPropertySources().addFirst(new MapPropertySource("more", Map.of("unknown", "known")));
+        Assertions.assertEquals("known", parser.customLookup("unknown"));
+        Assertions.assertEquals(invalidations + 1, parser.getInvalidationCount());
+    }
+
+    @Test
+    public void testInvalidateWhenCamelIsReloaded() throws Exception {
+        Assertions.assertEquals("bar", parser.customLookup("foo"));
+        properties.put("foo", "baz");
+
+        try (CamelContext context = new DefaultCamelContext()) {
+            EventNotifier notifier = parser.createReloadEventNotifier();
+            CamelContextReloadingEvent event = new CamelContextReloadingEvent(context, this);
+            Assertions.assertTrue(notifier.isEnabled(event));
+            notifier.notify(event);
+        }
+        Assertions.assertEquals("baz", parser.customLookup("foo"));
+    }
+
+    @Test
+    public void testRandomValuesAreNotCached() {
+        RandomValuePropertySource.addToEnvironment(environment);
+        parser.customLookup("random.uuid");
+        parser.customLookup("random.uuid");
+        Assertions.assertEquals(0, parser.getHitCount());
+        Assertions.assertEquals(0, parser.getMissCount());
+        Assertions.assertEquals(0, parser.getCacheSize());
+    }
+
+    @Test
+    public void testInvalidateWhenPropertySourceIsReplaced() {
+        parser.setValidateInterval(0);
+        Assertions.assertEquals("bar", parser.customLookup("foo"));
+
+        environment.getPropertySources().replace("test", new MapPropertySource("test", Map.of("foo", "baz")));
+        Assertions.assertEquals("baz", parser.customLookup("foo"));
+    }
+
+    @Test
+    public void testInvalidateWhileLookingUp() {
+        environment.getPropertySources().addFirst(new PropertySource<>("invalidating") {
+            @Override
+            public Object getProperty(String name) {
+                if ("foo".equals(name)) {
+                    // the value changes and the cache is invalidated while the value is looked up
+                    Object answer = properties.put("foo", "baz");
+                    parser.invalidate();
+                    return answer;
+                }
+                return null;
+            }
+        });
+
+        Assertions.assertEquals("bar", parser.customLookup("foo"));
+        Assertions.assertEquals(0, parser.getCacheSize());
+    }
+
+    @Test
+    public void testNotCachedByDefault() {
+        SpringPropertiesParser uncached = new SpringPropertiesParser(environment);
+        Assertions.assertEquals("bar", uncached.customLookup("foo"));
+        properties.put("foo", "baz");
+        Assertions.assertEquals("baz", uncached.customLookup("foo"));
+        Assertions.assertEquals(0, uncached.getCacheSize());
+    }
+
+    @Test
+    public void testCacheSize() {
+        for (int i = 0; i < 20; i++) {
+            parser.customLookup("key" + i);
+        }
+        Assertions.assertEquals(10, parser.getCacheSize());
+
+        SpringPropertiesParser uncached = new SpringPropertiesParser(environment, 0);
+        Assertions.assertEquals("bar", uncached.customLookup("foo"));
+        Assertions.assertEquals("bar", uncached.customLookup("foo"));
+        Assertions.assertEquals(0, uncached.getHitCount());
+        Assertions.assertEquals(0, uncached.getCacheSize());
+    }
+}
@@ -17,6 +17,7 @@
 package org.apache.camel.spring.boot;
 
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.List;
 
@@ -29,6 +30,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.ContextRefreshedEvent;
 import org.springframework.core.convert.ConversionFailedException;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.ConverterNotFoundException;
@@ -50,6 +52,9 @@ public class SpringTypeConverterTest {
     @Qualifier("camelSpringTypeConverter")
     SpringTypeConverter converter;
 
+    @Autowired
+    ApplicationContext applicationContext;
+
     @Test
     public void testConversionService() {
         Collection<?> source = Arrays.asList(new Person("Name", 30));
@@ -71,6 +76,53 @@ public class SpringTypeConverterTest {
         Assertions.assertNull(converter.convertTo(String.class, source));
     }
 
+    @Test
+    public void testResolvedConversionsAreCached() {
+        converter.clearCache();
+        converter.getStatistics().reset();
+        converter.getStatistics().setStatisticsEnabled(true);
+        try {
+            Assertions.assertEquals(Integer.valueOf(42), converter.convertTo(Integer.class, "42"));
+            Assertions.assertEquals(Integer.valueOf(43), converter.convertTo(Integer.class, "43"));
+            // none of the conversion services can convert, which is cached as well
+            Assertions.assertNull(converter.convertTo(Person.class, "44"));
+            Assertions.assertNull(converter.convertTo(Person.class, "45"));
+
+            Assertions.assertEquals(2, converter.getCacheSize());
+            Assertions.assertEquals(2, converter.getStatistics().getHitCounter());
+            Assertions.assertEquals(2, converter.getStatistics().getMissCounter());
+        } finally {
+            converter.getStatistics().setStatisticsEnabled(false);
+        }
+    }
+
+    @Test
+    public void testCacheIsClearedWhenConvertersAreAdded() {
+        converter.clearCache();
+        Assertions.assertNull(converter.convertTo(BitSet.class, "101"));
+
+        DefaultConversionService service = new DefaultConversionService();
+        service.addConverter(String.class, BitSet.class, bits -> BitSet.valueOf(new long[] {Long.parseLong(bits, 2)}));
+        converter.addConversionService(service);
+        Assertions.assertEquals(BitSet.valueOf(new long[] {5}), converter.convertTo(BitSet.class, "101"));
+
+        // registered with an existing conversion service
+        Assertions.assertNull(converter.convertTo(BitSet.class, 5L));
+        ((DefaultConversionService) conversionService).addConverter(Long.class, BitSet.class, bits -> BitSet.valueOf(new long[] {bits}));
+        converter.onApplicationEvent(new ContextRefreshedEvent(applicationContext));
+        Assertions.assertEquals(BitSet.valueOf(new long[] {5}), converter.convertTo(BitSet.class, 5L));
+    }
+
+    @Test
+    public void testCacheIsBounded() {
+        SpringTypeConverter bounded = new SpringTypeConverter(List.of(new DefaultConversionService()), 2);
+        Assertions.assertEquals(Integer.valueOf(42), bounded.convertTo(Integer.class, "42"));
+        Assertions.assertEquals(Long.valueOf(42), bounded.convertTo(Long.class, "42"));
+        Assertions.assertEquals(Short.valueOf((short) 42), bounded.convertTo(Short.class, "42"));
+        Assertions.assertNull(bounded.convertTo(BitSet.class, "42"));
+        Assertions.assertTrue(bounded.getCacheSize() <= 2);
+    }
+
     public static class Person {
         private String name;
         private int age;
@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.support.DefaultThreadPoolFactory;
+import org.apache.camel.spi.ThreadPoolFactory;
+import org.apache.camel.spring.boot.threadpool.CamelThreadPoolAutoConfiguration;
+import org.apache.camel.spring.boot.threadpool.VirtualThreadPoolFactory;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.annotation.DirtiesContext;
+
+@DirtiesContext
+@CamelSpringBootTest
+@SpringBootTest(
+    classes = {
+        CamelAutoConfiguration.class,
+        CamelThreadPoolAutoConfiguration.class,
+        VirtualThreadPoolConfigurationTest.TestConfiguration.class
+    },
+    properties = {
+        "spring.threads.virtual.enabled = true"
+    }
+)
+public class VirtualThreadPoolConfigurationTest {
+
+    @Autowired
+    private CamelContext context;
+
+    @Autowired
+    private ProducerTemplate template;
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    public void testVirtualThreadPool() throws Exception {
+        ThreadPoolFactory factory = context.getExecutorServiceManager().getThreadPoolFactory();
+        Assertions.assertInstanceOf(VirtualThreadPoolFactory.class, factory);
+
+        MockEndpoint mock = context.getEndpoint("mock:result", MockEndpoint.class);
+        mock.expectedMessageCount(3);
+        template.sendBody("direct:start", "a,b,c");
+        mock.assertIsSatisfied();
+
+        mock.getExchanges().forEach(e -> {
+            Assertions.assertEquals(Boolean.TRUE, e.getMessage().getHeader("virtual"));
+            Assertions.assertTrue(e.getMessage().getHeader("thread", String.class).endsWith(" - Split"));
+        });
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    public void testThreadNames() throws Exception {
+        ExecutorService executor = context.getExecutorServiceManager().newDefaultThreadPool(this, "VirtualNames");
+        try {
+            Thread thread = executor.submit(Thread::currentThread).get(5, TimeUnit.SECONDS);
+            Assertions.assertTrue(isVirtual(thread));
+            Assertions.assertTrue(thread.isDaemon());
+            Assertions.assertTrue(thread.getName().startsWith("Camel (" + context.getName() + ") thread #"), thread.getName());
+            Assertions.assertTrue(thread.getName().endsWith(" - VirtualNames"), thread.getName());
+        } finally {
+            context.getExecutorServiceManager().shutdownNow(executor);
+        }
+
+        executor = new VirtualThreadPoolFactory().newCachedThreadPool(runnable -> new Thread(runnable, "custom"));
+        try {
+            Thread thread = executor.submit(Thread::currentThread).get(5, TimeUnit.SECONDS);
+            Assertions.assertTrue(isVirtual(thread));
+            Assertions.assertEquals("custom", thread.getName());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @EnabledForJreRange(max = JRE.JAVA_20)
+    public void testPlatformThreadsBeforeJava21() throws Exception {
+        Assertions.assertFalse(VirtualThreadPoolFactory.isSupported());
+        Assertions.assertFalse(context.getExecutorServiceManager().getThreadPoolFactory() instanceof VirtualThreadPoolFactory);
+        Assertions.assertThrows(IllegalStateException.class, VirtualThreadPoolFactory::new);
+
+        MockEndpoint mock = context.getEndpoint("mock:result", MockEndpoint.class);
+        mock.expectedMessageCount(3);
+        template.sendBody("direct:start", "a,b,c");
+        mock.assertIsSatisfied();
+
+        mock.getExchanges().forEach(e -> Assertions.assertEquals(Boolean.FALSE, e.getMessage().getHeader("virtual")));
+    }
+
+    @Test
+    public void testCustomThreadPoolFactoryIsKept() {
+        new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(CamelAutoConfiguration.class, CamelThreadPoolAutoConfiguration.class))
+            .withUserConfiguration(CustomThreadPoolFactoryConfiguration.class)
+            .withPropertyValues("camel.threadpool.virtual-threads=true")
+            .run(ctx -> Assertions.assertInstanceOf(CustomThreadPoolFactory.class, ctx.getBean(ThreadPoolFactory.class)));
+    }
+
+    private static boolean isVirtual(Thread thread) throws Exception {
+        return Runtime.version().feature() >= 21 && (boolean) Thread.class.getMethod("isVirtual").invoke(thread);
+    }
+
+    // *************************************
+    // Config
+    // *************************************
+
+    @Configuration
+    public static class CustomThreadPoolFactoryConfiguration {
+        @Bean
+        public ThreadPoolFactory customThreadPoolFactory() {
+            return new CustomThreadPoolFactory();
+        }
+    }
+
+    public static class CustomThreadPoolFactory extends DefaultThreadPoolFactory {
+    }
+
+    @Configuration
+    public static class TestConfiguration {
+        @Bean
+        public RouteBuilder routeBuilder() {
+            return new RouteBuilder() {
+                @Override
+                public void configure() throws Exception {
+                    from("direct:start")
+                        .split(body().tokenize(",")).parallelProcessing()
+                            .process(e -> {
+                                e.getMessage().setHeader("virtual", isVirtual(Thread.currentThread()));
+                                e.getMessage().setHeader("thread", Thread.currentThread().getName());
+                            })
+                            .to("mock:result");
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.builder.ThreadPoolProfileBuilder;
+import org.apache.camel.spi.ThreadPoolFactory;
+import org.apache.camel.spi.ThreadPoolProfile;
+import org.apache.camel.spring.boot.threadpool.VirtualThreadPoolFactory;
+import org.apache.camel.support.DefaultThreadPoolFactory;
+import org.apache.camel.util.concurrent.ThreadPoolRejectedPolicy;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.condition.JRE;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares the throughput of the virtual thread pools with the platform thread pools for blocking tasks.
+ * <p>
+ * This is not run as part of the unit tests, run it with -Dperformance-test.
+ */
+@EnabledForJreRange(min = JRE.JAVA_21)
+@EnabledIfSystemProperty(named = "performance-test", matches = ".*")
+public class VirtualThreadPoolPerformanceTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(VirtualThreadPoolPerformanceTest.class);
+
+    private static final int TASKS = 5000;
+    private static final int POOL_SIZE = 20;
+
+    @Test
+    public void testBlockingTasksThroughput() throws Exception {
+        ThreadPoolProfile profile = new ThreadPoolProfileBuilder("benchmark")
+                .poolSize(POOL_SIZE).maxPoolSize(POOL_SIZE).maxQueueSize(-1)
+                .keepAliveTime(60L, TimeUnit.SECONDS).allowCoreThreadTimeOut(false)
+                .rejectedPolicy(ThreadPoolRejectedPolicy.CallerRuns).build();
+        ThreadFactory threadFactory = Thread::new;
+
+        // warm up
+        runBlockingTasks(new DefaultThreadPoolFactory(), profile, threadFactory);
+        runBlockingTasks(new VirtualThreadPoolFactory(), profile, threadFactory);
+
+        long platform = runBlockingTasks(new DefaultThreadPoolFactory(), profile, threadFactory);
+        long virtual = runBlockingTasks(new VirtualThreadPoolFactory(), profile, threadFactory);
+
+        LOG.info("Executed {} blocking tasks in {} millis ({} tasks/s) with {} platform threads and in {} millis ({} tasks/s) with virtual threads",
+                TASKS, platform, TASKS * 1000L / Math.max(platform, 1), POOL_SIZE, virtual, TASKS * 1000L / Math.max(virtual, 1));
+        Assertions.assertTrue(virtual < platform,
+                "Virtual threads (" + virtual + " millis) should be faster than platform threads (" + platform + " millis)");
+    }
+
+    private static long runBlockingTasks(ThreadPoolFactory factory, ThreadPoolProfile profile, ThreadFactory threadFactory)
+            throws Exception {
+        ExecutorService executor = factory.newThreadPool(profile, threadFactory);
+        long start = System.nanoTime();
+        try {
+            List<Future<?>> futures = new ArrayList<>(TASKS);
+            for (int i = 0; i < TASKS; i++) {
+                // simulates a call to a slow backend
+                futures.add(executor.submit(() -> {
+                    Thread.sleep(5);
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.endpoint;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.apache.camel.spring.boot.actuate.endpoint.CamelRoutesEndpoint.RouteEndpointInfo;
+import org.apache.camel.spring.boot.actuate.endpoint.CamelRoutesEndpoint.SortBy;
+import org.apache.camel.spring.boot.actuate.endpoint.CamelRoutesEndpoint.SortOrder;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.annotation.DirtiesContext;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/*
+ * Test for the filtered, sorted and paginated listing of the {@link CamelRoutesEndpoint}.
+ */
+@DirtiesContext
+@CamelSpringBootTest
+@EnableAutoConfiguration
+@SpringBootApplication
+@SpringBootTest(classes = {CamelAutoConfiguration.class, CamelRoutesEndpointAutoConfiguration.class,
+                           CamelRoutesEndpointListingTest.TestConfiguration.class},
+                properties = {"management.endpoints.web.exposure.include=*",
+                              "management.endpoint.camelroutes.statistics-enabled=true"})
+public class CamelRoutesEndpointListingTest {
+
+    @Autowired
+    CamelRoutesEndpoint endpoint;
+
+    @Autowired
+    CamelContext camelContext;
+
+    @Autowired
+    ProducerTemplate template;
+
+    @Test
+    public void testListAll() throws Exception {
+        int size = camelContext.getRoutes().size();
+        Assertions.assertEquals(size, ids(endpoint.readRoutes(null, null, null, null, null, null, null)).size());
+        Assertions.assertEquals(size, endpoint.readRoutes().size());
+    }
+
+    @Test
+    public void testFilter() throws Exception {
+        Assertions.assertEquals(10, ids(endpoint.readRoutes("even", null, null, null, null, null, null)).size());
+        Assertions.assertEquals(List.of("route-1", "route-10", "route-11", "route-12", "route-13", "route-14",
+                "route-15", "route-16", "route-17", "route-18", "route-19"),
+                ids(endpoint.readRoutes(null, null, "route-1*", null, null, null, null)));
+        Assertions.assertEquals(List.of("route-10", "route-12", "route-14", "route-16", "route-18"),
+                ids(endpoint.readRoutes("even", "started", "route-1*", null, null, null, null)));
+        Assertions.assertTrue(ids(endpoint.readRoutes(null, "stopped", null, null, null, null, null)).isEmpty());
+    }
+
+    @Test
+    public void testSortAndPaginate() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            template.sendBody("direct:route-7", "Hello");
+        }
+        for (int i = 0; i < 3; i++) {
+            template.sendBody("direct:route-3", "Hello");
+        }
+
+        Assertions.assertEquals(List.of("route-7", "route-3"),
+                ids(endpoint.readRoutes(null, null, null, SortBy.EXCHANGES, SortOrder.DESC, null, 2)));
+        Assertions.assertEquals(List.of("route-3"),
+                ids(endpoint.readRoutes(null, null, null, SortBy.EXCHANGES, SortOrder.DESC, 1, 1)));
+        List<String> ascending = ids(endpoint.readRoutes(null, null, "route-*", SortBy.EXCHANGES, SortOrder.ASC, null, null));
+        Assertions.assertEquals(20, ascending.size());
+        Assertions.assertEquals(List.of("route-3", "route-7"), ascending.subList(18, 20));
+        Assertions.assertEquals(List.of("route-10", "route-11"),
+                ids(endpoint.readRoutes(null, null, "route-1*", null, null, 1, 2)));
+    }
+
+    @Test
+    public void testSerialize() throws Exception {
+        List<RouteEndpointInfo> result = endpoint.readRoutes("odd", null, null, null, null, 0, 3);
+        JsonNode routes = new ObjectMapper().valueToTree(result);
+        // the result can be serialized again, such as when it is cached by the endpoint
+        Assertions.assertEquals(ids(result), ids(result));
+        Assertions.assertEquals(3, new ObjectMapper().valueToTree(result).size());
+        Assertions.assertTrue(routes.isArray());
+        Assertions.assertEquals(3, routes.size());
+        Assertions.assertEquals("route-1", routes.get(0).get("id").asText());
+        Assertions.assertEquals("odd", routes.get(0).get("group").asText());
+        Assertions.assertEquals("Started", routes.get(0).get("status").asText());
+        Assertions.assertEquals("1", routes.get(0).get("properties").get("index").asText());
+    }
+
+    private static List<String> ids(Iterable<RouteEndpointInfo> routes) {
+        List<String> answer = new ArrayList<>();
+        routes.forEach(route -> answer.add(route.getId()));
+        return answer;
+    }
+
+    @Configuration
+    static class TestConfiguration {
+
+        @Bean
+        RouteBuilder routes() {
+            return new RouteBuilder() {
+                @Override
+                public void configure() throws Exception {
+                    for (int i = 0; i < 20; i++) {
+                        from("direct:route-" + i).routeId("route-" + i).routeGroup(i % 2 == 0 ? "even" : "odd")
+                            .routeProperty("index", Integer.toString(i))
+                            .to("mock:result");
+                    }
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.endpoint;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.apache.camel.spring.boot.actuate.endpoint.CamelRoutesEndpoint.ReadAction;
+import org.apache.camel.spring.boot.actuate.endpoint.CamelRoutesEndpoint.WriteAction;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.annotation.DirtiesContext;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/*
+ * Test for the in-process route statistics of the {@link CamelRoutesEndpoint} with JMX disabled.
+ */
+@DirtiesContext
+@CamelSpringBootTest
+@EnableAutoConfiguration
+@SpringBootApplication
+@SpringBootTest(classes = {CamelAutoConfiguration.class, CamelRoutesEndpointAutoConfiguration.class,
+                           CamelRoutesEndpointStatisticsTest.TestConfiguration.class},
+                properties = {"management.endpoints.web.exposure.include=*",
+                              "management.endpoint.camelroutes.read-only=false",
+                              "management.endpoint.camelroutes.statistics-enabled=true",
+                              "camel.springboot.jmx-enabled=false"})
+public class CamelRoutesEndpointStatisticsTest {
+
+    @Autowired
+    CamelRoutesEndpoint endpoint;
+
+    @Autowired
+    CamelContext camelContext;
+
+    @Autowired
+    ProducerTemplate template;
+
+    @Test
+    public void testRouteDetails() throws Exception {
+        Assertions.assertNull(camelContext.getManagementStrategy().getManagementAgent());
+
+        for (int i = 0; i < 10; i++) {
+            template.sendBody("direct:stats", "Hello " + i);
+        }
+        template.send("direct:stats", exchange -> exchange.getIn().setHeader("fail", true));
+
+        JsonNode details = readDetails();
+        Assertions.assertEquals(11, details.get("exchangesTotal").asLong());
+        Assertions.assertEquals(1, details.get("exchangesFailed").asLong());
+        Assertions.assertEquals(0, details.get("exchangesInflight").asLong());
+        Assertions.assertTrue(details.get("p50ProcessingTime").asDouble() <= details.get("p99ProcessingTime").asDouble());
+        Assertions.assertTrue(details.get("p99ProcessingTime").asDouble() <= details.get("p999ProcessingTime").asDouble());
+
+        JsonNode processors = details.get("processors");
+        Assertions.assertEquals(2, processors.size());
+        Assertions.assertEquals("stats-log", processors.get(0).get("id").asText());
+        Assertions.assertEquals(11, processors.get(0).get("exchangesTotal").asLong());
+        Assertions.assertEquals("stats-check", processors.get(1).get("id").asText());
+        Assertions.assertEquals(11, processors.get(1).get("exchangesTotal").asLong());
+        Assertions.assertEquals(1, processors.get(1).get("exchangesFailed").asLong());
+        // the processor percentiles are off by default
+        Assertions.assertFalse(processors.get(0).has("p50ProcessingTime"));
+
+        endpoint.doWriteAction("stats-route", WriteAction.RESET, null);
+        details = readDetails();
+        Assertions.assertEquals(0, details.get("exchangesTotal").asLong());
+        Assertions.assertEquals(0, details.get("processors").get(0).get("exchangesTotal").asLong());
+    }
+
+    @Test
+    public void testLatencyHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        Assertions.assertEquals(0, histogram.getValueAtPercentile(50));
+
+        for (long i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000);
+        }
+        assertWithinPrecision(500_000, histogram.getValueAtPercentile(50));
+        assertWithinPrecision(990_000, histogram.getValueAtPercentile(99));
+        assertWithinPrecision(999_000, histogram.getValueAtPercentile(99.9));
+        assertWithinPrecision(1_000_000, histogram.getValueAtPercentile(100));
+
+        for (int i = 0; i < 10_000; i++) {
+            Assertions.assertEquals(i < 16 ? i : i >> (63 - Long.numberOfLeadingZeros(i) - 4),
+                    LatencyHistogram.valueOf(LatencyHistogram.indexOf(i)) >> Math.max(0, 63 - Long.numberOfLeadingZeros(i) - 4));
+        }
+
+        histogram.reset();
+        Assertions.assertEquals(0, histogram.getValueAtPercentile(99));
+    }
+
+    @Test
+    public void testPercentiles() {
+        ProcessingStatistics statistics = new ProcessingStatistics("with", true);
+        Assertions.assertEquals(0.0, statistics.getProcessingTimeAtPercentile(50));
+        statistics.begin();
+        statistics.done(2_000_000, false, false);
+        Assertions.assertEquals(2.0, statistics.getProcessingTimeAtPercentile(50), 2.0 / 16);
+
+        ProcessingStatistics without = new ProcessingStatistics("without", false);
+        without.begin();
+        without.done(2_000_000, false, false);
+        Assertions.assertNull(without.getProcessingTimeAtPercentile(50));
+        Assertions.assertEquals(2, without.getMaxProcessingTime());
+    }
+
+    private JsonNode readDetails() {
+        Object answer = endpoint.doReadAction("stats-route", ReadAction.DETAIL);
+        return new ObjectMapper().valueToTree(answer).get("details");
+    }
+
+    private static void assertWithinPrecision(long expected, long actual) {
+        Assertions.assertTrue(Math.abs(expected - actual) <= expected / 16, () -> "Expected " + expected + " but was " + actual);
+    }
+
+    @Configuration
+    static class TestConfiguration {
+
+        @Bean
+        RouteBuilder statsRoute() {
+            return new RouteBuilder() {
+                @Override
+                public void configure() throws Exception {
+                    from("direct:stats").routeId("stats-route")
+                        .log("${body}").id("stats-log")
+                        .process(exchange -> {
+                            if (exchange.getIn().getHeader("fail", false, Boolean.class)) {
+                                throw new IllegalArgumentException("Forced");
+                            }
+                        }).id("stats-check");
+                }
+            };
+        }
+    }
+}
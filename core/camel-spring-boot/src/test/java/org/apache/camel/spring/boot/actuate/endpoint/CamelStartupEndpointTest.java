@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.endpoint;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.apache.camel.StartupStep;
+import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.apache.camel.spring.boot.SpringBootStartupStepRecorder;
+import org.apache.camel.spring.boot.actuate.endpoint.CamelStartupEndpoint.ComponentInfo;
+import org.apache.camel.spring.boot.actuate.endpoint.CamelStartupEndpoint.StartupEndpointInfo;
+import org.apache.camel.spring.boot.actuate.endpoint.CamelStartupEndpoint.StepInfo;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+
+/*
+ * Test for the {@link CamelStartupEndpoint} actuator endpoint.
+ */
+@DirtiesContext
+@CamelSpringBootTest
+@EnableAutoConfiguration
+@SpringBootApplication
+@SpringBootTest(
+        classes = {CamelAutoConfiguration.class, CamelStartupEndpointAutoConfiguration.class, ActuatorTestRoute.class},
+        properties = {"management.endpoints.web.exposure.include=*",
+                      "camel.springboot.startup-recorder=backlog"})
+public class CamelStartupEndpointTest {
+
+    @Autowired
+    CamelStartupEndpoint endpoint;
+
+    @Test
+    public void testStartupEndpoint() throws Exception {
+        StartupEndpointInfo info = endpoint.getStartup(null);
+        Assertions.assertEquals("backlog", info.getRecorder());
+        Assertions.assertTrue(info.getSteps() > 0);
+        Assertions.assertFalse(info.getTree().isEmpty());
+        Assertions.assertTrue(info.getSlowest().size() <= 10);
+        Assertions.assertFalse(info.getSlowest().isEmpty());
+        Assertions.assertTrue(info.getSlowest().stream().allMatch(s -> s.getChildren() == null));
+
+        // the steps of a route are nested under the route
+        StepInfo route = find(info.getTree(), "Route", "foo-route");
+        Assertions.assertNotNull(route);
+
+        // the timer component is used by the test route
+        List<String> components = info.getComponents().stream().map(ComponentInfo::getName).collect(Collectors.toList());
+        Assertions.assertTrue(components.contains("timer"), "Should contain timer: " + components);
+
+        Assertions.assertEquals(3, endpoint.getStartup(3).getSlowest().size());
+    }
+
+    @Test
+    public void testApplicationStartup() throws Exception {
+        BufferingApplicationStartup startup = new BufferingApplicationStartup(100);
+        SpringBootStartupStepRecorder recorder = new SpringBootStartupStepRecorder(startup);
+        recorder.start();
+
+        StartupStep parent = recorder.beginStep(CamelStartupEndpointTest.class, "parent", "Parent step");
+        StartupStep child = recorder.beginStep(CamelStartupEndpointTest.class, "child", "Child step");
+        recorder.endStep(child);
+        recorder.endStep(parent);
+
+        List<StartupStep> steps = recorder.steps().collect(Collectors.toList());
+        Assertions.assertEquals(2, steps.size());
+        StartupEndpointInfo info = new StartupEndpointInfo(recorder.toString(), steps, 10);
+        Assertions.assertEquals(1, info.getTree().size());
+        Assertions.assertEquals("parent", info.getTree().get(0).getName());
+        Assertions.assertEquals("child", info.getTree().get(0).getChildren().get(0).getName());
+
+        StartupTimeline timeline = startup.getBufferedTimeline();
+        List<String> names = timeline.getEvents().stream()
+                .map(e -> e.getStartupStep().getName()).collect(Collectors.toList());
+        Assertions.assertEquals(2, names.size());
+        Assertions.assertTrue(names.stream().allMatch(n -> n.startsWith("camel.")), "Should be camel steps: " + names);
+    }
+
+    private static StepInfo find(List<StepInfo> steps, String type, String name) {
+        for (StepInfo step : steps) {
+            if (type.equals(step.getType()) && name.equals(step.getName())) {
+                return step;
+            }
+            if (step.getChildren() != null) {
+                StepInfo answer = find(step.getChildren(), type, name);
+                if (answer != null) {
+                    return answer;
+                }
+            }
+        }
+        return null;
+    }
+
+}
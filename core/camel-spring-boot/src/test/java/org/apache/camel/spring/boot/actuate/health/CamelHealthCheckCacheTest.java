@@ -0,0 +1,218 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.health;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.health.HealthCheck;
+import org.apache.camel.health.HealthCheckRegistry;
+import org.apache.camel.health.HealthCheckResultBuilder;
+import org.apache.camel.impl.health.AbstractHealthCheck;
+import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+@DirtiesContext
+@CamelSpringBootTest
+@EnableAutoConfiguration
+@SpringBootApplication
+@SpringBootTest(
+    classes = {CamelAutoConfiguration.class, CamelHealthCheckAutoConfiguration.class, MyCamelRoute.class},
+    properties = {"camel.springboot.java-routes-include-pattern=**/MyCamelRoute*",
+                  "camel.health.async-enabled=true",
+                  "camel.health.async-refresh-interval=600000",
+                  "camel.health.async-timeout=300",
+                  "management.endpoints.web.exposure.include=camelhealthcache"})
+public class CamelHealthCheckCacheTest {
+
+    @Autowired
+    CamelHealthCheckIndicator indicator;
+
+    @Autowired
+    CamelHealthCheckCache cache;
+
+    @Autowired
+    CamelHealthCheckCacheEndpoint endpoint;
+
+    @Autowired
+    CamelContext camelContext;
+
+    @Test
+    public void shouldServeHealthFromCache() throws Exception {
+        SlowHealthCheck check = new SlowHealthCheck("slow");
+        HealthCheckRegistry.get(camelContext).register(check);
+        try {
+            // the results may have been cached by another test
+            cache.refresh();
+            Health health = indicator.health();
+            Assertions.assertEquals("UP", health.getStatus().getCode());
+            Assertions.assertEquals(1, check.invocations.get());
+
+            for (int i = 0; i < 10; i++) {
+                Assertions.assertEquals("UP", indicator.health().getStatus().getCode());
+            }
+            Assertions.assertEquals(1, check.invocations.get());
+
+            // a check not completing within the timeout is reported as down
+            check.delay = 5000;
+            long start = System.currentTimeMillis();
+            cache.refresh();
+            Assertions.assertTrue(System.currentTimeMillis() - start < 5000);
+            // a check which did not start within the timeout is removed without being invoked
+            Assertions.assertTrue(check.invocations.get() <= 2);
+            health = indicator.health();
+            Assertions.assertEquals("DOWN", health.getStatus().getCode());
+            Assertions.assertEquals("DOWN", health.getDetails().get("slow"));
+
+            // the check is interrupted
+            awaitNoHungChecks();
+            check.delay = 0;
+            endpoint.refresh();
+            Assertions.assertEquals("UP", indicator.health().getStatus().getCode());
+        } finally {
+            HealthCheckRegistry.get(camelContext).unregister(check);
+        }
+    }
+
+    @Test
+    public void shouldNotInvokeHungCheckAgain() throws Exception {
+        HangingHealthCheck check = new HangingHealthCheck();
+        HealthCheckRegistry.get(camelContext).register(check);
+        try {
+            indicator.health();
+            cache.refresh();
+            Assertions.assertEquals("DOWN", indicator.health().getDetails().get("hanging"));
+            Assertions.assertEquals(1, cache.getHungChecks());
+            Assertions.assertEquals(1, endpoint.getCache().get("hungChecks"));
+
+            for (int i = 0; i < 3; i++) {
+                cache.refresh();
+                Assertions.assertEquals("DOWN", indicator.health().getDetails().get("hanging"));
+            }
+            Assertions.assertEquals(1, check.invocations.get());
+
+            check.latch.countDown();
+            awaitNoHungChecks();
+            cache.refresh();
+            Assertions.assertEquals("UP", indicator.health().getStatus().getCode());
+            Assertions.assertEquals(2, check.invocations.get());
+        } finally {
+            check.latch.countDown();
+            HealthCheckRegistry.get(camelContext).unregister(check);
+        }
+    }
+
+    @Test
+    public void shouldServeStaleResultsWhileRefreshing() throws Exception {
+        SlowHealthCheck check = new SlowHealthCheck("stale");
+        HealthCheckRegistry.get(camelContext).register(check);
+        // results are always stale
+        CamelHealthCheckCache stale = new CamelHealthCheckCache(camelContext, 600000, 2000, 0, 1);
+        stale.start();
+        try {
+            Assertions.assertEquals(HealthCheck.State.UP, stateOf(stale.getResults(HealthCheck.Kind.ALL)));
+            Assertions.assertEquals(1, check.invocations.get());
+
+            check.delay = 1000;
+            Thread.sleep(5);
+            long start = System.currentTimeMillis();
+            Assertions.assertEquals(HealthCheck.State.UP, stateOf(stale.getResults(HealthCheck.Kind.ALL)));
+            Assertions.assertEquals(HealthCheck.State.UP, stateOf(stale.getResults(HealthCheck.Kind.ALL)));
+            Assertions.assertTrue(System.currentTimeMillis() - start < 1000);
+
+            // refreshed once in the background
+            long deadline = System.currentTimeMillis() + 5000;
+            while (check.invocations.get() < 2 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            Assertions.assertEquals(2, check.invocations.get());
+        } finally {
+            stale.stop();
+            HealthCheckRegistry.get(camelContext).unregister(check);
+        }
+    }
+
+    private void awaitNoHungChecks() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (cache.getHungChecks() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Assertions.assertEquals(0, cache.getHungChecks());
+    }
+
+    private static HealthCheck.State stateOf(Collection<HealthCheck.Result> results) {
+        return results.stream().anyMatch(result -> result.getState() == HealthCheck.State.DOWN)
+                ? HealthCheck.State.DOWN : HealthCheck.State.UP;
+    }
+
+    private static class SlowHealthCheck extends AbstractHealthCheck {
+
+        private final AtomicInteger invocations = new AtomicInteger();
+        private volatile long delay;
+
+        SlowHealthCheck(String id) {
+            super(id);
+        }
+
+        @Override
+        protected void doCall(HealthCheckResultBuilder builder, Map<String, Object> options) {
+            invocations.incrementAndGet();
+            try {
+                Thread.sleep(delay);
+                builder.up();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                builder.down();
+            }
+        }
+    }
+
+    private static class HangingHealthCheck extends AbstractHealthCheck {
+
+        private final AtomicInteger invocations = new AtomicInteger();
+        private final CountDownLatch latch = new CountDownLatch(1);
+
+        HangingHealthCheck() {
+            super("hanging");
+        }
+
+        @Override
+        protected void doCall(HealthCheckResultBuilder builder, Map<String, Object> options) {
+            invocations.incrementAndGet();
+            // ignores interrupts
+            while (latch.getCount() > 0) {
+                try {
+                    latch.await();
+                } catch (InterruptedException e) {
+                    // ignore
+                }
+            }
+            builder.up();
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.actuate.health;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.health.HealthCheckRegistry;
+import org.apache.camel.health.HealthCheckResultBuilder;
+import org.apache.camel.impl.health.AbstractHealthCheck;
+import org.apache.camel.spring.boot.CamelAutoConfiguration;
+import org.apache.camel.spring.boot.threadpool.CamelThreadPoolAutoConfiguration;
+import org.apache.camel.spring.boot.threadpool.VirtualThreadPoolFactory;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+/*
+ * Test the health check cache runs the checks when Camel thread pools use virtual threads.
+ */
+@DirtiesContext
+@CamelSpringBootTest
+@EnableAutoConfiguration
+@SpringBootApplication
+@SpringBootTest(
+    classes = {CamelAutoConfiguration.class, CamelThreadPoolAutoConfiguration.class, CamelHealthCheckAutoConfiguration.class,
+               MyCamelRoute.class},
+    properties = {"camel.springboot.java-routes-include-pattern=**/MyCamelRoute*",
+                  "camel.threadpool.virtual-threads=true",
+                  "camel.health.async-enabled=true",
+                  "camel.health.async-refresh-interval=600000",
+                  "camel.health.async-timeout=300"})
+public class CamelHealthCheckCacheVirtualThreadsTest {
+
+    @Autowired
+    CamelHealthCheckIndicator indicator;
+
+    @Autowired
+    CamelHealthCheckCache cache;
+
+    @Autowired
+    CamelContext camelContext;
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    public void shouldRunChecksOnVirtualThreads() throws Exception {
+        Assertions.assertInstanceOf(VirtualThreadPoolFactory.class, camelContext.getExecutorServiceManager().getThreadPoolFactory());
+        Assertions.assertTrue(cache.isStarted());
+
+        SlowHealthCheck check = new SlowHealthCheck();
+        HealthCheckRegistry.get(camelContext).register(check);
+        try {
+            cache.refresh();
+            Health health = indicator.health();
+            Assertions.assertEquals("UP", health.getStatus().getCode());
+            Assertions.assertEquals(1, check.invocations.get());
+
+            // a check not completing within the timeout is reported as down and interrupted
+            check.delay = 5000;
+            cache.refresh();
+            Assertions.assertEquals("DOWN", indicator.health().getDetails().get("virtual"));
+
+            long deadline = System.currentTimeMillis() + 5000;
+            while (cache.getHungChecks() > 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            Assertions.assertEquals(0, cache.getHungChecks());
+            check.delay = 0;
+            cache.refresh();
+            Assertions.assertEquals("UP", indicator.health().getStatus().getCode());
+        } finally {
+            HealthCheckRegistry.get(camelContext).unregister(check);
+        }
+    }
+
+    private static class SlowHealthCheck extends AbstractHealthCheck {
+
+        private final AtomicInteger invocations = new AtomicInteger();
+        private volatile long delay;
+
+        SlowHealthCheck() {
+            super("virtual");
+        }
+
+        @Override
+        protected void doCall(HealthCheckResultBuilder builder, Map<String, Object> options) {
+            invocations.incrementAndGet();
+            try {
+                Thread.sleep(delay);
+                builder.up();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                builder.down();
+            }
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.aot;
+
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.main.DefaultRoutesCollector;
+import org.apache.camel.model.RouteDefinition;
+import org.apache.camel.model.RoutesDefinition;
+import org.apache.camel.spi.ModelToXMLDumper;
+import org.apache.camel.spi.Resource;
+import org.apache.camel.support.PluginHelper;
+import org.apache.camel.support.ResourceHelper;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.test.generate.TestGenerationContext;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.aot.ApplicationContextAotGenerator;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.test.tools.TestCompiler;
+import org.springframework.javapoet.ClassName;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link CamelRoutesAotProcessor}.
+ */
+class CamelRoutesAotProcessorTest {
+
+    private static final String LOCATION = "classpath:aot/routes/greetings.xml";
+
+    @Test
+    void shouldGenerateRoutes() {
+        compile(new MockEnvironment().withProperty("camel.springboot.routes-include-pattern", "classpath:aot/routes/*"),
+            context -> {
+                // the resource with rests is loaded at runtime
+                Map<String, PrecompiledRoutes> beans = context.getBeansOfType(PrecompiledRoutes.class);
+                assertThat(beans).hasSize(1);
+                PrecompiledRoutes precompiled = beans.values().iterator().next();
+                assertThat(precompiled.getLocation()).isEqualTo(LOCATION);
+                try (CamelContext camelContext = new DefaultCamelContext()) {
+                    RoutesDefinition routes = ((RouteBuilder) precompiled.createRoutesBuilder()).configureRoutes(camelContext);
+                    assertThat(routes.getRoutes()).extracting(RouteDefinition::getRouteId).containsExactly("greetings", "goodbye");
+                    assertThat(routes.getRoutes().get(0).getResource().getLocation()).isEqualTo(LOCATION);
+                    assertThat(dump(camelContext, routes)).isEqualTo(dump(camelContext, parse(camelContext)));
+                    // only the resource itself is excluded, not a resource with the same name elsewhere
+                    assertThat(new DefaultRoutesCollector().findRouteResourcesFromDirectory(camelContext,
+                        precompiled.getExcludePattern(getClass().getClassLoader()),
+                        "classpath:aot/routes/*,classpath:aot/copy/**/*.xml"))
+                        .extracting(Resource::getLocation)
+                        .hasSize(2)
+                        .anySatisfy(location -> assertThat(location).endsWith("rests.xml"))
+                        .anySatisfy(location -> assertThat(location).endsWith("copy/aot/routes/greetings.xml"));
+                } catch (Exception e) {
+                    throw new AssertionError(e);
+                }
+            });
+    }
+
+    @Test
+    void shouldNotGenerateRoutesWhenDisabled() {
+        compile(new MockEnvironment().withProperty("camel.springboot.routes-include-pattern", "classpath:aot/routes/*")
+                .withProperty("camel.springboot.routes-aot-enabled", "false"),
+            context -> assertThat(context.getBeansOfType(PrecompiledRoutes.class)).isEmpty());
+    }
+
+    private static RoutesDefinition parse(CamelContext camelContext) throws Exception {
+        RoutesDefinition answer = new RoutesDefinition();
+        PluginHelper.getRoutesLoader(camelContext)
+            .findRoutesBuilders(ResourceHelper.resolveResource(camelContext, LOCATION))
+            .forEach(builder -> {
+                try {
+                    answer.getRoutes().addAll(((RouteBuilder) builder).configureRoutes(camelContext).getRoutes());
+                } catch (Exception e) {
+                    throw new AssertionError(e);
+                }
+            });
+        return answer;
+    }
+
+    private static String dump(CamelContext camelContext, RoutesDefinition routes) throws Exception {
+        ModelToXMLDumper dumper = PluginHelper.getModelToXMLDumper(camelContext);
+        return dumper.dumpModelAsXml(camelContext, routes);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void compile(MockEnvironment environment, Consumer<GenericApplicationContext> result) {
+        GenericApplicationContext applicationContext = new GenericApplicationContext();
+        applicationContext.setEnvironment(environment);
+        TestGenerationContext generationContext = new TestGenerationContext();
+        ClassName className = new ApplicationContextAotGenerator().processAheadOfTime(applicationContext, generationContext);
+        generationContext.writeGeneratedContent();
+        TestCompiler.forSystem().with(generationContext).compile(compiled -> {
+            GenericApplicationContext freshApplicationContext = new GenericApplicationContext();
+            ApplicationContextInitializer<GenericApplicationContext> initializer = compiled.getInstance(
+                ApplicationContextInitializer.class, className.toString());
+            initializer.initialize(freshApplicationContext);
+            freshApplicationContext.refresh();
+            result.accept(freshApplicationContext);
+        });
+    }
+}
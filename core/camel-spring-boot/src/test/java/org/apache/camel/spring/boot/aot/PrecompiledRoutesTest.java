@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spring.boot.aot;
+
+import java.util.List;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.model.RouteDefinition;
+import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.annotation.DirtiesContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests that the routes generated ahead-of-time replace their resource, whatever the Java routes patterns.
+ */
+@DirtiesContext
+@CamelSpringBootTest
+@EnableAutoConfiguration
+@SpringBootTest(
+    classes = {
+        PrecompiledRoutesTest.class,
+        PrecompiledRoutesTest.TestConfiguration.class },
+    properties = {
+        "camel.springboot.routes-include-pattern=classpath:aot/routes/greetings.xml",
+        "camel.springboot.java-routes-include-pattern=com/example/**" }
+)
+class PrecompiledRoutesTest {
+
+    @Autowired
+    CamelContext camelContext;
+
+    @Configuration
+    static class TestConfiguration {
+
+        @Bean
+        PrecompiledRoutes precompiledRoutes() {
+            return new PrecompiledRoutes("classpath:aot/routes/greetings.xml", () -> {
+                RouteDefinition route = new RouteDefinition();
+                route.from("direct:precompiled").routeId("precompiled").to("mock:precompiled");
+                return List.of(route);
+            });
+        }
+    }
+
+    @Test
+    void shouldAddPrecompiledRoutesInsteadOfResource() {
+        assertThat(camelContext.getRoute("precompiled")).isNotNull();
+        // the resource is not loaded at runtime
+        assertThat(camelContext.getRoute("greetings")).isNull();
+        assertThat(camelContext.getRoute("goodbye")).isNull();
+    }
+}
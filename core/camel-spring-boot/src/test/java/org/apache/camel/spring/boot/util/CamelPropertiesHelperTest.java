@@ -21,6 +21,7 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.apache.camel.CamelContext;
+import org.apache.camel.spi.PropertyConfigurer;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -108,6 +109,30 @@ public class CamelPropertiesHelperTest {
         }
     }
 
+    public static class MyClassConfigurer implements PropertyConfigurer {
+
+        private int calls;
+
+        @Override
+        public boolean configure(CamelContext camelContext, Object target, String name, Object value, boolean ignoreCase) {
+            calls++;
+            MyClass myClass = (MyClass) target;
+            switch (ignoreCase ? name.toLowerCase() : name) {
+            case "id":
+                myClass.setId((Integer) value);
+                return true;
+            case "name":
+                myClass.setName((String) value);
+                return true;
+            case "option":
+                myClass.setOption((MyOption) value);
+                return true;
+            default:
+                return false;
+            }
+        }
+    }
+
     @Test
     public void testSetCamelProperties() throws Exception {
         MyClass target = new MyClass();
@@ -249,4 +274,49 @@ public class CamelPropertiesHelperTest {
         Assertions.assertSame(context.getBean("myCoolOption"), target.getOption());
     }
 
+    @Test
+    public void testCopyProperty() throws Exception {
+        MyClass target = new MyClass();
+        MyClassConfigurer configurer = new MyClassConfigurer();
+        MyOption option = new MyOption();
+
+        CamelPropertiesHelper.copyProperty(camelContext, configurer, target, "id", 123);
+        CamelPropertiesHelper.copyProperty(camelContext, configurer, target, "name", "Donald Duck");
+        CamelPropertiesHelper.copyProperty(camelContext, configurer, target, "option", option);
+        CamelPropertiesHelper.copyProperty(camelContext, configurer, target, "myFooClass", null);
+
+        Assertions.assertEquals(3, configurer.calls, "Should set the typed values using the configurer");
+        Assertions.assertEquals(123, target.getId());
+        Assertions.assertEquals("Donald Duck", target.getName());
+        Assertions.assertSame(option, target.getOption());
+        Assertions.assertNull(target.getMyFooClass());
+    }
+
+    @Test
+    public void testCopyPropertyReference() throws Exception {
+        MyClass target = new MyClass();
+        MyClassConfigurer configurer = new MyClassConfigurer();
+
+        CamelPropertiesHelper.copyProperty(camelContext, configurer, target, "option", "#myCoolOption");
+        CamelPropertiesHelper.copyProperty(camelContext, configurer, target, "camelContext", "#type:org.apache.camel.CamelContext");
+
+        Assertions.assertEquals(0, configurer.calls, "Should bind references using property binding");
+        Assertions.assertSame(context.getBean("myCoolOption"), target.getOption());
+        Assertions.assertSame(camelContext, target.getCamelContext());
+    }
+
+    @Test
+    public void testCopyPropertyNotSupportedByConfigurer() throws Exception {
+        MyClass target = new MyClass();
+        MyClassConfigurer configurer = new MyClassConfigurer();
+
+        CamelPropertiesHelper.copyProperty(camelContext, configurer, target, "option", "myCoolOption");
+        CamelPropertiesHelper.copyProperty(camelContext, configurer, target, "camelContext", camelContext);
+        CamelPropertiesHelper.copyProperty(camelContext, configurer, target, "unknown", "foo");
+
+        Assertions.assertEquals(3, configurer.calls);
+        Assertions.assertSame(context.getBean("myCoolOption"), target.getOption());
+        Assertions.assertSame(camelContext, target.getCamelContext());
+    }
+
 }
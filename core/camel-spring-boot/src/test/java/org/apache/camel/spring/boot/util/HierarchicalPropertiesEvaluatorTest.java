@@ -16,13 +16,20 @@
  */
 package org.apache.camel.spring.boot.util;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.ConfigurableEnvironment;
 import org.springframework.core.env.Environment;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.env.SystemEnvironmentPropertySource;
 import org.springframework.test.annotation.DirtiesContext;
 import org.apache.camel.test.spring.junit5.CamelSpringBootTest;
 
@@ -56,6 +63,63 @@ public class HierarchicalPropertiesEvaluatorTest {
         Assertions.assertFalse(HierarchicalPropertiesEvaluator.evaluate(environment, "test.group2", "test.group2.subgroup3"));
     }
 
+    @Test
+    public void testSnapshotRefreshedWhenPropertySourcesChange() {
+        ConfigurableEnvironment configurable = (ConfigurableEnvironment) environment;
+        Assertions.assertTrue(HierarchicalPropertiesEvaluator.evaluate(environment, "test.group1", "test.group1.subgroup4"));
+
+        configurable.getPropertySources().addFirst(
+            new MapPropertySource("snapshot-test", Map.of("test.group1.subgroup4.enabled", "false")));
+        try {
+            Assertions.assertFalse(HierarchicalPropertiesEvaluator.evaluate(environment, "test.group1", "test.group1.subgroup4"));
+        } finally {
+            configurable.getPropertySources().remove("snapshot-test");
+        }
+        Assertions.assertTrue(HierarchicalPropertiesEvaluator.evaluate(environment, "test.group1", "test.group1.subgroup4"));
+    }
+
+    @Test
+    public void testStartupReport() {
+        HierarchicalPropertiesEvaluator.evaluate(environment, "test.group1");
+        HierarchicalPropertiesEvaluator.resetStatistics(environment);
+        HierarchicalPropertiesEvaluator.evaluate(environment, "test.group1", "test.group1.subgroup1");
+
+        String report = HierarchicalPropertiesEvaluator.getStartupReport(environment);
+        Assertions.assertTrue(report.startsWith("Evaluated 2 enabled flags: 2 from"), report);
+    }
+
+    @Test
+    public void testSnapshotPerEnvironment() {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("test.group1.subgroup1.enabled", "true");
+        StandardEnvironment other = new StandardEnvironment();
+        other.getPropertySources().addFirst(new MapPropertySource("other", properties));
+
+        Assertions.assertTrue(HierarchicalPropertiesEvaluator.evaluate(other, "test.group1", "test.group1.subgroup1"));
+        Assertions.assertFalse(HierarchicalPropertiesEvaluator.evaluate(environment, "test.group1", "test.group1.subgroup1"));
+        String report = HierarchicalPropertiesEvaluator.getStartupReport(other);
+        Assertions.assertTrue(report.startsWith("Evaluated 2 enabled flags: 2 from 1 snapshots"), report);
+
+        // changed values are only seen once the snapshot is invalidated
+        properties.put("test.group1.subgroup1.enabled", "false");
+        Assertions.assertTrue(HierarchicalPropertiesEvaluator.evaluate(other, "test.group1", "test.group1.subgroup1"));
+        HierarchicalPropertiesEvaluator.invalidate(other);
+        Assertions.assertFalse(HierarchicalPropertiesEvaluator.evaluate(other, "test.group1", "test.group1.subgroup1"));
+    }
+
+    @Test
+    public void testSystemEnvironment() {
+        StandardEnvironment other = new StandardEnvironment();
+        other.getPropertySources().addFirst(new SystemEnvironmentPropertySource(
+            StandardEnvironment.SYSTEM_ENVIRONMENT_PROPERTY_SOURCE_NAME,
+            Map.of("CAMEL_COMPONENT_AWS2S3_ENABLED", "false", "CAMEL_COMPONENT_KAFKA_CUSTOMIZER_ENABLED", "false")));
+
+        // environment variables have no dashes, but match the dashed names as when binding them
+        Assertions.assertFalse(HierarchicalPropertiesEvaluator.evaluate(other, "camel.component", "camel.component.aws2-s3"));
+        Assertions.assertFalse(HierarchicalPropertiesEvaluator.evaluate(other, "camel.component.customizer", "camel.component.kafka.customizer"));
+        Assertions.assertTrue(HierarchicalPropertiesEvaluator.evaluate(other, "camel.component", "camel.component.aws2-sqs"));
+    }
+
     @Configuration
     static class TestConfiguration {
     }
@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.springboot.maven;
+
+/**
+ * The format of the package scan index read by the {@code FatJarPackageScanClassResolver}, kept free of maven
+ * dependencies so the resolver tests can check they agree.
+ */
+public final class PackageScanIndex {
+
+    /**
+     * The location of the index, relative to the classes root of the fat jar
+     */
+    public static final String INDEX_LOCATION = "META-INF/camel/package-scan.idx";
+
+    /**
+     * The first key of the line with the packages which the index is limited to, followed by the package paths
+     */
+    public static final String PACKAGES = "packages";
+
+    /**
+     * The annotations of a class which cannot be determined
+     */
+    public static final String UNKNOWN = "?";
+
+    private PackageScanIndex() {
+    }
+}
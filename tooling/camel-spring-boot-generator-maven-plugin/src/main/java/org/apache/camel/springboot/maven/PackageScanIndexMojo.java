@@ -0,0 +1,313 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.springboot.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+import org.apache.maven.project.MavenProject;
+import org.objectweb.asm.AnnotationVisitor;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+/**
+ * Generates an index of the classes of an application and its runtime dependencies, which the
+ * {@code FatJarPackageScanClassResolver} uses instead of scanning the Spring Boot fat jar when Camel scans packages.
+ * <p>
+ * Only the classes in the packages which Camel scans are indexed, which default to the packages of the application
+ * classes. The index then starts with a {@code packages} line listing these packages, and the resolver scans the fat
+ * jar for the other packages.
+ * <p>
+ * Each line of the index holds the name of a class entry, followed by the annotations which the class has directly, as
+ * meta annotations or from its super classes. The annotations are replaced by a {@code ?} when they cannot be
+ * determined, for example because a super class is not on the classpath.
+ */
+@Mojo(name = "generate-package-scan-index", threadSafe = true,
+        requiresDependencyCollection = ResolutionScope.COMPILE_PLUS_RUNTIME,
+        requiresDependencyResolution = ResolutionScope.COMPILE_PLUS_RUNTIME,
+        defaultPhase = LifecyclePhase.PROCESS_CLASSES)
+public class PackageScanIndexMojo extends AbstractMojo {
+
+    /**
+     * The maven project.
+     */
+    @Parameter(property = "project", required = true, readonly = true)
+    protected MavenProject project;
+
+    /**
+     * The directory with the compiled classes of the project, where the index is written
+     */
+    @Parameter(defaultValue = "${project.build.outputDirectory}")
+    protected File classesDir;
+
+    /**
+     * The packages which Camel scans, such as the packages of the routes and type converters found by package
+     * scanning. Only the classes in these packages and their sub packages are indexed, the other packages are scanned
+     * at runtime. Defaults to the packages of the classes of the project.
+     */
+    @Parameter(property = "camel.package-scan-index.packages")
+    protected List<String> packages;
+
+    /**
+     * Whether to skip generating the index
+     */
+    @Parameter(property = "camel.package-scan-index.skip", defaultValue = "false")
+    protected boolean skip;
+
+    @Override
+    public void execute() throws MojoExecutionException, MojoFailureException {
+        if (skip || !classesDir.isDirectory()) {
+            return;
+        }
+
+        Map<String, ClassInfo> classes = new TreeMap<>();
+        List<String> indexed;
+        try {
+            scanDirectory(classesDir.toPath(), classes);
+            indexed = indexedPackages(classes.values());
+            for (Artifact artifact : project.getArtifacts()) {
+                File file = artifact.getFile();
+                if (file != null && file.isFile() && file.getName().endsWith(".jar")) {
+                    scanJar(file, classes);
+                }
+            }
+        } catch (IOException e) {
+            throw new MojoExecutionException("Error scanning classes for the package scan index", e);
+        }
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("# Generated by camel-spring-boot-generator-maven-plugin - do not edit this file!\n");
+        if (!indexed.isEmpty()) {
+            sb.append(PackageScanIndex.PACKAGES);
+            indexed.forEach(p -> sb.append(' ').append(p));
+            sb.append('\n');
+        }
+        Map<String, Set<String>> resolved = new HashMap<>();
+        int count = 0;
+        for (ClassInfo info : classes.values()) {
+            if (!isIndexed(info.entry, indexed)) {
+                continue;
+            }
+            count++;
+            sb.append(info.entry);
+            Set<String> annotations = resolveAnnotations(info.name, classes, resolved);
+            if (annotations == null) {
+                sb.append(' ').append(PackageScanIndex.UNKNOWN);
+            } else {
+                annotations.forEach(a -> sb.append(' ').append(a));
+            }
+            sb.append('\n');
+        }
+
+        Path index = classesDir.toPath().resolve(PackageScanIndex.INDEX_LOCATION);
+        try {
+            Files.createDirectories(index.getParent());
+            Files.writeString(index, sb.toString(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new MojoExecutionException("Error writing package scan index " + index, e);
+        }
+        getLog().info("Generated package scan index with " + count + " classes");
+    }
+
+    /**
+     * The paths of the packages to index, without their sub packages, or an empty list to index all packages
+     */
+    private List<String> indexedPackages(Collection<ClassInfo> projectClasses) {
+        Set<String> paths = new TreeSet<>();
+        if (packages != null && !packages.isEmpty()) {
+            for (String name : packages) {
+                if (!name.isBlank()) {
+                    paths.add(name.trim().replace('.', '/') + "/");
+                }
+            }
+        } else {
+            for (ClassInfo info : projectClasses) {
+                paths.add(info.entry.substring(0, info.entry.lastIndexOf('/') + 1));
+            }
+        }
+
+        // sub packages sort right after their parent package
+        List<String> answer = new ArrayList<>();
+        for (String path : paths) {
+            if (path.isEmpty()) {
+                // classes in the default package, so index all packages
+                return List.of();
+            }
+            if (answer.isEmpty() || !path.startsWith(answer.get(answer.size() - 1))) {
+                answer.add(path);
+            }
+        }
+        return answer;
+    }
+
+    private static boolean isIndexed(String entry, List<String> indexed) {
+        if (indexed.isEmpty()) {
+            return true;
+        }
+        for (String path : indexed) {
+            if (entry.startsWith(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void scanDirectory(Path dir, Map<String, ClassInfo> classes) throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                String entry = dir.relativize(file).toString().replace(File.separatorChar, '/');
+                if (isClassEntry(entry) && Files.isRegularFile(file)) {
+                    try (InputStream is = Files.newInputStream(file)) {
+                        addClass(entry, is, classes);
+                    }
+                }
+            }
+        }
+    }
+
+    private void scanJar(File file, Map<String, ClassInfo> classes) throws IOException {
+        try (JarFile jar = new JarFile(file)) {
+            Enumeration<JarEntry> entries = jar.entries();
+            while (entries.hasMoreElements()) {
+                JarEntry entry = entries.nextElement();
+                String name = entry.getName().trim();
+                if (!entry.isDirectory() && isClassEntry(name)) {
+                    try (InputStream is = jar.getInputStream(entry)) {
+                        addClass(name, is, classes);
+                    }
+                }
+            }
+        }
+    }
+
+    private static boolean isClassEntry(String entry) {
+        // versioned classes and module descriptors are not package scanned
+        return entry.endsWith(".class") && !entry.startsWith("META-INF/") && !entry.endsWith("module-info.class");
+    }
+
+    private void addClass(String entry, InputStream is, Map<String, ClassInfo> classes) throws IOException {
+        ClassInfo info = new ClassInfo(entry);
+        try {
+            new ClassReader(is).accept(info, ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+        } catch (IllegalArgumentException e) {
+            // unsupported class file version, so the annotations are unknown
+            getLog().debug("Cannot read class " + entry + ": " + e.getMessage());
+            info.annotations = null;
+        }
+        if (info.name == null) {
+            info.name = entry.substring(0, entry.length() - 6);
+        }
+        // the first class on the classpath wins as with a class loader
+        classes.putIfAbsent(info.name, info);
+    }
+
+    /**
+     * Resolves the annotations of a class, or <tt>null</tt> if they cannot be determined
+     */
+    private Set<String> resolveAnnotations(String name, Map<String, ClassInfo> classes, Map<String, Set<String>> resolved) {
+        if (resolved.containsKey(name)) {
+            return resolved.get(name);
+        }
+        // guard against cycles
+        resolved.put(name, null);
+
+        ClassInfo info = classes.get(name);
+        Set<String> answer = null;
+        if (info != null && info.annotations != null) {
+            answer = new TreeSet<>();
+            for (String annotation : info.annotations) {
+                answer.add(annotation.replace('/', '.'));
+                ClassInfo meta = classes.get(annotation);
+                if (meta != null && meta.annotations != null) {
+                    for (String metaAnnotation : meta.annotations) {
+                        answer.add(metaAnnotation.replace('/', '.'));
+                    }
+                } else if (!isJdkType(annotation)) {
+                    answer = null;
+                    break;
+                }
+            }
+            if (answer != null && info.superName != null && !isJdkType(info.superName)) {
+                Set<String> inherited = resolveAnnotations(info.superName, classes, resolved);
+                if (inherited == null) {
+                    answer = null;
+                } else {
+                    answer.addAll(inherited);
+                }
+            }
+        }
+        resolved.put(name, answer);
+        return answer;
+    }
+
+    private static boolean isJdkType(String name) {
+        return name.startsWith("java/") || name.startsWith("javax/") || name.startsWith("jdk/") || name.startsWith("sun/");
+    }
+
+    private static final class ClassInfo extends ClassVisitor {
+
+        private final String entry;
+        private String name;
+        private String superName;
+        private List<String> annotations = new ArrayList<>();
+
+        private ClassInfo(String entry) {
+            super(Opcodes.ASM9);
+            this.entry = entry;
+        }
+
+        @Override
+        public void visit(int version, int access, String name, String signature, String superName, String[] interfaces) {
+            this.name = name;
+            this.superName = superName;
+        }
+
+        @Override
+        public AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
+            if (visible) {
+                annotations.add(Type.getType(descriptor).getInternalName());
+            }
+            return null;
+        }
+    }
+}
@@ -506,8 +506,9 @@ public class SpringBootAutoConfigurationMojo extends AbstractSpringBootGenerator
                 beforeGenerateComponentSource(model);
 
                 boolean complexOptions = model.getOptions().stream().anyMatch(this::isComplexType);
-                createComponentConfigurationSource(pkg, model, overrideComponentName);
-                createComponentAutoConfigurationSource(pkg, model, overrideComponentName, complexOptions);
+                Map<String, String> accessors = createComponentConfigurationSource(pkg, model, overrideComponentName);
+                boolean copier = createComponentConfigurationCopierSource(pkg, model, accessors);
+                createComponentAutoConfigurationSource(pkg, model, overrideComponentName, complexOptions, copier);
                 if (complexOptions) {
                     createComponentConverterSource(pkg, model);
                 }
@@ -627,7 +628,7 @@ public class SpringBootAutoConfigurationMojo extends AbstractSpringBootGenerator
         }
     }
 
-    private void createComponentConfigurationSource(String packageName, ComponentModel model, String overrideComponentName) throws MojoFailureException {
+    private Map<String, String> createComponentConfigurationSource(String packageName, ComponentModel model, String overrideComponentName) throws MojoFailureException {
         int pos = model.getJavaType().lastIndexOf(".");
         String name = model.getJavaType().substring(pos + 1);
         name = name.replace("Component", "ComponentConfiguration");
@@ -657,6 +658,8 @@ public class SpringBootAutoConfigurationMojo extends AbstractSpringBootGenerator
         prefix = prefix.toLowerCase(Locale.US);
         javaClass.addAnnotation("org.springframework.boot.context.properties.ConfigurationProperties").setStringValue("prefix", prefix);
 
+        // the getter of each option, to generate the copier
+        Map<String, String> accessors = new LinkedHashMap<>();
         for (ComponentOptionModel option : model.getComponentOptions()) {
 
             if (skipComponentOption(model, option)) {
@@ -670,6 +673,7 @@ public class SpringBootAutoConfigurationMojo extends AbstractSpringBootGenerator
             type = getSimpleJavaType(type);
 
             Property prop = javaClass.addProperty(type, option.getName());
+            accessors.put(option.getName(), prop.getAccessor().getName());
             if (option.isDeprecated()) {
                 prop.getField().addAnnotation(Deprecated.class);
                 prop.getAccessor().addAnnotation(Deprecated.class);
@@ -715,6 +719,55 @@ public class SpringBootAutoConfigurationMojo extends AbstractSpringBootGenerator
 
         String fileName = packageName.replaceAll("\\.", "\\/") + "/" + name + ".java";
         writeSourceIfChanged(javaClass, fileName, true);
+        return accessors;
+    }
+
+    private boolean createComponentConfigurationCopierSource(String packageName, ComponentModel model, Map<String, String> accessors) throws MojoFailureException {
+        // the copier sets the options using the configurer generated for the component, so it can only be generated when there is one
+        final String configurerName = model.getJavaType() + "Configurer";
+        try {
+            getProjectClassLoader().loadClass(configurerName);
+        } catch (ClassNotFoundException e) {
+            getLog().debug("No configurer " + configurerName + " found, the options are copied using bean introspection");
+            return false;
+        }
+
+        final String name = model.getShortJavaType().replace("Component", "ComponentConfigurationCopier");
+        final String configurationName = name.replace("ComponentConfigurationCopier", "ComponentConfiguration");
+
+        JavaClass javaClass = new JavaClass(getProjectClassLoader());
+        javaClass.setPackage(packageName);
+        javaClass.setName(name);
+        javaClass.getJavaDoc().setFullText("Copies the options of " + configurationName + " to the component using its generated configurer.\n\n"
+                + "Generated by camel-spring-boot-generator-maven-plugin - do not edit this file!");
+        javaClass.addImport("org.apache.camel.CamelContext");
+        javaClass.addImport("org.apache.camel.Component");
+        javaClass.addImport("org.apache.camel.spi.PropertyConfigurer");
+        javaClass.addImport("org.apache.camel.spring.boot.util.CamelPropertiesHelper");
+        javaClass.addImport("org.apache.camel.support.service.ServiceHelper");
+        javaClass.addImport(configurerName);
+
+        javaClass.addField().setPrivate().setFinal(true).setName("configurer").setType(loadClass("org.apache.camel.spi.PropertyConfigurer"))
+                .setLiteralInitializer("new " + configurerName.substring(configurerName.lastIndexOf('.') + 1) + "()");
+
+        StringBuilder body = new StringBuilder();
+        body.append("// the component needs to be initialized to have the configurer ready\n");
+        body.append("ServiceHelper.initService(target);\n");
+        for (Map.Entry<String, String> entry : accessors.entrySet()) {
+            body.append("CamelPropertiesHelper.copyProperty(camelContext, configurer, target, \"").append(entry.getKey())
+                    .append("\", source.").append(entry.getValue()).append("());\n");
+        }
+        javaClass.addMethod().setName("copyProperties").setPublic()
+                .addParameter("CamelContext", "camelContext")
+                .addParameter(configurationName, "source")
+                .addParameter("Component", "target")
+                .setBody(body.toString());
+
+        sortImports(javaClass);
+
+        String fileName = packageName.replaceAll("\\.", "\\/") + "/" + name + ".java";
+        writeSourceIfChanged(javaClass, fileName, false);
+        return true;
     }
 
     private String convertDurationToMills(String pattern) {
@@ -1234,7 +1287,7 @@ public class SpringBootAutoConfigurationMojo extends AbstractSpringBootGenerator
         return getProjectClassLoader().generateDummyClass(clazzName);
     }
 
-    private void createComponentAutoConfigurationSource(String packageName, ComponentModel model, String overrideName, boolean complexOptions)
+    private void createComponentAutoConfigurationSource(String packageName, ComponentModel model, String overrideName, boolean complexOptions, boolean copier)
             throws MojoFailureException {
 
         final String name = model.getJavaType().substring(model.getJavaType().lastIndexOf(".") + 1).replace("Component", "ComponentAutoConfiguration");
@@ -1269,7 +1322,9 @@ public class SpringBootAutoConfigurationMojo extends AbstractSpringBootGenerator
         javaClass.addImport("org.apache.camel.spi.ComponentCustomizer");
         javaClass.addImport("org.apache.camel.spring.boot.CamelAutoConfiguration");
         javaClass.addImport("org.apache.camel.spring.boot.ComponentConfigurationProperties");
-        javaClass.addImport("org.apache.camel.spring.boot.util.CamelPropertiesHelper");
+        if (!copier) {
+            javaClass.addImport("org.apache.camel.spring.boot.util.CamelPropertiesHelper");
+        }
         javaClass.addImport("org.apache.camel.spring.boot.util.ConditionalOnCamelContextAndAutoConfigurationBeans");
         javaClass.addImport("org.apache.camel.spring.boot.util.HierarchicalPropertiesEvaluator");
         javaClass.addImport(model.getJavaType());
@@ -1282,7 +1337,8 @@ public class SpringBootAutoConfigurationMojo extends AbstractSpringBootGenerator
         ctr.setBody("this.camelContext = camelContext;\n");
 
         // add method for auto configure
-        String body = createComponentBody(model.getShortJavaType(), componentName);
+        String copierName = copier ? name.replace("ComponentAutoConfiguration", "ComponentConfigurationCopier") : null;
+        String body = createComponentBody(model.getShortJavaType(), componentName, copierName);
         String methodName = "configure" + model.getShortJavaType();
 
         Method method = javaClass.addMethod()
@@ -1656,12 +1712,20 @@ public class SpringBootAutoConfigurationMojo extends AbstractSpringBootGenerator
         writeComponentSpringFactorySource(packageName, name);
     }
 
-    private static String createComponentBody(String shortJavaType, String name) {
-        return new StringBuilder()
-                .append("return new ComponentCustomizer() {\n")
+    private static String createComponentBody(String shortJavaType, String name, String copierName) {
+        // use the generated copier when there is one, which avoids bean introspection, and keep it with the
+        // customizer as the component is configured every time it is created
+        StringBuilder sb = new StringBuilder().append("return new ComponentCustomizer() {\n");
+        if (copierName != null) {
+            sb.append("    private final ").append(copierName).append(" copier = new ").append(copierName).append("();\n");
+        }
+        String copy = copierName != null
+                ? "copier.copyProperties(camelContext, configuration, target);"
+                : "CamelPropertiesHelper.copyProperties(camelContext, configuration, target);";
+        return sb
                 .append("    @Override\n")
                 .append("    public void configure(String name, Component target) {\n")
-                .append("        CamelPropertiesHelper.copyProperties(camelContext, configuration, target);\n")
+                .append("        ").append(copy).append("\n")
                 .append("    }\n")
                 .append("    @Override\n")
                 .append("    public boolean isEnabled(String name, Component target) {\n")
@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.springboot.maven;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.DefaultArtifact;
+import org.apache.maven.artifact.handler.DefaultArtifactHandler;
+import org.apache.maven.project.MavenProject;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.objectweb.asm.ClassReader;
+
+public class PackageScanIndexMojoTest {
+
+    @TempDir
+    Path tempDir;
+
+    private PackageScanIndexMojo mojo;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        Path classes = Files.createDirectories(tempDir.resolve("classes"));
+        copyClass(classes, Annotated.class);
+        copyClass(classes, Inherited.class);
+        copyClass(classes, Marker.class);
+        copyClass(classes, MetaMarker.class);
+
+        Path jar = tempDir.resolve("dependency.jar");
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+            out.putNextEntry(new JarEntry(entryName(ClassReader.class)));
+            out.write(readClass(ClassReader.class));
+            out.closeEntry();
+        }
+        Artifact artifact = new DefaultArtifact("org.ow2.asm", "asm", "9.6", "runtime", "jar", null,
+                new DefaultArtifactHandler("jar"));
+        artifact.setFile(jar.toFile());
+
+        mojo = new PackageScanIndexMojo();
+        mojo.project = new MavenProject();
+        mojo.project.setArtifacts(Set.of(artifact));
+        mojo.classesDir = classes.toFile();
+    }
+
+    @Test
+    public void testIndexProjectPackages() throws Exception {
+        mojo.execute();
+
+        List<String> lines = readIndex();
+        Assertions.assertEquals(PackageScanIndex.PACKAGES + " org/apache/camel/springboot/maven/", lines.get(1));
+        Assertions.assertTrue(lines.contains(entryName(Annotated.class) + " " + Retention.class.getName() + " "
+                                             + Marker.class.getName() + " " + MetaMarker.class.getName()));
+        // the annotations of the super class are included
+        Assertions.assertTrue(lines.contains(entryName(Inherited.class) + " " + Retention.class.getName() + " "
+                                             + Marker.class.getName() + " " + MetaMarker.class.getName()));
+        Assertions.assertTrue(lines.contains(entryName(Marker.class) + " " + Retention.class.getName() + " "
+                                             + MetaMarker.class.getName()));
+        // the dependency is outside the project packages
+        Assertions.assertTrue(lines.stream().noneMatch(line -> line.startsWith(entryName(ClassReader.class))));
+        Assertions.assertEquals(6, lines.size());
+    }
+
+    @Test
+    public void testIndexConfiguredPackages() throws Exception {
+        mojo.packages = List.of("org.objectweb.asm", "org.objectweb.asm.tree");
+        mojo.execute();
+
+        List<String> lines = readIndex();
+        Assertions.assertEquals(PackageScanIndex.PACKAGES + " org/objectweb/asm/", lines.get(1));
+        Assertions.assertEquals(entryName(ClassReader.class), lines.get(2));
+        Assertions.assertEquals(3, lines.size());
+    }
+
+    @Test
+    public void testSkip() throws Exception {
+        mojo.skip = true;
+        mojo.execute();
+
+        Assertions.assertFalse(Files.exists(mojo.classesDir.toPath().resolve(PackageScanIndex.INDEX_LOCATION)));
+    }
+
+    private List<String> readIndex() throws IOException {
+        return Files.readAllLines(mojo.classesDir.toPath().resolve(PackageScanIndex.INDEX_LOCATION), StandardCharsets.UTF_8);
+    }
+
+    private static void copyClass(Path classes, Class<?> type) throws IOException {
+        Path file = classes.resolve(entryName(type));
+        Files.createDirectories(file.getParent());
+        Files.write(file, readClass(type));
+    }
+
+    private static byte[] readClass(Class<?> type) throws IOException {
+        try (InputStream is = type.getClassLoader().getResourceAsStream(entryName(type))) {
+            return is.readAllBytes();
+        }
+    }
+
+    private static String entryName(Class<?> type) {
+        return type.getName().replace('.', '/') + ".class";
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface MetaMarker {
+    }
+
+    @MetaMarker
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface Marker {
+    }
+
+    @Marker
+    public static class Annotated {
+    }
+
+    public static class Inherited extends Annotated {
+    }
+}